@@ -48,6 +48,11 @@ public interface ValueMaker<T> {
         return () -> random.nextInt(max);
     }
 
+    static ValueMaker<Long> randomLongSeq(int max) {
+        Random random = new Random();
+        return () -> (long) random.nextInt(max);
+    }
+
     static ValueMaker<Integer> intSeq(int from, int to) {
         int[] val = new int[1];
         val[0] = from;
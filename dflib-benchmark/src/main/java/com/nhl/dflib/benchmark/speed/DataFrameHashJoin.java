@@ -66,6 +66,28 @@ public class DataFrameHashJoin {
                 .iterator();
     }
 
+    @Benchmark
+    public Object leftJoin_MultiColumn() {
+        return df1
+                .leftJoin()
+                .on("c0", "c2")
+                .on("c3", "c3")
+                .with(df2)
+                .materialize()
+                .iterator();
+    }
+
+    @Benchmark
+    public Object leftJoin_SortMerge() {
+        return df1
+                .leftJoin()
+                .on("c0", "c2")
+                .sortMerge()
+                .with(df2)
+                .materialize()
+                .iterator();
+    }
+
     @Benchmark
     public Object rightJoin() {
         return df1
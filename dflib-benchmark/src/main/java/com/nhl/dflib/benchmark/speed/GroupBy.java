@@ -34,9 +34,11 @@ public class GroupBy {
         // keep the number of categories relatively low
         Series<Integer> c2 = ValueMaker.randomIntSeq(groups).series(rows);
         Series<String> c3 = ValueMaker.constStringSeq(string).series(rows);
+        IntSeries c4 = ValueMaker.randomIntSeq(groups).intSeries(rows);
+        LongSeries c5 = ValueMaker.randomLongSeq(groups).longSeries(rows);
 
-        df = DataFrame.newFrame("c0", "c1", "c2", "c3")
-                .columns(c0, c1, c2, c3);
+        df = DataFrame.newFrame("c0", "c1", "c2", "c3", "c4", "c5")
+                .columns(c0, c1, c2, c3, c4, c5);
 
         gb = df.group("c2");
     }
@@ -46,6 +48,16 @@ public class GroupBy {
         return df.group("c2");
     }
 
+    @Benchmark
+    public Object groupByIntColumn() {
+        return df.group("c4");
+    }
+
+    @Benchmark
+    public Object groupByLongColumn() {
+        return df.group("c5");
+    }
+
     @Benchmark
     public Object sumByName() {
         return gb.agg(Exp.$int("c0").sum())
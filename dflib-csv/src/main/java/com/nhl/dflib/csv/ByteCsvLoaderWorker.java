@@ -0,0 +1,149 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.csv.loader.ColumnBuilder;
+import com.nhl.dflib.csv.loader.CsvByteRecord;
+import com.nhl.dflib.csv.loader.CsvCell;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Loads a DataFrame from the records of one or more byte buffers, optionally filtering and sampling the rows. Values
+ * are converted straight from the buffer bytes where possible.
+ *
+ * @since 0.12
+ */
+class ByteCsvLoaderWorker {
+
+    private final Index columnIndex;
+    private final ColumnBuilder<?>[] columnAccumulators;
+
+    // row filter and its buffer; both are null if the rows are not filtered
+    private final CsvCell<?>[] csvRow;
+    private final Predicate<CsvCell<?>[]> csvRowFilter;
+
+    // zero if the rows are not sampled
+    private final int rowSampleSize;
+    private final Random rowsSampleRandom;
+    private final IntAccumulator sampledRows;
+
+    private int rowCount;
+
+    ByteCsvLoaderWorker(
+            Index columnIndex,
+            ColumnBuilder<?>[] columnAccumulators,
+            CsvCell<?>[] csvRow,
+            Predicate<CsvCell<?>[]> csvRowFilter,
+            int rowSampleSize,
+            Random rowsSampleRandom) {
+
+        this.columnIndex = columnIndex;
+        this.columnAccumulators = columnAccumulators;
+        this.csvRow = csvRow;
+        this.csvRowFilter = csvRowFilter;
+        this.rowSampleSize = rowSampleSize;
+        this.rowsSampleRandom = rowsSampleRandom;
+        this.sampledRows = rowSampleSize > 0 ? new IntAccumulator() : null;
+    }
+
+    /**
+     * Reads all the remaining records of the tokenizer. Can be called multiple times to append data from multiple
+     * buffers.
+     */
+    void consume(CsvByteRecord record) {
+
+        int width = columnIndex.size();
+        boolean filter = csvRowFilter != null;
+
+        while (record.next()) {
+
+            if (filter) {
+
+                // fill the buffer for condition evaluation. All values will be converted to the right data types
+                int csvWidth = csvRow.length;
+                for (int i = 0; i < csvWidth; i++) {
+                    csvRow[i].set(record);
+                }
+
+                if (!csvRowFilter.test(csvRow)) {
+                    continue;
+                }
+            }
+
+            if (rowSampleSize > 0) {
+                sampleRow(rowCount, width, record);
+            } else {
+                addRow(width, record);
+            }
+
+            rowCount++;
+        }
+    }
+
+    /**
+     * Returns the number of rows that passed the filter, i.e. the number of rows the sample was taken from.
+     */
+    int getPopulationSize() {
+        return rowCount;
+    }
+
+    DataFrame toDataFrame() {
+        int width = columnIndex.size();
+        Series<?>[] columns = new Series[width];
+        for (int i = 0; i < width; i++) {
+            columns[i] = columnAccumulators[i].toColumn();
+        }
+
+        DataFrame df = DataFrame.newFrame(columnIndex).columns(columns);
+        return rowSampleSize > 0 ? df.selectRows(sampledRows.toSeries().sortIndexInt()) : df;
+    }
+
+    private void sampleRow(int rowNumber, int width, CsvByteRecord record) {
+
+        // Reservoir sampling algorithm per https://en.wikipedia.org/wiki/Reservoir_sampling
+
+        // fill "reservoir" first
+        if (rowNumber < rowSampleSize) {
+            addRow(width, record);
+            sampledRows.addInt(rowNumber);
+        }
+        // replace previously filled values based on random sampling with decaying probability
+        else {
+            int pos = rowsSampleRandom.nextInt(rowNumber + 1);
+            if (pos < rowSampleSize) {
+                replaceRow(pos, width, record);
+                sampledRows.setInt(pos, rowNumber);
+            }
+        }
+    }
+
+    private void addRow(int width, CsvByteRecord record) {
+
+        // if the row was filtered, the values are already converted
+        if (csvRow != null) {
+            for (int i = 0; i < width; i++) {
+                columnAccumulators[i].add(csvRow);
+            }
+        } else {
+            for (int i = 0; i < width; i++) {
+                columnAccumulators[i].add(record);
+            }
+        }
+    }
+
+    private void replaceRow(int pos, int width, CsvByteRecord record) {
+        if (csvRow != null) {
+            for (int i = 0; i < width; i++) {
+                columnAccumulators[i].set(pos, csvRow);
+            }
+        } else {
+            for (int i = 0; i < width; i++) {
+                columnAccumulators[i].set(pos, record);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * An iterator over the DataFrames made of the consecutive fixed-size groups of CSV records. Only the current chunk is
+ * held in memory. Each chunk is loaded by a new worker, so all chunks share the same column configuration and filters.
+ *
+ * @since 0.12
+ */
+class CsvChunkIterator implements Iterator<DataFrame>, Closeable {
+
+    private final Reader reader;
+    private final Iterator<CSVRecord> records;
+    private final Supplier<CsvLoaderWorker> workerFactory;
+    private final int rowsPerChunk;
+
+    private DataFrame next;
+
+    CsvChunkIterator(
+            Reader reader,
+            Iterator<CSVRecord> records,
+            Supplier<CsvLoaderWorker> workerFactory,
+            int rowsPerChunk) {
+
+        this.reader = reader;
+        this.records = records;
+        this.workerFactory = workerFactory;
+        this.rowsPerChunk = rowsPerChunk;
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        // if all rows of a chunk were filtered out, skip it and proceed to the next one
+        while (next == null && records.hasNext()) {
+            DataFrame chunk = workerFactory.get().load(new LimitedIterator(records, rowsPerChunk));
+            if (chunk.height() > 0) {
+                next = chunk;
+            }
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public DataFrame next() {
+
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more CSV chunks");
+        }
+
+        DataFrame chunk = next;
+        next = null;
+        return chunk;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static class LimitedIterator implements Iterator<CSVRecord> {
+
+        private final Iterator<CSVRecord> delegate;
+        private int remaining;
+
+        LimitedIterator(Iterator<CSVRecord> delegate, int limit) {
+            this.delegate = delegate;
+            this.remaining = limit;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && delegate.hasNext();
+        }
+
+        @Override
+        public CSVRecord next() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException("Chunk size exceeded");
+            }
+
+            remaining--;
+            return delegate.next();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.sample.Sampler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Combines DataFrames loaded from the consecutive chunks of a CSV file into a single DataFrame.
+ *
+ * @since 0.12
+ */
+class CsvChunks {
+
+    /**
+     * Concatenates chunk DataFrames with identical columns in the chunk order. Unlike a generic DataFrame
+     * concatenation, preserves primitive columns.
+     */
+    static DataFrame concat(Index columnIndex, List<DataFrame> chunks) {
+
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+
+        int w = columnIndex.size();
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = concatColumn(chunks, i);
+        }
+
+        return DataFrame.newFrame(columnIndex).columns(columns);
+    }
+
+    /**
+     * Combines per-chunk row samples into a single sample. Each chunk sample must be a uniform sample of the chunk rows
+     * with the chunk rows count (i.e. the "population") known. Picks the number of rows to take from each chunk the same
+     * way as if the rows were drawn from all chunks combined, and then takes that number of random rows from the chunk
+     * sample, preserving the file order.
+     */
+    static DataFrame concatSamples(
+            Index columnIndex,
+            List<DataFrame> samples,
+            int[] populations,
+            int sampleSize,
+            Random random) {
+
+        int n = samples.size();
+
+        long[] remaining = new long[n];
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            remaining[i] = populations[i];
+            total += populations[i];
+        }
+
+        int[] counts = new int[n];
+        long left = total;
+        long drawn = Math.min(sampleSize, total);
+        for (long d = 0; d < drawn; d++) {
+
+            long r = (long) (random.nextDouble() * left);
+            int c = 0;
+            while (r >= remaining[c]) {
+                r -= remaining[c++];
+            }
+
+            remaining[c]--;
+            counts[c]++;
+            left--;
+        }
+
+        List<DataFrame> selected = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            DataFrame sample = samples.get(i);
+            int h = sample.height();
+            selected.add(counts[i] < h
+                    ? sample.selectRows(Sampler.sampleIndex(counts[i], h, random).sortInt())
+                    : sample);
+        }
+
+        return concat(columnIndex, selected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Series<?> concatColumn(List<DataFrame> chunks, int pos) {
+
+        int n = chunks.size();
+
+        // all chunks are loaded with the same column configuration, so their columns are of the same type
+        Series<?> first = chunks.get(0).getColumn(pos);
+
+        if (first instanceof IntSeries) {
+            IntSeries[] other = new IntSeries[n - 1];
+            for (int i = 1; i < n; i++) {
+                other[i - 1] = chunks.get(i).getColumnAsInt(pos);
+            }
+            return ((IntSeries) first).concatInt(other);
+        }
+
+        if (first instanceof LongSeries) {
+            LongSeries[] other = new LongSeries[n - 1];
+            for (int i = 1; i < n; i++) {
+                other[i - 1] = chunks.get(i).getColumnAsLong(pos);
+            }
+            return ((LongSeries) first).concatLong(other);
+        }
+
+        if (first instanceof DoubleSeries) {
+            DoubleSeries[] other = new DoubleSeries[n - 1];
+            for (int i = 1; i < n; i++) {
+                other[i - 1] = chunks.get(i).getColumnAsDouble(pos);
+            }
+            return ((DoubleSeries) first).concatDouble(other);
+        }
+
+        if (first instanceof BooleanSeries) {
+            BooleanSeries[] other = new BooleanSeries[n - 1];
+            for (int i = 1; i < n; i++) {
+                other[i - 1] = chunks.get(i).getColumnAsBoolean(pos);
+            }
+            return ((BooleanSeries) first).concatBoolean(other);
+        }
+
+        Series<Object>[] other = new Series[n - 1];
+        for (int i = 1; i < n; i++) {
+            other[i - 1] = chunks.get(i).getColumn(pos);
+        }
+        return ((Series<Object>) first).concat(other);
+    }
+}
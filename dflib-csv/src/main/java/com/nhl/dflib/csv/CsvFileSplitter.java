@@ -0,0 +1,320 @@
+package com.nhl.dflib.csv;
+
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a CSV file into byte ranges that start and end at the record boundaries, so that each range can be parsed
+ * independently of others. Scans the raw file bytes once, tracking the quoting and escaping state, so that the line
+ * breaks within quoted or escaped values are not mistaken for record separators. Scanning bytes is much cheaper than
+ * parsing, so it can stay single-threaded, while the ranges are parsed in parallel.
+ *
+ * @since 0.12
+ */
+class CsvFileSplitter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // scanner states
+    private static final int FIELD_START = 0;
+    private static final int FIELD = 1;
+    private static final int QUOTED = 2;
+
+    // a quote within a quoted value: either the closing quote or the first of the two quotes of an escaped quote
+    private static final int QUOTED_QUOTE = 3;
+
+    // a '\r' outside a quoted value: either a record end or the start of a "\r\n" record end
+    private static final int CR = 4;
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private int bufferPos;
+    private int bufferLen;
+    private long bufferOffset;
+
+    private final int delimiter;
+    private final int quote;
+    private final int escape;
+    private final boolean ignoreEmptyLines;
+    private final boolean ignoreSurroundingSpaces;
+
+    private int state;
+    private boolean escaped;
+    private boolean recordEmpty;
+    private long recordStart;
+
+    CsvFileSplitter(File file, CSVFormat format) throws IOException {
+        this.in = new FileInputStream(file);
+        this.buffer = new byte[BUFFER_SIZE];
+
+        this.delimiter = format.getDelimiter();
+        this.quote = format.getQuoteCharacter() != null ? format.getQuoteCharacter() : -1;
+        this.escape = format.getEscapeCharacter() != null ? format.getEscapeCharacter() : -1;
+        this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+        this.ignoreSurroundingSpaces = format.getIgnoreSurroundingSpaces();
+
+        this.state = FIELD_START;
+        this.recordEmpty = true;
+    }
+
+    /**
+     * Returns whether a file in the given format and encoding can be split by scanning its raw bytes. This requires
+     * the record and value separators, quotes and escapes to be single bytes that can't be a part of a multibyte char,
+     * and no features of the format that change the meaning of the records, such as comments or a built-in header.
+     */
+    static boolean canSplit(CSVFormat format, Charset charset) {
+
+        if (format.getCommentMarker() != null || format.getHeader() != null || format.getSkipHeaderRecord()) {
+            return false;
+        }
+
+        if (!isAscii(format.getDelimiter())
+                || (format.getQuoteCharacter() != null && !isAscii(format.getQuoteCharacter()))
+                || (format.getEscapeCharacter() != null && !isAscii(format.getEscapeCharacter()))) {
+            return false;
+        }
+
+        // in UTF-8 and in the single-byte encodings, ASCII chars are never a part of another char encoding
+        boolean byteAligned = StandardCharsets.UTF_8.equals(charset) || charset.newEncoder().maxBytesPerChar() == 1f;
+        String special = "\r\n" + format.getDelimiter();
+        return byteAligned && Arrays.equals(special.getBytes(charset), special.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static boolean isAscii(char c) {
+        return c < 128;
+    }
+
+    /**
+     * Opens a reader of a byte range of the file.
+     */
+    static Reader openRange(File file, Charset charset, long fromInclusive, long toExclusive) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            in.getChannel().position(fromInclusive);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+
+        return new InputStreamReader(new RangeInputStream(in, toExclusive - fromInclusive), charset);
+    }
+
+    /**
+     * Scans past the given number of records at the start of the file (e.g. the skipped rows and the header). Empty
+     * lines are not counted if the format ignores them. Must be called before {@link #split(long, RangeConsumer)}.
+     *
+     * @return the file offset of the first record after the skipped ones
+     */
+    long skipRecords(int records) throws IOException {
+
+        int skipped = 0;
+        while (skipped < records) {
+            long end = nextRecordEnd();
+            if (end < 0) {
+                break;
+            }
+
+            if (!recordEmpty || !ignoreEmptyLines) {
+                skipped++;
+            }
+
+            startRecord(end);
+        }
+
+        return recordStart;
+    }
+
+    /**
+     * Scans the rest of the file, passing the byte ranges of at least "chunkSize" bytes (except for the last one) to
+     * the consumer. Each range contains one or more whole records.
+     */
+    void split(long chunkSize, RangeConsumer consumer) throws IOException {
+
+        long chunkStart = recordStart;
+
+        long end;
+        while ((end = nextRecordEnd()) >= 0) {
+            startRecord(end);
+
+            if (end - chunkStart >= chunkSize) {
+                consumer.accept(chunkStart, end);
+                chunkStart = end;
+            }
+        }
+
+        if (recordStart > chunkStart) {
+            consumer.accept(chunkStart, recordStart);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void startRecord(long offset) {
+        recordStart = offset;
+        recordEmpty = true;
+    }
+
+    // returns the file offset past the end of the current record or -1 if there are no more records
+    private long nextRecordEnd() throws IOException {
+
+        while (true) {
+
+            if (bufferPos == bufferLen) {
+                bufferOffset += bufferLen;
+                bufferPos = 0;
+                bufferLen = Math.max(in.read(buffer), 0);
+
+                if (bufferLen == 0) {
+                    // the last record may not be followed by a line break
+                    long eof = bufferOffset;
+                    return eof > recordStart ? eof : -1;
+                }
+            }
+
+            int b = buffer[bufferPos] & 0xFF;
+            long pos = bufferOffset + bufferPos;
+
+            // a lone '\r' ends a record before the current byte, so the byte must be scanned again as a part of
+            // the next record
+            if (state == CR && b != '\n') {
+                state = FIELD_START;
+                return pos;
+            }
+
+            bufferPos++;
+
+            if (scan(b)) {
+                return pos + 1;
+            }
+        }
+    }
+
+    // returns true if the byte is the last byte of the record
+    private boolean scan(int b) {
+
+        if (escaped) {
+            escaped = false;
+            return false;
+        }
+
+        switch (state) {
+            case QUOTED:
+                if (b == quote) {
+                    state = QUOTED_QUOTE;
+                } else if (b == escape) {
+                    escaped = true;
+                }
+                return false;
+            case QUOTED_QUOTE:
+                if (b == quote) {
+                    state = QUOTED;
+                    return false;
+                }
+
+                state = FIELD;
+                break;
+            case CR:
+                // must be '\n' per "nextRecordEnd" check
+                state = FIELD_START;
+                return true;
+        }
+
+        switch (b) {
+            case '\n':
+                state = FIELD_START;
+                return true;
+            case '\r':
+                state = CR;
+                return false;
+        }
+
+        recordEmpty = false;
+
+        if (b == delimiter) {
+            state = FIELD_START;
+        } else if (b == escape) {
+            escaped = true;
+            state = FIELD;
+        } else if (b == quote && state == FIELD_START) {
+            state = QUOTED;
+        } else if (b != ' ' || !ignoreSurroundingSpaces) {
+            state = FIELD;
+        }
+
+        return false;
+    }
+
+    @FunctionalInterface
+    interface RangeConsumer {
+        void accept(long fromInclusive, long toExclusive) throws IOException;
+    }
+
+    private static class RangeInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        RangeInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.nhl.dflib.csv;
 import com.nhl.dflib.*;
 import com.nhl.dflib.csv.loader.ColumnBuilder;
 import com.nhl.dflib.csv.loader.ColumnConfig;
+import com.nhl.dflib.csv.loader.CsvByteRecord;
 import com.nhl.dflib.csv.loader.CsvCell;
 import com.nhl.dflib.csv.loader.RowFilterConfig;
 import com.nhl.dflib.sample.Sampler;
@@ -15,13 +16,31 @@ import java.io.IOException;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CsvLoader {
 
+    // file chunk size bounds for the parallel loading, when the chunk size is not set explicitly
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final long MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    // the size of the file ranges mapped in a single buffer
+    private static final long MAX_MAPPED_SIZE = 1024 * 1024 * 1024;
+
     private int skipRows;
     private Index header;
 
@@ -37,6 +56,10 @@ public class CsvLoader {
     private List<ColumnConfig> columns;
     private List<RowFilterConfig> rowFilters;
 
+    private int threads;
+    private long chunkSize;
+    private boolean memoryMapped;
+
     public CsvLoader() {
         this.format = CSVFormat.DEFAULT;
         this.columns = new ArrayList<>();
@@ -216,7 +239,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader intColumn(int column, int forNull) {
-        columns.add(ColumnConfig.intColumn(column, IntValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.intColumn(column, forNull));
         return this;
     }
 
@@ -224,7 +247,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader intColumn(String column, int forNull) {
-        columns.add(ColumnConfig.intColumn(column, IntValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.intColumn(column, forNull));
         return this;
     }
 
@@ -248,7 +271,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader longColumn(int column, long forNull) {
-        columns.add(ColumnConfig.longColumn(column, LongValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.longColumn(column, forNull));
         return this;
     }
 
@@ -256,7 +279,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader longColumn(String column, long forNull) {
-        columns.add(ColumnConfig.longColumn(column, LongValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.longColumn(column, forNull));
         return this;
     }
 
@@ -280,7 +303,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader doubleColumn(int column, double forNull) {
-        columns.add(ColumnConfig.doubleColumn(column, DoubleValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.doubleColumn(column, forNull));
         return this;
     }
 
@@ -288,7 +311,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader doubleColumn(String column, double forNull) {
-        columns.add(ColumnConfig.doubleColumn(column, DoubleValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.doubleColumn(column, forNull));
         return this;
     }
 
@@ -308,6 +331,26 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Instructs the loader to load the specified String column as a dictionary-encoded
+     * {@link com.nhl.dflib.series.CategoricalSeries}, storing each distinct value only once. Good for the columns with
+     * a small number of distinct values, such as statuses or country codes, that are used for grouping or joins.
+     *
+     * @since 0.12
+     */
+    public CsvLoader categoricalColumn(int column) {
+        columns.add(ColumnConfig.categoricalColumn(column));
+        return this;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public CsvLoader categoricalColumn(String column) {
+        columns.add(ColumnConfig.categoricalColumn(column));
+        return this;
+    }
+
     /**
      * Instructs the loader to convert values in the specified column to numbers of the specified type. This method will
      * result in "object" columns (and hence can store nulls). If you want a column with primitive numbers, use methods
@@ -359,14 +402,16 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader dateColumn(int column) {
-        return columnType(column, ValueMapper.stringToDate());
+        columns.add(ColumnConfig.dateColumn(column));
+        return this;
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader dateColumn(String column) {
-        return columnType(column, ValueMapper.stringToDate());
+        columns.add(ColumnConfig.dateColumn(column));
+        return this;
     }
 
     /**
@@ -434,6 +479,63 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Configures the loader to read files via a memory-mapped {@link FileChannel} and to tokenize them directly from
+     * bytes instead of using commons-csv. The "int", "long", "double", "boolean" and ISO date columns are parsed from
+     * the bytes without creating intermediate Strings, so only the object columns allocate Strings. The delimiter,
+     * quote, escape, null string and empty lines settings of the format are honored. Formats that can't be tokenized
+     * this way (e.g. with comments, a built-in header or trimming), and files in encodings other than UTF-8 or
+     * single-byte encodings, are still loaded with commons-csv. Can be combined with {@link #parallel(int)}.
+     *
+     * @return this loader instance
+     * @since 0.12
+     */
+    public CsvLoader memoryMapped() {
+        this.memoryMapped = true;
+        return this;
+    }
+
+    /**
+     * Configures the loader to parse files on multiple threads, using as many threads as there are available
+     * processors. See {@link #parallel(int, long)} for details.
+     *
+     * @return this loader instance
+     * @since 0.12
+     */
+    public CsvLoader parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Configures the loader to parse files on multiple threads. See {@link #parallel(int, long)} for details.
+     *
+     * @param threads the number of parsing threads
+     * @return this loader instance
+     * @since 0.12
+     */
+    public CsvLoader parallel(int threads) {
+        return parallel(threads, 0);
+    }
+
+    /**
+     * Configures the loader to parse files on multiple threads. The file is split into chunks at the record
+     * boundaries, the chunks are parsed and converted on a thread pool, and then combined into a single DataFrame in
+     * the file order. Row filtering and sampling are applied to each chunk separately. Only applies when loading from
+     * a file. Formats that can't be split reliably (e.g. with comments or a built-in header), and files in encodings
+     * other than UTF-8 or single-byte encodings, are still loaded on a single thread.
+     *
+     * @param threads   the number of parsing threads
+     * @param chunkSize the approximate size of a file chunk in bytes. If zero or negative, it is calculated based on
+     *                  the file size and the number of threads.
+     * @return this loader instance
+     * @since 0.12
+     */
+    public CsvLoader parallel(int threads, long chunkSize) {
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
     /**
      * @since 0.11
      */
@@ -442,6 +544,13 @@ public class CsvLoader {
     }
 
     public DataFrame load(File file) {
+
+        Charset charset = Charset.defaultCharset();
+        boolean mapped = memoryMapped && CsvByteRecord.canTokenize(format);
+        if ((threads > 1 || mapped) && CsvFileSplitter.canSplit(format, charset)) {
+            return loadSplit(file, charset, mapped);
+        }
+
         try (Reader r = new FileReader(file)) {
             return load(r);
         } catch (IOException e) {
@@ -450,11 +559,7 @@ public class CsvLoader {
     }
 
     public DataFrame load(String filePath) {
-        try (Reader r = new FileReader(filePath)) {
-            return load(r);
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading file: " + filePath, e);
-        }
+        return load(new File(filePath));
     }
 
     public DataFrame load(Reader reader) {
@@ -480,16 +585,264 @@ public class CsvLoader {
         }
     }
 
+    /**
+     * Loads a CSV file as a stream of DataFrames, each made of up to "rowsPerChunk" consecutive CSV rows, allowing to
+     * process files that do not fit in memory. The header, the column types and the row filters apply to every chunk.
+     * If the rows are filtered, a chunk may have fewer rows, and the chunks with no matching rows are skipped. The
+     * file is read sequentially as the stream is consumed, and is closed when the stream is closed, so the stream must
+     * be used in a "try-with-resources" block or closed explicitly.
+     *
+     * @param filePath     CSV file path
+     * @param rowsPerChunk maximum number of CSV rows in each chunk
+     * @return a stream of DataFrames that must be closed after use
+     * @since 0.12
+     */
+    public Stream<DataFrame> loadChunks(String filePath, int rowsPerChunk) {
+        return loadChunks(new File(filePath), rowsPerChunk);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Stream<DataFrame> loadChunks(Path filePath, int rowsPerChunk) {
+        return loadChunks(filePath.toFile(), rowsPerChunk);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Stream<DataFrame> loadChunks(File file, int rowsPerChunk) {
+
+        Reader reader;
+        try {
+            reader = new FileReader(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file: " + file, e);
+        }
+
+        return loadChunks(reader, rowsPerChunk);
+    }
+
+    /**
+     * Loads CSV from the reader as a stream of DataFrames, each made of up to "rowsPerChunk" consecutive CSV rows. The
+     * reader is closed when the stream is closed. See {@link #loadChunks(String, int)} for details.
+     *
+     * @since 0.12
+     */
+    public Stream<DataFrame> loadChunks(Reader reader, int rowsPerChunk) {
+
+        if (rowsPerChunk <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + rowsPerChunk);
+        }
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading in chunks");
+        }
+
+        CsvChunkIterator chunks;
+        try {
+            Iterator<CSVRecord> it = createRecordIterator(reader);
+            ColumnMap columnMap = createColumnMap(it);
+            ColumnConfig[] csvColumns = ColumnConfig.normalize(columnMap.csvHeader, this.columns);
+
+            chunks = new CsvChunkIterator(reader, it, () -> noSamplingWorker(columnMap, csvColumns), rowsPerChunk);
+        } catch (IOException | RuntimeException e) {
+            try {
+                reader.close();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
+            }
+
+            throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException("Error reading CSV", e);
+        }
+
+        Spliterator<DataFrame> spliterator = Spliterators.spliteratorUnknownSize(
+                chunks,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                chunks.close();
+            } catch (IOException e) {
+                throw new RuntimeException("Error closing CSV reader", e);
+            }
+        });
+    }
+
+    private DataFrame loadSplit(File file, Charset charset, boolean mapped) {
+
+        try (CsvFileSplitter splitter = new CsvFileSplitter(file, format);
+             FileChannel channel = mapped ? FileChannel.open(file.toPath(), StandardOpenOption.READ) : null) {
+
+            // the header and the skipped rows are read with commons-csv
+            long dataStart = splitter.skipRecords(header != null ? skipRows : skipRows + 1);
+
+            ColumnMap columnMap;
+            try (Reader r = CsvFileSplitter.openRange(file, charset, 0, dataStart)) {
+                columnMap = createColumnMap(createRecordIterator(r));
+            }
+
+            ColumnConfig[] csvColumns = ColumnConfig.normalize(columnMap.csvHeader, this.columns);
+
+            return threads > 1
+                    ? loadParallel(file, charset, channel, splitter, columnMap, csvColumns)
+                    : loadMapped(charset, channel, splitter, columnMap, csvColumns);
+
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file: " + file, e);
+        }
+    }
+
+    private DataFrame loadMapped(
+            Charset charset,
+            FileChannel channel,
+            CsvFileSplitter splitter,
+            ColumnMap columnMap,
+            ColumnConfig[] csvColumns) throws IOException {
+
+        // a single buffer can map at most 2GB, so larger files are read as a sequence of buffers
+        ByteCsvLoaderWorker worker = byteWorker(columnMap, csvColumns, rowsSampleRandom);
+        CsvByteRecord record = new CsvByteRecord(format, charset);
+        splitter.split(MAX_MAPPED_SIZE, (from, to) -> worker.consume(record.reset(map(channel, from, to))));
+
+        return worker.toDataFrame();
+    }
+
+    private DataFrame loadParallel(
+            File file,
+            Charset charset,
+            FileChannel channel,
+            CsvFileSplitter splitter,
+            ColumnMap columnMap,
+            ColumnConfig[] csvColumns) throws IOException {
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "dflib-csv-loader");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            long fileChunkSize = chunkSize > 0
+                    ? chunkSize
+                    : Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, file.length() / (threads * 4L)));
+
+            // chunks are submitted as soon as they are found, so the parsing starts before the file scan is finished
+            List<Future<DataFrame>> chunks = new ArrayList<>();
+            List<IntSupplier> populations = new ArrayList<>();
+
+            // each chunk gets its own Random seeded from the loader Random in the chunk order. So the sample is
+            // reproducible with a seeded Random, regardless of the order in which the chunks are processed
+            splitter.split(fileChunkSize, (from, to) -> {
+
+                if (channel != null) {
+                    ByteCsvLoaderWorker worker = byteWorker(columnMap, csvColumns, chunkSampleRandom());
+                    populations.add(worker::getPopulationSize);
+                    chunks.add(pool.submit(() -> {
+                        worker.consume(new CsvByteRecord(format, charset).reset(map(channel, from, to)));
+                        return worker.toDataFrame();
+                    }));
+                } else if (rowSampleSize > 0) {
+                    SamplingCsvLoaderWorker worker = samplingWorker(columnMap, csvColumns, chunkSampleRandom());
+                    populations.add(worker::getPopulationSize);
+                    chunks.add(pool.submit(() -> loadRange(worker, file, charset, from, to)));
+                } else {
+                    CsvLoaderWorker worker = noSamplingWorker(columnMap, csvColumns);
+                    chunks.add(pool.submit(() -> loadRange(worker, file, charset, from, to)));
+                }
+            });
+
+            if (chunks.isEmpty()) {
+                return DataFrame.newFrame(columnMap.dfHeader).empty();
+            }
+
+            List<DataFrame> dfs = new ArrayList<>(chunks.size());
+            for (Future<DataFrame> f : chunks) {
+                dfs.add(f.get());
+            }
+
+            if (rowSampleSize > 0) {
+                int[] chunkPopulations = new int[populations.size()];
+                for (int i = 0; i < chunkPopulations.length; i++) {
+                    chunkPopulations[i] = populations.get(i).getAsInt();
+                }
+
+                return CsvChunks.concatSamples(
+                        columnMap.dfHeader,
+                        dfs,
+                        chunkPopulations,
+                        rowSampleSize,
+                        rowsSampleRandom);
+            }
+
+            return CsvChunks.concat(columnMap.dfHeader, dfs);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading file: " + file, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException("Error reading file: " + file, cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long from, long to) throws IOException {
+
+        long len = to - from;
+        if (len > Integer.MAX_VALUE) {
+            throw new IOException("File range is too large to be memory-mapped: " + len + " bytes");
+        }
+
+        return channel.map(FileChannel.MapMode.READ_ONLY, from, len);
+    }
+
+    private DataFrame loadRange(CsvLoaderWorker worker, File file, Charset charset, long from, long to)
+            throws IOException {
+
+        try (Reader r = CsvFileSplitter.openRange(file, charset, from, to)) {
+            return worker.load(format.parse(r).iterator());
+        }
+    }
+
+    private Random chunkSampleRandom() {
+        return rowSampleSize > 0 ? new Random(rowsSampleRandom.nextLong()) : null;
+    }
+
+    private ByteCsvLoaderWorker byteWorker(ColumnMap columnMap, ColumnConfig[] csvColumns, Random sampleRandom) {
+        boolean filter = !rowFilters.isEmpty();
+        return new ByteCsvLoaderWorker(
+                columnMap.dfHeader,
+                columnMap.createAccumulators(csvColumns),
+                filter ? columnMap.createValueHolders(csvColumns) : null,
+                filter ? createRowFilter(columnMap.csvHeader) : null,
+                rowSampleSize,
+                sampleRandom);
+    }
+
     private CsvLoaderWorker noSamplingWorker(ColumnMap columnMap, ColumnConfig[] csvColumns) {
         return rowFilters.isEmpty()
                 ? new BaseCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns))
                 : new FilteringCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns), columnMap.createValueHolders(csvColumns), createRowFilter(columnMap.csvHeader));
     }
 
-    private CsvLoaderWorker samplingWorker(ColumnMap columnMap, ColumnConfig[] csvColumns) {
+    private SamplingCsvLoaderWorker samplingWorker(ColumnMap columnMap, ColumnConfig[] csvColumns) {
+        return samplingWorker(columnMap, csvColumns, rowsSampleRandom);
+    }
+
+    private SamplingCsvLoaderWorker samplingWorker(
+            ColumnMap columnMap,
+            ColumnConfig[] csvColumns,
+            Random sampleRandom) {
+
         return rowFilters.isEmpty()
-                ? new SamplingCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns), rowSampleSize, rowsSampleRandom)
-                : new FilteringSamplingCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns), columnMap.createValueHolders(csvColumns), createRowFilter(columnMap.csvHeader), rowSampleSize, rowsSampleRandom);
+                ? new SamplingCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns), rowSampleSize, sampleRandom)
+                : new FilteringSamplingCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns), columnMap.createValueHolders(csvColumns), createRowFilter(columnMap.csvHeader), rowSampleSize, sampleRandom);
     }
 
     private Iterator<CSVRecord> createRecordIterator(Reader reader) throws IOException {
@@ -17,6 +17,7 @@ public class CsvSaver {
     private CSVFormat format;
     private boolean createMissingDirs;
     private boolean printHeader;
+    private boolean append;
 
     public CsvSaver() {
         this.format = CSVFormat.DEFAULT;
@@ -59,6 +60,20 @@ public class CsvSaver {
         return this;
     }
 
+    /**
+     * Instructs the saver to append data to the end of the file, if the file already exists, instead of overwriting
+     * it. The header is only written if the file is new or empty, so a sequence of DataFrames with the same columns
+     * (e.g. the chunks produced by {@link CsvLoader#loadChunks(String, int)}) can be saved to a single CSV one after
+     * another. Only applies when saving to a file.
+     *
+     * @return this saver instance
+     * @since 0.12
+     */
+    public CsvSaver append() {
+        this.append = true;
+        return this;
+    }
+
     public void save(DataFrame df, File file) {
 
         if (createMissingDirs) {
@@ -68,8 +83,11 @@ public class CsvSaver {
             }
         }
 
-        try (FileWriter out = new FileWriter(file)) {
-            save(df, out);
+        // if the file already has some data, it must already have the header as well
+        boolean appendToData = append && file.length() > 0;
+
+        try (FileWriter out = new FileWriter(file, appendToData)) {
+            save(df, out, printHeader && !appendToData);
         } catch (IOException e) {
             throw new RuntimeException("Error writing CSV to " + file + ": " + e.getMessage(), e);
         }
@@ -87,6 +105,10 @@ public class CsvSaver {
     }
 
     public void save(DataFrame df, Appendable out) {
+        save(df, out, printHeader);
+    }
+
+    private void save(DataFrame df, Appendable out, boolean printHeader) {
 
         try {
             CSVPrinter printer = new CSVPrinter(out, format);
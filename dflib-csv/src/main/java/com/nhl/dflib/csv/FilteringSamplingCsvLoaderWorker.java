@@ -51,6 +51,8 @@ class FilteringSamplingCsvLoaderWorker extends SamplingCsvLoaderWorker {
                 sampleBufferedRow(i++, width);
             }
         }
+
+        populationSize = i;
     }
 
     protected void sampleBufferedRow(int rowNumber, int width) {
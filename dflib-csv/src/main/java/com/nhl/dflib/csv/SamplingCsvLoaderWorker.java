@@ -22,6 +22,7 @@ class SamplingCsvLoaderWorker implements CsvLoaderWorker {
     protected int rowSampleSize;
     protected Random rowsSampleRandom;
     protected IntAccumulator sampledRows;
+    protected int populationSize;
 
     SamplingCsvLoaderWorker(
             Index columnIndex,
@@ -69,6 +70,17 @@ class SamplingCsvLoaderWorker implements CsvLoaderWorker {
             CSVRecord row = it.next();
             sampleRow(i++, width, row);
         }
+
+        populationSize = i;
+    }
+
+    /**
+     * Returns the number of rows the sample was taken from.
+     *
+     * @since 0.12
+     */
+    int getPopulationSize() {
+        return populationSize;
     }
 
     protected void sampleRow(int rowNumber, int width, CSVRecord row) {
@@ -13,11 +13,25 @@ import org.apache.commons.csv.CSVRecord;
 public class ColumnBuilder<T> {
 
     private ValueConverter<String, T> converter;
+    private CsvByteConverter<T> byteConverter;
     private Accumulator<T> accumulator;
     private int csvColumnPosition;
 
     public ColumnBuilder(ValueConverter<String, T> converter, Accumulator<T> accumulator, int csvColumnPosition) {
+        this(converter, CsvByteConverter.of(converter), accumulator, csvColumnPosition);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public ColumnBuilder(
+            ValueConverter<String, T> converter,
+            CsvByteConverter<T> byteConverter,
+            Accumulator<T> accumulator,
+            int csvColumnPosition) {
+
         this.converter = converter;
+        this.byteConverter = byteConverter;
         this.accumulator = accumulator;
         this.csvColumnPosition = csvColumnPosition;
     }
@@ -26,6 +40,13 @@ public class ColumnBuilder<T> {
         converter.convertAndStore(record.get(csvColumnPosition), accumulator);
     }
 
+    /**
+     * @since 0.12
+     */
+    public void add(CsvByteRecord record) {
+        byteConverter.convertAndStore(record, csvColumnPosition, accumulator);
+    }
+
     public void add(CsvCell<?>[] values) {
         // values are already converted, so bypassing the converter
         CsvCell vhColumn = values[csvColumnPosition];
@@ -36,6 +57,13 @@ public class ColumnBuilder<T> {
         converter.convertAndStore(pos, record.get(csvColumnPosition), accumulator);
     }
 
+    /**
+     * @since 0.12
+     */
+    public void set(int pos, CsvByteRecord record) {
+        byteConverter.convertAndStore(pos, record, csvColumnPosition, accumulator);
+    }
+
     public void set(int pos, CsvCell<?>[] values) {
         // values are already converted, so bypassing the converter
         CsvCell vhColumn = values[csvColumnPosition];
@@ -9,6 +9,7 @@ import com.nhl.dflib.ValueMapper;
 import com.nhl.dflib.accumulator.BooleanAccumulator;
 import com.nhl.dflib.accumulator.BooleanConverter;
 import com.nhl.dflib.accumulator.BooleanHolder;
+import com.nhl.dflib.accumulator.CategoricalAccumulator;
 import com.nhl.dflib.accumulator.DoubleAccumulator;
 import com.nhl.dflib.accumulator.DoubleConverter;
 import com.nhl.dflib.accumulator.DoubleHolder;
@@ -21,6 +22,7 @@ import com.nhl.dflib.accumulator.LongHolder;
 import com.nhl.dflib.accumulator.ObjectAccumulator;
 import com.nhl.dflib.accumulator.ObjectConverter;
 import com.nhl.dflib.accumulator.ObjectHolder;
+import com.nhl.dflib.accumulator.ValueConverter;
 
 import java.util.List;
 
@@ -41,6 +43,10 @@ public class ColumnConfig {
     private DoubleConverter<String> doubleConverter;
     private BooleanConverter<String> booleanConverter;
 
+    // whether the primitive values can be parsed straight from the CSV bytes. Only true for the standard String
+    // mappers, as the custom mappers must see every value
+    private boolean parseBytes;
+
     private ColumnConfig() {
         columnPosition = -1;
     }
@@ -81,12 +87,78 @@ public class ColumnConfig {
         return config;
     }
 
+    /**
+     * Creates a config for a column of ISO "yyyy-MM-dd" dates. Same as an object column with
+     * {@link ValueMapper#stringToDate()} mapper, but the dates can be parsed directly from bytes.
+     *
+     * @since 0.12
+     */
+    public static ColumnConfig dateColumn(int pos) {
+        ColumnConfig config = objectColumn(pos, ValueMapper.stringToDate());
+        config.type = ColumnType.date;
+        return config;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public static ColumnConfig dateColumn(String name) {
+        ColumnConfig config = objectColumn(name, ValueMapper.stringToDate());
+        config.type = ColumnType.date;
+        return config;
+    }
+
+    /**
+     * Creates a config for a String column with a small number of distinct values that is loaded as a
+     * dictionary-encoded {@link com.nhl.dflib.series.CategoricalSeries}.
+     *
+     * @since 0.12
+     */
+    public static ColumnConfig categoricalColumn(int pos) {
+        ColumnConfig config = objectColumn(pos, v -> v);
+        config.type = ColumnType.categorical;
+        return config;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public static ColumnConfig categoricalColumn(String name) {
+        ColumnConfig config = objectColumn(name, v -> v);
+        config.type = ColumnType.categorical;
+        return config;
+    }
+
     public static ColumnConfig intColumn(int pos) {
-        return intColumn(pos, IntValueMapper.fromString());
+        ColumnConfig config = intColumn(pos, IntValueMapper.fromString());
+        config.parseBytes = true;
+        return config;
     }
 
     public static ColumnConfig intColumn(String name) {
-        return intColumn(name, IntValueMapper.fromString());
+        ColumnConfig config = intColumn(name, IntValueMapper.fromString());
+        config.parseBytes = true;
+        return config;
+    }
+
+    /**
+     * Creates a config for a "int" column that uses the provided value in place of nulls and empty Strings.
+     *
+     * @since 0.12
+     */
+    public static ColumnConfig intColumn(int pos, int forNull) {
+        ColumnConfig config = intColumn(pos, IntValueMapper.fromString(forNull));
+        config.parseBytes = true;
+        return config;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public static ColumnConfig intColumn(String name, int forNull) {
+        ColumnConfig config = intColumn(name, IntValueMapper.fromString(forNull));
+        config.parseBytes = true;
+        return config;
     }
 
     public static ColumnConfig intColumn(int pos, IntValueMapper<String> mapper) {
@@ -106,11 +178,35 @@ public class ColumnConfig {
     }
 
     public static ColumnConfig longColumn(int pos) {
-        return longColumn(pos, LongValueMapper.fromString());
+        ColumnConfig config = longColumn(pos, LongValueMapper.fromString());
+        config.parseBytes = true;
+        return config;
     }
 
     public static ColumnConfig longColumn(String name) {
-        return longColumn(name, LongValueMapper.fromString());
+        ColumnConfig config = longColumn(name, LongValueMapper.fromString());
+        config.parseBytes = true;
+        return config;
+    }
+
+    /**
+     * Creates a config for a "long" column that uses the provided value in place of nulls and empty Strings.
+     *
+     * @since 0.12
+     */
+    public static ColumnConfig longColumn(int pos, long forNull) {
+        ColumnConfig config = longColumn(pos, LongValueMapper.fromString(forNull));
+        config.parseBytes = true;
+        return config;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public static ColumnConfig longColumn(String name, long forNull) {
+        ColumnConfig config = longColumn(name, LongValueMapper.fromString(forNull));
+        config.parseBytes = true;
+        return config;
     }
 
     public static ColumnConfig longColumn(int pos, LongValueMapper<String> mapper) {
@@ -130,11 +226,35 @@ public class ColumnConfig {
     }
 
     public static ColumnConfig doubleColumn(int pos) {
-        return doubleColumn(pos, DoubleValueMapper.fromString());
+        ColumnConfig config = doubleColumn(pos, DoubleValueMapper.fromString());
+        config.parseBytes = true;
+        return config;
     }
 
     public static ColumnConfig doubleColumn(String name) {
-        return doubleColumn(name, DoubleValueMapper.fromString());
+        ColumnConfig config = doubleColumn(name, DoubleValueMapper.fromString());
+        config.parseBytes = true;
+        return config;
+    }
+
+    /**
+     * Creates a config for a "double" column that uses the provided value in place of nulls and empty Strings.
+     *
+     * @since 0.12
+     */
+    public static ColumnConfig doubleColumn(int pos, double forNull) {
+        ColumnConfig config = doubleColumn(pos, DoubleValueMapper.fromString(forNull));
+        config.parseBytes = true;
+        return config;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public static ColumnConfig doubleColumn(String name, double forNull) {
+        ColumnConfig config = doubleColumn(name, DoubleValueMapper.fromString(forNull));
+        config.parseBytes = true;
+        return config;
     }
 
     public static ColumnConfig doubleColumn(int pos, DoubleValueMapper<String> mapper) {
@@ -158,6 +278,7 @@ public class ColumnConfig {
         config.type = ColumnType.booleanPrimitive;
         config.columnPosition = pos;
         config.booleanConverter = new BooleanConverter<>(BooleanValueMapper.fromString());
+        config.parseBytes = true;
         return config;
     }
 
@@ -166,6 +287,7 @@ public class ColumnConfig {
         config.type = ColumnType.booleanPrimitive;
         config.columnName = name;
         config.booleanConverter = new BooleanConverter<>(BooleanValueMapper.fromString());
+        config.parseBytes = true;
         return config;
     }
 
@@ -176,13 +298,45 @@ public class ColumnConfig {
 
         switch (type) {
             case intPrimitive:
-                return new ColumnBuilder<>(intConverter, new IntAccumulator(), columnPosition);
+                return new ColumnBuilder<>(
+                        intConverter,
+                        parseBytes
+                                ? CsvByteConverter.intConverter(intConverter)
+                                : CsvByteConverter.of(intConverter),
+                        new IntAccumulator(),
+                        columnPosition);
             case longPrimitive:
-                return new ColumnBuilder<>(longConverter, new LongAccumulator(), columnPosition);
+                return new ColumnBuilder<>(
+                        longConverter,
+                        parseBytes
+                                ? CsvByteConverter.longConverter(longConverter)
+                                : CsvByteConverter.of(longConverter),
+                        new LongAccumulator(),
+                        columnPosition);
             case doublePrimitive:
-                return new ColumnBuilder<>(doubleConverter, new DoubleAccumulator(), columnPosition);
+                return new ColumnBuilder<>(
+                        doubleConverter,
+                        parseBytes
+                                ? CsvByteConverter.doubleConverter(doubleConverter)
+                                : CsvByteConverter.of(doubleConverter),
+                        new DoubleAccumulator(),
+                        columnPosition);
             case booleanPrimitive:
-                return new ColumnBuilder<>(booleanConverter, new BooleanAccumulator(), columnPosition);
+                return new ColumnBuilder<>(
+                        booleanConverter,
+                        parseBytes
+                                ? CsvByteConverter.booleanConverter(booleanConverter)
+                                : CsvByteConverter.of(booleanConverter),
+                        new BooleanAccumulator(),
+                        columnPosition);
+            case date:
+                return new ColumnBuilder(
+                        objectConverter,
+                        CsvByteConverter.dateConverter((ValueConverter) objectConverter),
+                        new ObjectAccumulator<>(),
+                        columnPosition);
+            case categorical:
+                return new ColumnBuilder(objectConverter, new CategoricalAccumulator<>(), columnPosition);
             default:
                 return new ColumnBuilder(objectConverter, new ObjectAccumulator<>(), columnPosition);
         }
@@ -195,19 +349,49 @@ public class ColumnConfig {
 
         switch (type) {
             case intPrimitive:
-                return new CsvCell<>(intConverter, new IntHolder(), columnPosition);
+                return new CsvCell<>(
+                        intConverter,
+                        parseBytes
+                                ? CsvByteConverter.intConverter(intConverter)
+                                : CsvByteConverter.of(intConverter),
+                        new IntHolder(),
+                        columnPosition);
             case longPrimitive:
-                return new CsvCell<>(longConverter, new LongHolder(), columnPosition);
+                return new CsvCell<>(
+                        longConverter,
+                        parseBytes
+                                ? CsvByteConverter.longConverter(longConverter)
+                                : CsvByteConverter.of(longConverter),
+                        new LongHolder(),
+                        columnPosition);
             case doublePrimitive:
-                return new CsvCell<>(doubleConverter, new DoubleHolder(), columnPosition);
+                return new CsvCell<>(
+                        doubleConverter,
+                        parseBytes
+                                ? CsvByteConverter.doubleConverter(doubleConverter)
+                                : CsvByteConverter.of(doubleConverter),
+                        new DoubleHolder(),
+                        columnPosition);
             case booleanPrimitive:
-                return new CsvCell<>(booleanConverter, new BooleanHolder(), columnPosition);
+                return new CsvCell<>(
+                        booleanConverter,
+                        parseBytes
+                                ? CsvByteConverter.booleanConverter(booleanConverter)
+                                : CsvByteConverter.of(booleanConverter),
+                        new BooleanHolder(),
+                        columnPosition);
+            case date:
+                return new CsvCell(
+                        objectConverter,
+                        CsvByteConverter.dateConverter((ValueConverter) objectConverter),
+                        new ObjectHolder(),
+                        columnPosition);
             default:
                 return new CsvCell(objectConverter, new ObjectHolder(), columnPosition);
         }
     }
 
     enum ColumnType {
-        intPrimitive, longPrimitive, doublePrimitive, booleanPrimitive, object
+        intPrimitive, longPrimitive, doublePrimitive, booleanPrimitive, date, categorical, object
     }
 }
@@ -0,0 +1,501 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueConverter;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Converts values of a {@link CsvByteRecord}. The primitive and date converters parse the common value formats
+ * straight from the record bytes, and fall back to a String-based {@link ValueConverter} for anything else (nulls,
+ * escaped values, numbers that can't be parsed exactly without a String, etc.). The values parsed from bytes never
+ * reach the String converter, so these converters are only equivalent to the String converters based on the standard
+ * mappers (e.g. {@link com.nhl.dflib.IntValueMapper#fromString()}). Custom mappers must be wrapped with
+ * {@link #of(ValueConverter)} instead.
+ *
+ * @since 0.12
+ */
+public abstract class CsvByteConverter<T> {
+
+    // powers of 10 that are exactly representable as doubles
+    private static final double[] POWERS_OF_10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    protected final ValueConverter<String, T> converter;
+
+    protected CsvByteConverter(ValueConverter<String, T> converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * Returns a converter that reads each value as a String and passes it to the String converter.
+     */
+    public static <T> CsvByteConverter<T> of(ValueConverter<String, T> converter) {
+        return new StringConverter<>(converter);
+    }
+
+    /**
+     * Returns a converter of the "int" values that parses decimal integers from bytes.
+     */
+    public static CsvByteConverter<Integer> intConverter(ValueConverter<String, Integer> converter) {
+        return new IntByteConverter(converter);
+    }
+
+    /**
+     * Returns a converter of the "long" values that parses decimal integers from bytes.
+     */
+    public static CsvByteConverter<Long> longConverter(ValueConverter<String, Long> converter) {
+        return new LongByteConverter(converter);
+    }
+
+    /**
+     * Returns a converter of the "double" values that parses decimal numbers from bytes when the result is guaranteed
+     * to be the same as that of {@link Double#parseDouble(String)}.
+     */
+    public static CsvByteConverter<Double> doubleConverter(ValueConverter<String, Double> converter) {
+        return new DoubleByteConverter(converter);
+    }
+
+    /**
+     * Returns a converter of the "boolean" values that matches the "true" string in the bytes.
+     */
+    public static CsvByteConverter<Boolean> booleanConverter(ValueConverter<String, Boolean> converter) {
+        return new BooleanByteConverter(converter);
+    }
+
+    /**
+     * Returns a converter of the {@link LocalDate} values that parses ISO "yyyy-MM-dd" dates from bytes.
+     */
+    public static CsvByteConverter<LocalDate> dateConverter(ValueConverter<String, LocalDate> converter) {
+        return new DateByteConverter(converter);
+    }
+
+    public abstract void convertAndStore(CsvByteRecord record, int i, ValueHolder<T> holder);
+
+    public abstract void convertAndStore(CsvByteRecord record, int i, Accumulator<T> accumulator);
+
+    public abstract void convertAndStore(int pos, CsvByteRecord record, int i, Accumulator<T> accumulator);
+
+    // returns the number of digits in an optionally signed decimal integer, or -1 if the value is not an integer
+    private static int integerDigits(CsvByteRecord record, int i) {
+
+        int start = record.start(i);
+        int end = record.end(i);
+
+        if (start < end) {
+            byte first = record.byteAt(start);
+            if (first == '-' || first == '+') {
+                start++;
+            }
+        }
+
+        if (start == end) {
+            return -1;
+        }
+
+        for (int p = start; p < end; p++) {
+            byte b = record.byteAt(p);
+            if (b < '0' || b > '9') {
+                return -1;
+            }
+        }
+
+        return end - start;
+    }
+
+    // must only be called after "integerDigits" validated the value
+    private static long parseInteger(CsvByteRecord record, int i) {
+
+        int p = record.start(i);
+        int end = record.end(i);
+
+        byte first = record.byteAt(p);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            p++;
+        }
+
+        long v = 0;
+        for (; p < end; p++) {
+            v = v * 10 + (record.byteAt(p) - '0');
+        }
+
+        return negative ? -v : v;
+    }
+
+    static class StringConverter<T> extends CsvByteConverter<T> {
+
+        StringConverter(ValueConverter<String, T> converter) {
+            super(converter);
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, ValueHolder<T> holder) {
+            converter.convertAndStore(record.get(i), holder);
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, Accumulator<T> accumulator) {
+            converter.convertAndStore(record.get(i), accumulator);
+        }
+
+        @Override
+        public void convertAndStore(int pos, CsvByteRecord record, int i, Accumulator<T> accumulator) {
+            converter.convertAndStore(pos, record.get(i), accumulator);
+        }
+    }
+
+    static class IntByteConverter extends CsvByteConverter<Integer> {
+
+        // up to 9 digits always fit in an int
+        private static final int MAX_DIGITS = 9;
+
+        IntByteConverter(ValueConverter<String, Integer> converter) {
+            super(converter);
+        }
+
+        private static boolean canParse(CsvByteRecord record, int i) {
+            if (!record.isPlain(i)) {
+                return false;
+            }
+
+            int digits = integerDigits(record, i);
+            return digits > 0 && digits <= MAX_DIGITS;
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, ValueHolder<Integer> holder) {
+            if (canParse(record, i)) {
+                holder.setInt((int) parseInteger(record, i));
+            } else {
+                converter.convertAndStore(record.get(i), holder);
+            }
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, Accumulator<Integer> accumulator) {
+            if (canParse(record, i)) {
+                accumulator.addInt((int) parseInteger(record, i));
+            } else {
+                converter.convertAndStore(record.get(i), accumulator);
+            }
+        }
+
+        @Override
+        public void convertAndStore(int pos, CsvByteRecord record, int i, Accumulator<Integer> accumulator) {
+            if (canParse(record, i)) {
+                accumulator.setInt(pos, (int) parseInteger(record, i));
+            } else {
+                converter.convertAndStore(pos, record.get(i), accumulator);
+            }
+        }
+    }
+
+    static class LongByteConverter extends CsvByteConverter<Long> {
+
+        // up to 18 digits always fit in a long
+        private static final int MAX_DIGITS = 18;
+
+        LongByteConverter(ValueConverter<String, Long> converter) {
+            super(converter);
+        }
+
+        private static boolean canParse(CsvByteRecord record, int i) {
+            if (!record.isPlain(i)) {
+                return false;
+            }
+
+            int digits = integerDigits(record, i);
+            return digits > 0 && digits <= MAX_DIGITS;
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, ValueHolder<Long> holder) {
+            if (canParse(record, i)) {
+                holder.setLong(parseInteger(record, i));
+            } else {
+                converter.convertAndStore(record.get(i), holder);
+            }
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, Accumulator<Long> accumulator) {
+            if (canParse(record, i)) {
+                accumulator.addLong(parseInteger(record, i));
+            } else {
+                converter.convertAndStore(record.get(i), accumulator);
+            }
+        }
+
+        @Override
+        public void convertAndStore(int pos, CsvByteRecord record, int i, Accumulator<Long> accumulator) {
+            if (canParse(record, i)) {
+                accumulator.setLong(pos, parseInteger(record, i));
+            } else {
+                converter.convertAndStore(pos, record.get(i), accumulator);
+            }
+        }
+    }
+
+    static class DoubleByteConverter extends CsvByteConverter<Double> {
+
+        // with up to 15 digits the mantissa is exactly representable as a double
+        private static final int MAX_DIGITS = 15;
+
+        DoubleByteConverter(ValueConverter<String, Double> converter) {
+            super(converter);
+        }
+
+        // Parses "[+-]digits[.digits][(e|E)[+-]digits]" numbers with an exactly representable mantissa and a power of
+        // 10 within the exactly representable range. Then the result of a single multiplication or division is
+        // correctly rounded, i.e. is the same as the result of Double.parseDouble. Returns NaN for other values.
+        private static double parse(CsvByteRecord record, int i) {
+
+            if (!record.isPlain(i)) {
+                return Double.NaN;
+            }
+
+            int p = record.start(i);
+            int end = record.end(i);
+
+            boolean negative = false;
+            if (p < end) {
+                byte first = record.byteAt(p);
+                if (first == '-' || first == '+') {
+                    negative = first == '-';
+                    p++;
+                }
+            }
+
+            long mantissa = 0;
+            int digits = 0;
+            int fractionDigits = 0;
+            boolean fraction = false;
+
+            for (; p < end; p++) {
+                byte b = record.byteAt(p);
+                if (b >= '0' && b <= '9') {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (fraction) {
+                        fractionDigits++;
+                    }
+                } else if (b == '.' && !fraction) {
+                    fraction = true;
+                } else {
+                    break;
+                }
+            }
+
+            if (digits == 0 || digits > MAX_DIGITS) {
+                return Double.NaN;
+            }
+
+            int exponent = 0;
+            if (p < end) {
+                byte e = record.byteAt(p++);
+                if (e != 'e' && e != 'E' || p == end) {
+                    return Double.NaN;
+                }
+
+                boolean negativeExponent = false;
+                byte first = record.byteAt(p);
+                if (first == '-' || first == '+') {
+                    negativeExponent = first == '-';
+                    p++;
+                }
+
+                int exponentDigits = end - p;
+                if (exponentDigits == 0 || exponentDigits > 3) {
+                    return Double.NaN;
+                }
+
+                for (; p < end; p++) {
+                    byte b = record.byteAt(p);
+                    if (b < '0' || b > '9') {
+                        return Double.NaN;
+                    }
+                    exponent = exponent * 10 + (b - '0');
+                }
+
+                if (negativeExponent) {
+                    exponent = -exponent;
+                }
+            }
+
+            int power = exponent - fractionDigits;
+            if (power < -22 || power > 22) {
+                return Double.NaN;
+            }
+
+            double v = power < 0 ? mantissa / POWERS_OF_10[-power] : mantissa * POWERS_OF_10[power];
+            return negative ? -v : v;
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, ValueHolder<Double> holder) {
+            double v = parse(record, i);
+            if (v == v) {
+                holder.setDouble(v);
+            } else {
+                converter.convertAndStore(record.get(i), holder);
+            }
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, Accumulator<Double> accumulator) {
+            double v = parse(record, i);
+            if (v == v) {
+                accumulator.addDouble(v);
+            } else {
+                converter.convertAndStore(record.get(i), accumulator);
+            }
+        }
+
+        @Override
+        public void convertAndStore(int pos, CsvByteRecord record, int i, Accumulator<Double> accumulator) {
+            double v = parse(record, i);
+            if (v == v) {
+                accumulator.setDouble(pos, v);
+            } else {
+                converter.convertAndStore(pos, record.get(i), accumulator);
+            }
+        }
+    }
+
+    static class BooleanByteConverter extends CsvByteConverter<Boolean> {
+
+        private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+
+        BooleanByteConverter(ValueConverter<String, Boolean> converter) {
+            super(converter);
+        }
+
+        // same as Boolean.parseBoolean, anything other than a case-insensitive "true" is "false"
+        private static boolean isTrue(CsvByteRecord record, int i) {
+
+            int start = record.start(i);
+            if (record.end(i) - start != TRUE.length) {
+                return false;
+            }
+
+            for (int j = 0; j < TRUE.length; j++) {
+                byte b = record.byteAt(start + j);
+                if (b != TRUE[j] && b != TRUE[j] - ('a' - 'A')) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, ValueHolder<Boolean> holder) {
+            if (record.isPlain(i)) {
+                holder.setBoolean(isTrue(record, i));
+            } else {
+                converter.convertAndStore(record.get(i), holder);
+            }
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, Accumulator<Boolean> accumulator) {
+            if (record.isPlain(i)) {
+                accumulator.addBoolean(isTrue(record, i));
+            } else {
+                converter.convertAndStore(record.get(i), accumulator);
+            }
+        }
+
+        @Override
+        public void convertAndStore(int pos, CsvByteRecord record, int i, Accumulator<Boolean> accumulator) {
+            if (record.isPlain(i)) {
+                accumulator.setBoolean(pos, isTrue(record, i));
+            } else {
+                converter.convertAndStore(pos, record.get(i), accumulator);
+            }
+        }
+    }
+
+    static class DateByteConverter extends CsvByteConverter<LocalDate> {
+
+        DateByteConverter(ValueConverter<String, LocalDate> converter) {
+            super(converter);
+        }
+
+        // parses "yyyy-MM-dd" dates, returning null for anything else
+        private static LocalDate parse(CsvByteRecord record, int i) {
+
+            if (!record.isPlain(i)) {
+                return null;
+            }
+
+            int p = record.start(i);
+            if (record.end(i) - p != 10 || record.byteAt(p + 4) != '-' || record.byteAt(p + 7) != '-') {
+                return null;
+            }
+
+            int year = digits(record, p, 4);
+            int month = digits(record, p + 5, 2);
+            int day = digits(record, p + 8, 2);
+
+            if (year < 0 || month < 0 || day < 0) {
+                return null;
+            }
+
+            try {
+                return LocalDate.of(year, month, day);
+            } catch (DateTimeException e) {
+                // let the String converter report the error
+                return null;
+            }
+        }
+
+        private static int digits(CsvByteRecord record, int from, int len) {
+            int v = 0;
+            for (int p = from; p < from + len; p++) {
+                byte b = record.byteAt(p);
+                if (b < '0' || b > '9') {
+                    return -1;
+                }
+                v = v * 10 + (b - '0');
+            }
+
+            return v;
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, ValueHolder<LocalDate> holder) {
+            LocalDate v = parse(record, i);
+            if (v != null) {
+                holder.set(v);
+            } else {
+                converter.convertAndStore(record.get(i), holder);
+            }
+        }
+
+        @Override
+        public void convertAndStore(CsvByteRecord record, int i, Accumulator<LocalDate> accumulator) {
+            LocalDate v = parse(record, i);
+            if (v != null) {
+                accumulator.add(v);
+            } else {
+                converter.convertAndStore(record.get(i), accumulator);
+            }
+        }
+
+        @Override
+        public void convertAndStore(int pos, CsvByteRecord record, int i, Accumulator<LocalDate> accumulator) {
+            LocalDate v = parse(record, i);
+            if (v != null) {
+                accumulator.set(pos, v);
+            } else {
+                converter.convertAndStore(pos, record.get(i), accumulator);
+            }
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.nhl.dflib.csv.loader;
+
+import org.apache.commons.csv.CSVFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A CSV tokenizer that reads records directly from a {@link ByteBuffer} (e.g. a memory-mapped file), and at the same
+ * time a flyweight for the current record. Tracks the value boundaries within the buffer without copying any bytes, so
+ * the values can be parsed as primitives straight from the buffer, and Strings are only created on demand. Follows the
+ * tokenizing rules of commons-csv for the delimiter, quote and escape chars, the null string and the empty lines of the
+ * {@link CSVFormat}.
+ *
+ * @since 0.12
+ */
+public class CsvByteRecord {
+
+    private final int delimiter;
+    private final int quote;
+    private final int escape;
+    private final boolean ignoreEmptyLines;
+    private final byte[] nullBytes;
+    private final Charset charset;
+
+    private ByteBuffer buffer;
+    private int pos;
+    private int limit;
+
+    private int size;
+    private int[] starts;
+    private int[] ends;
+    private boolean[] escaped;
+    private boolean[] quoted;
+
+    // a buffer for the values that require decoding
+    private byte[] scratch;
+
+    public CsvByteRecord(CSVFormat format, Charset charset) {
+        this.delimiter = format.getDelimiter();
+        this.quote = format.getQuoteCharacter() != null ? format.getQuoteCharacter() : -1;
+        this.escape = format.getEscapeCharacter() != null ? format.getEscapeCharacter() : -1;
+        this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+        this.nullBytes = format.getNullString() != null ? format.getNullString().getBytes(charset) : null;
+        this.charset = charset;
+
+        this.starts = new int[16];
+        this.ends = new int[16];
+        this.escaped = new boolean[16];
+        this.quoted = new boolean[16];
+        this.scratch = new byte[64];
+    }
+
+    /**
+     * Returns whether the records of the format can be tokenized by this class. The formats that trim the values or
+     * allow a trailing delimiter are not supported.
+     */
+    public static boolean canTokenize(CSVFormat format) {
+        return !format.getIgnoreSurroundingSpaces() && !format.getTrim() && !format.getTrailingDelimiter();
+    }
+
+    /**
+     * Starts reading records from the buffer remaining bytes.
+     */
+    public CsvByteRecord reset(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.pos = buffer.position();
+        this.limit = buffer.limit();
+        this.size = 0;
+        return this;
+    }
+
+    /**
+     * Advances to the next record in the buffer, returning false if there are no more records.
+     */
+    public boolean next() {
+
+        size = 0;
+
+        if (ignoreEmptyLines) {
+            while (pos < limit && isLineBreak(buffer.get(pos))) {
+                pos++;
+            }
+        }
+
+        if (pos >= limit) {
+            return false;
+        }
+
+        while (true) {
+
+            if (pos < limit && (buffer.get(pos) & 0xFF) == quote) {
+                readQuoted();
+            } else {
+                readUnquoted();
+            }
+
+            if (pos >= limit) {
+                return true;
+            }
+
+            byte b = buffer.get(pos++);
+            if (b == '\r') {
+                if (pos < limit && buffer.get(pos) == '\n') {
+                    pos++;
+                }
+                return true;
+            } else if (b == '\n') {
+                return true;
+            }
+
+            // otherwise it was a delimiter, and there's another value in the record
+        }
+    }
+
+    private void readUnquoted() {
+
+        int start = pos;
+        boolean hasEscapes = false;
+
+        while (pos < limit) {
+            int b = buffer.get(pos) & 0xFF;
+            if (b == delimiter || b == '\n' || b == '\r') {
+                break;
+            }
+
+            if (b == escape) {
+                hasEscapes = true;
+                pos++;
+            }
+
+            pos++;
+        }
+
+        addValue(start, Math.min(pos, limit), false, hasEscapes);
+    }
+
+    private void readQuoted() {
+
+        // skip the opening quote
+        int start = ++pos;
+        int end = limit;
+        boolean hasEscapes = false;
+
+        while (pos < limit) {
+            int b = buffer.get(pos) & 0xFF;
+
+            if (b == quote) {
+                if (pos + 1 < limit && (buffer.get(pos + 1) & 0xFF) == quote) {
+                    hasEscapes = true;
+                    pos += 2;
+                    continue;
+                }
+
+                end = pos++;
+                break;
+            }
+
+            if (b == escape) {
+                hasEscapes = true;
+                pos++;
+            }
+
+            pos++;
+        }
+
+        // same as commons-csv, allow whitespace between the closing quote and the delimiter
+        while (pos < limit) {
+            int b = buffer.get(pos) & 0xFF;
+            if (b == delimiter || b == '\n' || b == '\r') {
+                break;
+            }
+
+            if (!Character.isWhitespace(b)) {
+                throw new IllegalStateException("Invalid char between the closing quote and delimiter: " + (char) b);
+            }
+
+            pos++;
+        }
+
+        addValue(start, Math.min(end, limit), true, hasEscapes);
+    }
+
+    private void addValue(int start, int end, boolean isQuoted, boolean hasEscapes) {
+
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            escaped = Arrays.copyOf(escaped, capacity);
+            quoted = Arrays.copyOf(quoted, capacity);
+        }
+
+        starts[size] = start;
+        ends[size] = end;
+        escaped[size] = hasEscapes;
+        quoted[size] = isQuoted;
+        size++;
+    }
+
+    private static boolean isLineBreak(byte b) {
+        return b == '\n' || b == '\r';
+    }
+
+    /**
+     * Returns the number of values in the current record.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a value at the position as a String, or null if the value matches the format "null string".
+     */
+    public String get(int i) {
+        checkIndex(i);
+        int len = decode(i);
+        return isNullBytes(scratch, 0, len) ? null : new String(scratch, 0, len, charset);
+    }
+
+    /**
+     * Returns true if the value at the position can be read directly from the buffer, i.e. it doesn't need decoding
+     * and is not null.
+     */
+    public boolean isPlain(int i) {
+        checkIndex(i);
+        return !escaped[i] && !isNullBytes(i);
+    }
+
+    /**
+     * Returns the buffer offset of the first byte of a plain value.
+     */
+    public int start(int i) {
+        return starts[i];
+    }
+
+    /**
+     * Returns the buffer offset past the last byte of a plain value.
+     */
+    public int end(int i) {
+        return ends[i];
+    }
+
+    /**
+     * Returns a byte of the underlying buffer at the absolute offset.
+     */
+    public byte byteAt(int offset) {
+        return buffer.get(offset);
+    }
+
+    private void checkIndex(int i) {
+        if (i >= size) {
+            throw new ArrayIndexOutOfBoundsException(i);
+        }
+    }
+
+    private boolean isNullBytes(int i) {
+
+        if (nullBytes == null) {
+            return false;
+        }
+
+        int start = starts[i];
+        int len = ends[i] - start;
+        if (len != nullBytes.length) {
+            return false;
+        }
+
+        for (int j = 0; j < len; j++) {
+            if (buffer.get(start + j) != nullBytes[j]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isNullBytes(byte[] bytes, int from, int len) {
+
+        if (nullBytes == null || len != nullBytes.length) {
+            return false;
+        }
+
+        for (int j = 0; j < len; j++) {
+            if (bytes[from + j] != nullBytes[j]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // copies the value bytes to the "scratch" buffer, resolving the escapes, and returns the decoded length
+    private int decode(int i) {
+
+        int start = starts[i];
+        int end = ends[i];
+        int len = end - start;
+
+        if (scratch.length < len) {
+            scratch = new byte[Math.max(len, scratch.length * 2)];
+        }
+
+        if (!escaped[i]) {
+            for (int j = 0; j < len; j++) {
+                scratch[j] = buffer.get(start + j);
+            }
+
+            return len;
+        }
+
+        boolean inQuotes = quoted[i];
+        int out = 0;
+        for (int p = start; p < end; p++) {
+            int b = buffer.get(p) & 0xFF;
+
+            if (inQuotes && b == quote && p + 1 < end && (buffer.get(p + 1) & 0xFF) == quote) {
+                scratch[out++] = (byte) b;
+                p++;
+            } else if (b == escape && p + 1 < end) {
+                int c = buffer.get(++p) & 0xFF;
+                int unescaped = unescape(c);
+                if (unescaped >= 0) {
+                    scratch[out++] = (byte) unescaped;
+                } else {
+                    // same as commons-csv, keep the escape char followed by a char that is not special
+                    scratch[out++] = (byte) b;
+                    scratch[out++] = (byte) c;
+                }
+            } else {
+                scratch[out++] = (byte) b;
+            }
+        }
+
+        return out;
+    }
+
+    // returns the unescaped char or -1 if the char is not a valid escape sequence
+    private int unescape(int c) {
+        switch (c) {
+            case 'r':
+                return '\r';
+            case 'n':
+                return '\n';
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case '\r':
+            case '\n':
+            case '\t':
+            case '\b':
+            case '\f':
+                return c;
+            default:
+                return c == delimiter || c == quote || c == escape ? c : -1;
+        }
+    }
+}
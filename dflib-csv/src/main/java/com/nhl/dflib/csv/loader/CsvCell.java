@@ -14,11 +14,25 @@ import org.apache.commons.csv.CSVRecord;
 public class CsvCell<T> {
 
     private ValueConverter<String, T> converter;
+    private CsvByteConverter<T> byteConverter;
     private ValueHolder<T> holder;
     private int csvColumnPosition;
 
     public CsvCell(ValueConverter<String, T> converter, ValueHolder<T> holder, int csvColumnPosition) {
+        this(converter, CsvByteConverter.of(converter), holder, csvColumnPosition);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public CsvCell(
+            ValueConverter<String, T> converter,
+            CsvByteConverter<T> byteConverter,
+            ValueHolder<T> holder,
+            int csvColumnPosition) {
+
         this.converter = converter;
+        this.byteConverter = byteConverter;
         this.holder = holder;
         this.csvColumnPosition = csvColumnPosition;
     }
@@ -27,6 +41,13 @@ public class CsvCell<T> {
         converter.convertAndStore(record.get(csvColumnPosition), holder);
     }
 
+    /**
+     * @since 0.12
+     */
+    public void set(CsvByteRecord record) {
+        byteConverter.convertAndStore(record, csvColumnPosition, holder);
+    }
+
     public void store(Accumulator<T> accumulator) {
         holder.store(accumulator);
     }
@@ -3,6 +3,7 @@ package com.nhl.dflib.csv;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.ValueMapper;
 import com.nhl.dflib.junit5.DataFrameAsserts;
+import com.nhl.dflib.series.CategoricalSeries;
 import org.apache.commons.csv.CSVFormat;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +14,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CsvLoaderTest extends BaseCsvTest {
@@ -292,4 +294,25 @@ public class CsvLoaderTest extends BaseCsvTest {
                 .expectRow(0, null, "three")
                 .expectRow(1, "five", null);
     }
+
+    @Test
+    public void testCategoricalColumn() {
+
+        StringReader r = new StringReader("A,B\n"
+                + "x,1\n"
+                + "y,2\n"
+                + ",3\n"
+                + "x,4");
+
+        DataFrame df = new CsvLoader().emptyStringIsNull().categoricalColumn("A").load(r);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(4)
+                .expectRow(0, "x", "1")
+                .expectRow(1, "y", "2")
+                .expectRow(2, null, "3")
+                .expectRow(3, "x", "4");
+
+        CategoricalSeries<String> a = (CategoricalSeries<String>) df.<String>getColumn("A");
+        assertEquals(2, a.getCategoryCount());
+    }
 }
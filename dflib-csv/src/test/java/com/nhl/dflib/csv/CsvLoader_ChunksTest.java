@@ -0,0 +1,155 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvLoader_ChunksTest extends BaseCsvTest {
+
+    private static String numbers(int rows) {
+        StringBuilder csv = new StringBuilder("A,B\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(i).append(",s").append(i).append('\n');
+        }
+
+        return csv.toString();
+    }
+
+    @Test
+    public void testLoadChunks() {
+
+        List<DataFrame> chunks;
+        try (Stream<DataFrame> stream = new CsvLoader().intColumn("A").loadChunks(new StringReader(numbers(7)), 3)) {
+            chunks = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(3, chunks.size());
+
+        new DataFrameAsserts(chunks.get(0), "A", "B")
+                .expectIntColumns("A")
+                .expectHeight(3)
+                .expectRow(0, 0, "s0")
+                .expectRow(2, 2, "s2");
+
+        new DataFrameAsserts(chunks.get(1), "A", "B")
+                .expectIntColumns("A")
+                .expectHeight(3)
+                .expectRow(0, 3, "s3")
+                .expectRow(2, 5, "s5");
+
+        new DataFrameAsserts(chunks.get(2), "A", "B")
+                .expectIntColumns("A")
+                .expectHeight(1)
+                .expectRow(0, 6, "s6");
+    }
+
+    @Test
+    public void testLoadChunks_FromFile() {
+        try (Stream<DataFrame> stream = new CsvLoader().loadChunks(inPath("f1.csv"), 1)) {
+
+            Iterator<DataFrame> it = stream.iterator();
+
+            new DataFrameAsserts(it.next(), "A", "b", "C").expectHeight(1).expectRow(0, "1", "2", "3");
+            new DataFrameAsserts(it.next(), "A", "b", "C").expectHeight(1).expectRow(0, "4", "5", "6");
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void testLoadChunks_Header_SelectColumns_SelectRows() {
+
+        try (Stream<DataFrame> stream = new CsvLoader()
+                .skipRows(1)
+                .header("X", "Y")
+                .intColumn("X")
+                .selectColumns("X")
+                .selectRows("X", (Integer x) -> x < 2 || x > 7)
+                .loadChunks(new StringReader(numbers(10)), 4)) {
+
+            List<DataFrame> chunks = stream.collect(Collectors.toList());
+
+            // the middle chunk has no matching rows and is skipped
+            assertEquals(2, chunks.size());
+
+            new DataFrameAsserts(chunks.get(0), "X")
+                    .expectIntColumns("X")
+                    .expectHeight(2)
+                    .expectRow(0, 0)
+                    .expectRow(1, 1);
+
+            new DataFrameAsserts(chunks.get(1), "X")
+                    .expectIntColumns("X")
+                    .expectHeight(2)
+                    .expectRow(0, 8)
+                    .expectRow(1, 9);
+        }
+    }
+
+    @Test
+    public void testLoadChunks_Empty() {
+        try (Stream<DataFrame> stream = new CsvLoader().loadChunks(new StringReader("A,B\n"), 5)) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    public void testLoadChunks_CloseStream() {
+
+        boolean[] closed = new boolean[1];
+        Reader reader = new StringReader(numbers(10)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+                super.close();
+            }
+        };
+
+        Stream<DataFrame> stream = new CsvLoader().loadChunks(reader, 5);
+        assertEquals(5, stream.findFirst().get().height());
+        assertFalse(closed[0]);
+
+        stream.close();
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    public void testLoadChunks_Sampling() {
+        assertThrows(IllegalStateException.class, () -> new CsvLoader()
+                .sampleRows(2)
+                .loadChunks(new StringReader(numbers(10)), 5));
+    }
+
+    @Test
+    public void testLoadChunks_SaveAppend() throws IOException {
+
+        String in = outPath("chunks_in.csv");
+        String out = outPath("chunks_out.csv");
+        Files.write(Paths.get(in), numbers(10).getBytes(StandardCharsets.UTF_8));
+
+        CsvSaver saver = new CsvSaver().append();
+        try (Stream<DataFrame> stream = new CsvLoader().intColumn("A").loadChunks(in, 3)) {
+            stream.map(df -> df.selectRows(df.getColumnAsInt("A").indexInt(a -> a % 2 == 0)))
+                    .forEach(df -> saver.save(df, out));
+        }
+
+        assertEquals("A,B\r\n" +
+                "0,s0\r\n" +
+                "2,s2\r\n" +
+                "4,s4\r\n" +
+                "6,s6\r\n" +
+                "8,s8\r\n", readFile(out));
+    }
+}
@@ -0,0 +1,215 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvLoader_MemoryMappedTest extends BaseCsvTest {
+
+    private static String write(String name, String csv) throws IOException {
+        String path = outPath(name);
+        Files.write(Paths.get(path), csv.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    @Test
+    public void testFromFile() {
+        DataFrame df = new CsvLoader().memoryMapped().load(inPath("f1.csv"));
+        new DataFrameAsserts(df, "A", "b", "C")
+                .expectHeight(2)
+                .expectRow(0, "1", "2", "3")
+                .expectRow(1, "4", "5", "6");
+    }
+
+    @Test
+    public void testFromFile_DefaultFormat_Excel() {
+        DataFrame df = new CsvLoader().memoryMapped().load(inPath("from_excel.csv"));
+        new DataFrameAsserts(df, "A", "b", "C")
+                .expectHeight(2)
+                .expectRow(0, "commas,quotes\"'", "-85.7", "3")
+                .expectRow(1, "with, commas", "5.50001", "6");
+    }
+
+    @Test
+    public void testFromFile_MySQLFormat() throws IOException {
+        String path = write("m_mysql.tsv", "1\ta\\tb\n2\t\\N\n3\tc\\\nd\n");
+
+        DataFrame df = new CsvLoader()
+                .format(CSVFormat.MYSQL)
+                .header("A", "B")
+                .intColumn("A")
+                .memoryMapped()
+                .load(path);
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectIntColumns("A")
+                .expectHeight(3)
+                .expectRow(0, 1, "a\tb")
+                .expectRow(1, 2, null)
+                .expectRow(2, 3, "c\nd");
+    }
+
+    @Test
+    public void testPrimitiveColumns() throws IOException {
+        String path = write("m_primitives.csv", "i,l,d,b\r\n"
+                + "1,12345678901,1.5,true\r\n"
+                + "-22,-1,-0.25,TRUE\r\n"
+                + "+7,9223372036854775807,1e3,false\r\n"
+                + "\"40\",0,0.1,yes\r\n"
+                + "2147483647,-9223372036854775808,1.7976931348623157E308,\r\n"
+                + "0,5,12345678901234567890,\"True\"\r\n");
+
+        DataFrame df = new CsvLoader()
+                .intColumn("i")
+                .longColumn("l")
+                .doubleColumn("d")
+                .booleanColumn("b")
+                .memoryMapped()
+                .load(path);
+
+        new DataFrameAsserts(df, "i", "l", "d", "b")
+                .expectIntColumns("i")
+                .expectLongColumns("l")
+                .expectDoubleColumns("d")
+                .expectBooleanColumns("b")
+                .expectHeight(6)
+                .expectRow(0, 1, 12345678901L, 1.5, true)
+                .expectRow(1, -22, -1L, -0.25, true)
+                .expectRow(2, 7, Long.MAX_VALUE, 1000., false)
+                .expectRow(3, 40, 0L, 0.1, false)
+                .expectRow(4, Integer.MAX_VALUE, Long.MIN_VALUE, Double.MAX_VALUE, false)
+                .expectRow(5, 0, 5L, 12345678901234567890., true);
+    }
+
+    @Test
+    public void testDoubleColumn_SameAsParseDouble() throws IOException {
+
+        Random random = new Random(3);
+        StringBuilder csv = new StringBuilder("d\n");
+        String[] values = new String[1000];
+        for (int i = 0; i < values.length; i++) {
+            long mantissa = random.nextLong() % 1_000_000_000_000_000L;
+            int scale = random.nextInt(20);
+            values[i] = new BigDecimal(BigInteger.valueOf(mantissa), scale).toPlainString();
+            csv.append(values[i]).append('\n');
+        }
+
+        DataFrame df = new CsvLoader().doubleColumn(0).memoryMapped().load(write("m_doubles.csv", csv.toString()));
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Double.parseDouble(values[i]), df.getColumnAsDouble(0).getDouble(i), 0., values[i]);
+        }
+    }
+
+    @Test
+    public void testDoubleColumn_InvalidValue() throws IOException {
+        String path = write("m_doubles_invalid.csv", "d\n1.5\nx\n");
+        assertThrows(NumberFormatException.class, () -> new CsvLoader().doubleColumn(0).memoryMapped().load(path));
+    }
+
+    @Test
+    public void testIntColumn_ForNull() throws IOException {
+        String path = write("m_int_nulls.csv", "A,B\n1,\n,2\n");
+
+        DataFrame df = new CsvLoader().intColumn("A", -1).intColumn("B", -2).memoryMapped().load(path);
+        new DataFrameAsserts(df, "A", "B")
+                .expectIntColumns("A", "B")
+                .expectHeight(2)
+                .expectRow(0, 1, -2)
+                .expectRow(1, -1, 2);
+    }
+
+    @Test
+    public void testDateColumn() throws IOException {
+        String path = write("m_dates.csv", "A,B\n2018-01-05,x\n,y\n2020-02-29,z\n");
+
+        DataFrame df = new CsvLoader().dateColumn("A").memoryMapped().load(path);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(3)
+                .expectRow(0, LocalDate.of(2018, 1, 5), "x")
+                .expectRow(1, null, "y")
+                .expectRow(2, LocalDate.of(2020, 2, 29), "z");
+
+        String invalid = write("m_dates_invalid.csv", "A\n2018-02-30\n");
+        assertThrows(RuntimeException.class, () -> new CsvLoader().dateColumn("A").memoryMapped().load(invalid));
+    }
+
+    @Test
+    public void testEmptyStringIsNull_Quotes_EmptyLines() throws IOException {
+        String path = write("m_quotes.csv", "A,B\n\n\"a\"\"b\",\n\"x\ny\",\"\"\n\nc,d");
+
+        DataFrame df = new CsvLoader().emptyStringIsNull().memoryMapped().load(path);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(3)
+                .expectRow(0, "a\"b", null)
+                .expectRow(1, "x\ny", null)
+                .expectRow(2, "c", "d");
+    }
+
+    @Test
+    public void testSkipRows_SelectColumns_SelectRows_Sample() throws IOException {
+        StringBuilder csv = new StringBuilder("skipped\nA,B,C\n");
+        for (int i = 0; i < 300; i++) {
+            csv.append(i).append(",s").append(i).append(',').append(i * 0.5).append('\n');
+        }
+
+        String path = write("m_select.csv", csv.toString());
+
+        DataFrame df = new CsvLoader()
+                .skipRows(1)
+                .intColumn("A")
+                .doubleColumn("C")
+                .selectColumns("C", "A")
+                .selectRows("A", (Integer a) -> a % 50 == 0)
+                .memoryMapped()
+                .load(path);
+
+        new DataFrameAsserts(df, "C", "A")
+                .expectDoubleColumns("C")
+                .expectIntColumns("A")
+                .expectHeight(6)
+                .expectRow(0, 0., 0)
+                .expectRow(5, 125., 250);
+
+        DataFrame sample = new CsvLoader()
+                .skipRows(1)
+                .intColumn("A")
+                .sampleRows(10, new Random(1))
+                .memoryMapped()
+                .parallel(3, 500)
+                .load(path);
+
+        new DataFrameAsserts(sample, "A", "B", "C").expectIntColumns("A").expectHeight(10);
+        for (int i = 1; i < 10; i++) {
+            assertTrue(sample.getColumnAsInt("A").getInt(i - 1) < sample.getColumnAsInt("A").getInt(i));
+        }
+    }
+
+    @Test
+    public void testParallel() throws IOException {
+        StringBuilder csv = new StringBuilder("A,B\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(",\"v\n").append(i).append("\"\n");
+        }
+
+        String path = write("m_parallel.csv", csv.toString());
+
+        DataFrame df = new CsvLoader().intColumn("A").memoryMapped().parallel(4, 100).load(path);
+        new DataFrameAsserts(df, "A", "B")
+                .expectIntColumns("A")
+                .expectHeight(1000)
+                .expectRow(0, 0, "v\n0")
+                .expectRow(999, 999, "v\n999");
+    }
+}
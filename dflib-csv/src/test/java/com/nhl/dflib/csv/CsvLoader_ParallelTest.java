@@ -0,0 +1,179 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import com.nhl.dflib.series.CategoricalSeries;
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvLoader_ParallelTest extends BaseCsvTest {
+
+    private static String write(String name, String csv) throws IOException {
+        String path = outPath(name);
+        Files.write(Paths.get(path), csv.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static String numbers(int rows) {
+        StringBuilder csv = new StringBuilder("A,B,C\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(i).append(",s").append(i).append(',').append(i % 2 == 0).append('\n');
+        }
+
+        return csv.toString();
+    }
+
+    private static void assertSameData(DataFrame expected, DataFrame actual) {
+        assertEquals(expected.getColumnsIndex(), actual.getColumnsIndex());
+        assertEquals(expected.height(), actual.height());
+
+        for (String c : expected.getColumnsIndex()) {
+            assertEquals(expected.getColumn(c).toList(), actual.getColumn(c).toList(), c);
+        }
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+        String csv = numbers(1000);
+        String path = write("p_numbers.csv", csv);
+
+        DataFrame df = new CsvLoader().intColumn("A").booleanColumn("C").parallel(4, 100).load(path);
+        new DataFrameAsserts(df, "A", "B", "C")
+                .expectIntColumns("A")
+                .expectBooleanColumns("C")
+                .expectHeight(1000)
+                .expectRow(0, 0, "s0", true)
+                .expectRow(999, 999, "s999", false);
+
+        assertSameData(new CsvLoader().intColumn("A").booleanColumn("C").load(new StringReader(csv)), df);
+    }
+
+    @Test
+    public void testLoad_QuotedLineBreaks() throws IOException {
+        StringBuilder csv = new StringBuilder("A,B\r\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append(i).append(",\"x\n\"\"y\"\",\r\nz").append(i).append("\"\r\n");
+        }
+
+        String path = write("p_quoted.csv", csv.toString());
+
+        DataFrame df = new CsvLoader().parallel(3, 10).load(path);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(200)
+                .expectRow(0, "0", "x\n\"y\",\r\nz0")
+                .expectRow(199, "199", "x\n\"y\",\r\nz199");
+    }
+
+    @Test
+    public void testLoad_EscapedLineBreaks() throws IOException {
+        String path = write("p_escaped.tsv", "1\ta\\\nb\n2\tc\n3\td\\\ne\n4\tf\n");
+
+        DataFrame df = new CsvLoader().format(CSVFormat.MYSQL).header("A", "B").parallel(2, 1).load(path);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(4)
+                .expectRow(0, "1", "a\nb")
+                .expectRow(1, "2", "c")
+                .expectRow(2, "3", "d\ne")
+                .expectRow(3, "4", "f");
+    }
+
+    @Test
+    public void testLoad_SkipRows_EmptyLines() throws IOException {
+        String path = write("p_skip.csv", "\n# comment\n\nA,B\n1,2\n\n3,4\r5,6");
+
+        DataFrame df = new CsvLoader().skipRows(1).parallel(2, 1).load(path);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(3)
+                .expectRow(0, "1", "2")
+                .expectRow(1, "3", "4")
+                .expectRow(2, "5", "6");
+    }
+
+    @Test
+    public void testLoad_HeaderOnly() throws IOException {
+        String path = write("p_header_only.csv", "A,B\n");
+
+        DataFrame df = new CsvLoader().parallel(2, 1).load(path);
+        new DataFrameAsserts(df, "A", "B").expectHeight(0);
+    }
+
+    @Test
+    public void testLoad_SelectColumns_SelectRows() throws IOException {
+        String path = write("p_select.csv", numbers(500));
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .selectColumns("C", "A")
+                .selectRows("A", (Integer a) -> a % 100 == 7)
+                .parallel(4, 64)
+                .load(path);
+
+        new DataFrameAsserts(df, "C", "A")
+                .expectIntColumns("A")
+                .expectHeight(5)
+                .expectRow(0, "false", 7)
+                .expectRow(1, "false", 107)
+                .expectRow(4, "false", 407);
+    }
+
+    @Test
+    public void testLoad_SampleRows() throws IOException {
+        String path = write("p_sample.csv", numbers(1000));
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .sampleRows(50, new Random(5))
+                .parallel(4, 500)
+                .load(path);
+
+        new DataFrameAsserts(df, "A", "B", "C").expectHeight(50);
+
+        // the sample must preserve the file order
+        IntSeries a = df.getColumnAsInt("A");
+        for (int i = 1; i < a.size(); i++) {
+            assertTrue(a.getInt(i - 1) < a.getInt(i));
+        }
+
+        DataFrame all = new CsvLoader().sampleRows(2000).parallel(4, 500).load(path);
+        new DataFrameAsserts(all, "A", "B", "C")
+                .expectHeight(1000)
+                .expectRow(0, "0", "s0", "true")
+                .expectRow(999, "999", "s999", "false");
+    }
+
+    @Test
+    public void testLoad_SampleRows_Reproducible() throws IOException {
+        String path = write("p_sample_seed.csv", numbers(5000));
+
+        for (int i = 0; i < 3; i++) {
+            DataFrame s1 = new CsvLoader().sampleRows(5, new Random(7)).parallel(4, 2000).load(path);
+            DataFrame s2 = new CsvLoader().sampleRows(5, new Random(7)).parallel(4, 2000).load(path);
+            assertSameData(s1, s2);
+
+            DataFrame m1 = new CsvLoader().sampleRows(5, new Random(7)).memoryMapped().parallel(4, 2000).load(path);
+            DataFrame m2 = new CsvLoader().sampleRows(5, new Random(7)).memoryMapped().parallel(4, 2000).load(path);
+            assertSameData(m1, m2);
+        }
+    }
+
+    @Test
+    public void testCategoricalColumn() throws IOException {
+        String csv = numbers(1000);
+        String path = write("p_categorical.csv", csv);
+
+        DataFrame df = new CsvLoader().categoricalColumn("C").parallel(4, 100).load(path);
+        assertTrue(df.getColumn("C") instanceof CategoricalSeries);
+        assertEquals(2, ((CategoricalSeries<?>) df.getColumn("C")).getCategoryCount());
+        assertSameData(new CsvLoader().load(new StringReader(csv)), df);
+    }
+}
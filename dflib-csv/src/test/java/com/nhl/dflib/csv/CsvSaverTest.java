@@ -123,4 +123,30 @@ public class CsvSaverTest extends BaseCsvTest {
                 "1,2\r\n" +
                         "3,4\r\n", Csv.saver().noHeader().saveToString(df));
     }
+
+    @Test
+    public void testSave_Append() throws IOException {
+
+        File file = new File(outPath("testAppend.csv"));
+
+        DataFrame df1 = DataFrame.newFrame("A", "B").foldByRow(
+                1, 2,
+                3, 4);
+
+        DataFrame df2 = DataFrame.newFrame("A", "B").foldByRow(5, 6);
+
+        CsvSaver saver = Csv.saver().append();
+        saver.save(df1, file);
+        saver.save(df2, file);
+
+        assertEquals("A,B\r\n" +
+                "1,2\r\n" +
+                "3,4\r\n" +
+                "5,6\r\n", readFile(file.getAbsolutePath()));
+
+        // without "append", the file is overwritten
+        Csv.saver().save(df2, file);
+        assertEquals("A,B\r\n" +
+                "5,6\r\n", readFile(file.getAbsolutePath()));
+    }
 }
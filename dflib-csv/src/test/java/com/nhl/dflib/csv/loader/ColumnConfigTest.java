@@ -0,0 +1,46 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.IntValueMapper;
+import com.nhl.dflib.junit5.SeriesAsserts;
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class ColumnConfigTest {
+
+    private static ColumnBuilder<?> load(ColumnConfig config, String csv) {
+        ColumnBuilder<?> builder = config.createAccumulatorColumn(0);
+        CsvByteRecord record = new CsvByteRecord(CSVFormat.DEFAULT, StandardCharsets.UTF_8)
+                .reset(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)));
+
+        while (record.next()) {
+            builder.add(record);
+        }
+
+        return builder;
+    }
+
+    @Test
+    public void testIntColumn_ByteRecord() {
+        new SeriesAsserts(load(ColumnConfig.intColumn(0), "1\n-25\n\"3\"\n").toColumn()).expectData(1, -25, 3);
+    }
+
+    @Test
+    public void testIntColumn_ByteRecord_ForNull() {
+        new SeriesAsserts(load(ColumnConfig.intColumn(0, -1), "1,a\n,b\n3,c\n").toColumn()).expectData(1, -1, 3);
+    }
+
+    @Test
+    public void testIntColumn_ByteRecord_CustomMapper() {
+        IntValueMapper<String> mapper = s -> Integer.parseInt(s) * 10;
+        new SeriesAsserts(load(ColumnConfig.intColumn(0, mapper), "1\n-25\n3\n").toColumn()).expectData(10, -250, 30);
+    }
+
+    @Test
+    public void testDoubleColumn_ByteRecord_CustomMapper() {
+        new SeriesAsserts(load(ColumnConfig.doubleColumn(0, s -> Double.parseDouble(s) / 2), "1.5\n3\n").toColumn())
+                .expectData(0.75, 1.5);
+    }
+}
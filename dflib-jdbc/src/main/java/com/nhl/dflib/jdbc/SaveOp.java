@@ -12,5 +12,13 @@ import com.nhl.dflib.DataFrame;
  */
 public enum SaveOp {
 
-    insert, update, skip
+    insert, update, skip,
+
+    /**
+     * A row was saved with a DB-native "upsert" statement that does not report whether the row was inserted or
+     * updated.
+     *
+     * @since 0.12
+     */
+    upsert
 }
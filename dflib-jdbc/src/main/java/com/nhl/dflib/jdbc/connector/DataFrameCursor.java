@@ -0,0 +1,173 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.jdbc.connector.loader.ColumnBuilder;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over an open ResultSet that returns its rows as a sequence of DataFrames of a fixed maximum height.
+ * Only a single batch of rows is held in memory at any given time, so the cursor can be used to process result sets
+ * that would not fit in memory otherwise. The cursor holds an open DB connection and must be closed when no longer
+ * needed, which is done automatically once the last batch is read.
+ *
+ * @since 0.12
+ */
+public class DataFrameCursor implements Iterator<DataFrame>, AutoCloseable {
+
+    private final Connection connection;
+    private final Statement statement;
+    private final ResultSet resultSet;
+    private final boolean autoCommit;
+    private final Index columns;
+    private final JdbcFunction<ResultSet, ColumnBuilder<?>[]> accumulatorsFactory;
+    private final int batchSize;
+
+    private int remainingRows;
+    private DataFrame next;
+    private boolean closed;
+
+    protected DataFrameCursor(
+            Connection connection,
+            Statement statement,
+            ResultSet resultSet,
+            boolean autoCommit,
+            Index columns,
+            JdbcFunction<ResultSet, ColumnBuilder<?>[]> accumulatorsFactory,
+            int batchSize,
+            int maxRows) {
+
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.autoCommit = autoCommit;
+        this.columns = columns;
+        this.accumulatorsFactory = accumulatorsFactory;
+        this.batchSize = batchSize;
+        this.remainingRows = maxRows;
+    }
+
+    /**
+     * Creates a cursor with no rows.
+     */
+    static DataFrameCursor empty(Index columns) {
+        DataFrameCursor cursor = new DataFrameCursor(null, null, null, false, columns, null, 1, 0);
+        cursor.closed = true;
+        return cursor;
+    }
+
+    /**
+     * Returns the column labels of the batch DataFrames.
+     */
+    public Index getColumnsIndex() {
+        return columns;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            next = readBatch();
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public DataFrame next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more DataFrame batches");
+        }
+
+        DataFrame df = next;
+        next = null;
+        return df;
+    }
+
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        // closing in reverse order of opening, preserving the first exception
+        SQLException error = null;
+
+        try {
+            resultSet.close();
+        } catch (SQLException e) {
+            error = e;
+        }
+
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            error = error != null ? error : e;
+        }
+
+        try {
+            // streaming may have required to turn the autocommit off (see DbFlavor.enableStreaming). Restoring it
+            // before the connection is returned to the pool
+            if (autoCommit && !connection.getAutoCommit()) {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            error = error != null ? error : e;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            error = error != null ? error : e;
+        }
+
+        if (error != null) {
+            throw new RuntimeException("Error closing DB cursor: " + error.getMessage(), error);
+        }
+    }
+
+    private DataFrame readBatch() {
+
+        int limit = Math.min(batchSize, remainingRows);
+        if (limit <= 0) {
+            close();
+            return null;
+        }
+
+        int rows;
+        SqlLoaderWorker worker;
+
+        try {
+            worker = new SqlLoaderWorker(columns, accumulatorsFactory.apply(resultSet), limit);
+            rows = worker.consumeBatch(resultSet, limit);
+        } catch (SQLException | RuntimeException e) {
+
+            try {
+                close();
+            } catch (RuntimeException ignored) {
+                // preserving the original exception
+            }
+
+            throw e instanceof SQLException
+                    ? new RuntimeException("Error loading data from DB: " + e.getMessage(), e)
+                    : (RuntimeException) e;
+        }
+
+        remainingRows -= rows;
+
+        // a batch shorter than requested means the ResultSet is exhausted
+        if (rows < limit || remainingRows == 0) {
+            close();
+        }
+
+        return rows > 0 ? worker.toDataFrame() : null;
+    }
+}
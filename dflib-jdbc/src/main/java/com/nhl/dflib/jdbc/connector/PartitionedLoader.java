@@ -0,0 +1,307 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a number of partition queries concurrently (or, if configured, serially), each on its own connection, and
+ * concatenates the resulting DataFrames in the partition order. At most "maxParallelism" queries are running at any
+ * given time, the rest are queued.
+ *
+ * @since 0.12
+ */
+class PartitionedLoader {
+
+    // each concurrent query holds a pool connection, so keeping the default small
+    static final int DEFAULT_MAX_PARALLELISM = 4;
+
+    private final JdbcConnector connector;
+    private final List<Callable<DataFrame>> partitions;
+    private boolean parallel;
+    private int maxParallelism;
+
+    PartitionedLoader(JdbcConnector connector) {
+        this.connector = connector;
+        this.partitions = new ArrayList<>();
+        this.parallel = true;
+        this.maxParallelism = DEFAULT_MAX_PARALLELISM;
+    }
+
+    /**
+     * Calculates points that split a range of values between "min" and "max" (inclusive) into the specified number of
+     * equal ranges. May return fewer points if the range can't be split that many times, and no points at all if the
+     * range is empty.
+     */
+    static Object[] splitPoints(Object[] minMax, int partitions) {
+
+        Object min = minMax[0];
+        Object max = minMax[1];
+
+        if (min == null || max == null || partitions < 2) {
+            return new Object[0];
+        }
+
+        if (min instanceof Integer || min instanceof Long || min instanceof Short || min instanceof Byte
+                || min instanceof BigInteger) {
+            long[] points = splitPoints(toLong(min), toLong(max), partitions);
+            Object[] typed = new Object[points.length];
+            for (int i = 0; i < points.length; i++) {
+                typed[i] = toIntegral(min, points[i]);
+            }
+
+            return typed;
+        }
+
+        if (min instanceof Number) {
+            double[] points = splitPoints(((Number) min).doubleValue(), ((Number) max).doubleValue(), partitions);
+            Object[] typed = new Object[points.length];
+            for (int i = 0; i < points.length; i++) {
+                typed[i] = toDecimal(min, points[i]);
+            }
+
+            return typed;
+        }
+
+        if (min instanceof Date) {
+            long[] points = splitPoints(((Date) min).getTime(), ((Date) max).getTime(), partitions);
+            Object[] typed = new Object[points.length];
+            for (int i = 0; i < points.length; i++) {
+                typed[i] = toDate(min, points[i]);
+            }
+
+            return typed;
+        }
+
+        if (min instanceof LocalDate) {
+            long[] points = splitPoints(((LocalDate) min).toEpochDay(), ((LocalDate) max).toEpochDay(), partitions);
+            Object[] typed = new Object[points.length];
+            for (int i = 0; i < points.length; i++) {
+                typed[i] = LocalDate.ofEpochDay(points[i]);
+            }
+
+            return typed;
+        }
+
+        if (min instanceof LocalDateTime) {
+            long[] points = splitPoints(
+                    ((LocalDateTime) min).toEpochSecond(ZoneOffset.UTC),
+                    ((LocalDateTime) max).toEpochSecond(ZoneOffset.UTC),
+                    partitions);
+
+            Object[] typed = new Object[points.length];
+            for (int i = 0; i < points.length; i++) {
+                typed[i] = LocalDateTime.ofEpochSecond(points[i], 0, ZoneOffset.UTC);
+            }
+
+            return typed;
+        }
+
+        throw new IllegalArgumentException("Can't calculate partition ranges for values of type "
+                + min.getClass().getName() + ". Use explicit split points instead");
+    }
+
+    private static long toLong(Object value) {
+
+        // BigInteger.longValue() silently wraps around outside of the "long" range
+        if (value instanceof BigInteger && ((BigInteger) value).bitLength() > 63) {
+            throw new IllegalArgumentException("Can't calculate partition ranges for values outside of the "
+                    + "'long' range: " + value + ". Use explicit split points instead");
+        }
+
+        return ((Number) value).longValue();
+    }
+
+    private static long[] splitPoints(long min, long max, int partitions) {
+
+        long[] points = new long[partitions - 1];
+        int len = 0;
+
+        // calculating the offsets in double to avoid overflows for very wide ranges
+        double width = (double) max - (double) min + 1.;
+        for (int i = 1; i < partitions; i++) {
+            long p = min + (long) Math.ceil(width * i / partitions);
+            if (p > max) {
+                break;
+            }
+
+            if (p > (len > 0 ? points[len - 1] : min)) {
+                points[len++] = p;
+            }
+        }
+
+        return len < points.length ? Arrays.copyOf(points, len) : points;
+    }
+
+    private static double[] splitPoints(double min, double max, int partitions) {
+
+        double[] points = new double[partitions - 1];
+        int len = 0;
+
+        double width = max - min;
+        for (int i = 1; i < partitions; i++) {
+            double p = min + width * i / partitions;
+            if (p > (len > 0 ? points[len - 1] : min) && p <= max) {
+                points[len++] = p;
+            }
+        }
+
+        return len < points.length ? Arrays.copyOf(points, len) : points;
+    }
+
+    private static Object toIntegral(Object prototype, long value) {
+        if (prototype instanceof Integer) {
+            return (int) value;
+        } else if (prototype instanceof Short) {
+            return (short) value;
+        } else if (prototype instanceof Byte) {
+            return (byte) value;
+        } else if (prototype instanceof BigInteger) {
+            return BigInteger.valueOf(value);
+        }
+
+        return value;
+    }
+
+    private static Object toDecimal(Object prototype, double value) {
+        if (prototype instanceof Float) {
+            return (float) value;
+        } else if (prototype instanceof BigDecimal) {
+            return BigDecimal.valueOf(value);
+        }
+
+        return value;
+    }
+
+    private static Object toDate(Object prototype, long millis) {
+        if (prototype instanceof Timestamp) {
+            return new Timestamp(millis);
+        } else if (prototype instanceof java.sql.Date) {
+            return new java.sql.Date(millis);
+        } else if (prototype instanceof java.sql.Time) {
+            return new java.sql.Time(millis);
+        }
+
+        return new Date(millis);
+    }
+
+    PartitionedLoader parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    PartitionedLoader maxParallelism(int maxParallelism) {
+
+        if (maxParallelism <= 0) {
+            throw new IllegalArgumentException("Max parallelism must be positive: " + maxParallelism);
+        }
+
+        this.maxParallelism = maxParallelism;
+        return this;
+    }
+
+    PartitionedLoader partition(Callable<DataFrame> partition) {
+        partitions.add(partition);
+        return this;
+    }
+
+    DataFrame load() {
+
+        switch (partitions.size()) {
+            case 0:
+                throw new IllegalStateException("No partitions defined");
+            case 1:
+                return loadSerially();
+        }
+
+        // a transactional connector hands the same connection to all callers, and a single connection can't serve
+        // concurrent cursors
+        return !parallel || maxParallelism == 1 || connector instanceof TxJdbcConnector
+                ? loadSerially()
+                : loadParallel();
+    }
+
+    private DataFrame loadSerially() {
+
+        int len = partitions.size();
+        DataFrame[] dfs = new DataFrame[len];
+
+        for (int i = 0; i < len; i++) {
+            try {
+                dfs[i] = partitions.get(i).call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+            }
+        }
+
+        return concat(dfs);
+    }
+
+    private DataFrame loadParallel() {
+
+        int len = partitions.size();
+
+        // the partitions that don't fit in the pool wait in its queue
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(len, maxParallelism), r -> {
+            Thread t = new Thread(r, "dflib-jdbc-loader");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<DataFrame>> futures = new ArrayList<>(len);
+            for (Callable<DataFrame> p : partitions) {
+                futures.add(pool.submit(p));
+            }
+
+            DataFrame[] dfs = new DataFrame[len];
+            for (int i = 0; i < len; i++) {
+                dfs[i] = futures.get(i).get();
+            }
+
+            return concat(dfs);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading data from DB", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException("Error loading data from DB: " + cause.getMessage(), cause);
+        } finally {
+            // cancels the remaining queries if any of the partitions failed
+            pool.shutdownNow();
+        }
+    }
+
+    private static DataFrame concat(DataFrame[] dfs) {
+
+        if (dfs.length == 1) {
+            return dfs[0];
+        }
+
+        DataFrame[] tail = new DataFrame[dfs.length - 1];
+        System.arraycopy(dfs, 1, tail, 0, tail.length);
+        return dfs[0].vConcat(tail);
+    }
+}
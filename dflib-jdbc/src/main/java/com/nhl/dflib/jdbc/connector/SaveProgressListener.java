@@ -0,0 +1,20 @@
+package com.nhl.dflib.jdbc.connector;
+
+/**
+ * A callback notified about the progress of a {@link TableSaver} operation after each batch of rows is sent to the DB.
+ *
+ * @since 0.12
+ */
+@FunctionalInterface
+public interface SaveProgressListener {
+
+    /**
+     * Called after a batch of rows was sent to the DB. When the saver is writing on multiple connections, this method
+     * may be called concurrently from different threads.
+     *
+     * @param batchRows the number of rows in the batch
+     * @param savedRows the total number of rows saved so far, including this batch
+     * @param totalRows the total number of rows to save
+     */
+    void batchSaved(int batchRows, int savedRows, int totalRows);
+}
@@ -8,6 +8,8 @@ import com.nhl.dflib.jdbc.connector.loader.ColumnBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -26,11 +28,13 @@ public class SqlLoader {
     private String sql;
     private int rowSampleSize;
     private Random rowsSampleRandom;
+    private int maxParallelism;
 
     public SqlLoader(JdbcConnector connector, String sql) {
         this.connector = connector;
         this.maxRows = Integer.MAX_VALUE;
         this.sql = sql;
+        this.maxParallelism = PartitionedLoader.DEFAULT_MAX_PARALLELISM;
     }
 
     protected SqlLoader copy() {
@@ -38,6 +42,7 @@ public class SqlLoader {
         copy.maxRows = this.maxRows;
         copy.rowSampleSize = this.rowSampleSize;
         copy.rowsSampleRandom = this.rowsSampleRandom;
+        copy.maxParallelism = this.maxParallelism;
         return copy;
     }
 
@@ -86,6 +91,30 @@ public class SqlLoader {
         return copy;
     }
 
+    /**
+     * Sets the maximum number of partition queries of {@link #loadPartitions(Series[])} that may run concurrently,
+     * each holding its own connection. The remaining partitions are loaded as the running ones finish. The default
+     * is 4.
+     *
+     * @param maxParallelism the maximum number of concurrent partition queries
+     * @return this loader instance
+     * @since 0.12
+     */
+    public SqlLoader maxParallelism(int maxParallelism) {
+
+        if (maxParallelism <= 0) {
+            throw new IllegalArgumentException("Max parallelism must be positive: " + maxParallelism);
+        }
+
+        if (this.maxParallelism == maxParallelism) {
+            return this;
+        }
+
+        SqlLoader copy = copy();
+        copy.maxParallelism = maxParallelism;
+        return copy;
+    }
+
     /**
      * @since 0.8
      */
@@ -109,6 +138,134 @@ public class SqlLoader {
                 .select(this::loadDataFrame);
     }
 
+    /**
+     * Runs the query and returns a cursor that reads the ResultSet incrementally as a sequence of DataFrames of at most
+     * "batchSize" rows each. The statement is configured to stream the rows from the DB in a DB-specific way, so that
+     * only a single batch is held in memory at any given time. The returned cursor keeps an open connection and must
+     * be closed by the caller, unless it is read till the end. Sampling is not supported with batches.
+     *
+     * @param batchSize the maximum number of rows in each DataFrame, also used as a JDBC fetch size
+     * @param params    query parameters
+     * @return a cursor over the DataFrame batches
+     * @since 0.12
+     */
+    public DataFrameCursor loadBatches(int batchSize, Object... params) {
+        return loadBatches(batchSize, Series.forData(params));
+    }
+
+    /**
+     * Runs the query and returns a cursor that reads the ResultSet incrementally as a sequence of DataFrames of at most
+     * "batchSize" rows each. See {@link #loadBatches(int, Object...)} for details.
+     *
+     * @since 0.12
+     */
+    public DataFrameCursor loadBatches(int batchSize, Series<?> params) {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading batches");
+        }
+
+        LOGGER.debug("opening DataFrame cursor...");
+
+        Connection connection = connector.getConnection();
+        PreparedStatement statement = null;
+        ResultSet rs = null;
+        boolean autoCommit = true;
+
+        try {
+            autoCommit = connection.getAutoCommit();
+
+            statement = connector
+                    .createStatementBuilder(sql)
+                    .bind(params)
+                    .fetchSize(batchSize)
+                    .prepareSelect(connection);
+
+            rs = statement.executeQuery();
+
+            return new DataFrameCursor(
+                    connection,
+                    statement,
+                    rs,
+                    autoCommit,
+                    createIndex(rs),
+                    this::createAccummulators,
+                    batchSize,
+                    maxRows);
+
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(rs, statement);
+            restoreAutoCommitQuietly(connection, autoCommit);
+            closeQuietly(connection);
+
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+
+            throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+        }
+    }
+
+    // streaming may have turned the autocommit off (see DbFlavor.enableStreaming). Restoring it before the connection
+    // is returned to the pool
+    private static void restoreAutoCommitQuietly(Connection connection, boolean autoCommit) {
+        try {
+            if (autoCommit && !connection.getAutoCommit()) {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable r : resources) {
+            if (r != null) {
+                try {
+                    r.close();
+                } catch (Exception ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads a DataFrame by running the SQL once per each set of parameters concurrently (up to
+     * {@link #maxParallelism(int)} runs at a time), each run using its own connection, and concatenating the results
+     * in the order of the parameter sets. The SQL is expected to contain a condition that splits the rows into
+     * non-overlapping partitions, e.g. a range predicate
+     * <code>where "id" &gt;= ? and "id" &lt; ?</code> with a pair of parameters per partition. This is much faster
+     * than a single-cursor load for large result sets, provided the DB can serve multiple queries in parallel.
+     * Sampling is not supported with partitions. "maxRows" limits the total number of rows in the result.
+     *
+     * @param partitionParams parameters for each partition query
+     * @return a DataFrame with all partitions rows
+     * @since 0.12
+     */
+    public DataFrame loadPartitions(Series<?>... partitionParams) {
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading partitions");
+        }
+
+        if (partitionParams.length == 0) {
+            throw new IllegalArgumentException("No partition parameters provided");
+        }
+
+        LOGGER.debug("loading DataFrame in {} partitions...", partitionParams.length);
+
+        PartitionedLoader loader = new PartitionedLoader(connector).maxParallelism(maxParallelism);
+        for (Series<?> params : partitionParams) {
+            loader.partition(() -> load(params));
+        }
+
+        DataFrame df = loader.load();
+        return df.height() > maxRows ? df.head(maxRows) : df;
+    }
+
     protected DataFrame loadDataFrame(ResultSet rs) throws SQLException {
         Index columns = createIndex(rs);
 
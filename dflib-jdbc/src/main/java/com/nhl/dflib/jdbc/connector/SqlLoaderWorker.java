@@ -35,6 +35,25 @@ class SqlLoaderWorker {
         }
     }
 
+    /**
+     * Reads up to "batchSize" rows from the ResultSet, without advancing the ResultSet past the last row read.
+     *
+     * @return the number of rows read
+     * @since 0.12
+     */
+    int consumeBatch(ResultSet rs, int batchSize) throws SQLException {
+
+        int w = accumulators.length;
+        int size = 0;
+
+        while (size < batchSize && rs.next()) {
+            addRow(w, rs);
+            size++;
+        }
+
+        return size;
+    }
+
     protected DataFrame toDataFrame() {
         int width = columns.size();
         Series<?>[] series = new Series[width];
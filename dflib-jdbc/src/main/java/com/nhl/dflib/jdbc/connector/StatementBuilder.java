@@ -16,8 +16,10 @@ import com.nhl.dflib.jdbc.connector.statement.UpdateStatementNoParams;
 import com.nhl.dflib.jdbc.connector.statement.UpdateStatementParamsRow;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.IntConsumer;
 
 /**
  * Low-level JDBC PreparedStatement builder. Relied upon by higher-level load/save API.
@@ -31,6 +33,9 @@ public class StatementBuilder {
     private DbColumnMetadata[] paramDescriptors;
     private Series<?> params;
     private DataFrame batchParams;
+    private int fetchSize;
+    private int batchSize;
+    private IntConsumer batchListener;
 
     public StatementBuilder(JdbcConnector connector) {
         this.connector = connector;
@@ -62,6 +67,40 @@ public class StatementBuilder {
         return bind(Series.forData(params));
     }
 
+    /**
+     * Sets the number of rows the select statement should fetch from the DB in a single round trip. When set to a
+     * positive number, the statement is configured to stream the rows (in a DB-specific way) instead of reading the
+     * entire ResultSet in memory.
+     *
+     * @since 0.12
+     */
+    public StatementBuilder fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows sent to the DB in a single JDBC batch when running an update with batch parameters.
+     * By default all the rows are sent in one batch.
+     *
+     * @since 0.12
+     */
+    public StatementBuilder batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets a callback that is notified with the number of rows after each executed batch of an update with batch
+     * parameters.
+     *
+     * @since 0.12
+     */
+    public StatementBuilder batchListener(IntConsumer batchListener) {
+        this.batchListener = batchListener;
+        return this;
+    }
+
     public <T> T select(JdbcFunction<ResultSet, T> resultReader) {
         try (Connection c = connector.getConnection()) {
             return select(c, resultReader);
@@ -71,13 +110,59 @@ public class StatementBuilder {
     }
 
     public <T> T select(Connection connection, JdbcFunction<ResultSet, T> resultReader) {
+
+        if (fetchSize <= 0) {
+            try {
+                return createSelectStatement().select(connection, resultReader);
+            } catch (SQLException e) {
+                throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+            }
+        }
+
         try {
-            return createSelectStatement().select(connection, resultReader);
+
+            // streaming may turn the autocommit off (see DbFlavor.enableStreaming), so restoring it when done
+            boolean autoCommit = connection.getAutoCommit();
+
+            try (PreparedStatement ps = prepareSelect(connection)) {
+                try (ResultSet rs = ps.executeQuery()) {
+                    return resultReader.apply(rs);
+                }
+            } finally {
+                if (autoCommit && !connection.getAutoCommit()) {
+                    connection.setAutoCommit(true);
+                }
+            }
         } catch (SQLException e) {
             throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Creates a select PreparedStatement with bound parameters and the fetch size applied. The caller is responsible
+     * for executing and closing the statement.
+     *
+     * @since 0.12
+     */
+    public PreparedStatement prepareSelect(Connection connection) {
+        try {
+            PreparedStatement ps = createSelectStatement().prepare(connection);
+
+            if (fetchSize > 0) {
+                try {
+                    connector.getMetadata().getFlavor().enableStreaming(connection, ps, fetchSize);
+                } catch (SQLException | RuntimeException e) {
+                    ps.close();
+                    throw e;
+                }
+            }
+
+            return ps;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error preparing DB statement: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * @since 0.8
      */
@@ -127,8 +212,20 @@ public class StatementBuilder {
         } else if (batchParams != null) {
 
             return connector.getMetadata().supportsBatchUpdates()
-                    ? new UpdateStatementBatch(sql, batchParams, createBinderFactory(), connector.getSqlLogger())
-                    : new UpdateStatementNoBatch(sql, batchParams, createBinderFactory(), connector.getSqlLogger());
+                    ? new UpdateStatementBatch(
+                    sql,
+                    batchParams,
+                    createBinderFactory(),
+                    connector.getSqlLogger(),
+                    batchSize,
+                    batchListener)
+                    : new UpdateStatementNoBatch(
+                    sql,
+                    batchParams,
+                    createBinderFactory(),
+                    connector.getSqlLogger(),
+                    batchSize,
+                    batchListener);
 
         } else {
             return new UpdateStatementNoParams(sql, connector.getSqlLogger());
@@ -3,6 +3,8 @@ package com.nhl.dflib.jdbc.connector;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.jdbc.connector.condition.ConditionBuilder;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.tx.Tx;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +37,18 @@ public class TableDeleter {
         return this;
     }
 
+    /**
+     * Sets the maximum number of "eq" / "neq" condition parameters per SQL statement. A larger "eq" condition is
+     * split into multiple DELETE statements executed in a single transaction, while large single-column "in" lists
+     * are broken into multiple shorter lists. The default is {@link ConditionBuilder#DEFAULT_MAX_PARAMS}.
+     *
+     * @since 0.12
+     */
+    public TableDeleter maxConditionParams(int maxParams) {
+        this.condition.maxParams(maxParams);
+        return this;
+    }
+
     public int delete() {
         if (condition.noCondition()) {
             return deleteAll();
@@ -55,10 +69,38 @@ public class TableDeleter {
     protected int deleteConditional() {
         LOGGER.debug("deleting rows in '{}' {}matching DataFrame...", tableName, condition.negatedCondition() ? "not " : " ");
 
+        if (condition.splittable()) {
+            return deleteConditionChunks();
+        }
+
         String sql = createDeleteStatement(new StringBuilder()).toString();
         return new SqlSaver(connector, sql).save(condition.bindingParams());
     }
 
+    /**
+     * @since 0.12
+     */
+    protected int deleteConditionChunks() {
+
+        ConditionBuilder[] chunks = condition.split();
+
+        // reusing the outer transaction if there is one
+        return connector instanceof TxJdbcConnector
+                ? deleteConditionChunks(connector, chunks)
+                : Tx.newTransaction(connector).call(c -> deleteConditionChunks(c, chunks));
+    }
+
+    private int deleteConditionChunks(JdbcConnector connector, ConditionBuilder[] chunks) {
+
+        int deleted = 0;
+        for (ConditionBuilder chunk : chunks) {
+            String sql = createDeleteStatement(new StringBuilder(), chunk).toString();
+            deleted += new SqlSaver(connector, sql).save(chunk.bindingParams());
+        }
+
+        return deleted;
+    }
+
     protected int deleteEmptyCondition() {
         return condition.negatedCondition() ? deleteAll() : 0;
     }
@@ -68,6 +110,13 @@ public class TableDeleter {
     }
 
     protected StringBuilder createDeleteStatement(StringBuilder buffer) {
+        return createDeleteStatement(buffer, condition);
+    }
+
+    /**
+     * @since 0.12
+     */
+    protected StringBuilder createDeleteStatement(StringBuilder buffer, ConditionBuilder condition) {
         createUnqualifiedDeleteStatement(buffer).append(" where ");
         condition.toSqlCondition(buffer);
         return buffer;
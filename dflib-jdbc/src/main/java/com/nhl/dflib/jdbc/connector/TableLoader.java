@@ -1,6 +1,7 @@
 package com.nhl.dflib.jdbc.connector;
 
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.connector.condition.ConditionBuilder;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
 import com.nhl.dflib.sample.Sampler;
@@ -17,12 +18,17 @@ public class TableLoader {
     private ConditionBuilder condition;
     private int rowSampleSize;
     private Random rowsSampleRandom;
+    private String partitionColumn;
+    private int partitionCount;
+    private Object[] partitionSplitPoints;
+    private int maxParallelism;
 
     public TableLoader(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
         this.maxRows = Integer.MAX_VALUE;
         this.tableName = tableName;
         this.condition = new ConditionBuilder(connector);
+        this.maxParallelism = PartitionedLoader.DEFAULT_MAX_PARALLELISM;
     }
 
     public TableLoader includeColumns(String... columns) {
@@ -58,6 +64,20 @@ public class TableLoader {
         return this;
     }
 
+    /**
+     * Sets the maximum number of "eq" / "neq" condition parameters per SQL statement. A larger "eq" condition is
+     * split into multiple queries whose results are combined in memory, while large single-column "in" lists are
+     * broken into multiple shorter lists. The default is {@link ConditionBuilder#DEFAULT_MAX_PARAMS}.
+     *
+     * @param maxParams the maximum number of condition parameters per statement
+     * @return this loader instance
+     * @since 0.12
+     */
+    public TableLoader maxConditionParams(int maxParams) {
+        this.condition.maxParams(maxParams);
+        return this;
+    }
+
     // TODO: limit without sorting may return unpredictable data.. should we allow to specify a sort column?
     public TableLoader maxRows(int maxRows) {
         this.maxRows = maxRows;
@@ -93,6 +113,102 @@ public class TableLoader {
         return this;
     }
 
+    /**
+     * Configures the loader to split the table rows into a number of ranges of the "column" values and to load the
+     * ranges concurrently, each on its own connection. The ranges are calculated from the column min and max values
+     * that are read from the DB before loading the data, so the column should be indexed. Supported column types are
+     * integer and decimal numbers and dates / timestamps. Null values of the column are loaded with the first range.
+     * If an "eq" condition is too large for a single statement (see {@link #maxConditionParams(int)}), the chunks of
+     * the condition are loaded concurrently instead of the column ranges. Partitioned loading is not compatible with
+     * row sampling.
+     *
+     * @param column     the name of a numeric or date column to split the rows by
+     * @param partitions the number of ranges, and hence the number of queries, up to {@link #maxParallelism(int)} of
+     *                   which run concurrently
+     * @return this loader instance
+     * @since 0.12
+     */
+    public TableLoader partitions(String column, int partitions) {
+
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Number of partitions must be positive: " + partitions);
+        }
+
+        this.partitionColumn = Objects.requireNonNull(column);
+        this.partitionCount = partitions;
+        this.partitionSplitPoints = null;
+        return this;
+    }
+
+    /**
+     * Configures the loader to split the table rows into ranges of the "column" values at the provided split points,
+     * and to load the ranges concurrently, each on its own connection. N split points produce N + 1 ranges: values
+     * below the first point (and nulls), values between each pair of adjacent points, and values at or above the last
+     * point. As with {@link #partitions(String, int)}, an "eq" condition that is too large for a single statement is
+     * partitioned by its chunks instead. Partitioned loading is not compatible with row sampling.
+     *
+     * @param column      the name of a column to split the rows by
+     * @param splitPoints non-null, strictly ascending range boundaries
+     * @return this loader instance
+     * @since 0.12
+     */
+    public TableLoader partitionsAt(String column, Object... splitPoints) {
+
+        checkSplitPoints(splitPoints);
+
+        this.partitionColumn = Objects.requireNonNull(column);
+        this.partitionCount = splitPoints.length + 1;
+        this.partitionSplitPoints = splitPoints;
+        return this;
+    }
+
+    // unordered or repeating points would produce overlapping ranges, loading some rows more than once
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void checkSplitPoints(Object[] splitPoints) {
+
+        for (int i = 0; i < splitPoints.length; i++) {
+
+            if (!(splitPoints[i] instanceof Comparable)) {
+                throw new IllegalArgumentException("Split point at position " + i + " is null or not Comparable: "
+                        + splitPoints[i]);
+            }
+
+            if (i > 0) {
+
+                int order;
+                try {
+                    order = ((Comparable) splitPoints[i - 1]).compareTo(splitPoints[i]);
+                } catch (ClassCastException e) {
+                    throw new IllegalArgumentException("Split points of incompatible types: "
+                            + splitPoints[i - 1] + ", " + splitPoints[i], e);
+                }
+
+                if (order >= 0) {
+                    throw new IllegalArgumentException("Split points must be strictly ascending: "
+                            + splitPoints[i - 1] + ", " + splitPoints[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the maximum number of partition queries that may run concurrently, each holding its own connection. The
+     * remaining partitions are loaded as the running ones finish. The default is 4.
+     *
+     * @param maxParallelism the maximum number of concurrent partition queries
+     * @return this loader instance
+     * @since 0.12
+     */
+    public TableLoader maxParallelism(int maxParallelism) {
+
+        if (maxParallelism <= 0) {
+            throw new IllegalArgumentException("Max parallelism must be positive: " + maxParallelism);
+        }
+
+        this.maxParallelism = maxParallelism;
+        return this;
+    }
+
     public DataFrame load() {
         // "no condition" means return all rows; "empty condition" means return no rows
         return condition.noCondition() || condition.nonEmptyCondition()
@@ -100,6 +216,33 @@ public class TableLoader {
                 : createEmptyDataFrame();
     }
 
+    /**
+     * Loads the table rows incrementally as a sequence of DataFrames of at most "batchSize" rows each, holding only a
+     * single batch in memory at any given time. The returned cursor keeps an open connection and must be closed by the
+     * caller, unless it is read till the end. Not compatible with row sampling or partitioned loading.
+     *
+     * @param batchSize the maximum number of rows in each DataFrame, also used as a JDBC fetch size
+     * @return a cursor over the DataFrame batches
+     * @see SqlLoader#loadBatches(int, Object...)
+     * @since 0.12
+     */
+    public DataFrameCursor loadBatches(int batchSize) {
+
+        if (partitionColumn != null) {
+            throw new IllegalStateException("Partitioned loading is not supported when loading batches");
+        }
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading batches");
+        }
+
+        return condition.noCondition() || condition.nonEmptyCondition()
+                ? new SqlLoader(connector, buildSql())
+                        .maxRows(maxRows)
+                        .loadBatches(batchSize, condition.bindingParams())
+                : DataFrameCursor.empty(createEmptyDataFrame().getColumnsIndex());
+    }
+
     protected DataFrame createEmptyDataFrame() {
         String[] columns = useStandardColumns()
                 ? connector.getMetadata().getTable(tableName).getColumnNames()
@@ -109,13 +252,144 @@ public class TableLoader {
     }
 
     protected DataFrame fetchDataFrame() {
+
+        if (partitionColumn != null) {
+            return fetchPartitions();
+        }
+
+        if (condition.splittable()) {
+            return fetchConditionChunks();
+        }
+
         return new SqlLoader(connector, buildSql())
                 .maxRows(maxRows)
                 .sampleRows(rowSampleSize, rowsSampleRandom)
                 .load(condition.bindingParams());
     }
 
+    protected DataFrame fetchPartitions() {
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading partitions");
+        }
+
+        // an "eq" condition that is too large for a single statement is split into chunks anyway, so using the chunks
+        // as partitions instead of the column ranges
+        if (condition.splittable()) {
+            return fetchConditionChunks(new PartitionedLoader(connector).maxParallelism(maxParallelism));
+        }
+
+        Object[] splitPoints = partitionSplitPoints != null
+                ? partitionSplitPoints
+                : PartitionedLoader.splitPoints(loadPartitionColumnRange(), partitionCount);
+
+        if (splitPoints.length == 0) {
+            return new SqlLoader(connector, buildSql())
+                    .maxRows(maxRows)
+                    .load(condition.bindingParams());
+        }
+
+        String column = connector.quoteIdentifier(partitionColumn);
+        String[] predicates = new String[splitPoints.length + 1];
+        Object[][] params = new Object[splitPoints.length + 1][];
+
+        predicates[0] = column + " < ? or " + column + " is null";
+        params[0] = new Object[]{splitPoints[0]};
+
+        for (int i = 1; i < splitPoints.length; i++) {
+            predicates[i] = column + " >= ? and " + column + " < ?";
+            params[i] = new Object[]{splitPoints[i - 1], splitPoints[i]};
+        }
+
+        predicates[splitPoints.length] = column + " >= ?";
+        params[splitPoints.length] = new Object[]{splitPoints[splitPoints.length - 1]};
+
+        PartitionedLoader loader = new PartitionedLoader(connector).maxParallelism(maxParallelism);
+        for (int i = 0; i < predicates.length; i++) {
+            SqlLoader partitionLoader = new SqlLoader(connector, buildSql(predicates[i])).maxRows(maxRows);
+            Series<?> partitionParams = bindingParams(params[i]);
+            loader.partition(() -> partitionLoader.load(partitionParams));
+        }
+
+        DataFrame df = loader.load();
+        return df.height() > maxRows ? df.head(maxRows) : df;
+    }
+
+    protected DataFrame fetchConditionChunks() {
+
+        // unless partitioned loading was requested, loading the chunks serially on a single connection at a time
+        return fetchConditionChunks(new PartitionedLoader(connector).parallel(false));
+    }
+
+    private DataFrame fetchConditionChunks(PartitionedLoader loader) {
+
+        for (ConditionBuilder chunk : condition.split()) {
+            SqlLoader chunkLoader = new SqlLoader(connector, buildSql(chunk)).maxRows(maxRows);
+            loader.partition(() -> chunkLoader.load(chunk.bindingParams()));
+        }
+
+        DataFrame df = loader.load();
+        if (df.height() > maxRows) {
+            df = df.head(maxRows);
+        }
+
+        return rowSampleSize > 0 && df.height() > rowSampleSize
+                ? df.sampleRows(rowSampleSize, rowsSampleRandom)
+                : df;
+    }
+
+    protected Object[] loadPartitionColumnRange() {
+
+        String column = connector.quoteIdentifier(partitionColumn);
+
+        StringBuilder sql = new StringBuilder("select min(")
+                .append(column)
+                .append("), max(")
+                .append(column)
+                .append(") from ")
+                .append(connector.quoteTableName(tableName));
+        appendWhereSql(sql);
+
+        return connector.createStatementBuilder(sql.toString())
+                .bind(condition.bindingParams())
+                .select(rs -> rs.next() ? new Object[]{rs.getObject(1), rs.getObject(2)} : new Object[2]);
+    }
+
+    protected String buildSql(String partitionPredicate) {
+
+        StringBuilder sql = new StringBuilder("select ");
+        appendColumnsSql(sql);
+        sql.append(" from ").append(connector.quoteTableName(tableName)).append(" where ");
+
+        if (condition.nonEmptyCondition()) {
+            sql.append("(");
+            condition.toSqlCondition(sql);
+            sql.append(") and ");
+        }
+
+        return sql.append("(").append(partitionPredicate).append(")").toString();
+    }
+
+    private Series<?> bindingParams(Object[] partitionParams) {
+
+        Series<?> conditionParams = condition.bindingParams();
+        int cs = conditionParams.size();
+
+        Object[] params = new Object[cs + partitionParams.length];
+        conditionParams.copyTo(params, 0, 0, cs);
+        System.arraycopy(partitionParams, 0, params, cs, partitionParams.length);
+
+        return Series.forData(params);
+    }
+
     protected String buildSql() {
+        return buildSql(condition);
+    }
+
+    /**
+     * @since 0.12
+     */
+    protected String buildSql(ConditionBuilder condition) {
 
         // TODO: should maxRows be translated into the SQL LIMIT clause?
         //  Some DBs have crazy limit syntax, so this may be hard to generalize..
@@ -123,7 +397,7 @@ public class TableLoader {
         StringBuilder sql = new StringBuilder("select ");
         appendColumnsSql(sql);
         sql.append(" from ").append(connector.quoteTableName(tableName));
-        appendWhereSql(sql);
+        appendWhereSql(sql, condition);
 
         return sql.toString();
     }
@@ -150,6 +424,13 @@ public class TableLoader {
     }
 
     protected StringBuilder appendWhereSql(StringBuilder buffer) {
+        return appendWhereSql(buffer, condition);
+    }
+
+    /**
+     * @since 0.12
+     */
+    protected StringBuilder appendWhereSql(StringBuilder buffer, ConditionBuilder condition) {
         if (condition.nonEmptyCondition()) {
             buffer.append(" where ");
             condition.toSqlCondition(buffer);
@@ -21,6 +21,12 @@ public class TableSaver {
     private boolean deleteUnmatchedRows;
     private boolean mergeByPk;
     private String[] mergeByColumns;
+    private boolean nativeUpsert;
+
+    // batching vars
+    private int batchSize;
+    private int threads;
+    private SaveProgressListener progressListener;
 
     public TableSaver(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
@@ -84,9 +90,83 @@ public class TableSaver {
         return this;
     }
 
+    /**
+     * Configures saver to perform "merge" (see {@link #mergeByPk()} and {@link #mergeByColumns(String...)}) using
+     * DB-native "insert or update" statements (such as PostgreSQL "INSERT ... ON CONFLICT DO UPDATE" or MySQL
+     * "INSERT ... ON DUPLICATE KEY UPDATE"), sending all DataFrame rows to the DB in batches. This is much faster for
+     * large DataFrames than the default merge that reads back the previously saved rows and compares them with the
+     * DataFrame. On the flip side, unchanged rows are not skipped, and per-row save statistics are reported as
+     * {@link com.nhl.dflib.jdbc.SaveOp#upsert}. The DB may require a unique constraint on the merge key columns. If
+     * the DB has no native upsert, or if no merge is configured, this setting has no effect.
+     *
+     * @return this saver instance
+     * @since 0.12
+     */
+    public TableSaver nativeUpsert() {
+        this.nativeUpsert = true;
+        return this;
+    }
+
+    /**
+     * Configures saver to send the rows to the DB in JDBC batches of at most the specified size, instead of a single
+     * batch with all the DataFrame rows. This limits the amount of memory the JDBC driver needs to buffer the statement
+     * parameters when saving large DataFrames.
+     *
+     * @param batchSize max number of rows in a single JDBC batch
+     * @return this saver instance
+     * @since 0.12
+     */
+    public TableSaver batchSize(int batchSize) {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Configures saver to insert the data on multiple connections in parallel, each connection writing a disjoint
+     * range of rows in its own transaction. Such a save is not atomic: if one of the connections fails, the others may
+     * have already committed their rows. If "merge" is configured (by PK or by columns), this setting has no effect, as
+     * merging must be done in a single transaction, unless it is a {@link #nativeUpsert()} that doesn't delete
+     * unmatched rows. For the same reason it has no effect when {@link #deleteTableData()} is specified. It also has
+     * no effect when the saver was created by a transactional connector, as it only has a single connection.
+     *
+     * @param threads the number of connections to write on
+     * @return this saver instance
+     * @since 0.12
+     */
+    public TableSaver parallel(int threads) {
+
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+        }
+
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Sets a listener that will be notified after each JDBC batch is sent to the DB. Combined with
+     * {@link #batchSize(int)}, this allows to track the progress of saving large DataFrames.
+     *
+     * @return this saver instance
+     * @since 0.12
+     */
+    public TableSaver progressListener(SaveProgressListener listener) {
+        this.progressListener = listener;
+        return this;
+    }
+
     public SaveStats save(DataFrame df) {
         LOGGER.debug("saving DataFrame...");
-        return new SaveStats(createSaveStrategy().save(df));
+        return new SaveStats(createSaveStrategy()
+                .batchSize(batchSize)
+                .parallel(threads)
+                .progressListener(progressListener)
+                .save(df));
     }
 
     protected TableSaveStrategy createSaveStrategy() {
@@ -101,6 +181,15 @@ public class TableSaver {
         }
 
         String[] keyColumns = mergeByPk ? getPkColumns() : mergeByColumns;
+
+        if (nativeUpsert) {
+            if (connector.getMetadata().getFlavor().supportsUpsert()) {
+                return new SaveViaNativeUpsert(connector, tableName, keyColumns, deleteUnmatchedRows);
+            }
+
+            LOGGER.debug("DB has no native upsert, falling back to a regular merge");
+        }
+
         return deleteUnmatchedRows
                 ? new FullSync(connector, tableName, keyColumns)
                 : new SaveViaUpsert(connector, tableName, keyColumns);
@@ -3,22 +3,53 @@ package com.nhl.dflib.jdbc.connector.condition;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.IntAccumulator;
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
 import com.nhl.dflib.series.ByRowSeries;
+import com.nhl.dflib.series.IntSequenceSeries;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @since 0.8
  */
 public class ConditionBuilder {
 
+    /**
+     * The default maximum number of condition parameters in a single SQL statement.
+     *
+     * @since 0.12
+     */
+    public static final int DEFAULT_MAX_PARAMS = 1000;
+
     private JdbcConnector connector;
     private DataFrame condition;
     private boolean negateCondition;
+    private int maxParams;
 
     public ConditionBuilder(JdbcConnector connector) {
         this.connector = connector;
+        this.maxParams = DEFAULT_MAX_PARAMS;
+    }
+
+    /**
+     * Sets the maximum number of condition parameters per SQL statement. Larger positive conditions can be split into
+     * multiple statements via {@link #split()}, and single-column "in" lists are broken into multiple lists of at
+     * most this size.
+     *
+     * @since 0.12
+     */
+    public ConditionBuilder maxParams(int maxParams) {
+
+        if (maxParams <= 0) {
+            throw new IllegalArgumentException("Max params must be positive: " + maxParams);
+        }
+
+        this.maxParams = maxParams;
+        return this;
     }
 
     public ConditionBuilder condition(DataFrame condition, boolean negate) {
@@ -39,6 +70,77 @@ public class ConditionBuilder {
         return negateCondition;
     }
 
+    /**
+     * Returns whether the condition has more parameters than allowed per statement and can be split into multiple
+     * smaller conditions. Only positive conditions can be split, as the union of the rows matching each part is the
+     * same as the rows matching the whole condition. This is not true for negated conditions.
+     *
+     * @since 0.12
+     */
+    public boolean splittable() {
+        return nonEmptyCondition()
+                && !negateCondition
+                && condition.width() > 0
+                && (long) condition.height() * condition.width() > maxParams;
+    }
+
+    /**
+     * Splits the condition into a number of conditions over consecutive ranges of the condition rows, each with at
+     * most "maxParams" parameters (or a single row if the row is wider than that). Duplicate condition rows are
+     * removed first, as they would otherwise match the same DB rows in multiple chunks.
+     *
+     * @since 0.12
+     */
+    public ConditionBuilder[] split() {
+
+        DataFrame condition = distinctRows(this.condition);
+        int h = condition.height();
+        int chunkHeight = Math.max(1, maxParams / condition.width());
+        int len = (h + chunkHeight - 1) / chunkHeight;
+
+        ConditionBuilder[] chunks = new ConditionBuilder[len];
+        for (int i = 0; i < len; i++) {
+            int from = i * chunkHeight;
+            int to = Math.min(h, from + chunkHeight);
+
+            chunks[i] = new ConditionBuilder(connector)
+                    .maxParams(maxParams)
+                    .condition(condition.selectRows(new IntSequenceSeries(from, to)), negateCondition);
+        }
+
+        return chunks;
+    }
+
+    private static DataFrame distinctRows(DataFrame df) {
+
+        int h = df.height();
+        int w = df.width();
+
+        Set<Object> seen = new HashSet<>((int) (h / 0.75) + 1);
+        IntAccumulator index = new IntAccumulator(h);
+
+        for (int i = 0; i < h; i++) {
+
+            Object key;
+            if (w == 1) {
+                key = df.getColumn(0).get(i);
+            } else {
+                Object[] row = new Object[w];
+                for (int j = 0; j < w; j++) {
+                    row[j] = df.getColumn(j).get(i);
+                }
+
+                key = Arrays.asList(row);
+            }
+
+            if (seen.add(key)) {
+                index.addInt(i);
+            }
+        }
+
+        return index.size() < h ? df.selectRows(index.toSeries()) : df;
+    }
+
     public StringBuilder toSqlCondition(StringBuilder buffer) {
         int criteriaHeight = condition != null ? condition.height() : 0;
         if (criteriaHeight == 0) {
@@ -78,11 +180,32 @@ public class ConditionBuilder {
 
     protected StringBuilder appendWhereSql_SingleColumn(StringBuilder buffer, String columnName, int criteriaHeight) {
 
-        buffer.append(connector.quoteIdentifier(columnName))
+        if (criteriaHeight <= maxParams) {
+            return appendInList(buffer, connector.quoteIdentifier(columnName), criteriaHeight);
+        }
+
+        // many DBs limit the size of the "in" list, so break it into multiple lists
+        String column = connector.quoteIdentifier(columnName);
+        buffer.append("(");
+
+        for (int i = 0; i < criteriaHeight; i += maxParams) {
+            if (i > 0) {
+                buffer.append(negateCondition ? " and " : " or ");
+            }
+
+            appendInList(buffer, column, Math.min(maxParams, criteriaHeight - i));
+        }
+
+        return buffer.append(")");
+    }
+
+    private StringBuilder appendInList(StringBuilder buffer, String column, int len) {
+
+        buffer.append(column)
                 .append(negateCondition ? " not in" : " in")
                 .append(" (?");
 
-        for (int i = 1; i < criteriaHeight; i++) {
+        for (int i = 1; i < len; i++) {
             buffer.append(", ?");
         }
 
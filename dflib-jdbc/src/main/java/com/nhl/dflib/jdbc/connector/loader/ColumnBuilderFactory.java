@@ -69,6 +69,25 @@ public interface ColumnBuilderFactory<T> {
         return fromJdbcFunction(rs -> rs.getObject(pos));
     }
 
+    /**
+     * Creates a builder of a dictionary-encoded String column that stores each distinct value only once. Can be
+     * registered for the String JDBC types with a small number of distinct values, e.g.
+     * {@code builder.addColumnBuilderFactory(Types.VARCHAR, ColumnBuilderFactory::categoricalAccum)}.
+     *
+     * @since 0.12
+     */
+    static ColumnBuilder<String> categoricalAccum(int pos) {
+        ValueMapper<ResultSet, String> mapper = rs -> {
+            try {
+                return rs.getString(pos);
+            } catch (SQLException e) {
+                throw new RuntimeException("Error performing SQL operation", e);
+            }
+        };
+
+        return new ColumnBuilder<>(new ObjectConverter<>(mapper), new CategoricalAccumulator<>());
+    }
+
     static ColumnBuilder<LocalDate> dateAccum(int pos) {
         return fromJdbcFunction(rs -> {
             Date date = rs.getDate(pos);
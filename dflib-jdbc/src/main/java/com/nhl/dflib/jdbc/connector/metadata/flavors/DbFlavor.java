@@ -1,5 +1,9 @@
 package com.nhl.dflib.jdbc.connector.metadata.flavors;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
 /**
  * Provides DB type specific metadata and strategies for interacting with the database.
  *
@@ -18,4 +22,43 @@ public interface DbFlavor {
     boolean supportsSchemas();
 
     int columnType(int jdbcType, String nativeType);
+
+    /**
+     * Configures a statement to fetch its ResultSet rows from the DB incrementally, instead of reading all the rows
+     * in memory on query execution. Drivers differ in what they require for this to work. Some may need the connection
+     * autocommit to be turned off, in which case the caller is expected to restore it once done with the statement.
+     * The default implementation simply sets the statement fetch size.
+     *
+     * @param connection a connection that the statement was created from
+     * @param statement  a statement to configure before it is executed
+     * @param fetchSize  the desired number of rows to fetch in a single DB round trip
+     * @since 0.12
+     */
+    default void enableStreaming(Connection connection, Statement statement, int fetchSize) throws SQLException {
+        statement.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Returns whether the DB supports a single-statement "insert or update" that can be run as a JDBC batch. The
+     * default implementation returns false.
+     *
+     * @since 0.12
+     */
+    default boolean supportsUpsert() {
+        return false;
+    }
+
+    /**
+     * Builds a parameterized "insert or update" statement for a single row. Statement parameters must correspond to
+     * the "columns" in the order they are specified. All the names are passed already quoted.
+     *
+     * @param table      quoted table name
+     * @param columns    quoted names of all the columns being saved
+     * @param keyColumns quoted names of the columns that identify a row. Must be a subset of "columns".
+     * @throws IllegalStateException if the flavor does not {@link #supportsUpsert() support upsert}
+     * @since 0.12
+     */
+    default String upsertStatement(String table, String[] columns, String[] keyColumns) {
+        throw new IllegalStateException("Upsert is not supported by " + getClass().getSimpleName());
+    }
 }
@@ -54,4 +54,47 @@ public class GenericFlavor implements DbFlavor {
     public int columnType(int jdbcType, String nativeType) {
         return jdbcType;
     }
+
+    /**
+     * Appends an "insert" statement with "?" placeholders for each column to the buffer.
+     *
+     * @since 0.12
+     */
+    protected StringBuilder appendInsert(StringBuilder buffer, String table, String[] columns) {
+
+        buffer.append("insert into ").append(table).append(" (");
+
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                buffer.append(", ");
+            }
+
+            buffer.append(columns[i]);
+        }
+
+        buffer.append(") values (");
+
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                buffer.append(", ");
+            }
+
+            buffer.append("?");
+        }
+
+        return buffer.append(")");
+    }
+
+    /**
+     * @since 0.12
+     */
+    protected static boolean isKey(String column, String[] keyColumns) {
+        for (String k : keyColumns) {
+            if (k.equals(column)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
@@ -1,7 +1,9 @@
 package com.nhl.dflib.jdbc.connector.metadata.flavors;
 
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * @since 0.8
@@ -25,4 +27,44 @@ public class MySQLFlavor extends GenericFlavor {
         return flavor;
     }
 
+    /**
+     * @since 0.12
+     */
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    /**
+     * Builds an "INSERT ... ON DUPLICATE KEY UPDATE" statement. Note that MySQL detects duplicates using any of the
+     * table primary or unique keys, so the key columns only determine which columns are excluded from the update.
+     *
+     * @since 0.12
+     */
+    @Override
+    public String upsertStatement(String table, String[] columns, String[] keyColumns) {
+
+        StringBuilder sql = appendInsert(new StringBuilder(), table, columns).append(" on duplicate key update ");
+
+        boolean hasUpdates = false;
+        for (String c : columns) {
+            if (!isKey(c, keyColumns)) {
+                sql.append(hasUpdates ? ", " : "").append(c).append(" = values(").append(c).append(")");
+                hasUpdates = true;
+            }
+        }
+
+        // all columns are keys, so there's nothing to update; still need a no-op clause to ignore duplicates
+        return hasUpdates ? sql.toString() : sql.append(keyColumns[0]).append(" = ").append(keyColumns[0]).toString();
+    }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public void enableStreaming(Connection connection, Statement statement, int fetchSize) throws SQLException {
+        // MySQL driver ignores positive fetch sizes (unless "useCursorFetch=true" is set on the connection URL), and
+        // only streams the rows one by one when the fetch size is Integer.MIN_VALUE
+        statement.setFetchSize(Integer.MIN_VALUE);
+    }
 }
@@ -1,7 +1,9 @@
 package com.nhl.dflib.jdbc.connector.metadata.flavors;
 
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 
 /**
@@ -35,4 +37,59 @@ public class PostgresFlavor extends GenericFlavor {
                 return super.columnType(jdbcType, nativeType);
         }
     }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    /**
+     * Builds an "INSERT ... ON CONFLICT (keys) DO UPDATE" statement. Requires a unique index or constraint on the key
+     * columns.
+     *
+     * @since 0.12
+     */
+    @Override
+    public String upsertStatement(String table, String[] columns, String[] keyColumns) {
+
+        StringBuilder sql = appendInsert(new StringBuilder(), table, columns).append(" on conflict (");
+
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(keyColumns[i]);
+        }
+
+        sql.append(")");
+
+        boolean hasUpdates = false;
+        for (String c : columns) {
+            if (!isKey(c, keyColumns)) {
+                sql.append(hasUpdates ? ", " : " do update set ").append(c).append(" = excluded.").append(c);
+                hasUpdates = true;
+            }
+        }
+
+        return hasUpdates ? sql.toString() : sql.append(" do nothing").toString();
+    }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public void enableStreaming(Connection connection, Statement statement, int fetchSize) throws SQLException {
+
+        // PostgreSQL driver ignores the fetch size and reads the entire ResultSet, unless the query is executed
+        // within a transaction. The callers restore the autocommit once the statement is closed
+        if (connection.getAutoCommit()) {
+            connection.setAutoCommit(false);
+        }
+
+        super.enableStreaming(connection, statement, fetchSize);
+    }
 }
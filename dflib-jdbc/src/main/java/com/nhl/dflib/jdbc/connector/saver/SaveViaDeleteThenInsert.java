@@ -36,4 +36,13 @@ public class SaveViaDeleteThenInsert extends SaveViaInsert {
             return () -> new EmptySeries<>();
         }
     }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    protected boolean supportsParallelSave() {
+        // the delete and the insert must be committed together, or a failed insert would leave the table empty
+        return false;
+    }
 }
@@ -5,14 +5,20 @@ import com.nhl.dflib.Index;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.SaveOp;
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
-import com.nhl.dflib.jdbc.connector.StatementBuilder;
 import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
 import com.nhl.dflib.jdbc.connector.metadata.DbTableMetadata;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.tx.Tx;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
+import com.nhl.dflib.series.IntSequenceSeries;
 import com.nhl.dflib.series.SingleValueSeries;
 
-import java.sql.Connection;
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 /**
@@ -24,24 +30,96 @@ public class SaveViaInsert extends TableSaveStrategy {
         super(connector, tableName);
     }
 
+    @Override
+    public Supplier<Series<SaveOp>> save(DataFrame df) {
+
+        // a transactional connector has a single connection, so can't write in parallel
+        return threads > 1 && supportsParallelSave() && !(connector instanceof TxJdbcConnector) && shouldSave(df)
+                ? doSaveParallel(df)
+                : super.save(df);
+    }
+
     @Override
     protected Supplier<Series<SaveOp>> doSave(JdbcConnector connector, DataFrame df) {
 
-        StatementBuilder builder = connector.createStatementBuilder(createInsertStatement(df))
+        // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
+        // metadata in PreparedStatements. See e.g. https://github.com/nhl/dflib/issues/49
 
-                // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
-                // metadata in PreparedStatements. See e.g. https://github.com/nhl/dflib/issues/49
+        batchUpdate(connector, createInsertStatement(df), fixedParams(df.getColumnsIndex()), df);
+        return () -> new SingleValueSeries<>(savedRowsOp(), df.height());
+    }
+
+    /**
+     * Inserts the DataFrame by splitting it into contiguous row ranges and writing each range on a separate
+     * connection in its own transaction. Unlike a regular save, this is not atomic: if one of the ranges fails,
+     * the other ranges may already be committed.
+     *
+     * @since 0.12
+     */
+    protected Supplier<Series<SaveOp>> doSaveParallel(DataFrame df) {
+
+        int h = df.height();
+        this.progressTracker = createProgressTracker(h);
+
+        // each connection gets at least one full JDBC batch
+        int minChunk = batchSize > 0 ? batchSize : 1;
+        int chunks = Math.max(1, Math.min(threads, h / minChunk));
+        int chunkSize = (h + chunks - 1) / chunks;
+
+        String sql = createInsertStatement(df);
+        DbColumnMetadata[] params = fixedParams(df.getColumnsIndex());
+
+        ExecutorService pool = Executors.newFixedThreadPool(chunks, r -> {
+            Thread t = new Thread(r, "dflib-jdbc-saver");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int from = 0; from < h; from += chunkSize) {
+                DataFrame chunk = df.selectRows(new IntSequenceSeries(from, Math.min(h, from + chunkSize)));
+                futures.add(pool.submit(() -> Tx.newTransaction(connector)
+                        .run(c -> batchUpdate(c, sql, params, chunk))));
+            }
 
-                .paramDescriptors(fixedParams(df.getColumnsIndex()))
-                .bindBatch(df);
+            for (Future<?> f : futures) {
+                f.get();
+            }
 
-        try (Connection c = connector.getConnection()) {
-            builder.update(c);
-        } catch (SQLException e) {
-            throw new RuntimeException("Error closing DB connection", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while saving data to DB", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException("Error saving data to DB: " + cause.getMessage(), cause);
+        } finally {
+            pool.shutdownNow();
         }
 
-        return () -> new SingleValueSeries<>(SaveOp.insert, df.height());
+        return () -> new SingleValueSeries<>(savedRowsOp(), h);
+    }
+
+    /**
+     * Returns the operation reported for each saved row.
+     *
+     * @since 0.12
+     */
+    protected SaveOp savedRowsOp() {
+        return SaveOp.insert;
+    }
+
+    /**
+     * Returns whether this strategy can save the data on multiple connections in parallel.
+     *
+     * @since 0.12
+     */
+    protected boolean supportsParallelSave() {
+        return true;
     }
 
     @Override
@@ -0,0 +1,87 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.TableDeleter;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.metadata.flavors.DbFlavor;
+import com.nhl.dflib.series.EmptySeries;
+
+import java.util.function.Supplier;
+
+/**
+ * A "merge" strategy that sends all the DataFrame rows to the DB in batches of DB-native "insert or update"
+ * statements provided by the {@link DbFlavor}. Unlike {@link SaveViaUpsert}, doesn't read the previously saved data
+ * and doesn't compare it with the DataFrame, so it is much faster for large DataFrames. On the flip side, it can't
+ * skip unchanged rows or report which rows were inserted and which were updated.
+ *
+ * @since 0.12
+ */
+public class SaveViaNativeUpsert extends SaveViaInsert {
+
+    protected String[] keyColumns;
+    protected boolean deleteUnmatchedRows;
+
+    public SaveViaNativeUpsert(
+            JdbcConnector connector,
+            TableFQName tableName,
+            String[] keyColumns,
+            boolean deleteUnmatchedRows) {
+
+        super(connector, tableName);
+        this.keyColumns = keyColumns;
+        this.deleteUnmatchedRows = deleteUnmatchedRows;
+    }
+
+    @Override
+    protected boolean shouldSave(DataFrame df) {
+        // with "deleteUnmatchedRows" even an empty DataFrame causes a save (which will be a pure delete)
+        return deleteUnmatchedRows || super.shouldSave(df);
+    }
+
+    @Override
+    protected boolean supportsParallelSave() {
+        // deleting unmatched rows and upserting must be done in one transaction
+        return !deleteUnmatchedRows;
+    }
+
+    @Override
+    protected Supplier<Series<SaveOp>> doSave(JdbcConnector connector, DataFrame df) {
+
+        if (deleteUnmatchedRows) {
+            new TableDeleter(connector, tableName).neq(df.selectColumns(Index.forLabels(keyColumns))).delete();
+        }
+
+        if (df.height() == 0) {
+            log("Empty DataFrame. Skipping upsert.");
+            return () -> new EmptySeries<>();
+        }
+
+        return super.doSave(connector, df);
+    }
+
+    @Override
+    protected SaveOp savedRowsOp() {
+        return SaveOp.upsert;
+    }
+
+    @Override
+    protected String createInsertStatement(DataFrame df) {
+
+        String[] labels = df.getColumnsIndex().getLabels();
+        String[] columns = new String[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            columns[i] = connector.quoteIdentifier(labels[i]);
+        }
+
+        String[] keys = new String[keyColumns.length];
+        for (int i = 0; i < keyColumns.length; i++) {
+            keys[i] = connector.quoteIdentifier(keyColumns[i]);
+        }
+
+        return connector.getMetadata().getFlavor().upsertStatement(connector.quoteTableName(tableName), columns, keys);
+    }
+}
@@ -3,15 +3,12 @@ package com.nhl.dflib.jdbc.connector.saver;
 import com.nhl.dflib.*;
 import com.nhl.dflib.jdbc.SaveOp;
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
-import com.nhl.dflib.jdbc.connector.StatementBuilder;
 import com.nhl.dflib.jdbc.connector.TableLoader;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
 import com.nhl.dflib.join.JoinIndicator;
 import com.nhl.dflib.row.RowProxy;
 import com.nhl.dflib.series.SingleValueSeries;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.function.Supplier;
@@ -101,6 +98,15 @@ public class SaveViaUpsert extends SaveViaInsert {
         return infoTracker::getInfo;
     }
 
+    /**
+     * @since 0.12
+     */
+    @Override
+    protected boolean supportsParallelSave() {
+        // updates depend on the previously saved data, so the save must happen in a single transaction
+        return false;
+    }
+
     protected void insert(JdbcConnector connector, DataFrame toSave) {
         super.doSave(connector, toSave);
     }
@@ -148,19 +154,14 @@ public class SaveViaUpsert extends SaveViaInsert {
             Index valueIndex = Index.forLabels(updateColumns).dropLabels(keyColumns);
             Index valueAndKeyIndex = valueIndex.addLabels(keyColumns);
 
-            StatementBuilder builder = connector.createStatementBuilder(createUpdateStatement(keyColumns, valueIndex.getLabels()))
+            // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
+            // metadata in PreparedStatements. See e.g. https://github.com/nhl/dflib/issues/49
 
-                    // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
-                    // metadata in PreparedStatements. See e.g. https://github.com/nhl/dflib/issues/49
-
-                    .paramDescriptors(fixedParams(valueAndKeyIndex))
-                    .bindBatch(toUpdate.selectColumns(valueAndKeyIndex));
-
-            try (Connection c = connector.getConnection()) {
-                builder.update(c);
-            } catch (SQLException e) {
-                throw new RuntimeException("Error closing DB connection", e);
-            }
+            batchUpdate(
+                    connector,
+                    createUpdateStatement(keyColumns, valueIndex.getLabels()),
+                    fixedParams(valueAndKeyIndex),
+                    toUpdate.selectColumns(valueAndKeyIndex));
         }
     }
 
@@ -4,12 +4,19 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.SaveOp;
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.SaveProgressListener;
+import com.nhl.dflib.jdbc.connector.StatementBuilder;
+import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
 import com.nhl.dflib.jdbc.connector.tx.Tx;
 import com.nhl.dflib.series.SingleValueSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -21,18 +28,49 @@ public abstract class TableSaveStrategy {
 
     protected JdbcConnector connector;
     protected TableFQName tableName;
+    protected int batchSize;
+    protected int threads;
+    protected SaveProgressListener progressListener;
+
+    // a save-scoped progress callback wrapping the listener
+    protected IntConsumer progressTracker;
 
     public TableSaveStrategy(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
         this.tableName = tableName;
     }
 
+    /**
+     * @since 0.12
+     */
+    public TableSaveStrategy batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public TableSaveStrategy parallel(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public TableSaveStrategy progressListener(SaveProgressListener progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
     public Supplier<Series<SaveOp>> save(DataFrame df) {
 
         if (!shouldSave(df)) {
             return () -> new SingleValueSeries<>(SaveOp.skip, df.height());
         }
 
+        this.progressTracker = createProgressTracker(df.height());
         return Tx.newTransaction(connector).call(c -> doSave(c, df));
     }
 
@@ -40,6 +78,46 @@ public abstract class TableSaveStrategy {
 
     protected abstract Supplier<Series<SaveOp>> doSave(JdbcConnector connector, DataFrame df);
 
+    /**
+     * Runs a batch update on a connection obtained from the connector, sending the rows to the DB in batches of the
+     * configured size.
+     *
+     * @since 0.12
+     */
+    protected void batchUpdate(
+            JdbcConnector connector,
+            String sql,
+            DbColumnMetadata[] paramDescriptors,
+            DataFrame batchParams) {
+
+        StatementBuilder builder = connector.createStatementBuilder(sql)
+                .paramDescriptors(paramDescriptors)
+                .bindBatch(batchParams)
+                .batchSize(batchSize)
+                .batchListener(progressTracker);
+
+        try (Connection c = connector.getConnection()) {
+            builder.update(c);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error closing DB connection", e);
+        }
+    }
+
+    /**
+     * Creates a thread-safe callback that reports the progress of the save to the progress listener, if any.
+     *
+     * @since 0.12
+     */
+    protected IntConsumer createProgressTracker(int totalRows) {
+
+        if (progressListener == null) {
+            return null;
+        }
+
+        AtomicInteger savedRows = new AtomicInteger();
+        return rows -> progressListener.batchSaved(rows, savedRows.addAndGet(rows), totalRows);
+    }
+
     protected void log(String line, Object... messageParams) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info(line, messageParams);
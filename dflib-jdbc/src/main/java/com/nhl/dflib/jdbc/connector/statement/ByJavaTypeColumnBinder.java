@@ -1,5 +1,12 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.NullableSeries;
+
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -49,6 +56,47 @@ public class ByJavaTypeColumnBinder implements ColumnBinder {
         }
     }
 
+    /**
+     * Binds primitive Series values directly via primitive setters, avoiding boxing.
+     *
+     * @since 0.12
+     */
+    @Override
+    public RowBinder forSeries(Series<?> series) {
+
+        if (series instanceof IntSeries) {
+            IntSeries ints = (IntSeries) series;
+            return nullAware(series, r -> statement.setInt(position, ints.getInt(r)));
+        } else if (series instanceof LongSeries) {
+            LongSeries longs = (LongSeries) series;
+            return nullAware(series, r -> statement.setLong(position, longs.getLong(r)));
+        } else if (series instanceof DoubleSeries) {
+            DoubleSeries doubles = (DoubleSeries) series;
+            return nullAware(series, r -> statement.setDouble(position, doubles.getDouble(r)));
+        } else if (series instanceof BooleanSeries) {
+            BooleanSeries booleans = (BooleanSeries) series;
+            return nullAware(series, r -> statement.setBoolean(position, booleans.getBoolean(r)));
+        }
+
+        return row -> bind(series.get(row));
+    }
+
+    private RowBinder nullAware(Series<?> series, RowBinder binder) {
+
+        if (!(series instanceof NullableSeries)) {
+            return binder;
+        }
+
+        NullableSeries nullable = (NullableSeries) series;
+        return r -> {
+            if (nullable.isNullAt(r)) {
+                statement.setNull(position, FAKE_JDBC_TYPE);
+            } else {
+                binder.bind(r);
+            }
+        };
+    }
+
     private Object normalize(Object o) {
         if (o == null) {
             return o;
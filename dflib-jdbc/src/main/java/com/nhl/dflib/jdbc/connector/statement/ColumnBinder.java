@@ -1,5 +1,7 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
+import com.nhl.dflib.Series;
+
 import java.sql.SQLException;
 
 /**
@@ -8,4 +10,15 @@ import java.sql.SQLException;
 public interface ColumnBinder {
 
     void bind(Object o) throws SQLException;
+
+    /**
+     * Creates a binder of the values of a given Series by row position. The default implementation binds each value
+     * via {@link #bind(Object)}. Subclasses may use the knowledge of the Series type to bind primitive values without
+     * boxing.
+     *
+     * @since 0.12
+     */
+    default RowBinder forSeries(Series<?> series) {
+        return row -> bind(series.get(row));
+    }
 }
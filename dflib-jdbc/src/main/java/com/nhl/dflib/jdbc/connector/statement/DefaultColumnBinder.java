@@ -1,5 +1,12 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.NullableSeries;
+
 import java.sql.*;
 import java.util.Calendar;
 
@@ -37,4 +44,66 @@ public class DefaultColumnBinder implements ColumnBinder {
             statement.setObject(position, boundable, type);
         }
     }
+
+    /**
+     * Binds primitive Series values directly via primitive setters if the parameter type matches the Series type.
+     * Otherwise binds boxed values the same way as {@link #bind(Object)}.
+     *
+     * @since 0.12
+     */
+    @Override
+    public RowBinder forSeries(Series<?> series) {
+
+        switch (type) {
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                if (series instanceof IntSeries) {
+                    IntSeries ints = (IntSeries) series;
+                    return nullAware(series, r -> statement.setInt(position, ints.getInt(r)));
+                }
+                break;
+            case Types.BIGINT:
+                if (series instanceof LongSeries) {
+                    LongSeries longs = (LongSeries) series;
+                    return nullAware(series, r -> statement.setLong(position, longs.getLong(r)));
+                } else if (series instanceof IntSeries) {
+                    IntSeries ints = (IntSeries) series;
+                    return nullAware(series, r -> statement.setLong(position, ints.getInt(r)));
+                }
+                break;
+            case Types.DOUBLE:
+            case Types.FLOAT:
+                if (series instanceof DoubleSeries) {
+                    DoubleSeries doubles = (DoubleSeries) series;
+                    return nullAware(series, r -> statement.setDouble(position, doubles.getDouble(r)));
+                }
+                break;
+            case Types.BOOLEAN:
+            case Types.BIT:
+                if (series instanceof BooleanSeries) {
+                    BooleanSeries booleans = (BooleanSeries) series;
+                    return nullAware(series, r -> statement.setBoolean(position, booleans.getBoolean(r)));
+                }
+                break;
+        }
+
+        return row -> bind(series.get(row));
+    }
+
+    private RowBinder nullAware(Series<?> series, RowBinder binder) {
+
+        if (!(series instanceof NullableSeries)) {
+            return binder;
+        }
+
+        NullableSeries nullable = (NullableSeries) series;
+        return r -> {
+            if (nullable.isNullAt(r)) {
+                statement.setNull(position, type);
+            } else {
+                binder.bind(r);
+            }
+        };
+    }
 }
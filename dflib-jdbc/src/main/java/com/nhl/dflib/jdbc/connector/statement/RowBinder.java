@@ -0,0 +1,15 @@
+package com.nhl.dflib.jdbc.connector.statement;
+
+import java.sql.SQLException;
+
+/**
+ * Binds statement parameter(s) from a row of a column-oriented data structure (a Series or a DataFrame), reading the
+ * values directly by row position.
+ *
+ * @since 0.12
+ */
+@FunctionalInterface
+public interface RowBinder {
+
+    void bind(int row) throws SQLException;
+}
@@ -3,6 +3,7 @@ package com.nhl.dflib.jdbc.connector.statement;
 import com.nhl.dflib.jdbc.connector.JdbcFunction;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -10,4 +11,12 @@ public interface SelectStatement {
 
     <T> T select(Connection connection, JdbcFunction<ResultSet, T> resultReader) throws SQLException;
 
+    /**
+     * Creates a PreparedStatement for this select, with parameters already bound. The caller is responsible for
+     * executing and closing the statement.
+     *
+     * @since 0.12
+     */
+    PreparedStatement prepare(Connection connection) throws SQLException;
+
 }
@@ -21,9 +21,7 @@ public class SelectStatementNoParams implements SelectStatement {
     @Override
     public <T> T select(Connection connection, JdbcFunction<ResultSet, T> resultReader) throws SQLException {
 
-        logger.log(sql);
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = prepare(connection)) {
 
             try (ResultSet rs = ps.executeQuery()) {
 
@@ -31,4 +29,13 @@ public class SelectStatementNoParams implements SelectStatement {
             }
         }
     }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public PreparedStatement prepare(Connection connection) throws SQLException {
+        logger.log(sql);
+        return connection.prepareStatement(sql);
+    }
 }
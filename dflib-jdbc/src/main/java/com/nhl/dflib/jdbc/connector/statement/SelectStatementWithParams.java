@@ -31,11 +31,7 @@ public class SelectStatementWithParams implements SelectStatement {
     @Override
     public <T> T select(Connection connection, JdbcFunction<ResultSet, T> resultReader) throws SQLException {
 
-        logger.log(sql, params);
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-
-            bind(ps);
+        try (PreparedStatement ps = prepare(connection)) {
 
             try (ResultSet rs = ps.executeQuery()) {
                 return resultReader.apply(rs);
@@ -43,6 +39,25 @@ public class SelectStatementWithParams implements SelectStatement {
         }
     }
 
+    /**
+     * @since 0.12
+     */
+    @Override
+    public PreparedStatement prepare(Connection connection) throws SQLException {
+
+        logger.log(sql, params);
+
+        PreparedStatement ps = connection.prepareStatement(sql);
+        try {
+            bind(ps);
+        } catch (SQLException | RuntimeException e) {
+            ps.close();
+            throw e;
+        }
+
+        return ps;
+    }
+
     private void bind(PreparedStatement statement) throws SQLException {
         if (params.size() > 0) {
             binderFactory.createBinder(statement).bind(params);
@@ -1,5 +1,6 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
+import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.row.RowProxy;
 
@@ -30,6 +31,35 @@ public class StatementBinder {
         }
     }
 
+    /**
+     * Creates a binder of the DataFrame rows by row position. Unlike {@link #bind(RowProxy)}, reads the values
+     * directly from the DataFrame columns, allowing the column binders to bind primitive values without boxing.
+     *
+     * @since 0.12
+     */
+    public RowBinder forRows(DataFrame values) {
+
+        int len = this.positions != null ? this.positions.length : 0;
+        RowBinder[] columnBinders = new RowBinder[len];
+        for (int i = 0; i < len; i++) {
+            columnBinders[i] = positions[i].forSeries(values.getColumn(i));
+        }
+
+        switch (len) {
+            case 0:
+                return row -> {
+                };
+            case 1:
+                return columnBinders[0];
+            default:
+                return row -> {
+                    for (int i = 0; i < len; i++) {
+                        columnBinders[i].bind(row);
+                    }
+                };
+        }
+    }
+
     public void bind(RowProxy values) throws SQLException {
 
         // unlike "bind(Object[]), will skip bounds checking on RowProxy to avoid extra work when iterating over a DataFrame
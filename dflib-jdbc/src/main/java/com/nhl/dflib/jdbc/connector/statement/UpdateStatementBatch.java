@@ -2,11 +2,11 @@ package com.nhl.dflib.jdbc.connector.statement;
 
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
-import com.nhl.dflib.row.RowProxy;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.function.IntConsumer;
 
 public class UpdateStatementBatch implements UpdateStatement {
 
@@ -14,6 +14,8 @@ public class UpdateStatementBatch implements UpdateStatement {
     private DataFrame paramsBatch;
     private StatementBinderFactory binderFactory;
     private SqlLogger logger;
+    private int batchSize;
+    private IntConsumer batchListener;
 
     public UpdateStatementBatch(
             String sql,
@@ -21,10 +23,29 @@ public class UpdateStatementBatch implements UpdateStatement {
             StatementBinderFactory binderFactory,
             SqlLogger logger) {
 
+        this(sql, paramsBatch, binderFactory, logger, 0, null);
+    }
+
+    /**
+     * @param batchSize     max number of rows sent to the DB in a single JDBC batch. If zero or negative, all rows are
+     *                      sent in a single batch
+     * @param batchListener an optional callback invoked with the number of rows after each executed batch
+     * @since 0.12
+     */
+    public UpdateStatementBatch(
+            String sql,
+            DataFrame paramsBatch,
+            StatementBinderFactory binderFactory,
+            SqlLogger logger,
+            int batchSize,
+            IntConsumer batchListener) {
+
         this.sql = sql;
         this.paramsBatch = paramsBatch;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.batchSize = batchSize > 0 ? batchSize : Integer.MAX_VALUE;
+        this.batchListener = batchListener;
     }
 
     @Override
@@ -34,14 +55,54 @@ public class UpdateStatementBatch implements UpdateStatement {
 
         try (PreparedStatement st = c.prepareStatement(sql)) {
 
-            StatementBinder binder = binderFactory.createBinder(st);
+            RowBinder binder = binderFactory.createBinder(st).forRows(paramsBatch);
+
+            int len = paramsBatch.height();
+            if (len <= batchSize) {
+
+                for (int i = 0; i < len; i++) {
+                    binder.bind(i);
+                    st.addBatch();
+                }
+
+                return executeBatch(st, len);
+            }
+
+            // sending the rows in fixed-size batches, so that the driver doesn't have to buffer the entire DataFrame
+            int[] updateCounts = new int[len];
+            int batched = 0;
+            int offset = 0;
 
-            for (RowProxy row : paramsBatch) {
-                binder.bind(row);
+            for (int i = 0; i < len; i++) {
+                binder.bind(i);
                 st.addBatch();
+
+                if (++batched == batchSize) {
+                    offset = appendCounts(updateCounts, offset, executeBatch(st, batched));
+                    batched = 0;
+                }
+            }
+
+            if (batched > 0) {
+                appendCounts(updateCounts, offset, executeBatch(st, batched));
             }
 
-            return st.executeBatch();
+            return updateCounts;
         }
     }
+
+    private int[] executeBatch(PreparedStatement st, int rows) throws SQLException {
+        int[] counts = st.executeBatch();
+
+        if (batchListener != null) {
+            batchListener.accept(rows);
+        }
+
+        return counts;
+    }
+
+    private static int appendCounts(int[] to, int offset, int[] counts) {
+        System.arraycopy(counts, 0, to, offset, counts.length);
+        return offset + counts.length;
+    }
 }
@@ -2,11 +2,11 @@ package com.nhl.dflib.jdbc.connector.statement;
 
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
-import com.nhl.dflib.row.RowProxy;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.function.IntConsumer;
 
 public class UpdateStatementNoBatch implements UpdateStatement {
 
@@ -14,6 +14,8 @@ public class UpdateStatementNoBatch implements UpdateStatement {
     private DataFrame paramsBatch;
     private StatementBinderFactory binderFactory;
     private SqlLogger logger;
+    private int batchSize;
+    private IntConsumer batchListener;
 
     public UpdateStatementNoBatch(
             String sql,
@@ -21,10 +23,29 @@ public class UpdateStatementNoBatch implements UpdateStatement {
             StatementBinderFactory binderFactory,
             SqlLogger logger) {
 
+        this(sql, paramsBatch, binderFactory, logger, 0, null);
+    }
+
+    /**
+     * @param batchSize     the number of rows after which the "batchListener" is notified. If zero or negative, the
+     *                      listener is notified once after all rows are saved
+     * @param batchListener an optional callback invoked with the number of rows saved since the last notification
+     * @since 0.12
+     */
+    public UpdateStatementNoBatch(
+            String sql,
+            DataFrame paramsBatch,
+            StatementBinderFactory binderFactory,
+            SqlLogger logger,
+            int batchSize,
+            IntConsumer batchListener) {
+
         this.sql = sql;
         this.paramsBatch = paramsBatch;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.batchSize = batchSize > 0 ? batchSize : Integer.MAX_VALUE;
+        this.batchListener = batchListener;
     }
 
     @Override
@@ -37,12 +58,16 @@ public class UpdateStatementNoBatch implements UpdateStatement {
 
         try (PreparedStatement st = c.prepareStatement(sql)) {
 
-            StatementBinder binder = binderFactory.createBinder(st);
-            int i = 0;
+            RowBinder binder = binderFactory.createBinder(st).forRows(paramsBatch);
+
+            for (int i = 0; i < len; i++) {
+                binder.bind(i);
+                updateCounts[i] = st.executeUpdate();
 
-            for (RowProxy row : paramsBatch) {
-                binder.bind(row);
-                updateCounts[i++] = st.executeUpdate();
+                int saved = i + 1;
+                if (batchListener != null && (saved % batchSize == 0 || saved == len)) {
+                    batchListener.accept(saved % batchSize == 0 ? batchSize : saved % batchSize);
+                }
             }
         }
 
@@ -0,0 +1,50 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Index;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.mockito.Mockito.*;
+
+public class DataFrameCursorTest {
+
+    @Test
+    public void testClose_RestoresAutoCommit() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        // the autocommit was turned off by DbFlavor.enableStreaming
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        new DataFrameCursor(connection, statement, resultSet, true, Index.forLabels("a"), rs -> null, 10, 100).close();
+
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(connection).setAutoCommit(true);
+        verify(connection).close();
+    }
+
+    @Test
+    public void testClose_AutoCommitOff() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        new DataFrameCursor(
+                connection,
+                mock(Statement.class),
+                mock(ResultSet.class),
+                false,
+                Index.forLabels("a"),
+                rs -> null,
+                10,
+                100).close();
+
+        verify(connection, never()).setAutoCommit(anyBoolean());
+        verify(connection).close();
+    }
+}
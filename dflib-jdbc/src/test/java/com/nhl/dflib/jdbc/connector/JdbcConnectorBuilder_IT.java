@@ -6,6 +6,7 @@ import com.nhl.dflib.jdbc.connector.loader.ColumnBuilder;
 import com.nhl.dflib.jdbc.connector.loader.ColumnBuilderFactory;
 import com.nhl.dflib.jdbc.unit.BaseDbTest;
 import com.nhl.dflib.junit5.DataFrameAsserts;
+import com.nhl.dflib.series.CategoricalSeries;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -103,6 +104,46 @@ public class JdbcConnectorBuilder_IT extends BaseDbTest {
                 .expectRow(0, 1L, d, t, ts);
     }
 
+    @Test
+    @DisplayName("Categorical ColumnBuilderFactory")
+    public void testAddColumnBuilderFactory_Categorical() throws SQLException {
+
+        String table = "JdbcConnectorBuilder_IT_AddColumnBuilderFactory_Categorical";
+        String sql = adapter.toNativeSql("create table \"%s\" (\"id\" bigint, \"s\" varchar(10))", table);
+
+        try (Connection c1 = adapter.createConnector().getConnection()) {
+            try (PreparedStatement st = c1.prepareStatement(sql)) {
+                st.executeUpdate();
+            }
+
+            c1.commit();
+        }
+
+        adapter.getTable(table).insertColumns("id", "s")
+                .values(1L, "a")
+                .values(2L, "b")
+                .values(3L, null)
+                .values(4L, "a")
+                .exec();
+
+        DataFrame df = Jdbc.connector()
+                .dataSource(adapter.getDb().getDataSource())
+                .addColumnBuilderFactory(Types.VARCHAR, ColumnBuilderFactory::categoricalAccum)
+                .build()
+                .sqlLoader(adapter.toNativeSql("select * from \"%s\" order by \"id\"", table))
+                .load();
+
+        new DataFrameAsserts(df, "id", "s")
+                .expectHeight(4)
+                .expectRow(0, 1L, "a")
+                .expectRow(1, 2L, "b")
+                .expectRow(2, 3L, null)
+                .expectRow(3, 4L, "a");
+
+        assertTrue(df.getColumn("s") instanceof CategoricalSeries);
+        assertEquals(2, ((CategoricalSeries<?>) df.getColumn("s")).getCategoryCount());
+    }
+
     static ColumnBuilder<String> dateAccum(int pos) {
         return ColumnBuilderFactory.fromJdbcFunction(rs -> {
             Date date = rs.getDate(pos);
@@ -0,0 +1,101 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionedLoaderTest {
+
+    @Test
+    public void testSplitPoints_Long() {
+        assertArrayEquals(new Object[]{4L, 7L}, PartitionedLoader.splitPoints(new Object[]{1L, 9L}, 3));
+        assertArrayEquals(new Object[]{6L}, PartitionedLoader.splitPoints(new Object[]{1L, 10L}, 2));
+    }
+
+    @Test
+    public void testSplitPoints_Int_Narrow() {
+        assertArrayEquals(new Object[]{2, 3}, PartitionedLoader.splitPoints(new Object[]{1, 3}, 10));
+        assertArrayEquals(new Object[0], PartitionedLoader.splitPoints(new Object[]{5, 5}, 4));
+    }
+
+    @Test
+    public void testSplitPoints_BigInteger() {
+        assertArrayEquals(
+                new Object[]{BigInteger.valueOf(4), BigInteger.valueOf(7)},
+                PartitionedLoader.splitPoints(new Object[]{BigInteger.ONE, BigInteger.valueOf(9)}, 3));
+    }
+
+    @Test
+    public void testSplitPoints_BigInteger_OutOfRange() {
+        BigInteger min = BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE);
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> PartitionedLoader.splitPoints(new Object[]{BigInteger.ZERO, max}, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> PartitionedLoader.splitPoints(new Object[]{min, BigInteger.ZERO}, 2));
+    }
+
+    @Test
+    public void testSplitPoints_Null() {
+        assertArrayEquals(new Object[0], PartitionedLoader.splitPoints(new Object[2], 4));
+    }
+
+    @Test
+    public void testSplitPoints_Double() {
+        assertArrayEquals(new Object[]{2.5, 5.}, PartitionedLoader.splitPoints(new Object[]{0., 7.5}, 3));
+    }
+
+    @Test
+    public void testSplitPoints_Dates() {
+        assertArrayEquals(
+                new Object[]{LocalDate.of(2020, 1, 6)},
+                PartitionedLoader.splitPoints(new Object[]{LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 10)}, 2));
+
+        assertArrayEquals(
+                new Object[]{new Timestamp(500)},
+                PartitionedLoader.splitPoints(new Object[]{new Timestamp(0), new Timestamp(999)}, 2));
+    }
+
+    @Test
+    public void testSplitPoints_Unsupported() {
+        assertThrows(IllegalArgumentException.class, () -> PartitionedLoader.splitPoints(new Object[]{"a", "z"}, 2));
+    }
+
+    @Test
+    public void testLoad_MaxParallelism() {
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        PartitionedLoader loader = new PartitionedLoader(null).maxParallelism(3);
+        for (int i = 0; i < 10; i++) {
+            int partition = i;
+            loader.partition(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return DataFrame.newFrame("a").foldByRow(partition);
+            });
+        }
+
+        new DataFrameAsserts(loader.load(), "a")
+                .expectHeight(10)
+                .expectRow(0, 0)
+                .expectRow(9, 9);
+
+        assertTrue(maxRunning.get() <= 3, "Too many concurrent partitions: " + maxRunning.get());
+    }
+
+    @Test
+    public void testMaxParallelism_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedLoader(null).maxParallelism(0));
+    }
+}
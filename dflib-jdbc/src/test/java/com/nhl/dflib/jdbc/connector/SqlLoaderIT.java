@@ -1,6 +1,7 @@
 package com.nhl.dflib.jdbc.connector;
 
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.unit.BaseDbTest;
 import com.nhl.dflib.junit5.DataFrameAsserts;
 import org.junit.jupiter.api.Test;
@@ -54,6 +55,29 @@ public class SqlLoaderIT extends BaseDbTest {
                 .expectRow(0, 1L, 50_000.01);
     }
 
+    @Test
+    public void testLoadPartitions() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.);
+
+        String sql = adapter.toNativeSql("SELECT \"id\", \"salary\" from \"t1\" WHERE \"id\" >= ? AND \"id\" < ?");
+
+        DataFrame df = adapter.createConnector()
+                .sqlLoader(sql)
+                .loadPartitions(Series.forData(1L, 3L), Series.forData(3L, 10L));
+
+        new DataFrameAsserts(df, "id", "salary")
+                .expectHeight(4)
+                .expectRow(0, 1L, 50_000.01)
+                .expectRow(1, 2L, 120_000.)
+                .expectRow(2, 3L, 1_000.)
+                .expectRow(3, 4L, 2_000.);
+    }
+
     @Test
     public void testEmpty() {
 
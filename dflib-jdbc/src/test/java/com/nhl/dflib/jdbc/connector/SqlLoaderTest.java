@@ -0,0 +1,41 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Series;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+public class SqlLoaderTest {
+
+    @Test
+    public void testLoadBatches_QueryError_RestoresAutoCommit() throws SQLException {
+        Connection connection = mock(Connection.class);
+
+        // the autocommit was turned off by DbFlavor.enableStreaming before the query failed
+        when(connection.getAutoCommit()).thenReturn(true, false);
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenThrow(new SQLException("Query failed"));
+
+        StatementBuilder builder = mock(StatementBuilder.class);
+        when(builder.bind(any(Series.class))).thenReturn(builder);
+        when(builder.fetchSize(anyInt())).thenReturn(builder);
+        when(builder.prepareSelect(connection)).thenReturn(statement);
+
+        JdbcConnector connector = mock(JdbcConnector.class);
+        when(connector.getConnection()).thenReturn(connection);
+        when(connector.createStatementBuilder(anyString())).thenReturn(builder);
+
+        SqlLoader loader = new SqlLoader(connector, "select * from xt");
+        assertThrows(RuntimeException.class, () -> loader.loadBatches(10));
+
+        verify(statement).close();
+        verify(connection).setAutoCommit(true);
+        verify(connection).close();
+    }
+}
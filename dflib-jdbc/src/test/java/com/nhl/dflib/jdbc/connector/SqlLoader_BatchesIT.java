@@ -0,0 +1,132 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlLoader_BatchesIT extends BaseDbTest {
+
+    @Test
+    public void testLoadBatches() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.)
+                .insert(5L, "n5", 3_000.);
+
+        String sql = adapter.toNativeSql("SELECT \"id\", \"salary\" from \"t1\" WHERE \"id\" > ? ORDER BY \"id\"");
+
+        try (DataFrameCursor cursor = adapter.createConnector().sqlLoader(sql).loadBatches(2, 0L)) {
+
+            assertTrue(cursor.hasNext());
+            new DataFrameAsserts(cursor.next(), "id", "salary")
+                    .expectHeight(2)
+                    .expectRow(0, 1L, 50_000.01)
+                    .expectRow(1, 2L, 120_000.);
+
+            assertTrue(cursor.hasNext());
+            new DataFrameAsserts(cursor.next(), "id", "salary")
+                    .expectHeight(2)
+                    .expectRow(0, 3L, 1_000.)
+                    .expectRow(1, 4L, 2_000.);
+
+            assertTrue(cursor.hasNext());
+            new DataFrameAsserts(cursor.next(), "id", "salary")
+                    .expectHeight(1)
+                    .expectRow(0, 5L, 3_000.);
+
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    public void testLoadBatches_ExactMultiple() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        String sql = adapter.toNativeSql("SELECT \"id\" from \"t1\" ORDER BY \"id\"");
+
+        int batches = 0;
+        try (DataFrameCursor cursor = adapter.createConnector().sqlLoader(sql).loadBatches(2)) {
+            while (cursor.hasNext()) {
+                assertEquals(2, cursor.next().height());
+                batches++;
+            }
+        }
+
+        assertEquals(1, batches);
+    }
+
+    @Test
+    public void testLoadBatches_MaxRows() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        String sql = adapter.toNativeSql("SELECT \"id\" from \"t1\" ORDER BY \"id\"");
+
+        try (DataFrameCursor cursor = adapter.createConnector().sqlLoader(sql).maxRows(3).loadBatches(2)) {
+            new DataFrameAsserts(cursor.next(), "id").expectHeight(2);
+            new DataFrameAsserts(cursor.next(), "id").expectHeight(1).expectRow(0, 3L);
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    public void testLoadBatches_Empty() {
+
+        String sql = adapter.toNativeSql("SELECT \"id\" from \"t1\"");
+
+        try (DataFrameCursor cursor = adapter.createConnector().sqlLoader(sql).loadBatches(10)) {
+            assertEquals(1, cursor.getColumnsIndex().size());
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    public void testTableLoader_LoadBatches() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.);
+
+        DataFrame matcher = DataFrame.newFrame("id").foldByRow(1L, 3L);
+
+        try (DataFrameCursor cursor = adapter.createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .includeColumns("name", "salary")
+                .loadBatches(1)) {
+
+            new DataFrameAsserts(cursor.next(), "name", "salary").expectHeight(1).expectRow(0, "n1", 50_000.01);
+            new DataFrameAsserts(cursor.next(), "name", "salary").expectHeight(1).expectRow(0, "n3", 11_000.);
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    public void testTableLoader_LoadBatches_EmptyCondition() {
+
+        adapter.getTable("t1").insert(1L, "n1", 50_000.01);
+
+        DataFrame matcher = DataFrame.newFrame("id").empty();
+
+        try (DataFrameCursor cursor = adapter.createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .loadBatches(5)) {
+
+            assertFalse(cursor.hasNext());
+        }
+    }
+}
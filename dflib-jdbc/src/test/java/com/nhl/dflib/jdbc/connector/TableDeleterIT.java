@@ -45,6 +45,30 @@ public class TableDeleterIT extends BaseDbTest {
                 .expectRow(0, 2L, "n2", 120_000.);
     }
 
+    @Test
+    public void testDelete_Eq_SplitCondition() {
+
+        DataFrame matcher = DataFrame.newFrame("id").foldByRow(1L, 3L, 4L, 6L, 7L);
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.)
+                .insert(4L, "n4", 12_000.);
+
+        JdbcConnector connector = adapter.createConnector();
+        int deleted = connector.tableDeleter("t1")
+                .eq(matcher)
+                .maxConditionParams(2)
+                .delete();
+        assertEquals(3, deleted);
+
+        DataFrame df = connector.tableLoader("t1").load();
+        new DataFrameAsserts(df, adapter.getColumnNames("t1"))
+                .expectHeight(1)
+                .expectRow(0, 2L, "n2", 120_000.);
+    }
+
     @Test
     public void testDelete_Eq_Empty() {
 
@@ -134,6 +134,58 @@ public class TableLoaderIT extends BaseDbTest {
                 .expectRow(0, "n3", 11_000.);
     }
 
+    @Test
+    public void testEq_SplitCondition() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.)
+                .insert(4L, "n4", 12_000.);
+
+        DataFrame matcher = DataFrame.newFrame("id", "name").foldByRow(
+                1L, "n1",
+                3L, "n3",
+                4L, "n5",
+                2L, "n2");
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .maxConditionParams(3)
+                .includeColumns("id", "name")
+                .load();
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 3L, "n3")
+                .expectRow(2, 2L, "n2");
+    }
+
+    @Test
+    public void testNeq_LongInList() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.)
+                .insert(4L, "n4", 12_000.);
+
+        DataFrame matcher = DataFrame.newFrame("id").foldByRow(1L, 3L, 4L, 5L);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .neq(matcher)
+                .maxConditionParams(3)
+                .includeColumns("name")
+                .load();
+
+        new DataFrameAsserts(df, "name")
+                .expectHeight(1)
+                .expectRow(0, "n2");
+    }
+
     @Test
     public void testEq_EmptyCondition() {
 
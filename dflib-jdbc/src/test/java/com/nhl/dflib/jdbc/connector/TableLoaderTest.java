@@ -0,0 +1,40 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class TableLoaderTest {
+
+    @Test
+    public void testPartitionsAt() {
+        TableLoader loader = new TableLoader(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"));
+
+        assertSame(loader, loader.partitionsAt("id", 5, 10, 20));
+        assertSame(loader, loader.partitionsAt("id"));
+    }
+
+    @Test
+    public void testPartitionsAt_Unordered() {
+        TableLoader loader = new TableLoader(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"));
+
+        assertThrows(IllegalArgumentException.class, () -> loader.partitionsAt("id", 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> loader.partitionsAt("id", 5, 10, 10));
+    }
+
+    @Test
+    public void testPartitionsAt_Null() {
+        TableLoader loader = new TableLoader(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"));
+
+        assertThrows(IllegalArgumentException.class, () -> loader.partitionsAt("id", 5, null, 20));
+    }
+
+    @Test
+    public void testPartitionsAt_IncompatibleTypes() {
+        TableLoader loader = new TableLoader(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"));
+
+        assertThrows(IllegalArgumentException.class, () -> loader.partitionsAt("id", 5, "a"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TableLoader_PartitionsIT extends BaseDbTest {
+
+    @Test
+    public void testPartitions() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.)
+                .insert(4L, "n4", 10_000.)
+                .insert(5L, "n5", 30_000.);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .partitions("id", 3)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, adapter.getColumnNames("t1"))
+                .expectHeight(5)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 20_000.)
+                .expectRow(3, 4L, "n4", 10_000.)
+                .expectRow(4, 5L, "n5", 30_000.);
+    }
+
+    @Test
+    public void testPartitions_MorePartitionsThanValues() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .partitions("id", 10)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, adapter.getColumnNames("t1"))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", 120_000.);
+    }
+
+    @Test
+    public void testPartitions_Empty() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .partitions("id", 4)
+                .load();
+
+        new DataFrameAsserts(df, adapter.getColumnNames("t1")).expectHeight(0);
+    }
+
+    @Test
+    public void testPartitionsAt_Nulls() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", null)
+                .insert(3L, "n3", 20_000.)
+                .insert(4L, "n4", 130_000.);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .includeColumns("id", "salary")
+                .partitionsAt("salary", 30_000., 100_000.)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "salary")
+                .expectHeight(4)
+                .expectRow(0, 1L, 50_000.01)
+                .expectRow(1, 2L, null)
+                .expectRow(2, 3L, 20_000.)
+                .expectRow(3, 4L, 130_000.);
+    }
+
+    @Test
+    public void testPartitions_Eq_MaxRows() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.)
+                .insert(4L, "n4", 10_000.);
+
+        DataFrame matcher = DataFrame.newFrame("name").foldByRow("n1", "n3", "n4");
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .partitionsAt("id", 2L, 4L)
+                .maxRows(2)
+                .load();
+
+        new DataFrameAsserts(df, adapter.getColumnNames("t1"))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 3L, "n3", 20_000.);
+    }
+
+    @Test
+    public void testPartitions_Eq_Split() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.)
+                .insert(4L, "n4", 10_000.);
+
+        // the condition is larger than "maxConditionParams", and has duplicates
+        DataFrame matcher = DataFrame.newFrame("name").foldByRow("n1", "n3", "n1", "n4", "n3");
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .maxConditionParams(2)
+                .partitions("id", 2)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, adapter.getColumnNames("t1"))
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 3L, "n3", 20_000.)
+                .expectRow(2, 4L, "n4", 10_000.);
+    }
+
+    @Test
+    public void testPartitions_Sampling() {
+        assertThrows(IllegalStateException.class, () -> adapter.createConnector()
+                .tableLoader("t1")
+                .partitions("id", 2)
+                .sampleRows(2)
+                .load());
+    }
+}
@@ -1,6 +1,10 @@
 package com.nhl.dflib.jdbc.connector;
 
+import com.nhl.dflib.BooleanSeries;
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.accumulator.IntAccumulator;
 import com.nhl.dflib.jdbc.SaveOp;
 import com.nhl.dflib.jdbc.unit.BaseDbTest;
 import com.nhl.dflib.junit5.DataFrameAsserts;
@@ -8,6 +12,13 @@ import com.nhl.dflib.junit5.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
 import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class TableSaverIT extends BaseDbTest {
 
@@ -275,6 +286,34 @@ public class TableSaverIT extends BaseDbTest {
                 .expectRow(0, l1, 1, ldt, lt, ld, bytes);
     }
 
+    @Test
+    public void testDataTypes_PrimitiveSeries() {
+
+        IntAccumulator ints = new IntAccumulator();
+        ints.add(5);
+        ints.addNull();
+
+        DataFrame df = DataFrame.newFrame("bigint", "int", "double", "boolean").columns(
+                LongSeries.forLongs(1L, Integer.MAX_VALUE + 1L),
+                ints.toSeries(),
+                DoubleSeries.forDoubles(1.5, -3.),
+                BooleanSeries.forBooleans(true, false));
+
+        JdbcConnector connector = adapter.createConnector();
+        connector.tableSaver("t2").save(df);
+
+        DataFrame df2 = connector
+                .tableLoader("t2")
+                .includeColumns("bigint", "int", "double", "boolean")
+                .load()
+                .sort("bigint", true);
+
+        new DataFrameAsserts(df2, df.getColumnsIndex())
+                .expectHeight(2)
+                .expectRow(0, 1L, 5, 1.5, true)
+                .expectRow(1, Integer.MAX_VALUE + 1L, null, -3., false);
+    }
+
     @Test
     public void testDataTypes_DatePartsAsInts() {
 
@@ -428,6 +467,145 @@ public class TableSaverIT extends BaseDbTest {
                 .expectRow(4, 5L, "n5", 5.);
     }
 
+    @Test
+    public void testSave_BatchSize_ProgressListener() {
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 1.,
+                2L, "n2", 2.,
+                3L, "n3", 3.,
+                4L, "n4", 4.,
+                5L, "n5", 5.);
+
+        List<String> progress = new ArrayList<>();
+
+        JdbcConnector connector = adapter.createConnector();
+        SaveStats info = connector.tableSaver("t1")
+                .batchSize(2)
+                .progressListener((batch, saved, total) -> progress.add(batch + ":" + saved + ":" + total))
+                .save(df);
+
+        assertEquals(asList("2:2:5", "2:4:5", "1:5:5"), progress);
+        assertEquals(5, info.getInsertCount());
+
+        assertT1Contents()
+                .expectHeight(5)
+                .expectRow(0, 1L, "n1", 1.)
+                .expectRow(4, 5L, "n5", 5.);
+    }
+
+    @Test
+    public void testSave_Parallel() {
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 1.,
+                2L, "n2", 2.,
+                3L, "n3", 3.,
+                4L, "n4", 4.,
+                5L, "n5", 5.,
+                6L, "n6", 6.,
+                7L, "n7", 7.);
+
+        AtomicInteger saved = new AtomicInteger();
+
+        JdbcConnector connector = adapter.createConnector();
+        SaveStats info = connector.tableSaver("t1")
+                .batchSize(2)
+                .parallel(3)
+                .progressListener((batch, s, total) -> saved.addAndGet(batch))
+                .save(df);
+
+        assertEquals(7, saved.get());
+        assertEquals(7, info.getInsertCount());
+
+        assertT1Contents()
+                .expectHeight(7)
+                .expectRow(0, 1L, "n1", 1.)
+                .expectRow(3, 4L, "n4", 4.)
+                .expectRow(6, 7L, "n7", 7.);
+    }
+
+    @Test
+    public void testSave_Parallel_DeleteTableData() {
+
+        adapter.getTable("t1")
+                .insert(10L, "n10", 10.)
+                .insert(11L, "n11", 11.);
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 1.,
+                2L, "n2", 2.,
+                3L, "n3", 3.);
+
+        JdbcConnector connector = adapter.createConnector();
+        connector.tableSaver("t1")
+                .deleteTableData()
+                .parallel(2)
+                .save(df);
+
+        assertT1Contents()
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1", 1.)
+                .expectRow(1, 2L, "n2", 2.)
+                .expectRow(2, 3L, "n3", 3.);
+    }
+
+    @Test
+    public void testSave_Parallel_DeleteTableData_InsertFailure() {
+
+        adapter.getTable("t1")
+                .insert(10L, "n10", 10.)
+                .insert(11L, "n11", 11.);
+
+        // duplicate PK fails the insert
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 1.,
+                2L, "n2", 2.,
+                2L, "n3", 3.);
+
+        JdbcConnector connector = adapter.createConnector();
+        TableSaver saver = connector.tableSaver("t1").deleteTableData().parallel(2);
+        assertThrows(RuntimeException.class, () -> saver.save(df));
+
+        // the delete must be rolled back together with the insert
+        assertT1Contents()
+                .expectHeight(2)
+                .expectRow(0, 10L, "n10", 10.)
+                .expectRow(1, 11L, "n11", 11.);
+    }
+
+    @Test
+    public void testSave_NativeUpsert() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 1.)
+                .insert(2L, "n2", 2.);
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                2L, "n2_u", 20.,
+                3L, "n3", 3.);
+
+        JdbcConnector connector = adapter.createConnector();
+        SaveStats info = connector.tableSaver("t1")
+                .mergeByPk()
+                .nativeUpsert()
+                .batchSize(1)
+                .save(df);
+
+        // DBs without native upsert fall back to a regular merge
+        if (connector.getMetadata().getFlavor().supportsUpsert()) {
+            new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.upsert, SaveOp.upsert);
+        } else {
+            new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.update, SaveOp.insert);
+        }
+
+        assertT1Contents()
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1", 1.)
+                .expectRow(1, 2L, "n2_u", 20.)
+                .expectRow(2, 3L, "n3", 3.);
+    }
+
     private DataFrameAsserts assertT1Contents() {
         DataFrame df = adapter.createConnector().tableLoader("t1").load().sort("id", true);
         return new DataFrameAsserts(df, adapter.getColumnNames("t1"));
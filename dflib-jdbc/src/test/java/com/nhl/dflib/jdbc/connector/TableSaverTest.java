@@ -1,13 +1,17 @@
 package com.nhl.dflib.jdbc.connector;
 
+import com.nhl.dflib.jdbc.connector.metadata.DbMetadata;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.metadata.flavors.DbFlavor;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaDeleteThenInsert;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaInsert;
+import com.nhl.dflib.jdbc.connector.saver.SaveViaNativeUpsert;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaUpsert;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class TableSaverTest {
 
@@ -57,4 +61,49 @@ public class TableSaverTest {
 
         assertEquals(SaveViaUpsert.class, saver.createSaveStrategy().getClass());
     }
+
+    @Test
+    public void testCreateSaveStrategy_NativeUpsert() {
+        TableSaver saver = new TableSaver(mockConnector(true), TableFQName.forName("xt"))
+                .mergeByColumns("X", "Y")
+                .nativeUpsert();
+
+        assertEquals(SaveViaNativeUpsert.class, saver.createSaveStrategy().getClass());
+    }
+
+    @Test
+    public void testCreateSaveStrategy_NativeUpsert_Unsupported() {
+        TableSaver saver = new TableSaver(mockConnector(false), TableFQName.forName("xt"))
+                .mergeByColumns("X", "Y")
+                .nativeUpsert();
+
+        assertEquals(SaveViaUpsert.class, saver.createSaveStrategy().getClass());
+    }
+
+    @Test
+    public void testCreateSaveStrategy_NativeUpsert_NoMerge() {
+        TableSaver saver = new TableSaver(mockConnector(true), TableFQName.forName("xt")).nativeUpsert();
+
+        assertEquals(SaveViaInsert.class, saver.createSaveStrategy().getClass());
+    }
+
+    @Test
+    public void testParallel_Invalid() {
+        TableSaver saver = new TableSaver(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"));
+
+        assertThrows(IllegalArgumentException.class, () -> saver.parallel(0));
+        assertThrows(IllegalArgumentException.class, () -> saver.parallel(-1));
+    }
+
+    private static JdbcConnector mockConnector(boolean supportsUpsert) {
+        DbFlavor flavor = mock(DbFlavor.class);
+        when(flavor.supportsUpsert()).thenReturn(supportsUpsert);
+
+        DbMetadata metadata = mock(DbMetadata.class);
+        when(metadata.getFlavor()).thenReturn(flavor);
+
+        JdbcConnector connector = mock(DefaultJdbcConnector.class);
+        when(connector.getMetadata()).thenReturn(metadata);
+        return connector;
+    }
 }
@@ -0,0 +1,95 @@
+package com.nhl.dflib.jdbc.connector.condition;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.junit5.SeriesAsserts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConditionBuilderTest {
+
+    private JdbcConnector connector;
+
+    @BeforeEach
+    public void initConnector() {
+        connector = mock(JdbcConnector.class);
+        when(connector.quoteIdentifier(anyString())).then(i -> i.getArguments()[0]);
+    }
+
+    @Test
+    public void testToSqlCondition_SingleColumn() {
+        ConditionBuilder cb = new ConditionBuilder(connector)
+                .condition(DataFrame.newFrame("a").foldByRow(1, 2, 3), false);
+
+        assertEquals("a in (?, ?, ?)", cb.toSqlCondition(new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testToSqlCondition_SingleColumn_LongInList() {
+        DataFrame condition = DataFrame.newFrame("a").foldByRow(1, 2, 3, 4, 5);
+
+        ConditionBuilder eq = new ConditionBuilder(connector).maxParams(2).condition(condition, false);
+        assertEquals("(a in (?, ?) or a in (?, ?) or a in (?))", eq.toSqlCondition(new StringBuilder()).toString());
+
+        ConditionBuilder neq = new ConditionBuilder(connector).maxParams(2).condition(condition, true);
+        assertEquals("(a not in (?, ?) and a not in (?, ?) and a not in (?))",
+                neq.toSqlCondition(new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testSplit() {
+        DataFrame condition = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                3, "z");
+
+        ConditionBuilder cb = new ConditionBuilder(connector).maxParams(4).condition(condition, false);
+        assertTrue(cb.splittable());
+
+        ConditionBuilder[] chunks = cb.split();
+        assertEquals(2, chunks.length);
+
+        assertFalse(chunks[0].splittable());
+        assertEquals("(a = ? and b = ?) or (a = ? and b = ?)",
+                chunks[0].toSqlCondition(new StringBuilder()).toString());
+        new SeriesAsserts(chunks[0].bindingParams()).expectData(1, "x", 2, "y");
+
+        assertEquals("(a = ? and b = ?)", chunks[1].toSqlCondition(new StringBuilder()).toString());
+        new SeriesAsserts(chunks[1].bindingParams()).expectData(3, "z");
+    }
+
+    @Test
+    public void testSplit_Duplicates() {
+        DataFrame condition = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "x",
+                1, "z",
+                2, "y");
+
+        ConditionBuilder[] chunks = new ConditionBuilder(connector).maxParams(4).condition(condition, false).split();
+        assertEquals(2, chunks.length);
+        new SeriesAsserts(chunks[0].bindingParams()).expectData(1, "x", 2, "y");
+        new SeriesAsserts(chunks[1].bindingParams()).expectData(1, "z");
+    }
+
+    @Test
+    public void testSplit_Duplicates_SingleColumn() {
+        DataFrame condition = DataFrame.newFrame("a").foldByRow(1, 2, 1, 3, 2, 3);
+
+        ConditionBuilder[] chunks = new ConditionBuilder(connector).maxParams(2).condition(condition, false).split();
+        assertEquals(2, chunks.length);
+        new SeriesAsserts(chunks[0].bindingParams()).expectData(1, 2);
+        new SeriesAsserts(chunks[1].bindingParams()).expectData(3);
+    }
+
+    @Test
+    public void testSplittable_Negated() {
+        DataFrame condition = DataFrame.newFrame("a").foldByRow(1, 2, 3);
+        assertFalse(new ConditionBuilder(connector).maxParams(2).condition(condition, true).splittable());
+        assertFalse(new ConditionBuilder(connector).maxParams(3).condition(condition, false).splittable());
+    }
+}
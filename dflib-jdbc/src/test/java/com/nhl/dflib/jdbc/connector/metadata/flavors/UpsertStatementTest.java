@@ -0,0 +1,48 @@
+package com.nhl.dflib.jdbc.connector.metadata.flavors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UpsertStatementTest {
+
+    @Test
+    public void testPostgres() {
+        PostgresFlavor flavor = new PostgresFlavor();
+        assertTrue(flavor.supportsUpsert());
+
+        assertEquals("insert into \"t\" (\"id\", \"a\", \"b\") values (?, ?, ?) on conflict (\"id\") "
+                        + "do update set \"a\" = excluded.\"a\", \"b\" = excluded.\"b\"",
+                flavor.upsertStatement("\"t\"", new String[]{"\"id\"", "\"a\"", "\"b\""}, new String[]{"\"id\""}));
+    }
+
+    @Test
+    public void testPostgres_AllKeys() {
+        assertEquals("insert into t (k1, k2) values (?, ?) on conflict (k1, k2) do nothing",
+                new PostgresFlavor().upsertStatement("t", new String[]{"k1", "k2"}, new String[]{"k1", "k2"}));
+    }
+
+    @Test
+    public void testMySQL() {
+        MySQLFlavor flavor = new MySQLFlavor();
+        assertTrue(flavor.supportsUpsert());
+
+        assertEquals("insert into `t` (`a`, `id`) values (?, ?) on duplicate key update `a` = values(`a`)",
+                flavor.upsertStatement("`t`", new String[]{"`a`", "`id`"}, new String[]{"`id`"}));
+    }
+
+    @Test
+    public void testMySQL_AllKeys() {
+        assertEquals("insert into t (k) values (?) on duplicate key update k = k",
+                new MySQLFlavor().upsertStatement("t", new String[]{"k"}, new String[]{"k"}));
+    }
+
+    @Test
+    public void testGeneric() {
+        DerbyFlavor flavor = new DerbyFlavor();
+        assertFalse(flavor.supportsUpsert());
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> flavor.upsertStatement("t", new String[]{"k"}, new String[]{"k"}));
+        assertEquals("Upsert is not supported by DerbyFlavor", e.getMessage());
+    }
+}
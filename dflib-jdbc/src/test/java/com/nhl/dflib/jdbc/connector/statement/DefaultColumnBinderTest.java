@@ -0,0 +1,75 @@
+package com.nhl.dflib.jdbc.connector.statement;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.mockito.Mockito.*;
+
+public class DefaultColumnBinderTest {
+
+    @Test
+    public void testForSeries_Int() throws SQLException {
+        PreparedStatement st = mock(PreparedStatement.class);
+        DefaultColumnBinder binder = new DefaultColumnBinder(st, 2, Types.INTEGER, ValueConverter.intConverter());
+
+        RowBinder rb = binder.forSeries(IntSeries.forInts(7, 8));
+        rb.bind(1);
+
+        verify(st).setInt(2, 8);
+        verify(st, never()).setObject(anyInt(), any(), anyInt());
+    }
+
+    @Test
+    public void testForSeries_Int_Nulls() throws SQLException {
+        IntAccumulator ints = new IntAccumulator();
+        ints.addNull();
+        ints.add(3);
+
+        PreparedStatement st = mock(PreparedStatement.class);
+        RowBinder rb = new DefaultColumnBinder(st, 1, Types.INTEGER, ValueConverter.intConverter())
+                .forSeries(ints.toSeries());
+
+        rb.bind(0);
+        rb.bind(1);
+
+        verify(st).setNull(1, Types.INTEGER);
+        verify(st).setInt(1, 3);
+    }
+
+    @Test
+    public void testForSeries_IntAsBigint() throws SQLException {
+        PreparedStatement st = mock(PreparedStatement.class);
+        new DefaultColumnBinder(st, 1, Types.BIGINT, ValueConverter.defaultConverter())
+                .forSeries(IntSeries.forInts(7))
+                .bind(0);
+
+        verify(st).setLong(1, 7L);
+    }
+
+    @Test
+    public void testForSeries_TypeMismatch() throws SQLException {
+        PreparedStatement st = mock(PreparedStatement.class);
+        new DefaultColumnBinder(st, 1, Types.DECIMAL, ValueConverter.defaultConverter())
+                .forSeries(DoubleSeries.forDoubles(1.5))
+                .bind(0);
+
+        verify(st).setObject(1, 1.5, Types.DECIMAL);
+    }
+
+    @Test
+    public void testForSeries_Object() throws SQLException {
+        PreparedStatement st = mock(PreparedStatement.class);
+        new DefaultColumnBinder(st, 1, Types.VARCHAR, ValueConverter.stringConverter())
+                .forSeries(Series.forData("a", null))
+                .bind(1);
+
+        verify(st).setNull(1, Types.VARCHAR);
+    }
+}
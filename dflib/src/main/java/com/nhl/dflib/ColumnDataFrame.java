@@ -256,13 +256,8 @@ public class ColumnDataFrame implements DataFrame {
     @Override
     public DataFrame selectRows(IntSeries rowPositions) {
 
-        int width = width();
-        Series<?>[] newColumnsData = new Series[width];
-        for (int i = 0; i < width; i++) {
-            newColumnsData[i] = dataColumns[i].select(rowPositions);
-        }
-
-        return new ColumnDataFrame(columnsIndex, newColumnsData);
+        // the columns are lazy views sharing the row positions. They are materialized on demand
+        return new ColumnDataFrame(columnsIndex, SelectionVector.select(dataColumns, rowPositions));
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.nhl.dflib;
 import com.nhl.dflib.exp.bool.AndCondition;
 import com.nhl.dflib.exp.bool.NotCondition;
 import com.nhl.dflib.exp.bool.OrCondition;
+import com.nhl.dflib.exp.compile.ExpCompiler;
 
 /**
  * A {@link Exp} that evaluates to a BooleanSeries indicating whether the condition is true for any given
@@ -38,6 +39,14 @@ public interface Condition extends Exp<Boolean> {
         return new NotCondition(this);
     }
 
+    /**
+     * @since 0.12
+     */
+    @Override
+    default Condition compile() {
+        return ExpCompiler.compile(this);
+    }
+
     @Override
     default Class<Boolean> getType() {
         return Boolean.class;
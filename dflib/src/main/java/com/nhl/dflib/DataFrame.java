@@ -4,6 +4,7 @@ import com.nhl.dflib.agg.DataFrameAggregation;
 import com.nhl.dflib.join.JoinBuilder;
 import com.nhl.dflib.pivot.PivotBuilder;
 import com.nhl.dflib.row.RowProxy;
+import com.nhl.dflib.sample.Sampler;
 import com.nhl.dflib.series.SingleValueSeries;
 import com.nhl.dflib.window.WindowBuilder;
 
@@ -932,6 +933,21 @@ public interface DataFrame extends Iterable<RowProxy> {
      */
     DataFrame sampleRows(int size, Random random);
 
+    /**
+     * Returns a DataFrame object that is a weighted random sample of rows from this object. The probability of a row to
+     * be included in the sample is proportional to its weight calculated by the "weights" expression. Rows with zero or
+     * null weights are never included.
+     *
+     * @param size    the size of the sample. Can't be bigger than the number of rows with positive weights.
+     * @param weights an expression producing non-negative row weights
+     * @param random  a custom random number generator
+     * @return a DataFrame object that is a sample of rows from this object
+     * @since 0.12
+     */
+    default DataFrame sampleRows(int size, Exp<? extends Number> weights, Random random) {
+        return selectRows(Sampler.sampleIndex(size, weights.eval(this), random));
+    }
+
     /**
      * Returns a DataFrame object that is a random sample of columns from this object, with the specified sample size.
      * If you are doing sampling in a high concurrency application, consider using {@link #sampleRows(int, Random)}, as
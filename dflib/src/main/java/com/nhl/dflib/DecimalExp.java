@@ -1,5 +1,6 @@
 package com.nhl.dflib;
 
+import com.nhl.dflib.agg.PrimitiveSeriesQuantile;
 import com.nhl.dflib.exp.num.DecimalExpScalar2;
 import com.nhl.dflib.exp.num.NumericExpFactory;
 
@@ -105,4 +106,12 @@ public interface DecimalExp extends NumExp<BigDecimal> {
     default DecimalExp median() {
         return NumericExpFactory.decimalFactory().median(this);
     }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    default DecimalExp quantile(double q) {
+        return NumericExpFactory.decimalFactory().quantile(this, PrimitiveSeriesQuantile.checkQuantiles(q)[0]);
+    }
 }
@@ -1,8 +1,10 @@
 package com.nhl.dflib;
 
-import com.nhl.dflib.accumulator.BooleanAccumulator;
 import com.nhl.dflib.accumulator.DoubleAccumulator;
 import com.nhl.dflib.series.DoubleArraySeries;
+import com.nhl.dflib.series.BooleanArraySeries;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableDoubleArraySeries;
 
 import java.util.Comparator;
 import java.util.Random;
@@ -176,13 +178,18 @@ public interface DoubleSeries extends Series<Double> {
      */
     default DoubleSeries add(DoubleSeries s) {
         int len = size();
-        DoubleAccumulator accumulator = new DoubleAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addDouble(this.getDouble(i) + s.getDouble(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) + s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableDoubleArraySeries.of(data, nulls);
     }
 
     /**
@@ -192,13 +199,18 @@ public interface DoubleSeries extends Series<Double> {
      */
     default DoubleSeries sub(DoubleSeries s) {
         int len = size();
-        DoubleAccumulator accumulator = new DoubleAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addDouble(this.getDouble(i) - s.getDouble(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) - s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableDoubleArraySeries.of(data, nulls);
     }
 
     /**
@@ -208,13 +220,18 @@ public interface DoubleSeries extends Series<Double> {
      */
     default DoubleSeries mul(DoubleSeries s) {
         int len = size();
-        DoubleAccumulator accumulator = new DoubleAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addDouble(this.getDouble(i) * s.getDouble(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) * s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableDoubleArraySeries.of(data, nulls);
     }
 
     /**
@@ -224,13 +241,18 @@ public interface DoubleSeries extends Series<Double> {
      */
     default DoubleSeries div(DoubleSeries s) {
         int len = size();
-        DoubleAccumulator accumulator = new DoubleAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addDouble(this.getDouble(i) / s.getDouble(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) / s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableDoubleArraySeries.of(data, nulls);
     }
 
     /**
@@ -238,13 +260,18 @@ public interface DoubleSeries extends Series<Double> {
      */
     default DoubleSeries mod(DoubleSeries s) {
         int len = size();
-        DoubleAccumulator accumulator = new DoubleAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addDouble(this.getDouble(i) % s.getDouble(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) % s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableDoubleArraySeries.of(data, nulls);
     }
 
     /**
@@ -252,13 +279,18 @@ public interface DoubleSeries extends Series<Double> {
      */
     default BooleanSeries lt(DoubleSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getDouble(i) < s.getDouble(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) < s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -266,13 +298,18 @@ public interface DoubleSeries extends Series<Double> {
      */
     default BooleanSeries le(DoubleSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getDouble(i) <= s.getDouble(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) <= s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -280,13 +317,18 @@ public interface DoubleSeries extends Series<Double> {
      */
     default BooleanSeries gt(DoubleSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getDouble(i) > s.getDouble(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) > s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -294,12 +336,17 @@ public interface DoubleSeries extends Series<Double> {
      */
     default BooleanSeries ge(DoubleSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getDouble(i) >= s.getDouble(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getDouble(i) >= s.getDouble(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 }
@@ -7,6 +7,7 @@ import com.nhl.dflib.exp.agg.StringAggregators;
 import com.nhl.dflib.exp.bool.AndCondition;
 import com.nhl.dflib.exp.bool.BoolColumn;
 import com.nhl.dflib.exp.bool.OrCondition;
+import com.nhl.dflib.exp.compile.ExpCompiler;
 import com.nhl.dflib.exp.datetime.DateColumn;
 import com.nhl.dflib.exp.filter.PreFilterFirstMatchExp;
 import com.nhl.dflib.exp.filter.PreFilteredCountExp;
@@ -60,9 +61,8 @@ public interface Exp<T> {
      */
     static <T, V extends T> Exp<T> $val(V value, Class<T> type) {
 
-        // note that wrapping the value in primitive-optimized series has only very small effects on performance
-        // (slightly improves comparisons with primitive series, and slows down comparisons with object-wrapped numbers).
-        // So using the same "exp" for all values.
+        // using the same "exp" for all values. Note that ConstExp evaluates numbers to primitive Series, so that
+        // the arithmetics with primitive columns can avoid boxing
 
         return new ConstExp<>(value, type);
     }
@@ -320,6 +320,19 @@ public interface Exp<T> {
         return new ExpSorter(this, false);
     }
 
+    /**
+     * Returns an expression that produces the same result as this one, but evaluates primitive arithmetic,
+     * comparisons, boolean operations and "if" expressions in a single pass over the rows, processing them in small
+     * chunks instead of creating a full-size Series for each intermediate result. If this expression has no such
+     * operations, it is returned unchanged. If the data is not primitive or has nulls, the compiled expression
+     * reverts to the regular evaluation.
+     *
+     * @since 0.12
+     */
+    default Exp<T> compile() {
+        return ExpCompiler.compile(this);
+    }
+
     /**
      * Creates a copy of this expression with assigned name.
      */
@@ -412,7 +425,7 @@ public interface Exp<T> {
     }
 
     default Exp<T> first() {
-        return agg(Series::first);
+        return new ExpAggregator<>(this, Series::first, ExpAggregator::firstGroups);
     }
 
     default Exp<T> first(Condition filter) {
@@ -2,6 +2,7 @@ package com.nhl.dflib;
 
 import com.nhl.dflib.agg.DataFrameAggregation;
 import com.nhl.dflib.concat.SeriesConcat;
+import com.nhl.dflib.sample.Sampler;
 import com.nhl.dflib.series.EmptySeries;
 import com.nhl.dflib.sort.GroupBySorter;
 import com.nhl.dflib.sort.IntComparator;
@@ -12,6 +13,7 @@ import com.nhl.dflib.window.RowNumberer;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class GroupBy {
@@ -200,6 +202,43 @@ public class GroupBy {
         return new GroupBy(ungrouped, trimmed, sorter);
     }
 
+    /**
+     * Returns a GroupBy with a random sample of rows from each group (i.e. a stratified sample). Groups that have
+     * fewer rows than the sample size are included in full. If you are doing sampling in a high concurrency
+     * application, consider using {@link #sample(int, Random)}, as this method is using a shared {@link Random}
+     * instance with synchronization.
+     *
+     * @param size max number of rows to sample from each group
+     * @since 0.12
+     */
+    public GroupBy sample(int size) {
+        return sample(size, Sampler.getDefaultRandom());
+    }
+
+    /**
+     * Returns a GroupBy with a random sample of rows from each group (i.e. a stratified sample). Groups that have
+     * fewer rows than the sample size are included in full.
+     *
+     * @param size   max number of rows to sample from each group
+     * @param random a custom random number generator
+     * @since 0.12
+     */
+    public GroupBy sample(int size, Random random) {
+
+        if (size < 0) {
+            throw new IllegalArgumentException("Sample size must be non-negative: " + size);
+        }
+
+        Map<Object, IntSeries> sampled = new LinkedHashMap<>((int) (groupsIndex.size() / 0.75));
+
+        for (Map.Entry<Object, IntSeries> e : groupsIndex.entrySet()) {
+            IntSeries index = e.getValue();
+            sampled.put(e.getKey(), index.size() > size ? index.sample(size, random) : index);
+        }
+
+        return new GroupBy(ungrouped, sampled, sorter);
+    }
+
     public GroupBy tail(int len) {
 
         if (len < 0) {
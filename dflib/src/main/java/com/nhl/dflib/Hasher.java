@@ -1,5 +1,6 @@
 package com.nhl.dflib;
 
+import com.nhl.dflib.map.ColumnHasher;
 import com.nhl.dflib.map.CombinationHash;
 import com.nhl.dflib.row.RowProxy;
 
@@ -10,11 +11,11 @@ import com.nhl.dflib.row.RowProxy;
 public interface Hasher {
 
     static Hasher forColumn(String column) {
-        return r -> r.get(column);
+        return ColumnHasher.of(column);
     }
 
     static Hasher forColumn(int column) {
-        return r -> r.get(column);
+        return ColumnHasher.of(column);
     }
 
     default Hasher and(String column) {
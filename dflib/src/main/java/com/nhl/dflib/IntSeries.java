@@ -1,7 +1,9 @@
 package com.nhl.dflib;
 
-import com.nhl.dflib.accumulator.BooleanAccumulator;
 import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.BooleanArraySeries;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableIntArraySeries;
 import com.nhl.dflib.accumulator.IntAccumulator;
 import com.nhl.dflib.sort.IntComparator;
 
@@ -185,13 +187,18 @@ public interface IntSeries extends Series<Integer> {
      */
     default IntSeries add(IntSeries s) {
         int len = size();
-        IntAccumulator accumulator = new IntAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addInt(this.getInt(i) + s.getInt(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) + s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableIntArraySeries.of(data, nulls);
     }
 
     /**
@@ -201,13 +208,18 @@ public interface IntSeries extends Series<Integer> {
      */
     default IntSeries sub(IntSeries s) {
         int len = size();
-        IntAccumulator accumulator = new IntAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addInt(this.getInt(i) - s.getInt(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) - s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableIntArraySeries.of(data, nulls);
     }
 
     /**
@@ -217,13 +229,18 @@ public interface IntSeries extends Series<Integer> {
      */
     default IntSeries mul(IntSeries s) {
         int len = size();
-        IntAccumulator accumulator = new IntAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addInt(this.getInt(i) * s.getInt(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) * s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableIntArraySeries.of(data, nulls);
     }
 
     /**
@@ -233,13 +250,18 @@ public interface IntSeries extends Series<Integer> {
      */
     default IntSeries div(IntSeries s) {
         int len = size();
-        IntAccumulator accumulator = new IntAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addInt(this.getInt(i) / s.getInt(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) / s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableIntArraySeries.of(data, nulls);
     }
 
     /**
@@ -249,13 +271,18 @@ public interface IntSeries extends Series<Integer> {
      */
     default IntSeries mod(IntSeries s) {
         int len = size();
-        IntAccumulator accumulator = new IntAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addInt(this.getInt(i) % s.getInt(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) % s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableIntArraySeries.of(data, nulls);
     }
 
     /**
@@ -263,13 +290,18 @@ public interface IntSeries extends Series<Integer> {
      */
     default BooleanSeries lt(IntSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getInt(i) < s.getInt(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) < s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -277,13 +309,18 @@ public interface IntSeries extends Series<Integer> {
      */
     default BooleanSeries le(IntSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getInt(i) <= s.getInt(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) <= s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -291,13 +328,18 @@ public interface IntSeries extends Series<Integer> {
      */
     default BooleanSeries gt(IntSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getInt(i) > s.getInt(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) > s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -305,12 +347,17 @@ public interface IntSeries extends Series<Integer> {
      */
     default BooleanSeries ge(IntSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getInt(i) >= s.getInt(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getInt(i) >= s.getInt(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 }
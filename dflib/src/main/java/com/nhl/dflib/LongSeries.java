@@ -1,8 +1,10 @@
 package com.nhl.dflib;
 
-import com.nhl.dflib.accumulator.BooleanAccumulator;
 import com.nhl.dflib.accumulator.LongAccumulator;
 import com.nhl.dflib.series.LongArraySeries;
+import com.nhl.dflib.series.BooleanArraySeries;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableLongArraySeries;
 
 import java.util.Comparator;
 import java.util.Random;
@@ -176,13 +178,18 @@ public interface LongSeries extends Series<Long> {
      */
     default LongSeries add(LongSeries s) {
         int len = size();
-        LongAccumulator accumulator = new LongAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addLong(this.getLong(i) + s.getLong(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) + s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableLongArraySeries.of(data, nulls);
     }
 
     /**
@@ -192,13 +199,18 @@ public interface LongSeries extends Series<Long> {
      */
     default LongSeries sub(LongSeries s) {
         int len = size();
-        LongAccumulator accumulator = new LongAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addLong(this.getLong(i) - s.getLong(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) - s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableLongArraySeries.of(data, nulls);
     }
 
     /**
@@ -208,13 +220,18 @@ public interface LongSeries extends Series<Long> {
      */
     default LongSeries mul(LongSeries s) {
         int len = size();
-        LongAccumulator accumulator = new LongAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addLong(this.getLong(i) * s.getLong(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) * s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableLongArraySeries.of(data, nulls);
     }
 
     /**
@@ -224,13 +241,18 @@ public interface LongSeries extends Series<Long> {
      */
     default LongSeries div(LongSeries s) {
         int len = size();
-        LongAccumulator accumulator = new LongAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addLong(this.getLong(i) / s.getLong(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) / s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableLongArraySeries.of(data, nulls);
     }
 
     /**
@@ -240,13 +262,18 @@ public interface LongSeries extends Series<Long> {
      */
     default LongSeries mod(LongSeries s) {
         int len = size();
-        LongAccumulator accumulator = new LongAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addLong(this.getLong(i) % s.getLong(i));
+
+            // null positions are left as zeros
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) % s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return NullableLongArraySeries.of(data, nulls);
     }
 
 
@@ -255,13 +282,18 @@ public interface LongSeries extends Series<Long> {
      */
     default BooleanSeries lt(LongSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getLong(i) < s.getLong(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) < s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -269,13 +301,18 @@ public interface LongSeries extends Series<Long> {
      */
     default BooleanSeries le(LongSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getLong(i) <= s.getLong(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) <= s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -283,13 +320,18 @@ public interface LongSeries extends Series<Long> {
      */
     default BooleanSeries gt(LongSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getLong(i) > s.getLong(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) > s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 
     /**
@@ -297,12 +339,17 @@ public interface LongSeries extends Series<Long> {
      */
     default BooleanSeries ge(LongSeries s) {
         int len = size();
-        BooleanAccumulator accumulator = new BooleanAccumulator(len);
+        long[] nulls = NullBitmap.or(NullBitmap.of(this), NullBitmap.of(s));
+        boolean[] data = new boolean[len];
 
         for (int i = 0; i < len; i++) {
-            accumulator.addBoolean(this.getLong(i) >= s.getLong(i));
+
+            // nulls never match a comparison, same as with conditions
+            if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                data[i] = this.getLong(i) >= s.getLong(i);
+            }
         }
 
-        return accumulator.toSeries();
+        return new BooleanArraySeries(data);
     }
 }
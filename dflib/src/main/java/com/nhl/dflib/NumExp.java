@@ -1,8 +1,11 @@
 package com.nhl.dflib;
 
+import com.nhl.dflib.agg.PrimitiveSeriesQuantile;
 import com.nhl.dflib.exp.filter.PreFilteredNumExp;
 import com.nhl.dflib.exp.num.NumericExpFactory;
 
+import java.util.List;
+
 /**
  * An expression applied to any Java primitive or object numeric columns. Provides various arithmetic, comparison and
  * statistical operations. Allows to combine arguments of different numeric types in a single expression.
@@ -189,4 +192,33 @@ public interface NumExp<N extends Number> extends Exp<N> {
     default NumExp<?> median(Condition filter) {
         return new PreFilteredNumExp<>(filter, median());
     }
+
+    /**
+     * Aggregating operation that calculates a quantile of the expression values, interpolating between the two closest
+     * values if needed (same as the default method in Pandas).
+     *
+     * @param q a quantile between 0 and 1. E.g. "0.5" is the same as {@link #median()}
+     * @since 0.12
+     */
+    default NumExp<?> quantile(double q) {
+        return NumericExpFactory.factory(this).quantile(this, PrimitiveSeriesQuantile.checkQuantiles(q)[0]);
+    }
+
+    /**
+     * @since 0.12
+     */
+    default NumExp<?> quantile(Condition filter, double q) {
+        return new PreFilteredNumExp<>(filter, quantile(q));
+    }
+
+    /**
+     * Aggregating operation that calculates multiple quantiles of the expression values in a single pass, returning
+     * them as a List in the order of the arguments.
+     *
+     * @param qs quantiles between 0 and 1
+     * @since 0.12
+     */
+    default Exp<List<Number>> quantiles(double... qs) {
+        return NumericExpFactory.factory(this).quantiles(this, PrimitiveSeriesQuantile.checkQuantiles(qs));
+    }
 }
@@ -1,5 +1,6 @@
 package com.nhl.dflib;
 
+import com.nhl.dflib.accumulator.CategoricalAccumulator;
 import com.nhl.dflib.agg.SeriesAggregation;
 import com.nhl.dflib.series.*;
 import com.nhl.dflib.sort.SeriesSorter;
@@ -70,6 +71,37 @@ public interface Series<T> extends Iterable<T> {
      */
     <V> Series<V> map(ValueMapper<T, V> mapper);
 
+    /**
+     * Applies a mapper to each Series value, producing a dictionary-encoded {@link CategoricalSeries}. If this Series is
+     * already categorical, the mapper is invoked only once per distinct value. Good for the mappings that produce a
+     * small number of distinct values.
+     *
+     * @param mapper a function that maps each Series value to some other value
+     * @param <V>    value type produced by the mapper
+     * @return a categorical Series produced by applying a mapper to this Series
+     * @since 0.12
+     */
+    default <V> Series<V> mapCategorical(ValueMapper<T, V> mapper) {
+
+        int len = size();
+        CategoricalAccumulator<V> accum = new CategoricalAccumulator<>(len);
+        for (int i = 0; i < len; i++) {
+            accum.add(mapper.map(get(i)));
+        }
+
+        return accum.toSeries();
+    }
+
+    /**
+     * Returns a dictionary-encoded copy of this Series that stores each distinct value only once, reducing memory use
+     * and speeding up grouping, joins and comparisons on Series with a small number of distinct values.
+     *
+     * @since 0.12
+     */
+    default CategoricalSeries<T> toCategorical() {
+        return CategoricalSeries.of(this);
+    }
+
     /**
      * A map function over the Series that generates a DataFrame of the same height as the length of the Series,
      * which each row produced by applying the map function to each Series value.
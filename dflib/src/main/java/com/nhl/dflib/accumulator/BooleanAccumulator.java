@@ -1,26 +1,32 @@
 package com.nhl.dflib.accumulator;
 
 import com.nhl.dflib.BooleanSeries;
-import com.nhl.dflib.series.BooleanArraySeries;
-
-import java.util.Arrays;
+import com.nhl.dflib.series.BooleanBitsetSeries;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableBooleanArraySeries;
 
 /**
+ * Accumulates boolean values in a packed bitset, producing a {@link BooleanBitsetSeries}.
+ *
  * @since 0.6
  */
 public class BooleanAccumulator implements Accumulator<Boolean> {
 
-    // TODO: bitmap?
-    private boolean[] data;
+    private long[] data;
+    private int capacity;
     private int size;
 
+    // a bitmap of null positions, created lazily when the first null is added
+    private long[] nulls;
+
     public BooleanAccumulator() {
         this(10);
     }
 
     public BooleanAccumulator(int capacity) {
         this.size = 0;
-        this.data = new boolean[capacity];
+        this.capacity = capacity;
+        this.data = new long[BooleanBitsetSeries.wordCount(capacity)];
     }
 
 
@@ -30,11 +36,18 @@ public class BooleanAccumulator implements Accumulator<Boolean> {
             return;
         }
 
-        if (data.length <= to) {
+        if (capacity <= to) {
             expand(to);
         }
 
-        Arrays.fill(data, from, to, value);
+        for (int i = from; i < to; i++) {
+            if (value) {
+                data[i >>> 6] |= 1L << i;
+            } else {
+                data[i >>> 6] &= ~(1L << i);
+            }
+        }
+
         size += to - from;
     }
 
@@ -52,11 +65,36 @@ public class BooleanAccumulator implements Accumulator<Boolean> {
     @Override
     public void addBoolean(boolean value) {
 
-        if (size == data.length) {
-            expand(data.length * 2);
+        if (size == capacity) {
+            expand(capacity * 2);
+        }
+
+        // the bits past the "size" are never set, so only need to set the "true" values
+        if (value) {
+            data[size >>> 6] |= 1L << size;
+        }
+
+        size++;
+    }
+
+    /**
+     * Appends a null value. Unlike {@link #add(Boolean)} with a null argument that stores a default primitive value,
+     * the nulls appended by this method are preserved, and the resulting Series will be a
+     * {@link NullableBooleanArraySeries}.
+     *
+     * @since 0.12
+     */
+    public void addNull() {
+
+        if (size == capacity) {
+            expand(capacity * 2);
+        }
+
+        if (nulls == null) {
+            nulls = NullBitmap.create(capacity);
         }
 
-        data[size++] = value;
+        NullBitmap.set(nulls, size++);
     }
 
     @Override
@@ -71,38 +109,56 @@ public class BooleanAccumulator implements Accumulator<Boolean> {
             throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
         }
 
-        data[pos] = value;
+        if (nulls != null) {
+            NullBitmap.clear(nulls, pos);
+        }
+
+        if (value) {
+            data[pos >>> 6] |= 1L << pos;
+        } else {
+            data[pos >>> 6] &= ~(1L << pos);
+        }
     }
 
     @Override
     public BooleanSeries toSeries() {
-        boolean[] data = compactData();
+
+        long[] data = this.data;
 
         // making sure no one can change the series via the Mutable List anymore
         this.data = null;
 
-        return new BooleanArraySeries(data, 0, size);
+        return nulls != null
+                ? new NullableBooleanArraySeries(toArray(data, size), NullBitmap.resize(nulls, size))
+                : new BooleanBitsetSeries(data, size);
     }
 
     public int size() {
         return size;
     }
 
-    private boolean[] compactData() {
-        if (data.length == size) {
-            return data;
+    private static boolean[] toArray(long[] bits, int size) {
+        boolean[] array = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (bits[i >>> 6] & (1L << i)) != 0;
         }
 
-        boolean[] newData = new boolean[size];
-        System.arraycopy(data, 0, newData, 0, size);
-        return newData;
+        return array;
     }
 
     private void expand(int newCapacity) {
 
-        boolean[] newData = new boolean[newCapacity];
-        System.arraycopy(data, 0, newData, 0, size);
+        // "capacity" may be zero
+        newCapacity = Math.max(newCapacity, 10);
+
+        long[] newData = new long[BooleanBitsetSeries.wordCount(newCapacity)];
+        System.arraycopy(data, 0, newData, 0, data.length);
 
         this.data = newData;
+        this.capacity = newCapacity;
+
+        if (nulls != null) {
+            this.nulls = NullBitmap.resize(nulls, newCapacity);
+        }
     }
 }
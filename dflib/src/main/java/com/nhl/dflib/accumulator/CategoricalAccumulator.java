@@ -0,0 +1,89 @@
+package com.nhl.dflib.accumulator;
+
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.CategoricalSeries;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An accumulator that dictionary-encodes the values, storing each distinct value only once and each element as an
+ * int code of its value. Produces a {@link CategoricalSeries}. Intended for the columns with a small number of distinct
+ * values.
+ *
+ * @since 0.12
+ */
+public class CategoricalAccumulator<T> implements Accumulator<T> {
+
+    private final Map<T, Integer> dictionary;
+    private T[] categories;
+    private int categoryCount;
+
+    private int[] codes;
+    private int size;
+
+    public CategoricalAccumulator() {
+        this(10);
+    }
+
+    public CategoricalAccumulator(int capacity) {
+        this.dictionary = new HashMap<>();
+        this.categories = (T[]) new Object[10];
+        this.codes = new int[capacity];
+    }
+
+    @Override
+    public void add(T v) {
+
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(10, codes.length * 2));
+        }
+
+        codes[size++] = code(v);
+    }
+
+    @Override
+    public void set(int pos, T v) {
+        if (pos >= size) {
+            throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
+        }
+
+        codes[pos] = code(v);
+    }
+
+    @Override
+    public Series<T> toSeries() {
+
+        int[] codes = this.codes.length == size ? this.codes : Arrays.copyOf(this.codes, size);
+        T[] categories = this.categories.length == categoryCount
+                ? this.categories
+                : Arrays.copyOf(this.categories, categoryCount);
+
+        // making sure no one can change the series via the accumulator anymore
+        this.codes = null;
+        this.categories = null;
+
+        return new CategoricalSeries<>(codes, categories);
+    }
+
+    private int code(T v) {
+
+        if (v == null) {
+            return -1;
+        }
+
+        Integer code = dictionary.get(v);
+        if (code != null) {
+            return code;
+        }
+
+        if (categoryCount == categories.length) {
+            categories = Arrays.copyOf(categories, categoryCount * 2);
+        }
+
+        categories[categoryCount] = v;
+        dictionary.put(v, categoryCount);
+        return categoryCount++;
+    }
+}
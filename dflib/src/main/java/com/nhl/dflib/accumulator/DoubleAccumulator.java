@@ -2,6 +2,8 @@ package com.nhl.dflib.accumulator;
 
 import com.nhl.dflib.DoubleSeries;
 import com.nhl.dflib.series.DoubleArraySeries;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableDoubleArraySeries;
 
 import java.util.Arrays;
 
@@ -16,6 +18,9 @@ public class DoubleAccumulator implements Accumulator<Double> {
     private double[] data;
     private int size;
 
+    // a bitmap of null positions, created lazily when the first null is added
+    private long[] nulls;
+
     public DoubleAccumulator() {
         this(10);
     }
@@ -60,6 +65,26 @@ public class DoubleAccumulator implements Accumulator<Double> {
         data[size++] = value;
     }
 
+    /**
+     * Appends a null value. Unlike {@link #add(Double)} with a null argument that stores a default primitive value,
+     * the nulls appended by this method are preserved, and the resulting Series will be a
+     * {@link NullableDoubleArraySeries}.
+     *
+     * @since 0.12
+     */
+    public void addNull() {
+
+        if (size == data.length) {
+            expand(data.length * 2);
+        }
+
+        if (nulls == null) {
+            nulls = NullBitmap.create(data.length);
+        }
+
+        NullBitmap.set(nulls, size++);
+    }
+
     @Override
     public void set(int pos, Double v) {
         setDouble(pos, v != null ? v : 0.);
@@ -72,6 +97,10 @@ public class DoubleAccumulator implements Accumulator<Double> {
             throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
         }
 
+        if (nulls != null) {
+            NullBitmap.clear(nulls, pos);
+        }
+
         data[pos] = value;
     }
 
@@ -82,7 +111,9 @@ public class DoubleAccumulator implements Accumulator<Double> {
         // making sure no one can change the series via the Mutable List anymore
         this.data = null;
 
-        return new DoubleArraySeries(data, 0, size);
+        return nulls != null
+                ? new NullableDoubleArraySeries(data, NullBitmap.resize(nulls, size))
+                : new DoubleArraySeries(data, 0, size);
     }
 
     public int size() {
@@ -105,5 +136,9 @@ public class DoubleAccumulator implements Accumulator<Double> {
         System.arraycopy(data, 0, newData, 0, size);
 
         this.data = newData;
+
+        if (nulls != null) {
+            this.nulls = NullBitmap.resize(nulls, newCapacity);
+        }
     }
 }
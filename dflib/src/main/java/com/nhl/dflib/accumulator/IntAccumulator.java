@@ -2,6 +2,8 @@ package com.nhl.dflib.accumulator;
 
 import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableIntArraySeries;
 
 import java.util.Arrays;
 
@@ -16,6 +18,9 @@ public class IntAccumulator implements Accumulator<Integer> {
     private int[] data;
     private int size;
 
+    // a bitmap of null positions, created lazily when the first null is added
+    private long[] nulls;
+
     public IntAccumulator() {
         this(10);
     }
@@ -59,6 +64,26 @@ public class IntAccumulator implements Accumulator<Integer> {
         data[size++] = value;
     }
 
+    /**
+     * Appends a null value. Unlike {@link #add(Integer)} with a null argument that stores a default primitive value,
+     * the nulls appended by this method are preserved, and the resulting Series will be a
+     * {@link NullableIntArraySeries}.
+     *
+     * @since 0.12
+     */
+    public void addNull() {
+
+        if (size == data.length) {
+            expand(data.length * 2);
+        }
+
+        if (nulls == null) {
+            nulls = NullBitmap.create(data.length);
+        }
+
+        NullBitmap.set(nulls, size++);
+    }
+
     @Override
     public void set(int pos, Integer v) {
         setInt(pos, v != null ? v : 0);
@@ -71,6 +96,10 @@ public class IntAccumulator implements Accumulator<Integer> {
             throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
         }
 
+        if (nulls != null) {
+            NullBitmap.clear(nulls, pos);
+        }
+
         data[pos] = value;
     }
 
@@ -81,7 +110,9 @@ public class IntAccumulator implements Accumulator<Integer> {
         // making sure no one can change the series via the Mutable List anymore
         this.data = null;
 
-        return new IntArraySeries(data, 0, size);
+        return nulls != null
+                ? new NullableIntArraySeries(data, NullBitmap.resize(nulls, size))
+                : new IntArraySeries(data, 0, size);
     }
 
     public int size() {
@@ -103,5 +134,9 @@ public class IntAccumulator implements Accumulator<Integer> {
         System.arraycopy(data, 0, newData, 0, size);
 
         this.data = newData;
+
+        if (nulls != null) {
+            this.nulls = NullBitmap.resize(nulls, newCapacity);
+        }
     }
 }
@@ -2,6 +2,8 @@ package com.nhl.dflib.accumulator;
 
 import com.nhl.dflib.LongSeries;
 import com.nhl.dflib.series.LongArraySeries;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableLongArraySeries;
 
 import java.util.Arrays;
 
@@ -16,6 +18,9 @@ public class LongAccumulator implements Accumulator<Long> {
     private long[] data;
     private int size;
 
+    // a bitmap of null positions, created lazily when the first null is added
+    private long[] nulls;
+
     public LongAccumulator() {
         this(10);
     }
@@ -53,6 +58,26 @@ public class LongAccumulator implements Accumulator<Long> {
         data[size++] = value;
     }
 
+    /**
+     * Appends a null value. Unlike {@link #add(Long)} with a null argument that stores a default primitive value,
+     * the nulls appended by this method are preserved, and the resulting Series will be a
+     * {@link NullableLongArraySeries}.
+     *
+     * @since 0.12
+     */
+    public void addNull() {
+
+        if (size == data.length) {
+            expand(data.length * 2);
+        }
+
+        if (nulls == null) {
+            nulls = NullBitmap.create(data.length);
+        }
+
+        NullBitmap.set(nulls, size++);
+    }
+
     @Override
     public void set(int pos, Long v) {
         setLong(pos, v != null ? v : 0L);
@@ -65,6 +90,10 @@ public class LongAccumulator implements Accumulator<Long> {
             throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
         }
 
+        if (nulls != null) {
+            NullBitmap.clear(nulls, pos);
+        }
+
         data[pos] = value;
     }
 
@@ -75,7 +104,9 @@ public class LongAccumulator implements Accumulator<Long> {
         // making sure no one can change the series via the Mutable List anymore
         this.data = null;
 
-        return new LongArraySeries(data, 0, size);
+        return nulls != null
+                ? new NullableLongArraySeries(data, NullBitmap.resize(nulls, size))
+                : new LongArraySeries(data, 0, size);
     }
 
     public int size() {
@@ -97,5 +128,9 @@ public class LongAccumulator implements Accumulator<Long> {
         System.arraycopy(data, 0, newData, 0, size);
 
         this.data = newData;
+
+        if (nulls != null) {
+            this.nulls = NullBitmap.resize(nulls, newCapacity);
+        }
     }
 }
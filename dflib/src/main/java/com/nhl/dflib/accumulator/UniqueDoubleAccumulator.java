@@ -9,6 +9,7 @@ import java.util.Set;
 public class UniqueDoubleAccumulator extends DoubleAccumulator {
 
     private Set<Double> seen;
+    private boolean seenNull;
 
     public UniqueDoubleAccumulator() {
         this(10);
@@ -27,6 +28,15 @@ public class UniqueDoubleAccumulator extends DoubleAccumulator {
         }
     }
 
+    @Override
+    public void addNull() {
+
+        if (!seenNull) {
+            seenNull = true;
+            super.addNull();
+        }
+    }
+
     @Override
     public void setDouble(int pos, double value) {
         throw new UnsupportedOperationException("'set' operation is undefined for unique accumulator");
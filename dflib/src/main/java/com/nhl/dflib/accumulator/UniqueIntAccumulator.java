@@ -9,6 +9,7 @@ import java.util.Set;
 public class UniqueIntAccumulator extends IntAccumulator {
 
     private Set<Integer> seen;
+    private boolean seenNull;
 
     public UniqueIntAccumulator() {
         this(10);
@@ -27,6 +28,15 @@ public class UniqueIntAccumulator extends IntAccumulator {
         }
     }
 
+    @Override
+    public void addNull() {
+
+        if (!seenNull) {
+            seenNull = true;
+            super.addNull();
+        }
+    }
+
     @Override
     public void setInt(int pos, int value) {
         throw new UnsupportedOperationException("'set' operation is undefined for unique accumulator");
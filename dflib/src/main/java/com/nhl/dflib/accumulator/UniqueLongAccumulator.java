@@ -9,6 +9,7 @@ import java.util.Set;
 public class UniqueLongAccumulator extends LongAccumulator {
 
     private Set<Long> seen;
+    private boolean seenNull;
 
     public UniqueLongAccumulator() {
         this(10);
@@ -27,6 +28,15 @@ public class UniqueLongAccumulator extends LongAccumulator {
         }
     }
 
+    @Override
+    public void addNull() {
+
+        if (!seenNull) {
+            seenNull = true;
+            super.addNull();
+        }
+    }
+
     @Override
     public void setLong(int pos, long value) {
         throw new UnsupportedOperationException("'set' operation is undefined for unique accumulator");
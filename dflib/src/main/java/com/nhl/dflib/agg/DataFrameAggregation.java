@@ -3,8 +3,11 @@ package com.nhl.dflib.agg;
 import com.nhl.dflib.*;
 import com.nhl.dflib.accumulator.Accumulator;
 import com.nhl.dflib.accumulator.ObjectAccumulator;
+import com.nhl.dflib.exp.agg.GroupAggregatingExp;
 import com.nhl.dflib.series.SingleValueSeries;
 
+import java.util.Arrays;
+
 /**
  * Defines aggregation operations over DataFrame's and GroupBy's
  *
@@ -34,27 +37,79 @@ public class DataFrameAggregation {
         Series[] aggColumns = new Series[aggW];
         String[] aggLabels = new String[aggW];
 
+        // lazily resolved row-to-group mapping for the single-pass aggregation
+        int[] rowGroups = null;
+        boolean rowGroupsResolved = false;
+
         for (int i = 0; i < aggW; i++) {
 
             Exp<?> agg = aggregators[i];
 
-            // TODO: primitives support for performance
-            Accumulator columnBuilder = new ObjectAccumulator(aggH);
+            if (agg instanceof GroupAggregatingExp) {
 
-            for (Object key : groupBy.getGroups()) {
-                DataFrame group = groupBy.getGroup(key);
+                if (!rowGroupsResolved) {
+                    rowGroups = rowGroups(groupBy);
+                    rowGroupsResolved = true;
+                }
 
-                // expecting 1-element Series. Unpack them and add to the accum
-                columnBuilder.add(agg.eval(group).get(0));
+                if (rowGroups != null) {
+                    aggColumns[i] = ((GroupAggregatingExp<?>) agg).aggGroups(groupBy.getUngrouped(), rowGroups, aggH);
+                }
+            }
+
+            // fall back to evaluating the aggregator on each group separately
+            if (aggColumns[i] == null) {
+                Accumulator columnBuilder = new ObjectAccumulator(aggH);
+
+                for (Object key : groupBy.getGroups()) {
+                    DataFrame group = groupBy.getGroup(key);
+
+                    // expecting 1-element Series. Unpack them and add to the accum
+                    columnBuilder.add(agg.eval(group).get(0));
+                }
+
+                aggColumns[i] = columnBuilder.toSeries();
             }
 
-            aggColumns[i] = columnBuilder.toSeries();
             aggLabels[i] = agg.getColumnName(groupBy.getUngrouped());
         }
 
         return DataFrame.newFrame(Index.forLabelsDeduplicate(aggLabels)).columns(aggColumns);
     }
 
+    /**
+     * Returns an array with a group id for each row of the ungrouped DataFrame, or "-1" for the rows outside of any
+     * group. Returns null if the groups can't be represented this way, i.e. if some rows belong to more than one group,
+     * or the rows within a group are not in the original DataFrame order (e.g. after the group sorting).
+     */
+    private static int[] rowGroups(GroupBy groupBy) {
+
+        int[] rowGroups = new int[groupBy.getUngrouped().height()];
+        Arrays.fill(rowGroups, -1);
+
+        int g = 0;
+        for (Object key : groupBy.getGroups()) {
+
+            IntSeries index = groupBy.getGroupIndex(key);
+            int len = index.size();
+            int lastRow = -1;
+
+            for (int j = 0; j < len; j++) {
+                int row = index.getInt(j);
+                if (row <= lastRow || rowGroups[row] >= 0) {
+                    return null;
+                }
+
+                rowGroups[row] = g;
+                lastRow = row;
+            }
+
+            g++;
+        }
+
+        return rowGroups;
+    }
+
     public static DataFrame aggWindow(DataFrame df, Exp<?>... aggregators) {
 
         DataFrame oneRowDf = df.agg(aggregators);
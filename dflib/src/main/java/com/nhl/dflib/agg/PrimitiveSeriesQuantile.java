@@ -0,0 +1,220 @@
+package com.nhl.dflib.agg;
+
+import com.nhl.dflib.sort.IntroSelect;
+
+import java.util.Arrays;
+
+/**
+ * Calculates quantiles of primitive arrays using linear interpolation between the two closest ranks (same as the
+ * default method in Pandas and NumPy). Instead of sorting the data, finds the ranks needed for all the requested
+ * quantiles with a single selection pass.
+ *
+ * @since 0.12
+ */
+public class PrimitiveSeriesQuantile {
+
+    /**
+     * Checks that each quantile is between 0 and 1 (inclusive), throwing an exception otherwise.
+     */
+    public static double[] checkQuantiles(double... qs) {
+
+        if (qs.length == 0) {
+            throw new IllegalArgumentException("No quantiles specified");
+        }
+
+        for (double q : qs) {
+            if (!(q >= 0. && q <= 1.)) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+            }
+        }
+
+        return qs;
+    }
+
+    /**
+     * Returns sorted absolute positions within a range of "len" values, whose values are needed to calculate the
+     * requested quantiles.
+     */
+    public static int[] ranks(int start, int len, double[] qs) {
+
+        int[] ranks = new int[qs.length * 2];
+        int count = 0;
+
+        for (double q : qs) {
+            double h = q * (len - 1);
+            int lo = (int) h;
+            ranks[count++] = start + lo;
+
+            if (h > lo) {
+                ranks[count++] = start + lo + 1;
+            }
+        }
+
+        Arrays.sort(ranks, 0, count);
+
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || ranks[unique - 1] != ranks[i]) {
+                ranks[unique++] = ranks[i];
+            }
+        }
+
+        return unique < ranks.length ? Arrays.copyOf(ranks, unique) : ranks;
+    }
+
+    public static double quantileOfArray(int[] ints, int start, int len, double q) {
+        double[] result = new double[1];
+        quantilesInPlace(copy(ints, start, len), 0, len, new double[]{q}, result, 0);
+        return result[0];
+    }
+
+    public static double[] quantilesOfArray(int[] ints, int start, int len, double[] qs) {
+        double[] result = new double[qs.length];
+        quantilesInPlace(copy(ints, start, len), 0, len, qs, result, 0);
+        return result;
+    }
+
+    /**
+     * Calculates quantiles of a range of the array, reordering the range in the process. Intended for callers that
+     * calculate quantiles over their own scratch array.
+     */
+    public static void quantilesInPlace(
+            int[] ints,
+            int start,
+            int len,
+            double[] qs,
+            double[] result,
+            int resultOffset) {
+
+        if (len == 0) {
+            Arrays.fill(result, resultOffset, resultOffset + qs.length, 0.);
+            return;
+        }
+
+        IntroSelect.select(ints, start, start + len, ranks(start, len, qs));
+
+        for (int i = 0; i < qs.length; i++) {
+            double h = qs[i] * (len - 1);
+            int lo = (int) h;
+            double fraction = h - lo;
+
+            double d1 = ints[start + lo];
+            if (fraction > 0.) {
+                double d2 = ints[start + lo + 1];
+                result[resultOffset + i] = d1 + (d2 - d1) * fraction;
+            } else {
+                result[resultOffset + i] = d1;
+            }
+        }
+    }
+
+    private static int[] copy(int[] ints, int start, int len) {
+        int[] copy = new int[len];
+        System.arraycopy(ints, start, copy, 0, len);
+        return copy;
+    }
+
+    public static double quantileOfArray(long[] longs, int start, int len, double q) {
+        double[] result = new double[1];
+        quantilesInPlace(copy(longs, start, len), 0, len, new double[]{q}, result, 0);
+        return result[0];
+    }
+
+    public static double[] quantilesOfArray(long[] longs, int start, int len, double[] qs) {
+        double[] result = new double[qs.length];
+        quantilesInPlace(copy(longs, start, len), 0, len, qs, result, 0);
+        return result;
+    }
+
+    /**
+     * Calculates quantiles of a range of the array, reordering the range in the process. Intended for callers that
+     * calculate quantiles over their own scratch array.
+     */
+    public static void quantilesInPlace(
+            long[] longs,
+            int start,
+            int len,
+            double[] qs,
+            double[] result,
+            int resultOffset) {
+
+        if (len == 0) {
+            Arrays.fill(result, resultOffset, resultOffset + qs.length, 0.);
+            return;
+        }
+
+        IntroSelect.select(longs, start, start + len, ranks(start, len, qs));
+
+        for (int i = 0; i < qs.length; i++) {
+            double h = qs[i] * (len - 1);
+            int lo = (int) h;
+            double fraction = h - lo;
+
+            double d1 = longs[start + lo];
+            if (fraction > 0.) {
+                double d2 = longs[start + lo + 1];
+                result[resultOffset + i] = d1 + (d2 - d1) * fraction;
+            } else {
+                result[resultOffset + i] = d1;
+            }
+        }
+    }
+
+    private static long[] copy(long[] longs, int start, int len) {
+        long[] copy = new long[len];
+        System.arraycopy(longs, start, copy, 0, len);
+        return copy;
+    }
+
+    public static double quantileOfArray(double[] doubles, int start, int len, double q) {
+        double[] result = new double[1];
+        quantilesInPlace(copy(doubles, start, len), 0, len, new double[]{q}, result, 0);
+        return result[0];
+    }
+
+    public static double[] quantilesOfArray(double[] doubles, int start, int len, double[] qs) {
+        double[] result = new double[qs.length];
+        quantilesInPlace(copy(doubles, start, len), 0, len, qs, result, 0);
+        return result;
+    }
+
+    /**
+     * Calculates quantiles of a range of the array, reordering the range in the process. Intended for callers that
+     * calculate quantiles over their own scratch array.
+     */
+    public static void quantilesInPlace(
+            double[] doubles,
+            int start,
+            int len,
+            double[] qs,
+            double[] result,
+            int resultOffset) {
+
+        if (len == 0) {
+            Arrays.fill(result, resultOffset, resultOffset + qs.length, 0.);
+            return;
+        }
+
+        IntroSelect.select(doubles, start, start + len, ranks(start, len, qs));
+
+        for (int i = 0; i < qs.length; i++) {
+            double h = qs[i] * (len - 1);
+            int lo = (int) h;
+            double fraction = h - lo;
+
+            double d1 = doubles[start + lo];
+            if (fraction > 0.) {
+                double d2 = doubles[start + lo + 1];
+                result[resultOffset + i] = d1 + (d2 - d1) * fraction;
+            } else {
+                result[resultOffset + i] = d1;
+            }
+        }
+    }
+
+    private static double[] copy(double[] doubles, int start, int len) {
+        double[] copy = new double[len];
+        System.arraycopy(doubles, start, copy, 0, len);
+        return copy;
+    }
+}
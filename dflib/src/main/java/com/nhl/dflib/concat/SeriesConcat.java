@@ -1,15 +1,66 @@
 package com.nhl.dflib.concat;
 
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
 import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.series.ArraySeries;
+import com.nhl.dflib.series.CategoricalSeries;
+import com.nhl.dflib.series.DoubleArraySeries;
+import com.nhl.dflib.series.DoubleConcatSeries;
 import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.IntConcatSeries;
+import com.nhl.dflib.series.LongArraySeries;
+import com.nhl.dflib.series.LongConcatSeries;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableBooleanArraySeries;
+import com.nhl.dflib.series.NullableDoubleArraySeries;
+import com.nhl.dflib.series.NullableIntArraySeries;
+import com.nhl.dflib.series.NullableLongArraySeries;
+import com.nhl.dflib.series.NullableSeries;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 
 public class SeriesConcat {
 
     public static <T> Series<T> concat(Series<T>... concat) {
+        return concat(asList(concat));
+    }
+
+    /**
+     * Concatenates Series, preserving primitive storage if all the Series are of the same primitive type, and
+     * dictionary encoding if all the Series are categorical.
+     *
+     * @since 0.6
+     */
+    public static <T> Series<T> concat(Iterable<Series<T>> concat) {
+
+        if (allCategorical(concat)) {
+            return categoricalConcat(concat);
+        }
+
+        if (allOfType(concat, IntSeries.class)) {
+            return (Series<T>) intConcat((Iterable) concat);
+        }
+
+        if (allOfType(concat, LongSeries.class)) {
+            return (Series<T>) longConcat((Iterable) concat);
+        }
+
+        if (allOfType(concat, DoubleSeries.class)) {
+            return (Series<T>) doubleConcat((Iterable) concat);
+        }
+
+        if (allOfType(concat, BooleanSeries.class)) {
+            return (Series<T>) booleanConcat((Iterable) concat);
+        }
+
         int h = 0;
         for (Series<? extends T> s : concat) {
             h += s.size();
@@ -27,23 +78,119 @@ public class SeriesConcat {
     }
 
     /**
-     * @since 0.6
+     * Concatenates Series without copying their data, if all the Series are of the same primitive type and have no
+     * nulls. The result is a view backed by the original Series. Otherwise behaves the same as
+     * {@link #concat(Iterable)}. Intended for concatenating large numbers of small Series.
+     *
+     * @since 0.12
      */
-    public static <T> Series<T> concat(Iterable<Series<T>> concat) {
+    public static <T> Series<T> concatView(Iterable<Series<T>> concat) {
+
+        if (allOfType(concat, IntSeries.class)) {
+            return (Series<T>) intConcatView((Iterable) concat);
+        }
+
+        if (allOfType(concat, LongSeries.class)) {
+            return (Series<T>) longConcatView((Iterable) concat);
+        }
+
+        if (allOfType(concat, DoubleSeries.class)) {
+            return (Series<T>) doubleConcatView((Iterable) concat);
+        }
+
+        return concat(concat);
+    }
+
+    private static boolean allOfType(Iterable<? extends Series<?>> concat, Class<?> type) {
+        boolean empty = true;
+        for (Series<?> s : concat) {
+            if (!type.isInstance(s)) {
+                return false;
+            }
+
+            empty = false;
+        }
+
+        return !empty;
+    }
+
+    private static boolean anyNullable(Iterable<? extends Series<?>> concat) {
+        for (Series<?> s : concat) {
+            if (s instanceof NullableSeries) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static <S extends Series<?>> S[] nonEmpty(Iterable<S> concat, S[] prototype) {
+        List<S> nonEmpty = new ArrayList<>();
+        for (S s : concat) {
+            if (s.size() > 0) {
+                nonEmpty.add(s);
+            }
+        }
+
+        return nonEmpty.toArray(prototype);
+    }
+
+    private static boolean allCategorical(Iterable<? extends Series<?>> concat) {
+        boolean empty = true;
+        for (Series<?> s : concat) {
+            if (!(s instanceof CategoricalSeries)) {
+                return false;
+            }
+
+            empty = false;
+        }
+
+        return !empty;
+    }
+
+    /**
+     * Concatenates dictionary-encoded Series, merging their dictionaries and translating the codes, so that the result
+     * is also dictionary-encoded.
+     *
+     * @since 0.12
+     */
+    public static <T> Series<T> categoricalConcat(Iterable<Series<T>> concat) {
+
         int h = 0;
-        for (Series<? extends T> s : concat) {
+        for (Series<T> s : concat) {
             h += s.size();
         }
 
-        T[] data = (T[]) new Object[h];
+        // merge the dictionaries, assigning new codes to the categories in the order of appearance
+        Map<T, Integer> dictionary = new HashMap<>();
+        List<T> categories = new ArrayList<>();
+
+        int[] codes = new int[h];
         int offset = 0;
-        for (Series<? extends T> s : concat) {
-            int len = s.size();
-            s.copyTo(data, 0, offset, len);
+
+        for (Series<T> s : concat) {
+            CategoricalSeries<T> cs = (CategoricalSeries<T>) s;
+
+            int cl = cs.getCategoryCount();
+            int[] translation = new int[cl];
+            for (int i = 0; i < cl; i++) {
+                T category = cs.getCategory(i);
+                translation[i] = dictionary.computeIfAbsent(category, c -> {
+                    categories.add(c);
+                    return categories.size() - 1;
+                });
+            }
+
+            int len = cs.size();
+            for (int i = 0; i < len; i++) {
+                int c = cs.getCode(i);
+                codes[offset + i] = c < 0 ? -1 : translation[c];
+            }
+
             offset += len;
         }
 
-        return new ArraySeries<>(data);
+        return new CategoricalSeries<>(codes, (T[]) categories.toArray());
     }
 
     public static IntSeries intConcat(IntSeries... concat) {
@@ -63,13 +210,168 @@ public class SeriesConcat {
         }
 
         int[] data = new int[h];
+        long[] nulls = null;
         int offset = 0;
         for (IntSeries s : concat) {
             int len = s.size();
             s.copyToInt(data, 0, offset, len);
+            nulls = NullBitmap.copy(NullBitmap.of(s), nulls, h, offset, len);
+            offset += len;
+        }
+
+        return NullableIntArraySeries.of(data, nulls);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public static LongSeries longConcat(Iterable<LongSeries> concat) {
+        int h = 0;
+        int total = 0;
+        for (LongSeries s : concat) {
+            h += s.size();
+            total++;
+        }
+
+        if (total == 1) {
+            return concat.iterator().next();
+        }
+
+        long[] data = new long[h];
+        long[] nulls = null;
+        int offset = 0;
+        for (LongSeries s : concat) {
+            int len = s.size();
+            s.copyToLong(data, 0, offset, len);
+            nulls = NullBitmap.copy(NullBitmap.of(s), nulls, h, offset, len);
+            offset += len;
+        }
+
+        return NullableLongArraySeries.of(data, nulls);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public static DoubleSeries doubleConcat(Iterable<DoubleSeries> concat) {
+        int h = 0;
+        int total = 0;
+        for (DoubleSeries s : concat) {
+            h += s.size();
+            total++;
+        }
+
+        if (total == 1) {
+            return concat.iterator().next();
+        }
+
+        double[] data = new double[h];
+        long[] nulls = null;
+        int offset = 0;
+        for (DoubleSeries s : concat) {
+            int len = s.size();
+            s.copyToDouble(data, 0, offset, len);
+            nulls = NullBitmap.copy(NullBitmap.of(s), nulls, h, offset, len);
             offset += len;
         }
 
-        return new IntArraySeries(data);
+        return NullableDoubleArraySeries.of(data, nulls);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public static BooleanSeries booleanConcat(Iterable<BooleanSeries> concat) {
+        int h = 0;
+        int total = 0;
+        for (BooleanSeries s : concat) {
+            h += s.size();
+            total++;
+        }
+
+        if (total == 1) {
+            return concat.iterator().next();
+        }
+
+        boolean[] data = new boolean[h];
+        long[] nulls = null;
+        int offset = 0;
+        for (BooleanSeries s : concat) {
+            int len = s.size();
+            s.copyToBoolean(data, 0, offset, len);
+            nulls = NullBitmap.copy(NullBitmap.of(s), nulls, h, offset, len);
+            offset += len;
+        }
+
+        return NullableBooleanArraySeries.of(data, nulls);
+    }
+
+    /**
+     * Concatenates IntSeries as a view over the original Series without copying the data. Falls back to
+     * {@link #intConcat(Iterable)} if any of the Series may contain nulls.
+     *
+     * @since 0.12
+     */
+    public static IntSeries intConcatView(Iterable<IntSeries> concat) {
+
+        if (anyNullable(concat)) {
+            return intConcat(concat);
+        }
+
+        IntSeries[] chunks = nonEmpty(concat, new IntSeries[0]);
+        switch (chunks.length) {
+            case 0:
+                return new IntArraySeries();
+            case 1:
+                return chunks[0];
+            default:
+                return new IntConcatSeries(chunks);
+        }
+    }
+
+    /**
+     * Concatenates LongSeries as a view over the original Series without copying the data. Falls back to
+     * {@link #longConcat(Iterable)} if any of the Series may contain nulls.
+     *
+     * @since 0.12
+     */
+    public static LongSeries longConcatView(Iterable<LongSeries> concat) {
+
+        if (anyNullable(concat)) {
+            return longConcat(concat);
+        }
+
+        LongSeries[] chunks = nonEmpty(concat, new LongSeries[0]);
+        switch (chunks.length) {
+            case 0:
+                return new LongArraySeries();
+            case 1:
+                return chunks[0];
+            default:
+                return new LongConcatSeries(chunks);
+        }
+    }
+
+    /**
+     * Concatenates DoubleSeries as a view over the original Series without copying the data. Falls back to
+     * {@link #doubleConcat(Iterable)} if any of the Series may contain nulls.
+     *
+     * @since 0.12
+     */
+    public static DoubleSeries doubleConcatView(Iterable<DoubleSeries> concat) {
+
+        if (anyNullable(concat)) {
+            return doubleConcat(concat);
+        }
+
+        DoubleSeries[] chunks = nonEmpty(concat, new DoubleSeries[0]);
+        switch (chunks.length) {
+            case 0:
+                return new DoubleArraySeries();
+            case 1:
+                return chunks[0];
+            default:
+                return new DoubleConcatSeries(chunks);
+        }
     }
 }
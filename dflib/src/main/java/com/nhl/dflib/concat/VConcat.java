@@ -5,11 +5,13 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.JoinType;
-import com.nhl.dflib.series.ArraySeries;
+import com.nhl.dflib.series.SingleValueSeries;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -109,54 +111,74 @@ public class VConcat {
         return indices[indices.length - 1];
     }
 
+    /**
+     * Concatenates DataFrames without copying the data of the primitive columns that have no nulls. Such columns in the
+     * result are views backed by the columns of the original DataFrames. Intended for concatenating large numbers of
+     * small DataFrames. Other columns are concatenated the same way as in {@link #concat(JoinType, DataFrame...)}.
+     *
+     * @since 0.12
+     */
+    public static DataFrame concatView(JoinType how, DataFrame... dfs) {
+
+        switch (dfs.length) {
+            case 0:
+                return DataFrame.newFrame().empty();
+            case 1:
+                return dfs[0];
+            default:
+                return getInstance(how).concat(dfs, true);
+        }
+    }
+
     public DataFrame concat(DataFrame... dfs) {
+        return concat(dfs, false);
+    }
+
+    protected DataFrame concat(DataFrame[] dfs, boolean views) {
         Index[] indices = new Index[dfs.length];
         for (int i = 0; i < indices.length; i++) {
             indices[i] = dfs[i].getColumnsIndex();
         }
 
-
-        int h = 0;
-        for (int i = 0; i < dfs.length; i++) {
-            h += dfs[i].height();
-        }
-
         Index concatColumns = zipper.apply(indices);
         int w = concatColumns.size();
 
-        Object[][] data = new Object[w][h];
-        int voffset = 0;
+        List<Series<Object>>[] columns = new List[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = new ArrayList<>(dfs.length);
+        }
 
         for (int i = 0; i < dfs.length; i++) {
 
             Index dfc = dfs[i].getColumnsIndex();
             int dfw = dfc.size();
+            int dfh = dfs[i].height();
 
-            for (int j = 0; j < dfw; j++) {
+            boolean[] present = new boolean[w];
 
-                // need to rewind the iterator even if we exclude the series from copy
-                Series<?> next = dfs[i].getColumn(j);
+            for (int j = 0; j < dfw; j++) {
                 int pos = mapSeriesPosition(concatColumns, dfc.getLabel(j));
 
                 if (pos >= 0) {
-                    next.copyTo(data[pos], 0, voffset, next.size());
+                    columns[pos].add((Series<Object>) dfs[i].getColumn(j));
+                    present[pos] = true;
                 }
             }
 
-            voffset += dfs[i].height();
+            // columns missing from this DataFrame are filled with nulls
+            for (int j = 0; j < w; j++) {
+                if (!present[j] && dfh > 0) {
+                    columns[j].add(new SingleValueSeries<>(null, dfh));
+                }
+            }
         }
 
-        return new ColumnDataFrame(concatColumns, toSeries(w, data));
-    }
-
-    private Series<?>[] toSeries(int w, Object[][] data) {
-        Series[] series = new Series[w];
-
+        Series<?>[] series = new Series[w];
         for (int i = 0; i < w; i++) {
-            series[i] = new ArraySeries(data[i]);
+            series[i] = views ? SeriesConcat.concatView(columns[i]) : SeriesConcat.concat(columns[i]);
         }
 
-        return series;
+        return new ColumnDataFrame(concatColumns, series);
     }
 
     private int mapSeriesPosition(Index concatColumns, String dfColumn) {
@@ -22,6 +22,27 @@ public abstract class Condition2<L, R> implements Condition {
         return toQL();
     }
 
+    /**
+     * @since 0.12
+     */
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Exp<L> getLeft() {
+        return left;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Exp<R> getRight() {
+        return right;
+    }
+
     public String toQL() {
         return left.toQL() + opName + right.toQL();
     }
@@ -41,5 +62,14 @@ public abstract class Condition2<L, R> implements Condition {
         return doEval(left.eval(s), right.eval(s));
     }
 
+    /**
+     * Applies this condition operation to the already evaluated arguments.
+     *
+     * @since 0.12
+     */
+    public BooleanSeries evalArgs(Series<L> left, Series<R> right) {
+        return doEval(left, right);
+    }
+
     protected abstract BooleanSeries doEval(Series<L> left, Series<R> right);
 }
@@ -23,6 +23,13 @@ public abstract class ConjunctiveCondition1 implements Condition {
         return toQL();
     }
 
+    /**
+     * @since 0.12
+     */
+    public Condition getArg() {
+        return arg;
+    }
+
     @Override
     public String toQL() {
         return opName + "(" + arg.toQL() + ")";
@@ -43,5 +50,14 @@ public abstract class ConjunctiveCondition1 implements Condition {
         return doEval(arg.eval(s));
     }
 
+    /**
+     * Applies this condition operation to the already evaluated argument.
+     *
+     * @since 0.12
+     */
+    public BooleanSeries evalArgs(BooleanSeries arg) {
+        return doEval(arg);
+    }
+
     protected abstract BooleanSeries doEval(BooleanSeries s);
 }
@@ -33,6 +33,15 @@ public abstract class ConjunctiveConditionN implements Condition {
         return toQL();
     }
 
+    /**
+     * Returns the internal array of the condition arguments. The caller must not modify it.
+     *
+     * @since 0.12
+     */
+    public Condition[] getArgs() {
+        return args;
+    }
+
     @Override
     public String toQL() {
         return Arrays.stream(args).map(p -> p.toQL()).collect(Collectors.joining(opName));
@@ -67,5 +76,14 @@ public abstract class ConjunctiveConditionN implements Condition {
         return doEval(values);
     }
 
+    /**
+     * Applies this condition operation to the already evaluated arguments.
+     *
+     * @since 0.12
+     */
+    public BooleanSeries evalArgs(BooleanSeries[] parts) {
+        return doEval(parts);
+    }
+
     protected abstract BooleanSeries doEval(BooleanSeries[] parts);
 }
@@ -1,6 +1,9 @@
 package com.nhl.dflib.exp;
 
 import com.nhl.dflib.Series;
+import com.nhl.dflib.series.DoubleSingleValueSeries;
+import com.nhl.dflib.series.IntSingleValueSeries;
+import com.nhl.dflib.series.LongSingleValueSeries;
 import com.nhl.dflib.series.SingleValueSeries;
 
 /**
@@ -16,8 +19,19 @@ public class ConstExp<T> extends ScalarExp<T> {
     protected Series<T> doEval(int height, T value) {
         // TODO: cache the result in the exp?
 
-        // TODO: explore possible performance improvement by not converting scalars to Series at all, and providing a
-        //   separate evaluation path instead.
+        // numeric constants are broadcast as primitive Series, so that the arithmetic and comparison operations with
+        // primitive columns could use primitive operations. This takes constant memory regardless of the height
+        if (value instanceof Integer) {
+            return (Series<T>) new IntSingleValueSeries((Integer) value, height);
+        }
+
+        if (value instanceof Long) {
+            return (Series<T>) new LongSingleValueSeries((Long) value, height);
+        }
+
+        if (value instanceof Double) {
+            return (Series<T>) new DoubleSingleValueSeries((Double) value, height);
+        }
 
         return new SingleValueSeries<>(value, height);
     }
@@ -26,6 +26,20 @@ public abstract class Exp1<F, T> implements Exp<T> {
         return toQL();
     }
 
+    /**
+     * @since 0.12
+     */
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Exp<F> getArg() {
+        return exp;
+    }
+
     @Override
     public String toQL() {
         return opName + "(" + exp.toQL() + ")";
@@ -51,5 +65,14 @@ public abstract class Exp1<F, T> implements Exp<T> {
         return doEval(exp.eval(df));
     }
 
+    /**
+     * Applies this expression operation to the already evaluated argument.
+     *
+     * @since 0.12
+     */
+    public Series<T> evalArgs(Series<F> arg) {
+        return doEval(arg);
+    }
+
     protected abstract Series<T> doEval(Series<F> s);
 }
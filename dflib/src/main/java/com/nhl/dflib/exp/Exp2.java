@@ -28,6 +28,27 @@ public abstract class Exp2<L, R, T> implements Exp<T> {
         return toQL();
     }
 
+    /**
+     * @since 0.12
+     */
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Exp<L> getLeft() {
+        return left;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Exp<R> getRight() {
+        return right;
+    }
+
     @Override
     public Class<T> getType() {
         return type;
@@ -53,5 +74,14 @@ public abstract class Exp2<L, R, T> implements Exp<T> {
         return doEval(left.eval(s), right.eval(s));
     }
 
+    /**
+     * Applies this expression operation to the already evaluated arguments.
+     *
+     * @since 0.12
+     */
+    public Series<T> evalArgs(Series<L> left, Series<R> right) {
+        return doEval(left, right);
+    }
+
     protected abstract Series<T> doEval(Series<L> left, Series<R> right);
 }
@@ -4,12 +4,13 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.NumExp;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.exp.Exp0;
+import com.nhl.dflib.series.IntArraySeries;
 import com.nhl.dflib.series.SingleValueSeries;
 
 /**
  * @since 0.11
  */
-public class CountExp extends Exp0<Integer> implements NumExp<Integer> {
+public class CountExp extends Exp0<Integer> implements NumExp<Integer>, GroupAggregatingExp<Integer> {
 
     private static final CountExp instance = new CountExp();
 
@@ -36,4 +37,32 @@ public class CountExp extends Exp0<Integer> implements NumExp<Integer> {
         // TODO: IntSingleValueSeries
         return new SingleValueSeries<>(c, 1);
     }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<Integer> aggGroups(DataFrame ungrouped, int[] rowGroups, int groupCount) {
+        return countGroups(rowGroups, groupCount);
+    }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<Integer> aggGroups(Series<?> ungrouped, int[] rowGroups, int groupCount) {
+        return countGroups(rowGroups, groupCount);
+    }
+
+    private static Series<Integer> countGroups(int[] rowGroups, int groupCount) {
+
+        int[] counts = new int[groupCount];
+        for (int g : rowGroups) {
+            if (g >= 0) {
+                counts[g]++;
+            }
+        }
+
+        return new IntArraySeries(counts);
+    }
 }
@@ -1,21 +1,20 @@
 package com.nhl.dflib.exp.agg;
 
-import com.nhl.dflib.Condition;
-import com.nhl.dflib.Exp;
 import com.nhl.dflib.Series;
-import com.nhl.dflib.Sorter;
+import com.nhl.dflib.agg.PrimitiveSeriesQuantile;
+import com.nhl.dflib.sort.IntroSelect;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * @since 0.11
  */
 public class DecimalAggregators {
 
-    private static final Condition notNullExp = Exp.$decimal(0).isNotNull();
-    private static final Sorter asc = Exp.$decimal(0).asc();
-
     public static BigDecimal sum(Series<BigDecimal> s) {
 
         int size = s.size();
@@ -36,30 +35,67 @@ public class DecimalAggregators {
     }
 
     public static BigDecimal median(Series<BigDecimal> s) {
+        return quantile(s, 0.5);
+    }
 
-        int size = s.size();
+    /**
+     * Calculates a quantile of the non-null values of a Series, interpolating between the two closest values if needed.
+     * Uses selection instead of sorting.
+     *
+     * @since 0.12
+     */
+    public static BigDecimal quantile(Series<BigDecimal> s, double q) {
+        BigDecimal[] result = new BigDecimal[1];
+        quantiles(s, new double[]{q}, result);
+        return result[0];
+    }
 
-        switch (size) {
-            case 0:
-                return BigDecimal.ZERO;
-            case 1:
-                BigDecimal d = s.get(0);
-                return d != null ? d : BigDecimal.ZERO;
-            default:
+    /**
+     * Calculates multiple quantiles of the non-null values of a Series with a single selection pass.
+     *
+     * @since 0.12
+     */
+    public static List<Number> quantiles(Series<BigDecimal> s, double[] qs) {
+        BigDecimal[] result = new BigDecimal[qs.length];
+        quantiles(s, qs, result);
+        return Arrays.asList(result);
+    }
 
-                Series<BigDecimal> sorted = s.select(notNullExp).sort(asc);
+    private static void quantiles(Series<BigDecimal> s, double[] qs, BigDecimal[] result) {
 
-                int nonNullSize = sorted.size();
-                int m = nonNullSize / 2;
+        int size = s.size();
+        BigDecimal[] scratch = new BigDecimal[size];
+        int len = 0;
 
-                int odd = nonNullSize % 2;
-                if (odd == 1) {
-                    return sorted.get(m);
-                }
+        for (int i = 0; i < size; i++) {
+            BigDecimal d = s.get(i);
+            if (d != null) {
+                scratch[len++] = d;
+            }
+        }
 
-                BigDecimal d1 = sorted.get(m - 1);
-                BigDecimal d2 = sorted.get(m);
-                return d2.subtract(d1).divide(new BigDecimal("2.0"), RoundingMode.HALF_UP).add(d1);
+        if (len == 0) {
+            Arrays.fill(result, BigDecimal.ZERO);
+            return;
+        }
+
+        IntroSelect.select(scratch, 0, len, PrimitiveSeriesQuantile.ranks(0, len, qs), Comparator.naturalOrder());
+
+        for (int i = 0; i < qs.length; i++) {
+            double h = qs[i] * (len - 1);
+            int lo = (int) h;
+            double fraction = h - lo;
+
+            BigDecimal d1 = scratch[lo];
+            if (fraction > 0.) {
+                BigDecimal delta = scratch[lo + 1].subtract(d1);
+                result[i] = delta
+                        .multiply(BigDecimal.valueOf(fraction))
+                        .setScale(delta.scale(), RoundingMode.HALF_UP)
+                        .add(d1);
+            } else {
+                result[i] = d1;
+            }
         }
     }
 }
@@ -1,10 +1,17 @@
 package com.nhl.dflib.exp.agg;
 
-import com.nhl.dflib.Condition;
-import com.nhl.dflib.Exp;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
 import com.nhl.dflib.Series;
-import com.nhl.dflib.Sorter;
+import com.nhl.dflib.agg.PrimitiveSeriesQuantile;
+import com.nhl.dflib.series.ArraySeries;
+import com.nhl.dflib.series.DoubleArraySeries;
+import com.nhl.dflib.series.NullBitmap;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -14,8 +21,6 @@ import java.util.stream.Collectors;
  */
 public class DoubleAggregators {
 
-    private static final Condition notNullExp = Exp.$col(0).isNotNull();
-    private static final Sorter asc = Exp.$col(0).asc();
     private static final Function<Series<? extends Number>, Double> avg =
             CollectorAggregator.create((Collector) Collectors.averagingDouble(Number::doubleValue));
     private static final Function<Series<? extends Number>, Double> sum =
@@ -26,6 +31,9 @@ public class DoubleAggregators {
     }
 
     public static double min(Series<? extends Number> s) {
+        if (s instanceof DoubleSeries) {
+            return ((DoubleSeries) s).min();
+        }
 
         int size = s.size();
         if (size == 0) {
@@ -49,6 +57,10 @@ public class DoubleAggregators {
     }
 
     public static double max(Series<? extends Number> s) {
+        if (s instanceof DoubleSeries) {
+            return ((DoubleSeries) s).max();
+        }
+
         int size = s.size();
         if (size == 0) {
             return 0.;
@@ -71,34 +83,388 @@ public class DoubleAggregators {
     }
 
     public static double avg(Series<? extends Number> s) {
-        return s.size() == 0 ? 0. : avg.apply(s);
+
+        if (s.size() == 0) {
+            return 0.;
+        }
+
+        if (s instanceof IntSeries) {
+            return ((IntSeries) s).avg();
+        }
+
+        if (s instanceof LongSeries) {
+            return ((LongSeries) s).avg();
+        }
+
+        return avg.apply(s);
     }
 
     public static double median(Series<? extends Number> s) {
+        if (s instanceof IntSeries) {
+            return ((IntSeries) s).median();
+        }
 
+        if (s instanceof LongSeries) {
+            return ((LongSeries) s).median();
+        }
+
+        if (s instanceof DoubleSeries) {
+            return ((DoubleSeries) s).median();
+        }
+
+        return quantile(s, 0.5);
+    }
+
+    /**
+     * Calculates a quantile of the non-null values of a numeric Series, interpolating between the two closest values
+     * if needed. Uses selection instead of sorting.
+     *
+     * @since 0.12
+     */
+    public static double quantile(Series<? extends Number> s, double q) {
+        double[] result = new double[1];
+        quantiles(s, new double[]{q}, result, 0);
+        return result[0];
+    }
+
+    /**
+     * Calculates multiple quantiles of the non-null values of a numeric Series with a single selection pass.
+     *
+     * @since 0.12
+     */
+    public static List<Number> quantiles(Series<? extends Number> s, double[] qs) {
+        double[] result = new double[qs.length];
+        quantiles(s, qs, result, 0);
+        return toList(result, 0, qs.length);
+    }
+
+    private static void quantiles(Series<? extends Number> s, double[] qs, double[] result, int resultOffset) {
+
+        // copying non-null values to a scratch array that is reordered by the selection
         int size = s.size();
+        long[] nulls = NullBitmap.of(s);
+        int len = 0;
+
+        if (s instanceof IntSeries) {
+            IntSeries values = (IntSeries) s;
+            int[] scratch = new int[size];
+            for (int i = 0; i < size; i++) {
+                if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                    scratch[len++] = values.getInt(i);
+                }
+            }
+
+            PrimitiveSeriesQuantile.quantilesInPlace(scratch, 0, len, qs, result, resultOffset);
+        } else if (s instanceof LongSeries) {
+            LongSeries values = (LongSeries) s;
+            long[] scratch = new long[size];
+            for (int i = 0; i < size; i++) {
+                if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                    scratch[len++] = values.getLong(i);
+                }
+            }
+
+            PrimitiveSeriesQuantile.quantilesInPlace(scratch, 0, len, qs, result, resultOffset);
+        } else if (s instanceof DoubleSeries) {
+            DoubleSeries values = (DoubleSeries) s;
+            double[] scratch = new double[size];
+            for (int i = 0; i < size; i++) {
+                if (nulls == null || !NullBitmap.isSet(nulls, i)) {
+                    scratch[len++] = values.getDouble(i);
+                }
+            }
+
+            PrimitiveSeriesQuantile.quantilesInPlace(scratch, 0, len, qs, result, resultOffset);
+        } else {
+            double[] scratch = new double[size];
+            for (int i = 0; i < size; i++) {
+                Number n = s.get(i);
+                if (n != null) {
+                    scratch[len++] = n.doubleValue();
+                }
+            }
+
+            PrimitiveSeriesQuantile.quantilesInPlace(scratch, 0, len, qs, result, resultOffset);
+        }
+    }
+
+    /**
+     * Calculates the median of an Int, Long or DoubleSeries for each group. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Double> medianGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+        return quantileGroups(s, rowGroups, groupCount, 0.5);
+    }
+
+    /**
+     * Calculates a quantile of an Int, Long or DoubleSeries for each group. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Double> quantileGroups(
+            Series<? extends Number> s,
+            int[] rowGroups,
+            int groupCount,
+            double q) {
+
+        double[] result = quantilesByGroup(s, rowGroups, groupCount, new double[]{q});
+        return result != null ? new DoubleArraySeries(result) : null;
+    }
+
+    /**
+     * Calculates multiple quantiles of an Int, Long or DoubleSeries for each group. Returns null for other Series
+     * types.
+     *
+     * @since 0.12
+     */
+    public static Series<List<Number>> quantilesGroups(
+            Series<? extends Number> s,
+            int[] rowGroups,
+            int groupCount,
+            double[] qs) {
+
+        double[] result = quantilesByGroup(s, rowGroups, groupCount, qs);
+        if (result == null) {
+            return null;
+        }
+
+        int w = qs.length;
+        List<Number>[] lists = new List[groupCount];
+        for (int g = 0; g < groupCount; g++) {
+            lists[g] = toList(result, g * w, w);
+        }
+
+        return new ArraySeries<>(lists);
+    }
+
+    // returns quantiles of all groups in a single array, with "qs.length" values per group
+    private static double[] quantilesByGroup(
+            Series<? extends Number> s,
+            int[] rowGroups,
+            int groupCount,
+            double[] qs) {
+
+        if (!(s instanceof IntSeries || s instanceof LongSeries || s instanceof DoubleSeries)) {
+            return null;
+        }
+
+        long[] nulls = NullBitmap.of(s);
+        int h = rowGroups.length;
+
+        // a counting sort of the non-null values by group into a single scratch array, so that each group occupies a
+        // contiguous range of the array and can be reordered in place
+        int[] offsets = new int[groupCount + 1];
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g >= 0 && (nulls == null || !NullBitmap.isSet(nulls, i))) {
+                offsets[g + 1]++;
+            }
+        }
+
+        for (int g = 0; g < groupCount; g++) {
+            offsets[g + 1] += offsets[g];
+        }
 
-        switch (size) {
-            case 0:
-                return 0.;
-            case 1:
-                Number d = s.get(0);
-                return d != null ? d.doubleValue() : 0.;
-            default:
+        int[] next = Arrays.copyOf(offsets, groupCount);
+        int w = qs.length;
+        double[] result = new double[groupCount * w];
 
-                Series<? extends Number> sorted = s.select(notNullExp).sort(asc);
+        if (s instanceof IntSeries) {
+            IntSeries values = (IntSeries) s;
+            int[] scratch = new int[offsets[groupCount]];
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g >= 0 && (nulls == null || !NullBitmap.isSet(nulls, i))) {
+                    scratch[next[g]++] = values.getInt(i);
+                }
+            }
 
-                int nonNullSize = sorted.size();
-                int m = nonNullSize / 2;
+            for (int g = 0; g < groupCount; g++) {
+                PrimitiveSeriesQuantile.quantilesInPlace(
+                        scratch, offsets[g], offsets[g + 1] - offsets[g], qs, result, g * w);
+            }
+        } else if (s instanceof LongSeries) {
+            LongSeries values = (LongSeries) s;
+            long[] scratch = new long[offsets[groupCount]];
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g >= 0 && (nulls == null || !NullBitmap.isSet(nulls, i))) {
+                    scratch[next[g]++] = values.getLong(i);
+                }
+            }
 
-                int odd = nonNullSize % 2;
-                if (odd == 1) {
-                    return sorted.get(m).doubleValue();
+            for (int g = 0; g < groupCount; g++) {
+                PrimitiveSeriesQuantile.quantilesInPlace(
+                        scratch, offsets[g], offsets[g + 1] - offsets[g], qs, result, g * w);
+            }
+        } else {
+            DoubleSeries values = (DoubleSeries) s;
+            double[] scratch = new double[offsets[groupCount]];
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g >= 0 && (nulls == null || !NullBitmap.isSet(nulls, i))) {
+                    scratch[next[g]++] = values.getDouble(i);
                 }
+            }
+
+            for (int g = 0; g < groupCount; g++) {
+                PrimitiveSeriesQuantile.quantilesInPlace(
+                        scratch, offsets[g], offsets[g + 1] - offsets[g], qs, result, g * w);
+            }
+        }
+
+        return result;
+    }
+
+    private static List<Number> toList(double[] values, int start, int len) {
+        List<Number> list = new ArrayList<>(len);
+        for (int i = 0; i < len; i++) {
+            list.add(values[start + i]);
+        }
+
+        return list;
+    }
+
+    /**
+     * Calculates the average of an Int, Long or DoubleSeries for each group in a single pass. Returns null for other
+     * Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Double> avgGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+
+        if (!(s instanceof IntSeries || s instanceof LongSeries || s instanceof DoubleSeries)) {
+            return null;
+        }
+
+        long[] nulls = NullBitmap.of(s);
+        int[] counts = new int[groupCount];
+        double[] avgs = new double[groupCount];
+        int h = rowGroups.length;
+
+        if (s instanceof DoubleSeries) {
+            DoubleSeries values = (DoubleSeries) s;
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g >= 0 && (nulls == null || !NullBitmap.isSet(nulls, i))) {
+                    avgs[g] += values.getDouble(i);
+                    counts[g]++;
+                }
+            }
+        } else {
+
+            // summing ints and longs as longs to avoid the loss of precision
+            long[] sums = new long[groupCount];
+
+            if (s instanceof IntSeries) {
+                IntSeries values = (IntSeries) s;
+                for (int i = 0; i < h; i++) {
+                    int g = rowGroups[i];
+                    if (g >= 0 && (nulls == null || !NullBitmap.isSet(nulls, i))) {
+                        sums[g] += values.getInt(i);
+                        counts[g]++;
+                    }
+                }
+            } else {
+                LongSeries values = (LongSeries) s;
+                for (int i = 0; i < h; i++) {
+                    int g = rowGroups[i];
+                    if (g >= 0 && (nulls == null || !NullBitmap.isSet(nulls, i))) {
+                        sums[g] += values.getLong(i);
+                        counts[g]++;
+                    }
+                }
+            }
 
-                double d1 = sorted.get(m - 1).doubleValue();
-                double d2 = sorted.get(m).doubleValue();
-                return d1 + (d2 - d1) / 2.;
+            for (int g = 0; g < groupCount; g++) {
+                avgs[g] = sums[g];
+            }
+        }
+
+        // groups without non-null values get "0", same as in the per-group aggregation
+        for (int g = 0; g < groupCount; g++) {
+            avgs[g] = counts[g] > 0 ? avgs[g] / counts[g] : 0.;
+        }
+
+        return new DoubleArraySeries(avgs);
+    }
+
+    /**
+     * Sums the values of a DoubleSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Double> sumGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+
+        if (!(s instanceof DoubleSeries)) {
+            return null;
         }
+
+        DoubleSeries values = (DoubleSeries) s;
+        double[] sums = new double[groupCount];
+
+        // nulls are stored as zeros and do not affect the sum
+        int h = rowGroups.length;
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g >= 0) {
+                sums[g] += values.getDouble(i);
+            }
+        }
+
+        return new DoubleArraySeries(sums);
+    }
+
+    /**
+     * Finds the min value of a DoubleSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Double> minGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+        return minMaxGroups(s, rowGroups, groupCount, true);
+    }
+
+    /**
+     * Finds the max value of a DoubleSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Double> maxGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+        return minMaxGroups(s, rowGroups, groupCount, false);
+    }
+
+    private static Series<Double> minMaxGroups(
+            Series<? extends Number> s,
+            int[] rowGroups,
+            int groupCount,
+            boolean min) {
+
+        if (!(s instanceof DoubleSeries)) {
+            return null;
+        }
+
+        DoubleSeries values = (DoubleSeries) s;
+        long[] nulls = NullBitmap.of(s);
+
+        // groups without non-null values are left with "0", same as in the per-group aggregation
+        double[] result = new double[groupCount];
+        boolean[] seen = new boolean[groupCount];
+
+        int h = rowGroups.length;
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g < 0 || (nulls != null && NullBitmap.isSet(nulls, i))) {
+                continue;
+            }
+
+            double v = values.getDouble(i);
+            if (!seen[g] || (min ? v < result[g] : v > result[g])) {
+                result[g] = v;
+                seen[g] = true;
+            }
+        }
+
+        return new DoubleArraySeries(result);
     }
 }
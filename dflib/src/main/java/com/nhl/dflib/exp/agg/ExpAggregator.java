@@ -3,8 +3,11 @@ package com.nhl.dflib.exp.agg;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.Exp;
+import com.nhl.dflib.exp.GenericColumn;
+import com.nhl.dflib.series.IntArraySeries;
 import com.nhl.dflib.series.SingleValueSeries;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
 /**
@@ -12,14 +15,48 @@ import java.util.function.Function;
  *
  * @since 0.11
  */
-public class ExpAggregator<S, T> implements Exp<T> {
+public class ExpAggregator<S, T> implements Exp<T>, GroupAggregatingExp<T> {
 
     private final Exp<S> exp;
     private final Function<Series<S>, T> aggregator;
+    private final GroupAggregator<S, T> groupAggregator;
 
     public ExpAggregator(Exp<S> exp, Function<Series<S>, T> aggregator) {
+        this(exp, aggregator, null);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public ExpAggregator(Exp<S> exp, Function<Series<S>, T> aggregator, GroupAggregator<S, T> groupAggregator) {
         this.exp = exp;
         this.aggregator = aggregator;
+        this.groupAggregator = groupAggregator;
+    }
+
+    /**
+     * A {@link GroupAggregator} that finds the first value of each group. Works with any Series type, preserving
+     * primitive Series.
+     *
+     * @since 0.12
+     */
+    public static <T> Series<T> firstGroups(Series<T> s, int[] rowGroups, int groupCount) {
+
+        int[] firstRows = new int[groupCount];
+        Arrays.fill(firstRows, -1);
+
+        int found = 0;
+        int h = rowGroups.length;
+        for (int i = 0; i < h && found < groupCount; i++) {
+            int g = rowGroups[i];
+            if (g >= 0 && firstRows[g] < 0) {
+                firstRows[g] = i;
+                found++;
+            }
+        }
+
+        // "-1" positions of empty groups will result in nulls
+        return s.select(new IntArraySeries(firstRows));
     }
 
     @Override
@@ -63,8 +100,30 @@ public class ExpAggregator<S, T> implements Exp<T> {
         return exp.eval(s);
     }
 
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<T> aggGroups(DataFrame ungrouped, int[] rowGroups, int groupCount) {
+
+        // only a column is guaranteed to produce one value per row. Other expressions (e.g. nested aggregates) may not
+        return groupAggregator != null && exp instanceof GenericColumn
+                ? groupAggregator.aggregate(exp.eval(ungrouped), rowGroups, groupCount)
+                : null;
+    }
+
     protected Series<T> aggregate(Series<S> s) {
         T val = aggregator.apply(s);
         return new SingleValueSeries<>(val, 1);
     }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<T> aggGroups(Series<?> ungrouped, int[] rowGroups, int groupCount) {
+        return groupAggregator != null && exp instanceof GenericColumn
+                ? groupAggregator.aggregate(exp.eval(ungrouped), rowGroups, groupCount)
+                : null;
+    }
 }
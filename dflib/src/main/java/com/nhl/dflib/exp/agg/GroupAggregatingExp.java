@@ -0,0 +1,34 @@
+package com.nhl.dflib.exp.agg;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
+
+/**
+ * An aggregating expression that can calculate its value for all the groups of a {@link com.nhl.dflib.GroupBy} in a
+ * single pass over the ungrouped DataFrame.
+ *
+ * @since 0.12
+ */
+public interface GroupAggregatingExp<T> {
+
+    /**
+     * @param ungrouped  the DataFrame before grouping
+     * @param rowGroups  a group id for each row of the DataFrame, or "-1" for the rows outside of any group. Rows of
+     *                   each group are in the same order as in the DataFrame.
+     * @param groupCount the number of groups
+     * @return a Series with a single aggregated value per group, or null if the expression can not be calculated
+     * this way, and should be evaluated on each group separately.
+     */
+    Series<T> aggGroups(DataFrame ungrouped, int[] rowGroups, int groupCount);
+
+    /**
+     * A flavor of {@link #aggGroups(DataFrame, int[], int)} that aggregates a single Series, the same way as
+     * {@link com.nhl.dflib.Exp#eval(Series)} evaluates an expression against a Series instead of a DataFrame.
+     *
+     * @return a Series with a single aggregated value per group, or null if the expression can not be calculated
+     * this way, and should be evaluated on each group separately.
+     */
+    default Series<T> aggGroups(Series<?> ungrouped, int[] rowGroups, int groupCount) {
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nhl.dflib.exp.agg;
+
+import com.nhl.dflib.Series;
+
+/**
+ * A function that aggregates a Series for all the groups of a {@link com.nhl.dflib.GroupBy} in a single pass over the
+ * Series, instead of evaluating an aggregating expression on each group separately.
+ *
+ * @since 0.12
+ */
+@FunctionalInterface
+public interface GroupAggregator<F, T> {
+
+    /**
+     * @param s          a Series of the ungrouped values
+     * @param rowGroups  a group id for each position of the Series, or "-1" for the positions outside of any group
+     * @param groupCount the number of groups
+     * @return a Series with a single aggregated value per group, or null if the Series type is not supported by the
+     * aggregator, and the caller should aggregate each group separately.
+     */
+    Series<T> aggregate(Series<F> s, int[] rowGroups, int groupCount);
+}
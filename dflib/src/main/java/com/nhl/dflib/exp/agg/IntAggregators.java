@@ -1,6 +1,9 @@
 package com.nhl.dflib.exp.agg;
 
+import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.Series;
+import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.NullBitmap;
 
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -15,10 +18,17 @@ public class IntAggregators {
             CollectorAggregator.create((Collector) Collectors.summingInt(Number::intValue));
 
     public static int sum(Series<? extends Number> s) {
+        if (s instanceof IntSeries) {
+            return (int) ((IntSeries) s).sum();
+        }
+
         return s.size() == 0 ? 0 : sum.apply(s);
     }
 
     public static int min(Series<? extends Number> s) {
+        if (s instanceof IntSeries) {
+            return ((IntSeries) s).min();
+        }
 
         int size = s.size();
         if (size == 0) {
@@ -42,6 +52,10 @@ public class IntAggregators {
     }
 
     public static int max(Series<? extends Number> s) {
+        if (s instanceof IntSeries) {
+            return ((IntSeries) s).max();
+        }
+
         int size = s.size();
         if (size == 0) {
             return 0;
@@ -62,4 +76,82 @@ public class IntAggregators {
 
         return max;
     }
+
+    /**
+     * Sums the values of a IntSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Integer> sumGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+
+        if (!(s instanceof IntSeries)) {
+            return null;
+        }
+
+        IntSeries values = (IntSeries) s;
+        int[] sums = new int[groupCount];
+
+        // nulls are stored as zeros and do not affect the sum
+        int h = rowGroups.length;
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g >= 0) {
+                sums[g] += values.getInt(i);
+            }
+        }
+
+        return new IntArraySeries(sums);
+    }
+
+    /**
+     * Finds the min value of a IntSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Integer> minGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+        return minMaxGroups(s, rowGroups, groupCount, true);
+    }
+
+    /**
+     * Finds the max value of a IntSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Integer> maxGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+        return minMaxGroups(s, rowGroups, groupCount, false);
+    }
+
+    private static Series<Integer> minMaxGroups(
+            Series<? extends Number> s,
+            int[] rowGroups,
+            int groupCount,
+            boolean min) {
+
+        if (!(s instanceof IntSeries)) {
+            return null;
+        }
+
+        IntSeries values = (IntSeries) s;
+        long[] nulls = NullBitmap.of(s);
+
+        // groups without non-null values are left with "0", same as in the per-group aggregation
+        int[] result = new int[groupCount];
+        boolean[] seen = new boolean[groupCount];
+
+        int h = rowGroups.length;
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g < 0 || (nulls != null && NullBitmap.isSet(nulls, i))) {
+                continue;
+            }
+
+            int v = values.getInt(i);
+            if (!seen[g] || (min ? v < result[g] : v > result[g])) {
+                result[g] = v;
+                seen[g] = true;
+            }
+        }
+
+        return new IntArraySeries(result);
+    }
 }
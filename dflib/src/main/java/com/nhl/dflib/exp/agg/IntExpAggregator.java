@@ -1,9 +1,11 @@
 package com.nhl.dflib.exp.agg;
 
+import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Exp;
 import com.nhl.dflib.NumExp;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.exp.Exp1;
+import com.nhl.dflib.exp.GenericColumn;
 import com.nhl.dflib.series.SingleValueSeries;
 
 import java.util.function.Function;
@@ -11,22 +13,57 @@ import java.util.function.Function;
 /**
  * @since 0.11
  */
-public class IntExpAggregator<F> extends Exp1<F, Integer> implements NumExp<Integer> {
+public class IntExpAggregator<F> extends Exp1<F, Integer> implements NumExp<Integer>, GroupAggregatingExp<Integer> {
 
     private final Function<Series<F>, Integer> aggregator;
+    private final GroupAggregator<F, Integer> groupAggregator;
+    private final Exp<F> exp;
 
     public IntExpAggregator(String opName, Exp<F> exp, Function<Series<F>, Integer> aggregator) {
+        this(opName, exp, aggregator, null);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public IntExpAggregator(
+            String opName,
+            Exp<F> exp,
+            Function<Series<F>, Integer> aggregator,
+            GroupAggregator<F, Integer> groupAggregator) {
+
         super(opName, Integer.class, exp);
+        this.exp = exp;
         this.aggregator = aggregator;
+        this.groupAggregator = groupAggregator;
     }
 
     @Override
     protected Series<Integer> doEval(Series<F> s) {
 
-        // TODO: optimize for primitive series.
-        //  E.g. "IntSeries.average()" is faster than "AggregatorFunctions.averageDouble()"
-
         int val = aggregator.apply(s);
         return new SingleValueSeries<>(val, 1);
     }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<Integer> aggGroups(DataFrame ungrouped, int[] rowGroups, int groupCount) {
+
+        // only a column is guaranteed to produce one value per row. Other expressions (e.g. nested aggregates) may not
+        return groupAggregator != null && exp instanceof GenericColumn
+                ? groupAggregator.aggregate(exp.eval(ungrouped), rowGroups, groupCount)
+                : null;
+    }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<Integer> aggGroups(Series<?> ungrouped, int[] rowGroups, int groupCount) {
+        return groupAggregator != null && exp instanceof GenericColumn
+                ? groupAggregator.aggregate(exp.eval(ungrouped), rowGroups, groupCount)
+                : null;
+    }
 }
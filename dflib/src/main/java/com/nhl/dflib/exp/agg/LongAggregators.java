@@ -1,6 +1,9 @@
 package com.nhl.dflib.exp.agg;
 
+import com.nhl.dflib.LongSeries;
 import com.nhl.dflib.Series;
+import com.nhl.dflib.series.LongArraySeries;
+import com.nhl.dflib.series.NullBitmap;
 
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -15,10 +18,17 @@ public class LongAggregators {
             CollectorAggregator.create((Collector) Collectors.summingLong(Number::longValue));
 
     public static long sum(Series<? extends Number> s) {
+        if (s instanceof LongSeries) {
+            return ((LongSeries) s).sum();
+        }
+
         return s.size() == 0 ? 0L : sum.apply(s);
     }
 
     public static long min(Series<? extends Number> s) {
+        if (s instanceof LongSeries) {
+            return ((LongSeries) s).min();
+        }
 
         int size = s.size();
         if (size == 0) {
@@ -42,6 +52,10 @@ public class LongAggregators {
     }
 
     public static long max(Series<? extends Number> s) {
+        if (s instanceof LongSeries) {
+            return ((LongSeries) s).max();
+        }
+
         int size = s.size();
         if (size == 0) {
             return 0L;
@@ -62,4 +76,82 @@ public class LongAggregators {
 
         return max;
     }
+
+    /**
+     * Sums the values of a LongSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Long> sumGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+
+        if (!(s instanceof LongSeries)) {
+            return null;
+        }
+
+        LongSeries values = (LongSeries) s;
+        long[] sums = new long[groupCount];
+
+        // nulls are stored as zeros and do not affect the sum
+        int h = rowGroups.length;
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g >= 0) {
+                sums[g] += values.getLong(i);
+            }
+        }
+
+        return new LongArraySeries(sums);
+    }
+
+    /**
+     * Finds the min value of a LongSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Long> minGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+        return minMaxGroups(s, rowGroups, groupCount, true);
+    }
+
+    /**
+     * Finds the max value of a LongSeries for each group in a single pass. Returns null for other Series types.
+     *
+     * @since 0.12
+     */
+    public static Series<Long> maxGroups(Series<? extends Number> s, int[] rowGroups, int groupCount) {
+        return minMaxGroups(s, rowGroups, groupCount, false);
+    }
+
+    private static Series<Long> minMaxGroups(
+            Series<? extends Number> s,
+            int[] rowGroups,
+            int groupCount,
+            boolean min) {
+
+        if (!(s instanceof LongSeries)) {
+            return null;
+        }
+
+        LongSeries values = (LongSeries) s;
+        long[] nulls = NullBitmap.of(s);
+
+        // groups without non-null values are left with "0", same as in the per-group aggregation
+        long[] result = new long[groupCount];
+        boolean[] seen = new boolean[groupCount];
+
+        int h = rowGroups.length;
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g < 0 || (nulls != null && NullBitmap.isSet(nulls, i))) {
+                continue;
+            }
+
+            long v = values.getLong(i);
+            if (!seen[g] || (min ? v < result[g] : v > result[g])) {
+                result[g] = v;
+                seen[g] = true;
+            }
+        }
+
+        return new LongArraySeries(result);
+    }
 }
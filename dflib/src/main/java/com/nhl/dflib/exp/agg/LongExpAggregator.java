@@ -1,9 +1,11 @@
 package com.nhl.dflib.exp.agg;
 
+import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Exp;
 import com.nhl.dflib.NumExp;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.exp.Exp1;
+import com.nhl.dflib.exp.GenericColumn;
 import com.nhl.dflib.series.SingleValueSeries;
 
 import java.util.function.Function;
@@ -11,21 +13,56 @@ import java.util.function.Function;
 /**
  * @since 0.11
  */
-public class LongExpAggregator<F> extends Exp1<F, Long> implements NumExp<Long> {
+public class LongExpAggregator<F> extends Exp1<F, Long> implements NumExp<Long>, GroupAggregatingExp<Long> {
 
     private final Function<Series<F>, Long> aggregator;
+    private final GroupAggregator<F, Long> groupAggregator;
+    private final Exp<F> exp;
 
     public LongExpAggregator(String opName, Exp<F> exp, Function<Series<F>, Long> aggregator) {
+        this(opName, exp, aggregator, null);
+    }
+
+    /**
+     * @since 0.12
+     */
+    public LongExpAggregator(
+            String opName,
+            Exp<F> exp,
+            Function<Series<F>, Long> aggregator,
+            GroupAggregator<F, Long> groupAggregator) {
+
         super(opName, Long.class, exp);
+        this.exp = exp;
         this.aggregator = aggregator;
+        this.groupAggregator = groupAggregator;
     }
 
     @Override
     protected Series<Long> doEval(Series<F> s) {
-        // TODO: optimize for primitive series.
-        //  E.g. "IntSeries.average()" is faster than "AggregatorFunctions.averageDouble()"
-
         long val = aggregator.apply(s);
         return new SingleValueSeries<>(val, 1);
     }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<Long> aggGroups(DataFrame ungrouped, int[] rowGroups, int groupCount) {
+
+        // only a column is guaranteed to produce one value per row. Other expressions (e.g. nested aggregates) may not
+        return groupAggregator != null && exp instanceof GenericColumn
+                ? groupAggregator.aggregate(exp.eval(ungrouped), rowGroups, groupCount)
+                : null;
+    }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<Long> aggGroups(Series<?> ungrouped, int[] rowGroups, int groupCount) {
+        return groupAggregator != null && exp instanceof GenericColumn
+                ? groupAggregator.aggregate(exp.eval(ungrouped), rowGroups, groupCount)
+                : null;
+    }
 }
@@ -2,6 +2,8 @@ package com.nhl.dflib.exp.bool;
 
 import com.nhl.dflib.BooleanSeries;
 import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
 import com.nhl.dflib.exp.map.MapConjunctiveConditionN;
 
 /**
@@ -21,5 +23,25 @@ public class AndCondition extends MapConjunctiveConditionN {
                 : new AndCondition(combine(this.args, exp));
     }
 
-    // TODO: an optimized version of "firstMatch" that does partial evaluation of the parts
+    /**
+     * Evaluates the parts in order, each part only over the rows that matched all the previous parts. So placing
+     * cheap selective parts first avoids evaluating the expensive ones on most of the rows.
+     *
+     * @since 0.12
+     */
+    @Override
+    public BooleanSeries eval(DataFrame df) {
+        return ShortCircuitEval.and(
+                args,
+                df.height(),
+                (p, rows) -> rows != null ? p.eval(df.selectRows(rows)) : p.eval(df));
+    }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public BooleanSeries eval(Series<?> s) {
+        return ShortCircuitEval.and(args, s.size(), (p, rows) -> rows != null ? p.eval(s.select(rows)) : p.eval(s));
+    }
 }
@@ -23,6 +23,27 @@ public class OrCondition extends MapConjunctiveConditionN {
                 : new OrCondition(combine(this.args, exp));
     }
 
+    /**
+     * Evaluates the parts in order, each part only over the rows that didn't match any of the previous parts.
+     *
+     * @since 0.12
+     */
+    @Override
+    public BooleanSeries eval(DataFrame df) {
+        return ShortCircuitEval.or(
+                args,
+                df.height(),
+                (p, rows) -> rows != null ? p.eval(df.selectRows(rows)) : p.eval(df));
+    }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public BooleanSeries eval(Series<?> s) {
+        return ShortCircuitEval.or(args, s.size(), (p, rows) -> rows != null ? p.eval(s.select(rows)) : p.eval(s));
+    }
+
     @Override
     public int firstMatch(DataFrame df) {
         int len = args.length;
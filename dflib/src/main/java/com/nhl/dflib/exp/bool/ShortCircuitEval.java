@@ -0,0 +1,127 @@
+package com.nhl.dflib.exp.bool;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.BooleanArraySeries;
+
+/**
+ * Evaluates the parts of a conjunction or a disjunction one by one, each part only over the rows whose result is not
+ * yet known after evaluating the previous parts. So an expensive part placed after a selective cheap part is
+ * evaluated on a fraction of the rows.
+ *
+ * @since 0.12
+ */
+class ShortCircuitEval {
+
+    // the share of the rows that must still be undecided for the evaluation to continue on all rows. Below that,
+    // the remaining parts are evaluated over a selection of the undecided rows
+    private static final double SELECTION_THRESHOLD = 0.75;
+
+    /**
+     * Evaluates a part either over all the rows or over a selection of rows.
+     */
+    @FunctionalInterface
+    interface PartEvaluator {
+        BooleanSeries eval(Condition part, IntSeries selection);
+    }
+
+    static BooleanSeries and(Condition[] parts, int h, PartEvaluator evaluator) {
+
+        BooleanSeries mask = evaluator.eval(parts[0], null);
+
+        // positions of the rows that matched all the parts evaluated so far; null means the "mask" covers all rows
+        IntSeries selected = null;
+
+        int len = parts.length;
+        for (int i = 1; i < len; i++) {
+
+            if (selected == null) {
+                int matched = mask.countTrue();
+                if (matched == 0) {
+                    return mask;
+                }
+
+                if (matched >= h * SELECTION_THRESHOLD) {
+                    mask = mask.and(evaluator.eval(parts[i], null));
+                    continue;
+                }
+
+                selected = mask.indexTrue();
+            } else {
+                selected = selected.selectInt(mask);
+                if (selected.size() == 0) {
+                    return new BooleanArraySeries(new boolean[h]);
+                }
+            }
+
+            mask = evaluator.eval(parts[i], selected);
+        }
+
+        if (selected == null) {
+            return mask;
+        }
+
+        boolean[] result = new boolean[h];
+        IntSeries matched = selected.selectInt(mask);
+        int ml = matched.size();
+        for (int i = 0; i < ml; i++) {
+            result[matched.getInt(i)] = true;
+        }
+
+        return new BooleanArraySeries(result);
+    }
+
+    static BooleanSeries or(Condition[] parts, int h, PartEvaluator evaluator) {
+
+        BooleanSeries mask = evaluator.eval(parts[0], null);
+
+        // positions of the rows that didn't match any of the parts evaluated so far; null means the "mask" covers
+        // all rows
+        IntSeries unmatched = null;
+        boolean[] result = null;
+
+        int len = parts.length;
+        for (int i = 1; i < len; i++) {
+
+            if (unmatched == null) {
+                int unmatchedCount = mask.countFalse();
+                if (unmatchedCount == 0) {
+                    return mask;
+                }
+
+                if (unmatchedCount >= h * SELECTION_THRESHOLD) {
+                    mask = mask.or(evaluator.eval(parts[i], null));
+                    continue;
+                }
+
+                unmatched = mask.indexFalse();
+                result = mask.toBooleanArray();
+            } else {
+                markMatches(result, unmatched, mask);
+                unmatched = unmatched.selectInt(mask.not());
+                if (unmatched.size() == 0) {
+                    return new BooleanArraySeries(result);
+                }
+            }
+
+            mask = evaluator.eval(parts[i], unmatched);
+        }
+
+        if (unmatched == null) {
+            return mask;
+        }
+
+        markMatches(result, unmatched, mask);
+        return new BooleanArraySeries(result);
+    }
+
+    private static void markMatches(boolean[] result, IntSeries positions, BooleanSeries mask) {
+        int len = positions.size();
+        for (int i = 0; i < len; i++) {
+            if (mask.getBoolean(i)) {
+                result[positions.getInt(i)] = true;
+            }
+        }
+    }
+}
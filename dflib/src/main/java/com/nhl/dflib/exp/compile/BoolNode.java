@@ -0,0 +1,306 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.series.BooleanBitsetSeries;
+
+/**
+ * @since 0.12
+ */
+abstract class BoolNode extends FusedNode {
+
+    final boolean[] values;
+
+    BoolNode(int chunkSize) {
+        this.values = new boolean[chunkSize];
+    }
+
+    static boolean isComparison(String opName) {
+        switch (opName) {
+            case "=":
+            case "!=":
+            case "<":
+            case "<=":
+            case ">":
+            case ">=":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static BoolNode input(BooleanSeries s, int chunkSize) {
+        return new BoolNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+                s.copyToBoolean(values, from, 0, len);
+            }
+        };
+    }
+
+    static BoolNode compareInts(String opName, IntNode l, IntNode r) {
+
+        if (!isComparison(opName)) {
+            return null;
+        }
+
+        int[] lv = l.values;
+        int[] rv = r.values;
+
+        return new BoolNode(lv.length) {
+            @Override
+            void eval(int from, int len) {
+                l.eval(from, len);
+                r.eval(from, len);
+                compare(opName, lv, rv, values, len);
+            }
+        };
+    }
+
+    static BoolNode compareLongs(String opName, LongNode l, LongNode r) {
+
+        if (!isComparison(opName)) {
+            return null;
+        }
+
+        long[] lv = l.values;
+        long[] rv = r.values;
+
+        return new BoolNode(lv.length) {
+            @Override
+            void eval(int from, int len) {
+                l.eval(from, len);
+                r.eval(from, len);
+                compare(opName, lv, rv, values, len);
+            }
+        };
+    }
+
+    static BoolNode compareDoubles(String opName, DoubleNode l, DoubleNode r) {
+
+        if (!isComparison(opName)) {
+            return null;
+        }
+
+        double[] lv = l.values;
+        double[] rv = r.values;
+
+        return new BoolNode(lv.length) {
+            @Override
+            void eval(int from, int len) {
+                l.eval(from, len);
+                r.eval(from, len);
+                compare(opName, lv, rv, values, len);
+            }
+        };
+    }
+
+    static BoolNode and(BoolNode[] args) {
+
+        int chunkSize = args[0].values.length;
+
+        return new BoolNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+
+                args[0].eval(from, len);
+                System.arraycopy(args[0].values, 0, values, 0, len);
+
+                for (int a = 1; a < args.length; a++) {
+                    args[a].eval(from, len);
+                    boolean[] av = args[a].values;
+                    for (int i = 0; i < len; i++) {
+                        values[i] &= av[i];
+                    }
+                }
+            }
+        };
+    }
+
+    static BoolNode or(BoolNode[] args) {
+
+        int chunkSize = args[0].values.length;
+
+        return new BoolNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+
+                args[0].eval(from, len);
+                System.arraycopy(args[0].values, 0, values, 0, len);
+
+                for (int a = 1; a < args.length; a++) {
+                    args[a].eval(from, len);
+                    boolean[] av = args[a].values;
+                    for (int i = 0; i < len; i++) {
+                        values[i] |= av[i];
+                    }
+                }
+            }
+        };
+    }
+
+    static BoolNode not(BoolNode arg) {
+
+        boolean[] av = arg.values;
+
+        return new BoolNode(av.length) {
+            @Override
+            void eval(int from, int len) {
+                arg.eval(from, len);
+                for (int i = 0; i < len; i++) {
+                    values[i] = !av[i];
+                }
+            }
+        };
+    }
+
+    static BoolNode ifElse(BoolNode condition, BoolNode ifTrue, BoolNode ifFalse) {
+
+        boolean[] cv = condition.values;
+        boolean[] tv = ifTrue.values;
+        boolean[] fv = ifFalse.values;
+
+        return new BoolNode(cv.length) {
+            @Override
+            void eval(int from, int len) {
+                condition.eval(from, len);
+                ifTrue.eval(from, len);
+                ifFalse.eval(from, len);
+                for (int i = 0; i < len; i++) {
+                    values[i] = cv[i] ? tv[i] : fv[i];
+                }
+            }
+        };
+    }
+
+    private static void compare(String opName, int[] l, int[] r, boolean[] out, int len) {
+        switch (opName) {
+            case "=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] == r[i];
+                }
+                break;
+            case "!=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] != r[i];
+                }
+                break;
+            case "<":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] < r[i];
+                }
+                break;
+            case "<=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] <= r[i];
+                }
+                break;
+            case ">":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] > r[i];
+                }
+                break;
+            case ">=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] >= r[i];
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported comparison: " + opName);
+        }
+    }
+
+    private static void compare(String opName, long[] l, long[] r, boolean[] out, int len) {
+        switch (opName) {
+            case "=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] == r[i];
+                }
+                break;
+            case "!=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] != r[i];
+                }
+                break;
+            case "<":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] < r[i];
+                }
+                break;
+            case "<=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] <= r[i];
+                }
+                break;
+            case ">":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] > r[i];
+                }
+                break;
+            case ">=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] >= r[i];
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported comparison: " + opName);
+        }
+    }
+
+    private static void compare(String opName, double[] l, double[] r, boolean[] out, int len) {
+        switch (opName) {
+            case "=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] == r[i];
+                }
+                break;
+            case "!=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] != r[i];
+                }
+                break;
+            case "<":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] < r[i];
+                }
+                break;
+            case "<=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] <= r[i];
+                }
+                break;
+            case ">":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] > r[i];
+                }
+                break;
+            case ">=":
+                for (int i = 0; i < len; i++) {
+                    out[i] = l[i] >= r[i];
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported comparison: " + opName);
+        }
+    }
+
+    @Override
+    BooleanSeries evalAll(int height) {
+
+        long[] bits = new long[BooleanBitsetSeries.wordCount(height)];
+        int chunkSize = values.length;
+
+        for (int from = 0; from < height; from += chunkSize) {
+            int len = chunkLength(chunkSize, height, from);
+            eval(from, len);
+
+            for (int i = 0; i < len; i++) {
+                if (values[i]) {
+                    int pos = from + i;
+                    bits[pos >>> 6] |= 1L << pos;
+                }
+            }
+        }
+
+        return new BooleanBitsetSeries(bits, height);
+    }
+}
@@ -0,0 +1,54 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
+
+import java.util.Objects;
+
+/**
+ * A condition that evaluates a wrapped condition tree with a fused single-pass evaluator. Reverts to the regular
+ * evaluation of the wrapped condition if the data is not suitable for the primitive operations (e.g. has nulls),
+ * reusing the already evaluated leaves.
+ *
+ * @since 0.12
+ */
+public class CompiledCondition implements Condition {
+
+    private final Condition condition;
+
+    public CompiledCondition(Condition condition) {
+        this.condition = Objects.requireNonNull(condition);
+    }
+
+    @Override
+    public String toString() {
+        return toQL();
+    }
+
+    @Override
+    public String toQL() {
+        return condition.toQL();
+    }
+
+    @Override
+    public String toQL(DataFrame df) {
+        return condition.toQL(df);
+    }
+
+    @Override
+    public BooleanSeries eval(DataFrame df) {
+        return (BooleanSeries) new ExpCompiler(e -> e.eval(df), df.height()).eval(condition);
+    }
+
+    @Override
+    public BooleanSeries eval(Series<?> s) {
+        return (BooleanSeries) new ExpCompiler(e -> e.eval(s), s.size()).eval(condition);
+    }
+
+    @Override
+    public Condition compile() {
+        return this;
+    }
+}
@@ -0,0 +1,58 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.Series;
+
+import java.util.Objects;
+
+/**
+ * An expression that evaluates a wrapped expression tree with a fused single-pass evaluator. Reverts to the regular
+ * evaluation of the wrapped expression if the data is not suitable for the primitive operations (e.g. has nulls),
+ * reusing the already evaluated leaves.
+ *
+ * @since 0.12
+ */
+public class CompiledExp<T> implements Exp<T> {
+
+    private final Exp<T> exp;
+
+    public CompiledExp(Exp<T> exp) {
+        this.exp = Objects.requireNonNull(exp);
+    }
+
+    @Override
+    public String toString() {
+        return toQL();
+    }
+
+    @Override
+    public Class<T> getType() {
+        return exp.getType();
+    }
+
+    @Override
+    public String toQL() {
+        return exp.toQL();
+    }
+
+    @Override
+    public String toQL(DataFrame df) {
+        return exp.toQL(df);
+    }
+
+    @Override
+    public Series<T> eval(DataFrame df) {
+        return (Series<T>) new ExpCompiler(e -> e.eval(df), df.height()).eval(exp);
+    }
+
+    @Override
+    public Series<T> eval(Series<?> s) {
+        return (Series<T>) new ExpCompiler(e -> e.eval(s), s.size()).eval(exp);
+    }
+
+    @Override
+    public Exp<T> compile() {
+        return this;
+    }
+}
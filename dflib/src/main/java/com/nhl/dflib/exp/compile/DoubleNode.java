@@ -0,0 +1,175 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.series.DoubleArraySeries;
+import com.nhl.dflib.series.DoubleSingleValueSeries;
+
+import java.util.Arrays;
+
+/**
+ * @since 0.12
+ */
+abstract class DoubleNode extends FusedNode {
+
+    final double[] values;
+
+    DoubleNode(int chunkSize) {
+        this.values = new double[chunkSize];
+    }
+
+    static DoubleNode input(DoubleSeries s, int chunkSize) {
+
+        if (s instanceof DoubleSingleValueSeries && s.size() > 0) {
+            return constant(s.getDouble(0), chunkSize);
+        }
+
+        return new DoubleNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+                s.copyToDouble(values, from, 0, len);
+            }
+        };
+    }
+
+    static DoubleNode constant(double value, int chunkSize) {
+        DoubleNode node = new DoubleNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+                // the buffer is filled once
+            }
+        };
+
+        Arrays.fill(node.values, value);
+        return node;
+    }
+
+    static DoubleNode op(String opName, DoubleNode l, DoubleNode r) {
+
+        double[] lv = l.values;
+        double[] rv = r.values;
+
+        switch (opName) {
+            case "+":
+                return new DoubleNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] + rv[i];
+                        }
+                    }
+                };
+            case "-":
+                return new DoubleNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] - rv[i];
+                        }
+                    }
+                };
+            case "*":
+                return new DoubleNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] * rv[i];
+                        }
+                    }
+                };
+            case "/":
+                return new DoubleNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] / rv[i];
+                        }
+                    }
+                };
+            case "%":
+                return new DoubleNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] % rv[i];
+                        }
+                    }
+                };
+            default:
+                return null;
+        }
+    }
+
+    static DoubleNode fromInt(IntNode arg) {
+
+        int[] av = arg.values;
+
+        return new DoubleNode(av.length) {
+            @Override
+            void eval(int from, int len) {
+                arg.eval(from, len);
+                for (int i = 0; i < len; i++) {
+                    values[i] = av[i];
+                }
+            }
+        };
+    }
+
+    static DoubleNode fromLong(LongNode arg) {
+
+        long[] av = arg.values;
+
+        return new DoubleNode(av.length) {
+            @Override
+            void eval(int from, int len) {
+                arg.eval(from, len);
+                for (int i = 0; i < len; i++) {
+                    values[i] = av[i];
+                }
+            }
+        };
+    }
+
+    static DoubleNode ifElse(BoolNode condition, DoubleNode ifTrue, DoubleNode ifFalse) {
+
+        boolean[] cv = condition.values;
+        double[] tv = ifTrue.values;
+        double[] fv = ifFalse.values;
+
+        return new DoubleNode(cv.length) {
+            @Override
+            void eval(int from, int len) {
+                condition.eval(from, len);
+                ifTrue.eval(from, len);
+                ifFalse.eval(from, len);
+                for (int i = 0; i < len; i++) {
+                    values[i] = cv[i] ? tv[i] : fv[i];
+                }
+            }
+        };
+    }
+
+    @Override
+    DoubleSeries evalAll(int height) {
+
+        double[] result = new double[height];
+        int chunkSize = values.length;
+
+        for (int from = 0; from < height; from += chunkSize) {
+            int len = chunkLength(chunkSize, height, from);
+            eval(from, len);
+            System.arraycopy(values, 0, result, from, len);
+        }
+
+        return new DoubleArraySeries(result);
+    }
+}
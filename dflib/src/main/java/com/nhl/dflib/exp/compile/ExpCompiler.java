@@ -0,0 +1,487 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.exp.Condition2;
+import com.nhl.dflib.exp.ConjunctiveCondition1;
+import com.nhl.dflib.exp.ConjunctiveConditionN;
+import com.nhl.dflib.exp.ConstExp;
+import com.nhl.dflib.exp.Exp1;
+import com.nhl.dflib.exp.Exp2;
+import com.nhl.dflib.exp.GenericColumn;
+import com.nhl.dflib.exp.bool.AndCondition;
+import com.nhl.dflib.exp.bool.NotCondition;
+import com.nhl.dflib.exp.bool.OrCondition;
+import com.nhl.dflib.exp.flow.IfExp;
+import com.nhl.dflib.exp.num.DoubleCondition2;
+import com.nhl.dflib.exp.num.DoubleExp1;
+import com.nhl.dflib.exp.num.DoubleExp2;
+import com.nhl.dflib.exp.num.IntCondition2;
+import com.nhl.dflib.exp.num.IntExp2;
+import com.nhl.dflib.exp.num.LongCondition2;
+import com.nhl.dflib.exp.num.LongExp1;
+import com.nhl.dflib.exp.num.LongExp2;
+import com.nhl.dflib.series.NullBitmap;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compiles expression trees made of primitive arithmetic, comparisons, boolean operations and "if" expressions into
+ * fused evaluators that process the rows in chunks, one chunk at a time through the whole tree. This avoids
+ * materializing a full-size Series for every intermediate result. Any other subexpressions become the evaluator
+ * "leaves", and are evaluated as usual.
+ *
+ * @since 0.12
+ */
+public class ExpCompiler {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final Function<Exp<?>, Series<?>> leafEvaluator;
+    private final Map<Exp<?>, Series<?>> leaves;
+    private final int height;
+    private final int chunkSize;
+
+    /**
+     * Returns a compiled version of the expression, or the expression itself, if it has no fusible operations.
+     */
+    public static <T> Exp<T> compile(Exp<T> exp) {
+        return isFused(exp) ? new CompiledExp<>(exp) : exp;
+    }
+
+    /**
+     * Returns a compiled version of the condition, or the condition itself, if it has no fusible operations.
+     */
+    public static Condition compile(Condition condition) {
+        return isFused(condition) ? new CompiledCondition(condition) : condition;
+    }
+
+    ExpCompiler(Function<Exp<?>, Series<?>> leafEvaluator, int height) {
+        this.leafEvaluator = leafEvaluator;
+        this.leaves = new IdentityHashMap<>();
+        this.height = height;
+
+        this.chunkSize = Math.max(1, Math.min(CHUNK_SIZE, height));
+    }
+
+    /**
+     * Returns whether the expression is one of the operations that can be fused into a single-pass evaluator.
+     */
+    static boolean isFused(Exp<?> exp) {
+
+        if (exp instanceof IntExp2 || exp instanceof LongExp2 || exp instanceof DoubleExp2) {
+            return isArithmetic(((Exp2<?, ?, ?>) exp).getOpName());
+        }
+
+        if (exp instanceof IntCondition2 || exp instanceof LongCondition2 || exp instanceof DoubleCondition2) {
+            return BoolNode.isComparison(((Condition2<?, ?>) exp).getOpName());
+        }
+
+        if (exp instanceof AndCondition || exp instanceof OrCondition || exp instanceof NotCondition) {
+            return true;
+        }
+
+        if (exp instanceof DoubleExp1) {
+            Exp1<?, ?> cast = (Exp1<?, ?>) exp;
+            Class<?> argType = cast.getArg().getType();
+            return "castAsDouble".equals(cast.getOpName()) && (isInt(argType) || argType.equals(Long.class));
+        }
+
+        if (exp instanceof LongExp1) {
+            Exp1<?, ?> cast = (Exp1<?, ?>) exp;
+            return "castAsLong".equals(cast.getOpName()) && isInt(cast.getArg().getType());
+        }
+
+        if (exp instanceof IfExp) {
+
+            // "if" evaluates each branch only on the rows selected by the condition, while the fused evaluator
+            // evaluates both branches on all rows. So only allowing branches that can't have any side effects
+            IfExp<?> ifExp = (IfExp<?>) exp;
+            Class<?> type = ifExp.getIfTrueExp().getType();
+            return isPrimitive(type)
+                    && type.equals(ifExp.getIfFalseExp().getType())
+                    && isPure(ifExp.getIfTrueExp())
+                    && isPure(ifExp.getIfFalseExp());
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns whether the expression produces the same result for a row regardless of the other rows evaluated with
+     * it, and never throws.
+     */
+    private static boolean isPure(Exp<?> exp) {
+
+        if (exp instanceof GenericColumn || exp instanceof ConstExp) {
+            return true;
+        }
+
+        if (!isFused(exp)) {
+            return false;
+        }
+
+        if (exp instanceof Exp2) {
+            Exp2<?, ?, ?> e = (Exp2<?, ?, ?>) exp;
+
+            // integer division by zero throws
+            boolean intDivision = !(exp instanceof DoubleExp2)
+                    && ("/".equals(e.getOpName()) || "%".equals(e.getOpName()));
+            return !intDivision && isPure(e.getLeft()) && isPure(e.getRight());
+        }
+
+        if (exp instanceof Condition2) {
+            Condition2<?, ?> e = (Condition2<?, ?>) exp;
+            return isPure(e.getLeft()) && isPure(e.getRight());
+        }
+
+        if (exp instanceof Exp1) {
+            return isPure(((Exp1<?, ?>) exp).getArg());
+        }
+
+        if (exp instanceof ConjunctiveCondition1) {
+            return isPure(((ConjunctiveCondition1) exp).getArg());
+        }
+
+        if (exp instanceof ConjunctiveConditionN) {
+            for (Condition c : ((ConjunctiveConditionN) exp).getArgs()) {
+                if (!isPure(c)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (exp instanceof IfExp) {
+            return isPure(((IfExp<?>) exp).getCondition());
+        }
+
+        return false;
+    }
+
+    private static boolean isArithmetic(String opName) {
+        switch (opName) {
+            case "+":
+            case "-":
+            case "*":
+            case "/":
+            case "%":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isInt(Class<?> type) {
+        return type.equals(Integer.class) || type.equals(Integer.TYPE);
+    }
+
+    private static boolean isPrimitive(Class<?> type) {
+        return isInt(type) || type.equals(Long.class) || type.equals(Double.class) || type.equals(Boolean.class);
+    }
+
+    /**
+     * Evaluates the expression with a fused evaluator. Falls back to the regular evaluation if the tree structure or
+     * the leaf data are not suitable for the primitive operations. Either way, each leaf is evaluated only once.
+     */
+    Series<?> eval(Exp<?> exp) {
+
+        // check the structure first, so that the unsuitable trees are evaluated without evaluating any leaves upfront
+        if (nodeType(exp) == null) {
+            return leafEvaluator.apply(exp);
+        }
+
+        FusedNode node = node(exp);
+        return node != null ? node.evalAll(height) : evalUnfused(exp);
+    }
+
+    /**
+     * Returns the primitive type of the node that would be built for the expression, or null if the expression
+     * structure doesn't allow to build one. Unlike {@link #node(Exp)}, doesn't evaluate anything.
+     */
+    static Class<?> nodeType(Exp<?> exp) {
+
+        if (!isFused(exp)) {
+            return leafType(exp);
+        }
+
+        if (exp instanceof Exp2) {
+            Exp2<?, ?, ?> e = (Exp2<?, ?, ?>) exp;
+            Class<?> type = exp instanceof IntExp2
+                    ? Integer.class
+                    : exp instanceof LongExp2 ? Long.class : Double.class;
+
+            return type.equals(nodeType(e.getLeft())) && type.equals(nodeType(e.getRight())) ? type : null;
+        }
+
+        if (exp instanceof Condition2) {
+            Condition2<?, ?> c = (Condition2<?, ?>) exp;
+            Class<?> type = exp instanceof IntCondition2
+                    ? Integer.class
+                    : exp instanceof LongCondition2 ? Long.class : Double.class;
+
+            return type.equals(nodeType(c.getLeft())) && type.equals(nodeType(c.getRight())) ? Boolean.class : null;
+        }
+
+        if (exp instanceof ConjunctiveConditionN) {
+            for (Condition c : ((ConjunctiveConditionN) exp).getArgs()) {
+                if (!Boolean.class.equals(nodeType(c))) {
+                    return null;
+                }
+            }
+
+            return Boolean.class;
+        }
+
+        if (exp instanceof ConjunctiveCondition1) {
+            return Boolean.class.equals(nodeType(((ConjunctiveCondition1) exp).getArg())) ? Boolean.class : null;
+        }
+
+        if (exp instanceof Exp1) {
+            Class<?> argType = nodeType(((Exp1<?, ?>) exp).getArg());
+
+            if (exp instanceof DoubleExp1) {
+                return Integer.class.equals(argType) || Long.class.equals(argType) ? Double.class : null;
+            }
+
+            return Integer.class.equals(argType) ? Long.class : null;
+        }
+
+        if (exp instanceof IfExp) {
+            IfExp<?> ifExp = (IfExp<?>) exp;
+            Class<?> type = nodeType(ifExp.getIfTrueExp());
+
+            return type != null
+                    && type.equals(nodeType(ifExp.getIfFalseExp()))
+                    && Boolean.class.equals(nodeType(ifExp.getCondition())) ? type : null;
+        }
+
+        return null;
+    }
+
+    private static Class<?> leafType(Exp<?> exp) {
+        Class<?> type = exp.getType();
+        return isInt(type) ? Integer.class : isPrimitive(type) ? type : null;
+    }
+
+    /**
+     * Evaluates the expression as usual, reusing the leaves already evaluated while building the fused nodes.
+     */
+    private Series<?> evalUnfused(Exp<?> exp) {
+
+        if (!isFused(exp)) {
+            return leaf(exp);
+        }
+
+        if (exp instanceof Exp2) {
+            Exp2 e = (Exp2) exp;
+            return e.evalArgs(evalUnfused(e.getLeft()), evalUnfused(e.getRight()));
+        }
+
+        if (exp instanceof Condition2) {
+            Condition2 c = (Condition2) exp;
+            return c.evalArgs(evalUnfused(c.getLeft()), evalUnfused(c.getRight()));
+        }
+
+        if (exp instanceof ConjunctiveConditionN) {
+            Condition[] args = ((ConjunctiveConditionN) exp).getArgs();
+            int len = args.length;
+
+            if (len == 0) {
+                return leaf(exp);
+            }
+
+            BooleanSeries[] parts = new BooleanSeries[len];
+            for (int i = 0; i < len; i++) {
+                parts[i] = (BooleanSeries) evalUnfused(args[i]);
+            }
+
+            return ((ConjunctiveConditionN) exp).evalArgs(parts);
+        }
+
+        if (exp instanceof ConjunctiveCondition1) {
+            ConjunctiveCondition1 c = (ConjunctiveCondition1) exp;
+            return c.evalArgs((BooleanSeries) evalUnfused(c.getArg()));
+        }
+
+        if (exp instanceof Exp1) {
+            Exp1 e = (Exp1) exp;
+            return e.evalArgs(evalUnfused(e.getArg()));
+        }
+
+        if (exp instanceof IfExp) {
+            IfExp ifExp = (IfExp) exp;
+            return ifExp.evalArgs(
+                    (BooleanSeries) evalUnfused(ifExp.getCondition()),
+                    evalUnfused(ifExp.getIfTrueExp()),
+                    evalUnfused(ifExp.getIfFalseExp()));
+        }
+
+        return leaf(exp);
+    }
+
+    /**
+     * Builds an evaluator node for the expression. Returns null if any of the leaves evaluates to something other
+     * than a primitive Series without nulls, in which case the expression should be evaluated as usual.
+     */
+    FusedNode node(Exp<?> exp) {
+
+        if (!isFused(exp)) {
+            return leafNode(exp);
+        }
+
+        if (exp instanceof Exp2) {
+            Exp2<?, ?, ?> e = (Exp2<?, ?, ?>) exp;
+            FusedNode l = node(e.getLeft());
+            FusedNode r = l != null ? node(e.getRight()) : null;
+
+            if (exp instanceof IntExp2 && l instanceof IntNode && r instanceof IntNode) {
+                return IntNode.op(e.getOpName(), (IntNode) l, (IntNode) r);
+            }
+
+            if (exp instanceof LongExp2 && l instanceof LongNode && r instanceof LongNode) {
+                return LongNode.op(e.getOpName(), (LongNode) l, (LongNode) r);
+            }
+
+            if (exp instanceof DoubleExp2 && l instanceof DoubleNode && r instanceof DoubleNode) {
+                return DoubleNode.op(e.getOpName(), (DoubleNode) l, (DoubleNode) r);
+            }
+
+            return null;
+        }
+
+        if (exp instanceof Condition2) {
+            Condition2<?, ?> c = (Condition2<?, ?>) exp;
+            FusedNode l = node(c.getLeft());
+            FusedNode r = l != null ? node(c.getRight()) : null;
+
+            if (exp instanceof IntCondition2 && l instanceof IntNode && r instanceof IntNode) {
+                return BoolNode.compareInts(c.getOpName(), (IntNode) l, (IntNode) r);
+            }
+
+            if (exp instanceof LongCondition2 && l instanceof LongNode && r instanceof LongNode) {
+                return BoolNode.compareLongs(c.getOpName(), (LongNode) l, (LongNode) r);
+            }
+
+            if (exp instanceof DoubleCondition2 && l instanceof DoubleNode && r instanceof DoubleNode) {
+                return BoolNode.compareDoubles(c.getOpName(), (DoubleNode) l, (DoubleNode) r);
+            }
+
+            return null;
+        }
+
+        if (exp instanceof ConjunctiveConditionN) {
+            Condition[] args = ((ConjunctiveConditionN) exp).getArgs();
+            int len = args.length;
+
+            if (len == 0) {
+                return leafNode(exp);
+            }
+
+            BoolNode[] nodes = new BoolNode[len];
+            for (int i = 0; i < len; i++) {
+                FusedNode n = node(args[i]);
+                if (!(n instanceof BoolNode)) {
+                    return null;
+                }
+
+                nodes[i] = (BoolNode) n;
+            }
+
+            return exp instanceof AndCondition ? BoolNode.and(nodes) : BoolNode.or(nodes);
+        }
+
+        if (exp instanceof ConjunctiveCondition1) {
+            FusedNode arg = node(((ConjunctiveCondition1) exp).getArg());
+            return arg instanceof BoolNode ? BoolNode.not((BoolNode) arg) : null;
+        }
+
+        if (exp instanceof Exp1) {
+            FusedNode arg = node(((Exp1<?, ?>) exp).getArg());
+
+            if (exp instanceof DoubleExp1) {
+                return arg instanceof IntNode
+                        ? DoubleNode.fromInt((IntNode) arg)
+                        : arg instanceof LongNode ? DoubleNode.fromLong((LongNode) arg) : null;
+            }
+
+            return arg instanceof IntNode ? LongNode.fromInt((IntNode) arg) : null;
+        }
+
+        if (exp instanceof IfExp) {
+            IfExp<?> ifExp = (IfExp<?>) exp;
+            FusedNode c = node(ifExp.getCondition());
+            FusedNode t = node(ifExp.getIfTrueExp());
+            FusedNode f = node(ifExp.getIfFalseExp());
+
+            if (!(c instanceof BoolNode)) {
+                return null;
+            }
+
+            if (t instanceof IntNode && f instanceof IntNode) {
+                return IntNode.ifElse((BoolNode) c, (IntNode) t, (IntNode) f);
+            }
+
+            if (t instanceof LongNode && f instanceof LongNode) {
+                return LongNode.ifElse((BoolNode) c, (LongNode) t, (LongNode) f);
+            }
+
+            if (t instanceof DoubleNode && f instanceof DoubleNode) {
+                return DoubleNode.ifElse((BoolNode) c, (DoubleNode) t, (DoubleNode) f);
+            }
+
+            if (t instanceof BoolNode && f instanceof BoolNode) {
+                return BoolNode.ifElse((BoolNode) c, (BoolNode) t, (BoolNode) f);
+            }
+
+            return null;
+        }
+
+        return null;
+    }
+
+    private Series<?> leaf(Exp<?> exp) {
+        return leaves.computeIfAbsent(exp, leafEvaluator);
+    }
+
+    private FusedNode leafNode(Exp<?> exp) {
+
+        Class<?> type = exp.getType();
+        if (!isPrimitive(type)) {
+            return null;
+        }
+
+        Series<?> s = leaf(exp);
+
+        // the fused operations don't track nulls
+        if (NullBitmap.of(s) != null) {
+            return null;
+        }
+
+        if (isInt(type) && s instanceof IntSeries) {
+            return IntNode.input((IntSeries) s, chunkSize);
+        }
+
+        if (type.equals(Long.class) && s instanceof LongSeries) {
+            return LongNode.input((LongSeries) s, chunkSize);
+        }
+
+        if (type.equals(Double.class) && s instanceof DoubleSeries) {
+            return DoubleNode.input((DoubleSeries) s, chunkSize);
+        }
+
+        if (type.equals(Boolean.class) && s instanceof BooleanSeries) {
+            return BoolNode.input((BooleanSeries) s, chunkSize);
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.Series;
+
+/**
+ * A node of a fused expression evaluator. Evaluates a part of the expression for a chunk of rows at a time, storing
+ * the result in a chunk-sized buffer that is consumed by the parent node. So the intermediate results never take more
+ * than a chunk worth of memory, regardless of the DataFrame height.
+ *
+ * @since 0.12
+ */
+abstract class FusedNode {
+
+    /**
+     * Evaluates the node for the rows between "from" and "from + len", placing the result at the beginning of the
+     * node buffer.
+     */
+    abstract void eval(int from, int len);
+
+    /**
+     * Evaluates the node for all the rows, producing a Series of the given height.
+     */
+    abstract Series<?> evalAll(int height);
+
+    protected static int chunkLength(int chunkSize, int height, int from) {
+        return Math.min(chunkSize, height - from);
+    }
+}
@@ -0,0 +1,145 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.IntSingleValueSeries;
+
+import java.util.Arrays;
+
+/**
+ * @since 0.12
+ */
+abstract class IntNode extends FusedNode {
+
+    final int[] values;
+
+    IntNode(int chunkSize) {
+        this.values = new int[chunkSize];
+    }
+
+    static IntNode input(IntSeries s, int chunkSize) {
+
+        if (s instanceof IntSingleValueSeries && s.size() > 0) {
+            return constant(s.getInt(0), chunkSize);
+        }
+
+        return new IntNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+                s.copyToInt(values, from, 0, len);
+            }
+        };
+    }
+
+    static IntNode constant(int value, int chunkSize) {
+        IntNode node = new IntNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+                // the buffer is filled once
+            }
+        };
+
+        Arrays.fill(node.values, value);
+        return node;
+    }
+
+    static IntNode op(String opName, IntNode l, IntNode r) {
+
+        int[] lv = l.values;
+        int[] rv = r.values;
+
+        switch (opName) {
+            case "+":
+                return new IntNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] + rv[i];
+                        }
+                    }
+                };
+            case "-":
+                return new IntNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] - rv[i];
+                        }
+                    }
+                };
+            case "*":
+                return new IntNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] * rv[i];
+                        }
+                    }
+                };
+            case "/":
+                return new IntNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] / rv[i];
+                        }
+                    }
+                };
+            case "%":
+                return new IntNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] % rv[i];
+                        }
+                    }
+                };
+            default:
+                return null;
+        }
+    }
+
+    static IntNode ifElse(BoolNode condition, IntNode ifTrue, IntNode ifFalse) {
+
+        boolean[] cv = condition.values;
+        int[] tv = ifTrue.values;
+        int[] fv = ifFalse.values;
+
+        return new IntNode(cv.length) {
+            @Override
+            void eval(int from, int len) {
+                condition.eval(from, len);
+                ifTrue.eval(from, len);
+                ifFalse.eval(from, len);
+                for (int i = 0; i < len; i++) {
+                    values[i] = cv[i] ? tv[i] : fv[i];
+                }
+            }
+        };
+    }
+
+    @Override
+    IntSeries evalAll(int height) {
+
+        int[] result = new int[height];
+        int chunkSize = values.length;
+
+        for (int from = 0; from < height; from += chunkSize) {
+            int len = chunkLength(chunkSize, height, from);
+            eval(from, len);
+            System.arraycopy(values, 0, result, from, len);
+        }
+
+        return new IntArraySeries(result);
+    }
+}
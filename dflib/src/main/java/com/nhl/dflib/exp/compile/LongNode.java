@@ -0,0 +1,160 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.series.LongArraySeries;
+import com.nhl.dflib.series.LongSingleValueSeries;
+
+import java.util.Arrays;
+
+/**
+ * @since 0.12
+ */
+abstract class LongNode extends FusedNode {
+
+    final long[] values;
+
+    LongNode(int chunkSize) {
+        this.values = new long[chunkSize];
+    }
+
+    static LongNode input(LongSeries s, int chunkSize) {
+
+        if (s instanceof LongSingleValueSeries && s.size() > 0) {
+            return constant(s.getLong(0), chunkSize);
+        }
+
+        return new LongNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+                s.copyToLong(values, from, 0, len);
+            }
+        };
+    }
+
+    static LongNode constant(long value, int chunkSize) {
+        LongNode node = new LongNode(chunkSize) {
+            @Override
+            void eval(int from, int len) {
+                // the buffer is filled once
+            }
+        };
+
+        Arrays.fill(node.values, value);
+        return node;
+    }
+
+    static LongNode op(String opName, LongNode l, LongNode r) {
+
+        long[] lv = l.values;
+        long[] rv = r.values;
+
+        switch (opName) {
+            case "+":
+                return new LongNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] + rv[i];
+                        }
+                    }
+                };
+            case "-":
+                return new LongNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] - rv[i];
+                        }
+                    }
+                };
+            case "*":
+                return new LongNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] * rv[i];
+                        }
+                    }
+                };
+            case "/":
+                return new LongNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] / rv[i];
+                        }
+                    }
+                };
+            case "%":
+                return new LongNode(lv.length) {
+                    @Override
+                    void eval(int from, int len) {
+                        l.eval(from, len);
+                        r.eval(from, len);
+                        for (int i = 0; i < len; i++) {
+                            values[i] = lv[i] % rv[i];
+                        }
+                    }
+                };
+            default:
+                return null;
+        }
+    }
+
+    static LongNode fromInt(IntNode arg) {
+
+        int[] av = arg.values;
+
+        return new LongNode(av.length) {
+            @Override
+            void eval(int from, int len) {
+                arg.eval(from, len);
+                for (int i = 0; i < len; i++) {
+                    values[i] = av[i];
+                }
+            }
+        };
+    }
+
+    static LongNode ifElse(BoolNode condition, LongNode ifTrue, LongNode ifFalse) {
+
+        boolean[] cv = condition.values;
+        long[] tv = ifTrue.values;
+        long[] fv = ifFalse.values;
+
+        return new LongNode(cv.length) {
+            @Override
+            void eval(int from, int len) {
+                condition.eval(from, len);
+                ifTrue.eval(from, len);
+                ifFalse.eval(from, len);
+                for (int i = 0; i < len; i++) {
+                    values[i] = cv[i] ? tv[i] : fv[i];
+                }
+            }
+        };
+    }
+
+    @Override
+    LongSeries evalAll(int height) {
+
+        long[] result = new long[height];
+        int chunkSize = values.length;
+
+        for (int from = 0; from < height; from += chunkSize) {
+            int len = chunkLength(chunkSize, height, from);
+            eval(from, len);
+            System.arraycopy(values, 0, result, from, len);
+        }
+
+        return new LongArraySeries(result);
+    }
+}
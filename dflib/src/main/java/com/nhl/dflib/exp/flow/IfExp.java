@@ -27,6 +27,27 @@ public class IfExp<T> implements Exp<T> {
         return toQL();
     }
 
+    /**
+     * @since 0.12
+     */
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Exp<T> getIfTrueExp() {
+        return ifTrueExp;
+    }
+
+    /**
+     * @since 0.12
+     */
+    public Exp<T> getIfFalseExp() {
+        return ifFalseExp;
+    }
+
     @Override
     public Class<T> getType() {
         return ifTrueExp.getType();
@@ -85,6 +106,25 @@ public class IfExp<T> implements Exp<T> {
         );
     }
 
+    /**
+     * Combines the already evaluated full-size condition and branches Series, taking each value from one of the
+     * branches based on the condition.
+     *
+     * @since 0.12
+     */
+    public Series<T> evalArgs(BooleanSeries mask, Series<T> ifTrue, Series<T> ifFalse) {
+        IntSeries indexTrue = mask.indexTrue();
+
+        if (indexTrue.size() == 0) {
+            return ifFalse;
+        } else if (indexTrue.size() == mask.size()) {
+            return ifTrue;
+        }
+
+        IntSeries indexFalse = mask.indexFalse();
+        return evalMerge(ifTrue.select(indexTrue), ifFalse.select(indexFalse), indexTrue, indexFalse);
+    }
+
     protected Series<T> evalMerge(Series<T> dataIfTrue, Series<T> dataIfFalse, IntSeries indexTrue, IntSeries indexFalse) {
 
         int st = dataIfTrue.size();
@@ -7,12 +7,14 @@ import com.nhl.dflib.NumExp;
 import com.nhl.dflib.exp.agg.ComparableAggregators;
 import com.nhl.dflib.exp.agg.DecimalAggregators;
 import com.nhl.dflib.exp.agg.DecimalExpAggregator;
+import com.nhl.dflib.exp.agg.ExpAggregator;
 import com.nhl.dflib.exp.map.MapCondition2;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -143,6 +145,16 @@ public class DecimalExpFactory extends NumericExpFactory {
         return new DecimalExpAggregator(cast(exp), DecimalAggregators::median);
     }
 
+    @Override
+    public DecimalExp quantile(Exp<? extends Number> exp, double q) {
+        return new DecimalExpAggregator(cast(exp), s -> DecimalAggregators.quantile(s, q));
+    }
+
+    @Override
+    public Exp<List<Number>> quantiles(Exp<? extends Number> exp, double[] qs) {
+        return new ExpAggregator<>(cast(exp), s -> DecimalAggregators.quantiles(s, qs));
+    }
+
     @Override
     public Condition eq(Exp<? extends Number> left, Exp<? extends Number> right) {
         // TODO: should we apply ".stripTrailingZeros()" for consistency, but at the expense of performance?
@@ -5,6 +5,7 @@ import com.nhl.dflib.DoubleSeries;
 import com.nhl.dflib.Exp;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.exp.map.MapCondition2;
+import com.nhl.dflib.series.NullBitmap;
 
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -38,8 +39,16 @@ public class DoubleCondition2 extends MapCondition2<Double, Double> {
 
     @Override
     protected BooleanSeries doEval(Series<Double> left, Series<Double> right) {
-        return (left instanceof DoubleSeries && right instanceof DoubleSeries)
-                ? primitiveOp.apply((DoubleSeries) left, (DoubleSeries) right)
-                : super.doEval(left, right);
+
+        if (left instanceof DoubleSeries && right instanceof DoubleSeries) {
+
+            BooleanSeries result = primitiveOp.apply((DoubleSeries) left, (DoubleSeries) right);
+
+            // nulls never match a condition
+            long[] nulls = NullBitmap.or(NullBitmap.of(left), NullBitmap.of(right));
+            return nulls != null ? NullBitmap.clearNulls(result, nulls) : result;
+        }
+
+        return super.doEval(left, right);
     }
 }
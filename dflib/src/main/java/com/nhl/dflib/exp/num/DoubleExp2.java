@@ -5,6 +5,8 @@ import com.nhl.dflib.Exp;
 import com.nhl.dflib.NumExp;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.exp.map.MapExp2;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableDoubleArraySeries;
 
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -38,8 +40,19 @@ public class DoubleExp2 extends MapExp2<Double, Double, Double> implements NumEx
 
     @Override
     protected Series<Double> doEval(Series<Double> ls, Series<Double> rs) {
-        return (ls instanceof DoubleSeries && rs instanceof DoubleSeries)
-                ? primitiveOp.apply((DoubleSeries) ls, (DoubleSeries) rs)
-                : super.doEval(ls, rs);
+
+        if (ls instanceof DoubleSeries && rs instanceof DoubleSeries) {
+
+            long[] nulls = NullBitmap.or(NullBitmap.of(ls), NullBitmap.of(rs));
+            if (nulls == null) {
+                return primitiveOp.apply((DoubleSeries) ls, (DoubleSeries) rs);
+            }
+
+            // evaluating with nulls replaced with "1" to avoid division by zero, and then restoring the nulls
+            DoubleSeries result = primitiveOp.apply((DoubleSeries) ls.fillNulls(1.), (DoubleSeries) rs.fillNulls(1.));
+            return NullableDoubleArraySeries.withNulls(result, nulls);
+        }
+
+        return super.doEval(ls, rs);
     }
 }
@@ -1,10 +1,16 @@
 package com.nhl.dflib.exp.num;
 
 import com.nhl.dflib.*;
+import com.nhl.dflib.accumulator.DoubleAccumulator;
 import com.nhl.dflib.exp.agg.DoubleAggregators;
 import com.nhl.dflib.exp.agg.DoubleExpAggregator;
+import com.nhl.dflib.exp.agg.ExpAggregator;
+import com.nhl.dflib.series.IntAsDoubleSeries;
+import com.nhl.dflib.series.LongAsDoubleSeries;
+import com.nhl.dflib.series.NullableSeries;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * @since 0.11
@@ -22,7 +28,7 @@ public class DoubleExpFactory extends NumericExpFactory {
 
         if (Number.class.isAssignableFrom(t)) {
             Exp<Number> nExp = (Exp<Number>) exp;
-            return DoubleExp1.mapVal("castAsDouble", nExp, Number::doubleValue);
+            return new DoubleExp1<>("castAsDouble", nExp, DoubleExpFactory::castAsDouble);
         }
 
         if (t.equals(String.class)) {
@@ -33,6 +39,36 @@ public class DoubleExpFactory extends NumericExpFactory {
         throw new IllegalArgumentException("Expression type '" + t.getName() + "' can't be converted to Double");
     }
 
+    /**
+     * Converts a Series of numbers to a DoubleSeries. Non-null int and long Series are wrapped in a view that converts the
+     * values on access, so the type promotion in arithmetic operations and conditions requires no boxing or copying.
+     *
+     * @since 0.12
+     */
+    protected static Series<Double> castAsDouble(Series<? extends Number> s) {
+
+        if (s instanceof IntSeries && !(s instanceof NullableSeries)) {
+            return new IntAsDoubleSeries((IntSeries) s);
+        }
+
+        if (s instanceof LongSeries && !(s instanceof NullableSeries)) {
+            return new LongAsDoubleSeries((LongSeries) s);
+        }
+
+        int len = s.size();
+        DoubleAccumulator values = new DoubleAccumulator(len);
+        for (int i = 0; i < len; i++) {
+            Number n = s.get(i);
+            if (n != null) {
+                values.addDouble(n.doubleValue());
+            } else {
+                values.addNull();
+            }
+        }
+
+        return values.toSeries();
+    }
+
     @Override
     public NumExp<?> add(Exp<? extends Number> left, Exp<? extends Number> right) {
         return DoubleExp2.mapVal("+",
@@ -90,27 +126,44 @@ public class DoubleExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Double> sum(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("sum", exp, DoubleAggregators::sum);
+        return new DoubleExpAggregator<>("sum", exp, DoubleAggregators::sum, DoubleAggregators::sumGroups);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("min", exp, DoubleAggregators::min);
+        return new DoubleExpAggregator<>("min", exp, DoubleAggregators::min, DoubleAggregators::minGroups);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("max", exp, DoubleAggregators::max);
+        return new DoubleExpAggregator<>("max", exp, DoubleAggregators::max, DoubleAggregators::maxGroups);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg);
+        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg, DoubleAggregators::avgGroups);
     }
 
     @Override
     public NumExp<?> median(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median);
+        return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median, DoubleAggregators::medianGroups);
+    }
+
+    @Override
+    public NumExp<?> quantile(Exp<? extends Number> exp, double q) {
+        return new DoubleExpAggregator<>(
+                "quantile",
+                exp,
+                s -> DoubleAggregators.quantile(s, q),
+                (s, rowGroups, groupCount) -> DoubleAggregators.quantileGroups(s, rowGroups, groupCount, q));
+    }
+
+    @Override
+    public Exp<List<Number>> quantiles(Exp<? extends Number> exp, double[] qs) {
+        return new ExpAggregator<>(
+                exp,
+                s -> DoubleAggregators.quantiles(s, qs),
+                (s, rowGroups, groupCount) -> DoubleAggregators.quantilesGroups(s, rowGroups, groupCount, qs));
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.nhl.dflib.exp.num;
 
 import com.nhl.dflib.*;
 import com.nhl.dflib.exp.map.MapCondition2;
+import com.nhl.dflib.series.NullBitmap;
 
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -35,8 +36,16 @@ public class IntCondition2 extends MapCondition2<Integer, Integer> {
 
     @Override
     protected BooleanSeries doEval(Series<Integer> left, Series<Integer> right) {
-        return (left instanceof IntSeries && right instanceof IntSeries)
-                ? primitiveOp.apply((IntSeries) left, (IntSeries) right)
-                : super.doEval(left, right);
+
+        if (left instanceof IntSeries && right instanceof IntSeries) {
+
+            BooleanSeries result = primitiveOp.apply((IntSeries) left, (IntSeries) right);
+
+            // nulls never match a condition
+            long[] nulls = NullBitmap.or(NullBitmap.of(left), NullBitmap.of(right));
+            return nulls != null ? NullBitmap.clearNulls(result, nulls) : result;
+        }
+
+        return super.doEval(left, right);
     }
 }
@@ -2,6 +2,8 @@ package com.nhl.dflib.exp.num;
 
 import com.nhl.dflib.*;
 import com.nhl.dflib.exp.map.MapExp2;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableIntArraySeries;
 
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -35,8 +37,19 @@ public class IntExp2 extends MapExp2<Integer, Integer, Integer> implements NumEx
 
     @Override
     protected Series<Integer> doEval(Series<Integer> ls, Series<Integer> rs) {
-        return (ls instanceof IntSeries && rs instanceof IntSeries)
-                ? primitiveOp.apply((IntSeries) ls, (IntSeries) rs)
-                : super.doEval(ls, rs);
+
+        if (ls instanceof IntSeries && rs instanceof IntSeries) {
+
+            long[] nulls = NullBitmap.or(NullBitmap.of(ls), NullBitmap.of(rs));
+            if (nulls == null) {
+                return primitiveOp.apply((IntSeries) ls, (IntSeries) rs);
+            }
+
+            // evaluating with nulls replaced with "1" to avoid division by zero, and then restoring the nulls
+            IntSeries result = primitiveOp.apply((IntSeries) ls.fillNulls(1), (IntSeries) rs.fillNulls(1));
+            return NullableIntArraySeries.withNulls(result, nulls);
+        }
+
+        return super.doEval(ls, rs);
     }
 }
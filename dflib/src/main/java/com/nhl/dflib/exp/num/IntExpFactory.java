@@ -3,10 +3,12 @@ package com.nhl.dflib.exp.num;
 import com.nhl.dflib.*;
 import com.nhl.dflib.exp.agg.DoubleAggregators;
 import com.nhl.dflib.exp.agg.DoubleExpAggregator;
+import com.nhl.dflib.exp.agg.ExpAggregator;
 import com.nhl.dflib.exp.agg.IntAggregators;
 import com.nhl.dflib.exp.agg.IntExpAggregator;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * @since 0.11
@@ -72,27 +74,44 @@ public class IntExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Integer> sum(Exp<? extends Number> exp) {
-        return new IntExpAggregator<>("sum", exp, IntAggregators::sum);
+        return new IntExpAggregator<>("sum", exp, IntAggregators::sum, IntAggregators::sumGroups);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp) {
-        return new IntExpAggregator<>("min", exp, IntAggregators::min);
+        return new IntExpAggregator<>("min", exp, IntAggregators::min, IntAggregators::minGroups);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp) {
-        return new IntExpAggregator<>("max", exp, IntAggregators::max);
+        return new IntExpAggregator<>("max", exp, IntAggregators::max, IntAggregators::maxGroups);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg);
+        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg, DoubleAggregators::avgGroups);
     }
 
     @Override
     public NumExp<?> median(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median);
+        return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median, DoubleAggregators::medianGroups);
+    }
+
+    @Override
+    public NumExp<?> quantile(Exp<? extends Number> exp, double q) {
+        return new DoubleExpAggregator<>(
+                "quantile",
+                exp,
+                s -> DoubleAggregators.quantile(s, q),
+                (s, rowGroups, groupCount) -> DoubleAggregators.quantileGroups(s, rowGroups, groupCount, q));
+    }
+
+    @Override
+    public Exp<List<Number>> quantiles(Exp<? extends Number> exp, double[] qs) {
+        return new ExpAggregator<>(
+                exp,
+                s -> DoubleAggregators.quantiles(s, qs),
+                (s, rowGroups, groupCount) -> DoubleAggregators.quantilesGroups(s, rowGroups, groupCount, qs));
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.nhl.dflib.exp.num;
 
 import com.nhl.dflib.*;
 import com.nhl.dflib.exp.map.MapCondition2;
+import com.nhl.dflib.series.NullBitmap;
 
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -35,8 +36,16 @@ public class LongCondition2 extends MapCondition2<Long, Long> {
 
     @Override
     protected BooleanSeries doEval(Series<Long> left, Series<Long> right) {
-        return (left instanceof LongSeries && right instanceof LongSeries)
-                ? primitiveOp.apply((LongSeries) left, (LongSeries) right)
-                : super.doEval(left, right);
+
+        if (left instanceof LongSeries && right instanceof LongSeries) {
+
+            BooleanSeries result = primitiveOp.apply((LongSeries) left, (LongSeries) right);
+
+            // nulls never match a condition
+            long[] nulls = NullBitmap.or(NullBitmap.of(left), NullBitmap.of(right));
+            return nulls != null ? NullBitmap.clearNulls(result, nulls) : result;
+        }
+
+        return super.doEval(left, right);
     }
 }
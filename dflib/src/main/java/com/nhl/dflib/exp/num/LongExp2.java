@@ -2,6 +2,8 @@ package com.nhl.dflib.exp.num;
 
 import com.nhl.dflib.*;
 import com.nhl.dflib.exp.map.MapExp2;
+import com.nhl.dflib.series.NullBitmap;
+import com.nhl.dflib.series.NullableLongArraySeries;
 
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -35,8 +37,19 @@ public class LongExp2 extends MapExp2<Long, Long, Long> implements NumExp<Long>
 
     @Override
     protected Series<Long> doEval(Series<Long> left, Series<Long> right) {
-        return (left instanceof LongSeries && right instanceof LongSeries)
-                ? primitiveOp.apply((LongSeries) left, (LongSeries) right)
-                : super.doEval(left, right);
+
+        if (left instanceof LongSeries && right instanceof LongSeries) {
+
+            long[] nulls = NullBitmap.or(NullBitmap.of(left), NullBitmap.of(right));
+            if (nulls == null) {
+                return primitiveOp.apply((LongSeries) left, (LongSeries) right);
+            }
+
+            // evaluating with nulls replaced with "1" to avoid division by zero, and then restoring the nulls
+            LongSeries result = primitiveOp.apply((LongSeries) left.fillNulls(1L), (LongSeries) right.fillNulls(1L));
+            return NullableLongArraySeries.withNulls(result, nulls);
+        }
+
+        return super.doEval(left, right);
     }
 }
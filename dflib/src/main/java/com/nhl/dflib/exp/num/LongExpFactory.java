@@ -1,12 +1,17 @@
 package com.nhl.dflib.exp.num;
 
 import com.nhl.dflib.*;
+import com.nhl.dflib.accumulator.LongAccumulator;
 import com.nhl.dflib.exp.agg.DoubleAggregators;
 import com.nhl.dflib.exp.agg.DoubleExpAggregator;
+import com.nhl.dflib.exp.agg.ExpAggregator;
 import com.nhl.dflib.exp.agg.LongAggregators;
 import com.nhl.dflib.exp.agg.LongExpAggregator;
+import com.nhl.dflib.series.IntAsLongSeries;
+import com.nhl.dflib.series.NullableSeries;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * @since 0.11
@@ -24,7 +29,7 @@ public class LongExpFactory extends NumericExpFactory {
 
         if (Number.class.isAssignableFrom(t)) {
             Exp<Number> nExp = (Exp<Number>) exp;
-            return LongExp1.mapVal("castAsLong", nExp, Number::longValue);
+            return new LongExp1<>("castAsLong", nExp, LongExpFactory::castAsLong);
         }
 
         if (t.equals(String.class)) {
@@ -35,6 +40,32 @@ public class LongExpFactory extends NumericExpFactory {
         throw new IllegalArgumentException("Expression type '" + t.getName() + "' can't be converted to Long");
     }
 
+    /**
+     * Converts a Series of numbers to a LongSeries. Non-null int Series are wrapped in a view that converts the
+     * values on access, so the type promotion in arithmetic operations and conditions requires no boxing or copying.
+     *
+     * @since 0.12
+     */
+    protected static Series<Long> castAsLong(Series<? extends Number> s) {
+
+        if (s instanceof IntSeries && !(s instanceof NullableSeries)) {
+            return new IntAsLongSeries((IntSeries) s);
+        }
+
+        int len = s.size();
+        LongAccumulator values = new LongAccumulator(len);
+        for (int i = 0; i < len; i++) {
+            Number n = s.get(i);
+            if (n != null) {
+                values.addLong(n.longValue());
+            } else {
+                values.addNull();
+            }
+        }
+
+        return values.toSeries();
+    }
+
     @Override
     public NumExp<?> add(Exp<? extends Number> left, Exp<? extends Number> right) {
         return LongExp2.mapVal("+", cast(left), cast(right), (n1, n2) -> n1 + n2, LongSeries::add);
@@ -72,27 +103,44 @@ public class LongExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Long> sum(Exp<? extends Number> exp) {
-        return new LongExpAggregator<>("sum", exp, LongAggregators::sum);
+        return new LongExpAggregator<>("sum", exp, LongAggregators::sum, LongAggregators::sumGroups);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp) {
-        return new LongExpAggregator<>("min", exp, LongAggregators::min);
+        return new LongExpAggregator<>("min", exp, LongAggregators::min, LongAggregators::minGroups);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp) {
-        return new LongExpAggregator<>("max", exp, LongAggregators::max);
+        return new LongExpAggregator<>("max", exp, LongAggregators::max, LongAggregators::maxGroups);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg);
+        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg, DoubleAggregators::avgGroups);
     }
 
     @Override
     public NumExp<?> median(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median);
+        return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median, DoubleAggregators::medianGroups);
+    }
+
+    @Override
+    public NumExp<?> quantile(Exp<? extends Number> exp, double q) {
+        return new DoubleExpAggregator<>(
+                "quantile",
+                exp,
+                s -> DoubleAggregators.quantile(s, q),
+                (s, rowGroups, groupCount) -> DoubleAggregators.quantileGroups(s, rowGroups, groupCount, q));
+    }
+
+    @Override
+    public Exp<List<Number>> quantiles(Exp<? extends Number> exp, double[] qs) {
+        return new ExpAggregator<>(
+                exp,
+                s -> DoubleAggregators.quantiles(s, qs),
+                (s, rowGroups, groupCount) -> DoubleAggregators.quantilesGroups(s, rowGroups, groupCount, qs));
     }
 
     @Override
@@ -7,6 +7,7 @@ import com.nhl.dflib.NumExp;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -134,6 +135,16 @@ public abstract class NumericExpFactory {
 
     public abstract NumExp<?> median(Exp<? extends Number> exp);
 
+    /**
+     * @since 0.12
+     */
+    public abstract NumExp<?> quantile(Exp<? extends Number> exp, double q);
+
+    /**
+     * @since 0.12
+     */
+    public abstract Exp<List<Number>> quantiles(Exp<? extends Number> exp, double[] qs);
+
     public abstract DecimalExp castAsDecimal(NumExp<?> exp);
 
     public abstract Condition eq(Exp<? extends Number> left, Exp<? extends Number> right);
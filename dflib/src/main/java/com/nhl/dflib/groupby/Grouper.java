@@ -3,25 +3,63 @@ package com.nhl.dflib.groupby;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.GroupBy;
 import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
 import com.nhl.dflib.accumulator.IntAccumulator;
 import com.nhl.dflib.Hasher;
+import com.nhl.dflib.map.ColumnHasher;
+import com.nhl.dflib.map.KeyColumns;
+import com.nhl.dflib.map.MultiColumnHasher;
 import com.nhl.dflib.row.RowProxy;
+import com.nhl.dflib.series.CategoricalSeries;
+import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.NullBitmap;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntFunction;
 
 public class Grouper {
 
+    // initial size of the primitive key hash tables. They will grow as needed
+    private static final int EXPECTED_GROUPS = 1024;
+
     private Hasher hasher;
 
     public Grouper(Hasher hasher) {
         this.hasher = Objects.requireNonNull(hasher, "Null 'hasher'");
     }
 
-    @SuppressWarnings("unchecked")
     public GroupBy group(DataFrame df) {
 
+        if (hasher instanceof ColumnHasher) {
+
+            Series<?> keys = ((ColumnHasher) hasher).resolveColumn(df);
+
+            if (keys instanceof IntSeries) {
+                return groupInts(df, (IntSeries) keys);
+            }
+
+            if (keys instanceof LongSeries) {
+                return groupLongs(df, (LongSeries) keys);
+            }
+
+            if (keys instanceof CategoricalSeries) {
+                return groupCategories(df, (CategoricalSeries<?>) keys);
+            }
+        }
+
+        if (hasher instanceof MultiColumnHasher) {
+            return groupKeyColumns(df, ((MultiColumnHasher) hasher).resolveColumns(df));
+        }
+
+        return groupRows(df);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected GroupBy groupRows(DataFrame df) {
+
         // Intentionally using generics-free map to be able to reset the internal object and avoid copying the map
         Map groups = new LinkedHashMap();
 
@@ -46,4 +84,123 @@ public class Grouper {
 
         return new GroupBy(df, (Map<Object, IntSeries>) groups, null);
     }
+
+    /**
+     * Groups a DataFrame on an int column without boxing the values or iterating over the rows.
+     */
+    protected GroupBy groupInts(DataFrame df, IntSeries keys) {
+
+        int h = keys.size();
+        IntKeyGroupTable table = new IntKeyGroupTable(Math.min(h, EXPECTED_GROUPS));
+        int[] rowGroups = new int[h];
+
+        // null keys are excluded from the groups, same as in the row-based grouping
+        long[] nulls = NullBitmap.of(keys);
+
+        for (int i = 0; i < h; i++) {
+            rowGroups[i] = nulls != null && NullBitmap.isSet(nulls, i) ? -1 : table.groupId(keys.getInt(i));
+        }
+
+        return toGroupBy(df, rowGroups, table.size(), table::key);
+    }
+
+    /**
+     * Groups a DataFrame on a long column without boxing the values or iterating over the rows.
+     */
+    protected GroupBy groupLongs(DataFrame df, LongSeries keys) {
+
+        int h = keys.size();
+        LongKeyGroupTable table = new LongKeyGroupTable(Math.min(h, EXPECTED_GROUPS));
+        int[] rowGroups = new int[h];
+
+        // null keys are excluded from the groups, same as in the row-based grouping
+        long[] nulls = NullBitmap.of(keys);
+
+        for (int i = 0; i < h; i++) {
+            rowGroups[i] = nulls != null && NullBitmap.isSet(nulls, i) ? -1 : table.groupId(keys.getLong(i));
+        }
+
+        return toGroupBy(df, rowGroups, table.size(), table::key);
+    }
+
+    /**
+     * Groups a DataFrame on a dictionary-encoded column by the category codes, without hashing the values.
+     *
+     * @since 0.12
+     */
+    protected GroupBy groupCategories(DataFrame df, CategoricalSeries<?> keys) {
+        return new GroupBy(df, keys.groupIndex(), null);
+    }
+
+    /**
+     * Groups a DataFrame on a multi-column key, comparing the keys by row position without creating per-row key
+     * objects.
+     */
+    protected GroupBy groupKeyColumns(DataFrame df, KeyColumns keys) {
+
+        int h = keys.height();
+        RowKeyGroupTable table = new RowKeyGroupTable(keys);
+        int[] rowGroups = new int[h];
+
+        for (int i = 0; i < h; i++) {
+            rowGroups[i] = table.groupId(i);
+        }
+
+        return toGroupBy(df, rowGroups, table.size(), table::groupKey);
+    }
+
+    protected static GroupBy toGroupBy(DataFrame df, int[] rowGroups, int groupCount, IntFunction<Object> groupKeys) {
+
+        IntSeries[] indices = groupIndices(rowGroups, groupCount);
+
+        Map<Object, IntSeries> groups = new LinkedHashMap<>((int) (groupCount / 0.75) + 1);
+        for (int g = 0; g < groupCount; g++) {
+            groups.put(groupKeys.apply(g), indices[g]);
+        }
+
+        return new GroupBy(df, groups, null);
+    }
+
+    /**
+     * Converts an array of per-row group ids into per-group row position indices. The indices are ranges of a single
+     * shared array of row positions. Rows with negative group ids are not included in any group.
+     *
+     * @since 0.12
+     */
+    public static IntSeries[] groupIndices(int[] rowGroups, int groupCount) {
+
+        int h = rowGroups.length;
+
+        // "counting sort" of row positions by group id
+        int[] offsets = new int[groupCount + 1];
+        for (int i = 0; i < h; i++) {
+            offsets[rowGroups[i] + 1]++;
+        }
+
+        // rows with "-1" group were counted in the "0" slot
+        int skipped = offsets[0];
+        offsets[0] = 0;
+
+        for (int g = 0; g < groupCount; g++) {
+            offsets[g + 1] += offsets[g];
+        }
+
+        int[] positions = new int[h - skipped];
+        int[] cursors = new int[groupCount];
+        System.arraycopy(offsets, 0, cursors, 0, groupCount);
+
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g >= 0) {
+                positions[cursors[g]++] = i;
+            }
+        }
+
+        IntSeries[] indices = new IntSeries[groupCount];
+        for (int g = 0; g < groupCount; g++) {
+            indices[g] = new IntArraySeries(positions, offsets[g], offsets[g + 1] - offsets[g]);
+        }
+
+        return indices;
+    }
 }
@@ -0,0 +1,106 @@
+package com.nhl.dflib.groupby;
+
+/**
+ * An open-addressing hash table that assigns sequential group ids to primitive long keys in the order of their first
+ * appearance. Used to group by a long column without boxing the keys.
+ *
+ * @since 0.12
+ */
+class LongKeyGroupTable {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+
+    // group id + 1, so that "0" can denote an empty slot
+    private int[] slots;
+    private int mask;
+    private int resizeAt;
+
+    // keys in the order of their group ids
+    private long[] groupKeys;
+    private int size;
+
+    LongKeyGroupTable(int expectedGroups) {
+        // keep the load factor at or below 0.5
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedGroups * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+
+        this.keys = new long[capacity];
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeAt = capacity / 2;
+        this.groupKeys = new long[capacity / 2];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long key(int groupId) {
+        return groupKeys[groupId];
+    }
+
+    /**
+     * Returns a group id for the key, assigning the next available id if the key is not yet in the table.
+     */
+    int groupId(long key) {
+
+        int i = hash(key) & mask;
+        int slot;
+        while ((slot = slots[i]) != 0) {
+            if (keys[i] == key) {
+                return slot - 1;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        int id = size++;
+        keys[i] = key;
+        slots[i] = id + 1;
+        groupKeys[id] = key;
+
+        if (size == resizeAt) {
+            resize();
+        }
+
+        return id;
+    }
+
+    private void resize() {
+
+        int capacity = keys.length * 2;
+        long[] oldKeys = this.keys;
+        int[] oldSlots = this.slots;
+
+        this.keys = new long[capacity];
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeAt = capacity / 2;
+
+        long[] groupKeys = new long[capacity / 2];
+        System.arraycopy(this.groupKeys, 0, groupKeys, 0, size);
+        this.groupKeys = groupKeys;
+
+        for (int j = 0; j < oldSlots.length; j++) {
+            if (oldSlots[j] != 0) {
+
+                int i = hash(oldKeys[j]) & mask;
+                while (slots[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+
+                keys[i] = oldKeys[j];
+                slots[i] = oldSlots[j];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,160 @@
+package com.nhl.dflib.groupby;
+
+import com.nhl.dflib.map.KeyColumns;
+import com.nhl.dflib.map.RowKeyMatcher;
+
+/**
+ * An open-addressing hash table that assigns sequential group ids to the rows with distinct {@link KeyColumns} values,
+ * in the order of their first appearance. Instead of the key objects, the table stores positions of the first row of
+ * each group, comparing the keys directly against the key columns.
+ *
+ * @since 0.12
+ */
+public class RowKeyGroupTable {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final KeyColumns keys;
+    private final RowKeyMatcher matcher;
+    private final int[] hashes;
+
+    // first row of the group + 1, so that "0" can denote an empty slot
+    private int[] slotRows;
+    private int[] slotGroups;
+    private int[] slotHashes;
+    private int mask;
+    private int resizeAt;
+
+    private int[] groupRows;
+    private int size;
+
+    public RowKeyGroupTable(KeyColumns keys) {
+        this(keys, keys.hashes());
+    }
+
+    public RowKeyGroupTable(KeyColumns keys, int[] hashes) {
+        this.keys = keys;
+        this.matcher = keys.matcher(keys);
+        this.hashes = hashes;
+
+        int capacity = MIN_CAPACITY;
+        this.slotRows = new int[capacity];
+        this.slotGroups = new int[capacity];
+        this.slotHashes = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeAt = capacity / 2;
+        this.groupRows = new int[capacity / 2];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the first row in a given group.
+     */
+    public int groupRow(int groupId) {
+        return groupRows[groupId];
+    }
+
+    /**
+     * Returns an object key for a given group, compatible with the keys produced by the equivalent column Hasher.
+     */
+    public Object groupKey(int groupId) {
+        return keys.key(groupRows[groupId]);
+    }
+
+    /**
+     * Returns a group id for the row, assigning the next available id if the row key is not yet in the table. Returns
+     * -1 for the rows with null keys, that are excluded from grouping.
+     */
+    public int groupId(int row) {
+
+        if (keys.isNullKey(row)) {
+            return -1;
+        }
+
+        int hash = hashes[row];
+        int i = mix(hash) & mask;
+        int slotRow;
+        while ((slotRow = slotRows[i]) != 0) {
+            if (slotHashes[i] == hash && matcher.matches(row, slotRow - 1)) {
+                return slotGroups[i];
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        int id = size++;
+        slotRows[i] = row + 1;
+        slotGroups[i] = id;
+        slotHashes[i] = hash;
+        groupRows[id] = row;
+
+        if (size == resizeAt) {
+            resize();
+        }
+
+        return id;
+    }
+
+    /**
+     * Finds a group id of a row from another set of key columns. Returns -1 if there's no matching group.
+     *
+     * @param otherRow     position of the row in the other key columns
+     * @param otherHash    the hash of the other row key
+     * @param otherMatcher a matcher that compares the other key columns with this table key columns
+     */
+    public int findGroupId(int otherRow, int otherHash, RowKeyMatcher otherMatcher) {
+
+        int i = mix(otherHash) & mask;
+        int slotRow;
+        while ((slotRow = slotRows[i]) != 0) {
+            if (slotHashes[i] == otherHash && otherMatcher.matches(otherRow, slotRow - 1)) {
+                return slotGroups[i];
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private void resize() {
+
+        int capacity = slotRows.length * 2;
+        int[] oldRows = this.slotRows;
+        int[] oldGroups = this.slotGroups;
+        int[] oldHashes = this.slotHashes;
+
+        this.slotRows = new int[capacity];
+        this.slotGroups = new int[capacity];
+        this.slotHashes = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeAt = capacity / 2;
+
+        int[] groupRows = new int[capacity / 2];
+        System.arraycopy(this.groupRows, 0, groupRows, 0, size);
+        this.groupRows = groupRows;
+
+        for (int j = 0; j < oldRows.length; j++) {
+            if (oldRows[j] != 0) {
+
+                int i = mix(oldHashes[j]) & mask;
+                while (slotRows[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+
+                slotRows[i] = oldRows[j];
+                slotGroups[i] = oldGroups[j];
+                slotHashes[i] = oldHashes[j];
+            }
+        }
+    }
+
+    // spread the bits of the "31 * h + ..." polynomial hash, that is often poorly distributed in the lower bits
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
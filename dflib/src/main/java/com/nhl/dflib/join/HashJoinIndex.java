@@ -0,0 +1,132 @@
+package com.nhl.dflib.join;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.GroupBy;
+import com.nhl.dflib.Hasher;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.groupby.Grouper;
+import com.nhl.dflib.groupby.RowKeyGroupTable;
+import com.nhl.dflib.map.KeyColumns;
+import com.nhl.dflib.map.KeyColumnsHasher;
+import com.nhl.dflib.map.RowKeyMatcher;
+import com.nhl.dflib.row.RowProxy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A "hash join" lookup structure. Splits the rows of the "build" side of the join into groups with matching keys, and
+ * for each row of the "probe" side, finds a matching group id (or -1 if there's no match).
+ *
+ * @since 0.12
+ */
+class HashJoinIndex {
+
+    private final IntSeries[] buildGroups;
+    private final int[] probeGroups;
+
+    HashJoinIndex(IntSeries[] buildGroups, int[] probeGroups) {
+        this.buildGroups = buildGroups;
+        this.probeGroups = probeGroups;
+    }
+
+    static HashJoinIndex create(Hasher buildHasher, Hasher probeHasher, DataFrame build, DataFrame probe) {
+        return create(buildHasher, probeHasher, build, probe, null);
+    }
+
+    /**
+     * Creates an index, building and probing it in parallel in the provided pool, if the pool is not null, and both
+     * Hashers are column-based. Otherwise the index is built in the calling thread.
+     */
+    static HashJoinIndex create(
+            Hasher buildHasher,
+            Hasher probeHasher,
+            DataFrame build,
+            DataFrame probe,
+            ForkJoinPool pool) {
+
+        if (buildHasher instanceof KeyColumnsHasher && probeHasher instanceof KeyColumnsHasher) {
+
+            KeyColumns buildKeys = ((KeyColumnsHasher) buildHasher).resolveColumns(build);
+            KeyColumns probeKeys = ((KeyColumnsHasher) probeHasher).resolveColumns(probe);
+
+            return pool != null
+                    ? new PartitionedHashJoinIndexBuilder(pool).build(buildKeys, probeKeys)
+                    : createForKeyColumns(buildKeys, probeKeys);
+        }
+
+        return createForHashers(buildHasher, probeHasher, build, probe);
+    }
+
+    /**
+     * Creates an index comparing the columns of the two DataFrames by row position, without creating key objects.
+     */
+    static HashJoinIndex createForKeyColumns(KeyColumns buildKeys, KeyColumns probeKeys) {
+
+        int bh = buildKeys.height();
+        RowKeyGroupTable table = new RowKeyGroupTable(buildKeys);
+        int[] buildRowGroups = new int[bh];
+        for (int i = 0; i < bh; i++) {
+            buildRowGroups[i] = table.groupId(i);
+        }
+
+        int ph = probeKeys.height();
+        int[] probeHashes = probeKeys.hashes();
+        RowKeyMatcher matcher = probeKeys.matcher(buildKeys);
+        int[] probeGroups = new int[ph];
+        for (int i = 0; i < ph; i++) {
+            probeGroups[i] = probeKeys.isNullKey(i) ? -1 : table.findGroupId(i, probeHashes[i], matcher);
+        }
+
+        return new HashJoinIndex(Grouper.groupIndices(buildRowGroups, table.size()), probeGroups);
+    }
+
+    /**
+     * Creates an index using arbitrary Hashers that produce a key object for each row.
+     */
+    static HashJoinIndex createForHashers(Hasher buildHasher, Hasher probeHasher, DataFrame build, DataFrame probe) {
+
+        GroupBy buildIndex = build.group(buildHasher);
+
+        int groupCount = buildIndex.size();
+        IntSeries[] buildGroups = new IntSeries[groupCount];
+        Map<Object, Integer> groupIds = new HashMap<>((int) (groupCount / 0.75) + 1);
+
+        int g = 0;
+        for (Object key : buildIndex.getGroups()) {
+            buildGroups[g] = buildIndex.getGroupIndex(key);
+            groupIds.put(key, g++);
+        }
+
+        int[] probeGroups = new int[probe.height()];
+
+        int i = 0;
+        for (RowProxy r : probe) {
+            // null keys are never in the build index, so they will not match anything
+            Integer id = groupIds.get(probeHasher.map(r));
+            probeGroups[i++] = id != null ? id : -1;
+        }
+
+        return new HashJoinIndex(buildGroups, probeGroups);
+    }
+
+    int buildGroupCount() {
+        return buildGroups.length;
+    }
+
+    IntSeries buildGroup(int groupId) {
+        return buildGroups[groupId];
+    }
+
+    int probeHeight() {
+        return probeGroups.length;
+    }
+
+    /**
+     * Returns a build side group id matching a given probe row, or -1 if there's no match.
+     */
+    int probeGroup(int probeRow) {
+        return probeGroups[probeRow];
+    }
+}
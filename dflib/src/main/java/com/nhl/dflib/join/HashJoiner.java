@@ -1,25 +1,25 @@
 package com.nhl.dflib.join;
 
 import com.nhl.dflib.DataFrame;
-import com.nhl.dflib.GroupBy;
 import com.nhl.dflib.Hasher;
 import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.JoinType;
 import com.nhl.dflib.accumulator.IntAccumulator;
-import com.nhl.dflib.row.RowProxy;
 
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A DataFrame joiner using <a href="https://en.wikipedia.org/wiki/Hash_join">"hash join"</a> algorithm. It requires
  * two custom "hash" functions for the rows on the left and the right sides of the join, each producing values, whose
- * equality can be used as a join condition. Should theoretically have O(N + M) performance.
+ * equality can be used as a join condition. Should theoretically have O(N + M) performance. When both hash functions
+ * are column-based (see {@link Hasher#forColumn(String)} and {@link Hasher#and(String)}), the keys are compared
+ * directly against the join columns, without creating per-row key objects.
  */
 public class HashJoiner extends BaseJoiner {
 
     private Hasher leftHasher;
     private Hasher rightHasher;
+    private ForkJoinPool pool;
 
     public HashJoiner(
             Hasher leftHasher,
@@ -27,9 +27,27 @@ public class HashJoiner extends BaseJoiner {
             JoinType semantics,
             String indicatorColumn) {
 
+        this(leftHasher, rightHasher, semantics, indicatorColumn, null);
+    }
+
+    /**
+     * Creates a joiner that would build and probe the hash index in parallel using the provided pool. Parallel
+     * execution is only possible when both Hashers are column-based. The pool can be null, resulting in a single-thread
+     * join.
+     *
+     * @since 0.12
+     */
+    public HashJoiner(
+            Hasher leftHasher,
+            Hasher rightHasher,
+            JoinType semantics,
+            String indicatorColumn,
+            ForkJoinPool pool) {
+
         super(semantics, indicatorColumn);
         this.leftHasher = leftHasher;
         this.rightHasher = rightHasher;
+        this.pool = pool;
     }
 
     @Override
@@ -38,23 +56,20 @@ public class HashJoiner extends BaseJoiner {
         IntAccumulator li = new IntAccumulator();
         IntAccumulator ri = new IntAccumulator();
 
-        GroupBy rightIndex = rf.group(rightHasher);
-
-        int i = 0;
-        for (RowProxy lr : lf) {
+        HashJoinIndex rightIndex = HashJoinIndex.create(rightHasher, leftHasher, rf, lf, pool);
 
-            Object lKey = leftHasher.map(lr);
-            IntSeries rgi = rightIndex.getGroupIndex(lKey);
+        int lh = rightIndex.probeHeight();
+        for (int i = 0; i < lh; i++) {
 
-            if (rgi != null) {
+            int g = rightIndex.probeGroup(i);
+            if (g >= 0) {
+                IntSeries rgi = rightIndex.buildGroup(g);
                 int js = rgi.size();
                 for (int j = 0; j < js; j++) {
                     li.addInt(i);
                     ri.addInt(rgi.getInt(j));
                 }
             }
-
-            i++;
         }
 
         return new IntSeries[]{li.toSeries(), ri.toSeries()};
@@ -66,15 +81,14 @@ public class HashJoiner extends BaseJoiner {
         IntAccumulator li = new IntAccumulator();
         IntAccumulator ri = new IntAccumulator();
 
-        GroupBy rightIndex = rf.group(rightHasher);
-
-        int i = 0;
-        for (RowProxy lr : lf) {
+        HashJoinIndex rightIndex = HashJoinIndex.create(rightHasher, leftHasher, rf, lf, pool);
 
-            Object lKey = leftHasher.map(lr);
-            IntSeries rgi = rightIndex.getGroupIndex(lKey);
+        int lh = rightIndex.probeHeight();
+        for (int i = 0; i < lh; i++) {
 
-            if (rgi != null) {
+            int g = rightIndex.probeGroup(i);
+            if (g >= 0) {
+                IntSeries rgi = rightIndex.buildGroup(g);
                 int js = rgi.size();
                 for (int j = 0; j < js; j++) {
                     li.addInt(i);
@@ -84,8 +98,6 @@ public class HashJoiner extends BaseJoiner {
                 li.addInt(i);
                 ri.addInt(-1);
             }
-
-            i++;
         }
 
         return new IntSeries[]{li.toSeries(), ri.toSeries()};
@@ -97,15 +109,14 @@ public class HashJoiner extends BaseJoiner {
         IntAccumulator li = new IntAccumulator();
         IntAccumulator ri = new IntAccumulator();
 
-        GroupBy leftIndex = lf.group(leftHasher);
-
-        int i = 0;
-        for (RowProxy rr : rf) {
+        HashJoinIndex leftIndex = HashJoinIndex.create(leftHasher, rightHasher, lf, rf, pool);
 
-            Object rKey = rightHasher.map(rr);
-            IntSeries lgi = leftIndex.getGroupIndex(rKey);
+        int rh = leftIndex.probeHeight();
+        for (int i = 0; i < rh; i++) {
 
-            if (lgi != null) {
+            int g = leftIndex.probeGroup(i);
+            if (g >= 0) {
+                IntSeries lgi = leftIndex.buildGroup(g);
                 int js = lgi.size();
                 for (int j = 0; j < js; j++) {
                     li.addInt(lgi.getInt(j));
@@ -115,8 +126,6 @@ public class HashJoiner extends BaseJoiner {
                 li.addInt(-1);
                 ri.addInt(i);
             }
-
-            i++;
         }
 
         return new IntSeries[]{li.toSeries(), ri.toSeries()};
@@ -128,17 +137,16 @@ public class HashJoiner extends BaseJoiner {
         IntAccumulator li = new IntAccumulator();
         IntAccumulator ri = new IntAccumulator();
 
-        GroupBy rightIndex = rf.group(rightHasher);
-        Set<Object> seenRightKeys = new LinkedHashSet<>();
-
-        int i = 0;
-        for (RowProxy lr : lf) {
+        HashJoinIndex rightIndex = HashJoinIndex.create(rightHasher, leftHasher, rf, lf, pool);
+        boolean[] seenRightGroups = new boolean[rightIndex.buildGroupCount()];
 
-            Object lKey = leftHasher.map(lr);
+        int lh = rightIndex.probeHeight();
+        for (int i = 0; i < lh; i++) {
 
-            IntSeries rgi = rightIndex.getGroupIndex(lKey);
-            if (rgi != null) {
-                seenRightKeys.add(lKey);
+            int g = rightIndex.probeGroup(i);
+            if (g >= 0) {
+                seenRightGroups[g] = true;
+                IntSeries rgi = rightIndex.buildGroup(g);
                 int js = rgi.size();
                 for (int j = 0; j < js; j++) {
                     li.addInt(i);
@@ -148,14 +156,13 @@ public class HashJoiner extends BaseJoiner {
                 li.addInt(i);
                 ri.addInt(-1);
             }
-
-            i++;
         }
 
         // add missing right rows
-        for (Object key : rightIndex.getGroups()) {
-            if (!seenRightKeys.contains(key)) {
-                IntSeries rgi = rightIndex.getGroupIndex(key);
+        int rgs = seenRightGroups.length;
+        for (int g = 0; g < rgs; g++) {
+            if (!seenRightGroups[g]) {
+                IntSeries rgi = rightIndex.buildGroup(g);
 
                 int js = rgi.size();
                 for (int j = 0; j < js; j++) {
@@ -3,8 +3,11 @@ package com.nhl.dflib.join;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Hasher;
 import com.nhl.dflib.JoinType;
+import com.nhl.dflib.map.ColumnHasher;
+import com.nhl.dflib.map.KeyColumnsHasher;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @since 0.6
@@ -18,6 +21,10 @@ public class JoinBuilder {
     private JoinPredicate predicate;
 
     private String indicatorColumn;
+    private ForkJoinPool pool;
+    private boolean sortMerge;
+    private boolean presorted;
+    private RangeCondition rangeCondition;
 
     public JoinBuilder(DataFrame leftFrame) {
         this.leftFrame = Objects.requireNonNull(leftFrame);
@@ -50,6 +57,14 @@ public class JoinBuilder {
     }
 
     public JoinBuilder on(Hasher left, Hasher right) {
+
+        // a range condition can't be combined with the equality conditions
+        if (rangeCondition != null) {
+            this.rangeCondition = null;
+            this.leftHasher = null;
+            this.rightHasher = null;
+        }
+
         // append to the existing hashers
         this.leftHasher = combineHashers(this.leftHasher, left);
         this.rightHasher = combineHashers(this.rightHasher, right);
@@ -70,7 +85,67 @@ public class JoinBuilder {
         this.predicate = predicate;
         this.leftHasher = null;
         this.rightHasher = null;
+        this.rangeCondition = null;
+
+        return this;
+    }
+
+    /**
+     * Sets the join condition to a comparison of a pair of columns, e.g. "left.a &lt; right.b". Such a join is done via
+     * the sort-merge algorithm, that sorts the right DataFrame, and then uses binary search to find the matching right
+     * rows for each left row. This is much faster than a {@link #predicatedBy(JoinPredicate) predicate} join with the
+     * same condition. Replaces any previously set join conditions.
+     *
+     * @return this builder instance
+     * @since 0.12
+     */
+    public JoinBuilder onRange(String leftColumn, RangeCondition condition, String rightColumn) {
+        return onRange(ColumnHasher.of(leftColumn), condition, ColumnHasher.of(rightColumn));
+    }
+
+    /**
+     * @return this builder instance
+     * @see #onRange(String, RangeCondition, String)
+     * @since 0.12
+     */
+    public JoinBuilder onRange(int leftColumn, RangeCondition condition, int rightColumn) {
+        return onRange(ColumnHasher.of(leftColumn), condition, ColumnHasher.of(rightColumn));
+    }
+
+    private JoinBuilder onRange(ColumnHasher left, RangeCondition condition, ColumnHasher right) {
+        this.rangeCondition = Objects.requireNonNull(condition);
+        this.leftHasher = left;
+        this.rightHasher = right;
+        this.predicate = null;
+        return this;
+    }
+
+    /**
+     * Switches the join on columns from the hash join to the <a href="https://en.wikipedia.org/wiki/Sort-merge_join">
+     * "sort-merge join"</a> algorithm. It needs less memory than the hash join, as it only builds compact int sort
+     * indexes instead of a hash table, and the join result is ordered by the join columns. Requires the join
+     * conditions to be set via {@link #on(String)}, {@link #on(int)} and similar methods, and not with arbitrary
+     * Hashers.
+     *
+     * @return this builder instance
+     * @since 0.12
+     */
+    public JoinBuilder sortMerge() {
+        this.sortMerge = true;
+        return this;
+    }
 
+    /**
+     * Declares that both DataFrames are already sorted in ascending order of the join columns (with nulls last), so the
+     * sort-merge join can skip sorting them. Implies {@link #sortMerge()}. If the data turns out not to be sorted, the
+     * join will throw an exception.
+     *
+     * @return this builder instance
+     * @since 0.12
+     */
+    public JoinBuilder presorted() {
+        this.sortMerge = true;
+        this.presorted = true;
         return this;
     }
 
@@ -79,6 +154,33 @@ public class JoinBuilder {
         return possiblyNull != null ? possiblyNull.and(mustBeNotNull) : mustBeNotNull;
     }
 
+    /**
+     * Enables parallel "hash join" in the common {@link ForkJoinPool}. Both sides of the join are partitioned by the key
+     * hash, and the partitions are indexed and matched concurrently. The result is the same as for the single-thread
+     * join, including the row order. Parallel execution is only available for the joins on columns (i.e. those using
+     * {@link #on(String)}, {@link #on(int)} and similar methods). Joins with custom Hashers and predicates are executed
+     * in a single thread regardless of this setting.
+     *
+     * @return this builder instance
+     * @since 0.12
+     */
+    public JoinBuilder parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Enables parallel "hash join" in the specified {@link ForkJoinPool}. The number of partitions is derived from the
+     * pool parallelism.
+     *
+     * @return this builder instance
+     * @see #parallel()
+     * @since 0.12
+     */
+    public JoinBuilder parallel(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        return this;
+    }
+
     public JoinBuilder indicatorColumn(String name) {
         this.indicatorColumn = name;
         return this;
@@ -88,6 +190,8 @@ public class JoinBuilder {
 
         if (predicate != null) {
             return nestedLoopJoin(rightFrame);
+        } else if (rangeCondition != null || (sortMerge && leftHasher != null && rightHasher != null)) {
+            return sortMergeJoin(rightFrame);
         } else if (leftHasher != null && rightHasher != null) {
             return hashJoin(rightFrame);
         } else {
@@ -99,7 +203,22 @@ public class JoinBuilder {
         return new NestedLoopJoiner(predicate, semantics, indicatorColumn).join(leftFrame, rightFrame);
     }
 
+    private DataFrame sortMergeJoin(DataFrame rightFrame) {
+
+        if (!(leftHasher instanceof KeyColumnsHasher) || !(rightHasher instanceof KeyColumnsHasher)) {
+            throw new IllegalStateException("Sort-merge join requires join columns, and can't be used with custom Hashers");
+        }
+
+        return new SortMergeJoiner(
+                (KeyColumnsHasher) leftHasher,
+                (KeyColumnsHasher) rightHasher,
+                rangeCondition,
+                semantics,
+                indicatorColumn,
+                presorted).join(leftFrame, rightFrame);
+    }
+
     private DataFrame hashJoin(DataFrame rightFrame) {
-        return new HashJoiner(leftHasher, rightHasher, semantics, indicatorColumn).join(leftFrame, rightFrame);
+        return new HashJoiner(leftHasher, rightHasher, semantics, indicatorColumn, pool).join(leftFrame, rightFrame);
     }
 }
@@ -0,0 +1,203 @@
+package com.nhl.dflib.join;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.groupby.Grouper;
+import com.nhl.dflib.groupby.RowKeyGroupTable;
+import com.nhl.dflib.map.KeyColumns;
+import com.nhl.dflib.map.RowKeyMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Builds a {@link HashJoinIndex} in parallel. Both sides of the join are "radix-partitioned" by the key hash, and each
+ * partition is indexed and probed independently by the tasks of a {@link ForkJoinPool}. Partition group ids are then
+ * renumbered in the order of first appearance of each group, so the resulting index is identical to the one built by
+ * a single thread, and the join produces rows in the same order.
+ *
+ * @since 0.12
+ */
+class PartitionedHashJoinIndexBuilder {
+
+    // the number of partitions per thread, so that the faster threads can pick up some extra work
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    // rows processed by a single hashing task
+    private static final int HASH_CHUNK_SIZE = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int partitionBits;
+
+    PartitionedHashJoinIndexBuilder(ForkJoinPool pool) {
+        this.pool = pool;
+
+        int partitions = pool.getParallelism() * PARTITIONS_PER_THREAD;
+        this.partitionBits = 32 - Integer.numberOfLeadingZeros(Math.max(partitions - 1, 1));
+    }
+
+    HashJoinIndex build(KeyColumns buildKeys, KeyColumns probeKeys) {
+
+        // lazy Series are not thread-safe, so resolving them upfront
+        KeyColumns build = buildKeys.materialize();
+        KeyColumns probe = probeKeys.materialize();
+
+        int[] buildHashes = hashes(build);
+        int[] probeHashes = hashes(probe);
+
+        int pc = 1 << partitionBits;
+        int[][] buildPartitions = partition(build, buildHashes, pc);
+        int[][] probePartitions = partition(probe, probeHashes, pc);
+
+        int bh = build.height();
+        int ph = probe.height();
+
+        // local group ids, unique only within each partition. Rows with null keys are not in any partition, and will
+        // remain with "-1" group
+        int[] buildRowGroups = new int[bh];
+        Arrays.fill(buildRowGroups, -1);
+        int[] probeGroups = new int[ph];
+        Arrays.fill(probeGroups, -1);
+        RowKeyGroupTable[] tables = new RowKeyGroupTable[pc];
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(pc);
+        for (int p = 0; p < pc; p++) {
+            int partition = p;
+            tasks.add(ForkJoinTask.adapt(() -> tables[partition] = buildAndProbe(
+                    build,
+                    buildHashes,
+                    buildPartitions[partition],
+                    buildRowGroups,
+                    probe,
+                    probeHashes,
+                    probePartitions[partition],
+                    probeGroups)));
+        }
+
+        invokeAll(tasks);
+
+        // renumber the groups globally in the order of their first row
+        int[] partitionOffsets = new int[pc + 1];
+        for (int p = 0; p < pc; p++) {
+            partitionOffsets[p + 1] = partitionOffsets[p] + tables[p].size();
+        }
+
+        int groupCount = partitionOffsets[pc];
+        int[] firstRowGroups = new int[bh];
+        Arrays.fill(firstRowGroups, -1);
+        for (int p = 0; p < pc; p++) {
+            RowKeyGroupTable t = tables[p];
+            int gs = t.size();
+            for (int g = 0; g < gs; g++) {
+                firstRowGroups[t.groupRow(g)] = partitionOffsets[p] + g;
+            }
+        }
+
+        int[] globalIds = new int[groupCount];
+        int next = 0;
+        for (int i = 0; i < bh; i++) {
+            if (firstRowGroups[i] >= 0) {
+                globalIds[firstRowGroups[i]] = next++;
+            }
+        }
+
+        for (int p = 0; p < pc; p++) {
+            int offset = partitionOffsets[p];
+            for (int i : buildPartitions[p]) {
+                buildRowGroups[i] = globalIds[offset + buildRowGroups[i]];
+            }
+
+            for (int i : probePartitions[p]) {
+                int g = probeGroups[i];
+                probeGroups[i] = g >= 0 ? globalIds[offset + g] : -1;
+            }
+        }
+
+        return new HashJoinIndex(Grouper.groupIndices(buildRowGroups, groupCount), probeGroups);
+    }
+
+    private static RowKeyGroupTable buildAndProbe(
+            KeyColumns build,
+            int[] buildHashes,
+            int[] buildRows,
+            int[] buildRowGroups,
+            KeyColumns probe,
+            int[] probeHashes,
+            int[] probeRows,
+            int[] probeGroups) {
+
+        RowKeyGroupTable table = new RowKeyGroupTable(build, buildHashes);
+        for (int i : buildRows) {
+            buildRowGroups[i] = table.groupId(i);
+        }
+
+        RowKeyMatcher matcher = probe.matcher(build);
+        for (int i : probeRows) {
+            probeGroups[i] = table.findGroupId(i, probeHashes[i], matcher);
+        }
+
+        return table;
+    }
+
+    private int[] hashes(KeyColumns keys) {
+
+        int h = keys.height();
+        int[] hashes = new int[h];
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(h / HASH_CHUNK_SIZE + 1);
+        for (int from = 0; from < h; from += HASH_CHUNK_SIZE) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(from + HASH_CHUNK_SIZE, h);
+            tasks.add(ForkJoinTask.adapt(() -> keys.hashes(hashes, chunkFrom, chunkTo)));
+        }
+
+        invokeAll(tasks);
+        return hashes;
+    }
+
+    /**
+     * Splits row positions into partitions by the high bits of the key hash, preserving the row order within each
+     * partition. The rows with null keys are not included in any partition.
+     */
+    private int[][] partition(KeyColumns keys, int[] hashes, int partitionCount) {
+
+        int h = hashes.length;
+        int[] rowPartitions = new int[h];
+        int[] sizes = new int[partitionCount];
+
+        for (int i = 0; i < h; i++) {
+            int p = keys.isNullKey(i) ? -1 : partition(hashes[i]);
+            rowPartitions[i] = p;
+            if (p >= 0) {
+                sizes[p]++;
+            }
+        }
+
+        int[][] partitions = new int[partitionCount][];
+        for (int p = 0; p < partitionCount; p++) {
+            partitions[p] = new int[sizes[p]];
+        }
+
+        int[] cursors = new int[partitionCount];
+        for (int i = 0; i < h; i++) {
+            int p = rowPartitions[i];
+            if (p >= 0) {
+                partitions[p][cursors[p]++] = i;
+            }
+        }
+
+        return partitions;
+    }
+
+    private int partition(int hash) {
+        // using the high bits of the mixed hash, as the lower bits are used to address the slots of the hash tables
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) >>> (32 - partitionBits);
+    }
+
+    private void invokeAll(List<ForkJoinTask<?>> tasks) {
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.nhl.dflib.join;
+
+/**
+ * A comparison operation between a left and a right column used as a "range" join condition. E.g. "lt" means that a
+ * left row matches all the right rows with the greater values of the join column.
+ *
+ * @since 0.12
+ */
+public enum RangeCondition {
+
+    lt, le, gt, ge;
+
+    /**
+     * Returns a condition with the sides of comparison swapped. E.g. "a &lt; b" is the same as "b &gt; a".
+     */
+    public RangeCondition flip() {
+        switch (this) {
+            case lt:
+                return gt;
+            case le:
+                return ge;
+            case gt:
+                return lt;
+            case ge:
+                return le;
+            default:
+                throw new IllegalStateException("Unexpected condition: " + this);
+        }
+    }
+}
@@ -0,0 +1,461 @@
+package com.nhl.dflib.join;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.JoinType;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.map.KeyColumns;
+import com.nhl.dflib.map.KeyColumnsHasher;
+import com.nhl.dflib.series.IntSequenceSeries;
+import com.nhl.dflib.sort.Comparators;
+import com.nhl.dflib.sort.DataFrameSorter;
+import com.nhl.dflib.sort.IntComparator;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A DataFrame joiner using <a href="https://en.wikipedia.org/wiki/Sort-merge_join">"sort-merge join"</a> algorithm.
+ * Both sides are sorted by the join columns (unless declared as "presorted"), and then merged in a single pass.
+ * Should theoretically have O(N * log(N) + M * log(M)) performance. The only extra memory it needs are the int sort
+ * indexes, so it may be preferable to the hash join when both DataFrames are large. Join columns must contain values
+ * of the same type. Unlike the hash join, the result is ordered by the join key.
+ *
+ * <p>Can also join on a "range" condition between a pair of columns (e.g. "left.a &lt; right.b"). In this case only
+ * the right side is sorted, and the matching right rows for each left row are found via binary search.</p>
+ *
+ * @since 0.12
+ */
+public class SortMergeJoiner extends BaseJoiner {
+
+    private final KeyColumnsHasher leftHasher;
+    private final KeyColumnsHasher rightHasher;
+    private final RangeCondition rangeCondition;
+    private final boolean presorted;
+
+    public SortMergeJoiner(
+            KeyColumnsHasher leftHasher,
+            KeyColumnsHasher rightHasher,
+            JoinType semantics,
+            String indicatorColumn,
+            boolean presorted) {
+
+        this(leftHasher, rightHasher, null, semantics, indicatorColumn, presorted);
+    }
+
+    /**
+     * @param rangeCondition a comparison of the left and the right join columns. If null, the join is done on the
+     *                       equality of the columns.
+     * @param presorted      if true, both DataFrames are assumed to be sorted in ascending order of the join columns, so
+     *                       they are not sorted again. A DataFrame that turns out to be unsorted would result in an
+     *                       exception.
+     */
+    public SortMergeJoiner(
+            KeyColumnsHasher leftHasher,
+            KeyColumnsHasher rightHasher,
+            RangeCondition rangeCondition,
+            JoinType semantics,
+            String indicatorColumn,
+            boolean presorted) {
+
+        super(semantics, indicatorColumn);
+        this.leftHasher = Objects.requireNonNull(leftHasher);
+        this.rightHasher = Objects.requireNonNull(rightHasher);
+        this.rangeCondition = rangeCondition;
+        this.presorted = presorted;
+    }
+
+    @Override
+    protected IntSeries[] innerJoin(DataFrame lf, DataFrame rf) {
+        return rangeCondition != null
+                ? rangeJoin(lf, rf, false, false)
+                : mergeJoin(lf, rf, false, false);
+    }
+
+    @Override
+    protected IntSeries[] leftJoin(DataFrame lf, DataFrame rf) {
+        return rangeCondition != null
+                ? rangeJoin(lf, rf, true, false)
+                : mergeJoin(lf, rf, true, false);
+    }
+
+    @Override
+    protected IntSeries[] rightJoin(DataFrame lf, DataFrame rf) {
+        return rangeCondition != null
+                ? rangeJoin(lf, rf, false, true)
+                : mergeJoin(lf, rf, false, true);
+    }
+
+    @Override
+    protected IntSeries[] fullJoin(DataFrame lf, DataFrame rf) {
+        return rangeCondition != null
+                ? rangeJoin(lf, rf, true, true)
+                : mergeJoin(lf, rf, true, true);
+    }
+
+    protected IntSeries[] mergeJoin(DataFrame lf, DataFrame rf, boolean keepLeft, boolean keepRight) {
+
+        KeyColumns lk = leftHasher.resolveColumns(lf);
+        KeyColumns rk = rightHasher.resolveColumns(rf);
+
+        // equal keys must match the same way as in the hash join, so the ordering must be consistent with "equals"
+        IntComparator lrComparator = comparator(lk, rk, true);
+        IntComparator llComparator = comparator(lk, lk, true);
+        IntComparator rrComparator = comparator(rk, rk, true);
+
+        IntSeries ls = sortIndex(lf, lk, llComparator);
+        IntSeries rs = sortIndex(rf, rk, rrComparator);
+
+        IntAccumulator li = new IntAccumulator();
+        IntAccumulator ri = new IntAccumulator();
+
+        int ln = ls.size();
+        int rn = rs.size();
+        int i = 0;
+        int j = 0;
+
+        while (i < ln && j < rn) {
+
+            int l = ls.getInt(i);
+            int r = rs.getInt(j);
+            int c = lrComparator.compare(l, r);
+
+            if (c < 0) {
+                if (keepLeft) {
+                    li.addInt(l);
+                    ri.addInt(-1);
+                }
+
+                i++;
+            } else if (c > 0) {
+                if (keepRight) {
+                    li.addInt(-1);
+                    ri.addInt(r);
+                }
+
+                j++;
+            } else {
+
+                // find the ranges of equal keys on both sides and produce their cross product
+                int ie = i + 1;
+                while (ie < ln && llComparator.compare(l, ls.getInt(ie)) == 0) {
+                    ie++;
+                }
+
+                int je = j + 1;
+                while (je < rn && rrComparator.compare(r, rs.getInt(je)) == 0) {
+                    je++;
+                }
+
+                for (int a = i; a < ie; a++) {
+                    int la = ls.getInt(a);
+                    for (int b = j; b < je; b++) {
+                        li.addInt(la);
+                        ri.addInt(rs.getInt(b));
+                    }
+                }
+
+                i = ie;
+                j = je;
+            }
+        }
+
+        if (keepLeft) {
+            for (; i < ln; i++) {
+                li.addInt(ls.getInt(i));
+                ri.addInt(-1);
+            }
+        }
+
+        if (keepRight) {
+            for (; j < rn; j++) {
+                li.addInt(-1);
+                ri.addInt(rs.getInt(j));
+            }
+        }
+
+        // null keys are sorted last, but do not match anything
+        if (keepLeft) {
+            appendNullKeys(lk, li, ri);
+        }
+
+        if (keepRight) {
+            appendNullKeys(rk, ri, li);
+        }
+
+        return new IntSeries[]{li.toSeries(), ri.toSeries()};
+    }
+
+    protected IntSeries[] rangeJoin(DataFrame lf, DataFrame rf, boolean keepLeft, boolean keepRight) {
+
+        // for the right join, use the right side as the "probe" side to preserve its row order
+        if (keepRight && !keepLeft) {
+            IntSeries[] rl = rangeProbe(rf, rightHasher, lf, leftHasher, rangeCondition.flip(), true, false);
+            return new IntSeries[]{rl[1], rl[0]};
+        }
+
+        return rangeProbe(lf, leftHasher, rf, rightHasher, rangeCondition, keepLeft, keepRight);
+    }
+
+    /**
+     * Finds matches for each "probe" side row in the sorted "build" side. The result is ordered by the "probe" side
+     * rows.
+     */
+    private IntSeries[] rangeProbe(
+            DataFrame pf,
+            KeyColumnsHasher probeHasher,
+            DataFrame bf,
+            KeyColumnsHasher buildHasher,
+            RangeCondition condition,
+            boolean keepProbe,
+            boolean keepBuild) {
+
+        KeyColumns pk = probeHasher.resolveColumns(pf);
+        KeyColumns bk = buildHasher.resolveColumns(bf);
+
+        if (pk.width() != 1 || bk.width() != 1) {
+            throw new IllegalArgumentException("Range join condition must be defined on a single pair of columns");
+        }
+
+        IntComparator pbComparator = comparator(pk, bk, false);
+        IntSeries bs = sortIndex(bf, bk, comparator(bk, bk, false));
+
+        IntAccumulator pi = new IntAccumulator();
+        IntAccumulator bi = new IntAccumulator();
+
+        int ph = pk.height();
+        int bn = bs.size();
+
+        // the union of the matched sorted build ranges, which is itself a range, as all the matched ranges either
+        // start at "0" or end at "bn"
+        int matchedFrom = bn;
+        int matchedTo = 0;
+
+        for (int p = 0; p < ph; p++) {
+
+            int from = 0;
+            int to = 0;
+
+            if (!pk.isNullKey(p)) {
+                switch (condition) {
+                    case lt:
+                        from = firstPosition(bs, pbComparator, p, true);
+                        to = bn;
+                        break;
+                    case le:
+                        from = firstPosition(bs, pbComparator, p, false);
+                        to = bn;
+                        break;
+                    case gt:
+                        to = firstPosition(bs, pbComparator, p, false);
+                        break;
+                    case ge:
+                        to = firstPosition(bs, pbComparator, p, true);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unsupported range condition: " + condition);
+                }
+            }
+
+            if (from < to) {
+                for (int b = from; b < to; b++) {
+                    pi.addInt(p);
+                    bi.addInt(bs.getInt(b));
+                }
+
+                matchedFrom = Math.min(matchedFrom, from);
+                matchedTo = Math.max(matchedTo, to);
+            } else if (keepProbe) {
+                pi.addInt(p);
+                bi.addInt(-1);
+            }
+        }
+
+        if (keepBuild) {
+            boolean[] matched = new boolean[bk.height()];
+            for (int b = matchedFrom; b < matchedTo; b++) {
+                matched[bs.getInt(b)] = true;
+            }
+
+            int bh = matched.length;
+            for (int b = 0; b < bh; b++) {
+                if (!matched[b]) {
+                    pi.addInt(-1);
+                    bi.addInt(b);
+                }
+            }
+        }
+
+        return new IntSeries[]{pi.toSeries(), bi.toSeries()};
+    }
+
+    /**
+     * Binary search for the first position in the sorted index, whose value is greater (if "strict") or greater or
+     * equal to the value of the probe row. Returns the index size if there's no such position.
+     */
+    private static int firstPosition(IntSeries sorted, IntComparator comparator, int probeRow, boolean strict) {
+
+        int lo = 0;
+        int hi = sorted.size();
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = comparator.compare(probeRow, sorted.getInt(mid));
+            boolean found = strict ? c < 0 : c <= 0;
+
+            if (found) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * Returns an index of the DataFrame rows with non-null keys ordered by the key columns.
+     */
+    private IntSeries sortIndex(DataFrame df, KeyColumns keys, IntComparator comparator) {
+
+        IntSeries rows = nonNullKeyRows(keys);
+
+        if (presorted) {
+            IntSeries index = rows != null ? rows : new IntSequenceSeries(0, keys.height());
+            checkSorted(index, comparator);
+            return index;
+        }
+
+        DataFrameSorter sorter = rows != null ? new DataFrameSorter(df, rows) : new DataFrameSorter(df);
+        return sorter.sortIndex(comparator);
+    }
+
+    private static void checkSorted(IntSeries index, IntComparator comparator) {
+        int len = index.size();
+        for (int i = 1; i < len; i++) {
+            if (comparator.compare(index.getInt(i - 1), index.getInt(i)) > 0) {
+                throw new IllegalArgumentException("DataFrame declared as presorted is not sorted by the join columns. Unexpected order at row " + index.getInt(i));
+            }
+        }
+    }
+
+    /**
+     * Returns positions of rows that can participate in the join, or null if all rows can.
+     */
+    private static IntSeries nonNullKeyRows(KeyColumns keys) {
+
+        int h = keys.height();
+        for (int i = 0; i < h; i++) {
+            if (keys.isNullKey(i)) {
+
+                IntAccumulator rows = new IntAccumulator(h - 1);
+                for (int j = 0; j < h; j++) {
+                    if (!keys.isNullKey(j)) {
+                        rows.addInt(j);
+                    }
+                }
+
+                return rows.toSeries();
+            }
+        }
+
+        return null;
+    }
+
+    private static void appendNullKeys(KeyColumns keys, IntAccumulator keyIndex, IntAccumulator otherIndex) {
+        int h = keys.height();
+        for (int i = 0; i < h; i++) {
+            if (keys.isNullKey(i)) {
+                keyIndex.addInt(i);
+                otherIndex.addInt(-1);
+            }
+        }
+    }
+
+    private static IntComparator comparator(KeyColumns k1, KeyColumns k2, boolean consistentWithEquals) {
+
+        int w = k1.width();
+        if (k2.width() != w) {
+            throw new IllegalArgumentException("Keys have different number of columns: " + w + " vs. " + k2.width());
+        }
+
+        IntComparator comparator = null;
+        for (int i = 0; i < w; i++) {
+            IntComparator ci = comparator(k1.getColumn(i), k2.getColumn(i), consistentWithEquals);
+            comparator = comparator == null ? ci : comparator.thenComparing(ci);
+        }
+
+        return comparator;
+    }
+
+    private static IntComparator comparator(Series<?> s1, Series<?> s2, boolean consistentWithEquals) {
+
+        Class<?> t1 = valueType(s1);
+        Class<?> t2 = s1 != s2 ? valueType(s2) : t1;
+
+        // values of different types can't be compared to each other (and the hash join wouldn't match them anyway)
+        if (t1 != null && t2 != null && t1 != t2) {
+            throw new IllegalArgumentException("Sort-merge join columns have values of different types: "
+                    + t1.getName() + " vs. " + t2.getName()
+                    + ". Convert the columns to the same type, or use hash join");
+        }
+
+        // BigDecimals that are equal per "compareTo", but have different scale (e.g. 1.0 and 1.00) are not equal
+        if (consistentWithEquals && (t1 == BigDecimal.class || t2 == BigDecimal.class)) {
+            return (i1, i2) -> compareWithScale((BigDecimal) s1.get(i1), (BigDecimal) s2.get(i2));
+        }
+
+        return Comparators.across(s1, s2);
+    }
+
+    /**
+     * Returns the type of the Series values, or null if the Series has no non-null values. Throws if the Series has
+     * values of different types, as such values are not mutually comparable.
+     */
+    private static Class<?> valueType(Series<?> s) {
+
+        if (s instanceof IntSeries) {
+            return Integer.class;
+        } else if (s instanceof LongSeries) {
+            return Long.class;
+        } else if (s instanceof DoubleSeries) {
+            return Double.class;
+        } else if (s instanceof BooleanSeries) {
+            return Boolean.class;
+        }
+
+        Class<?> type = null;
+        int h = s.size();
+        for (int i = 0; i < h; i++) {
+            Object v = s.get(i);
+            if (v == null) {
+                continue;
+            }
+
+            if (type == null) {
+                type = v.getClass();
+            } else if (type != v.getClass()) {
+                throw new IllegalArgumentException("Sort-merge join column has values of different types: "
+                        + type.getName() + " vs. " + v.getClass().getName() + ". Use hash join instead");
+            }
+        }
+
+        return type;
+    }
+
+    private static int compareWithScale(BigDecimal d1, BigDecimal d2) {
+
+        if (d1 == null) {
+            return d2 == null ? 0 : 1;
+        } else if (d2 == null) {
+            return -1;
+        }
+
+        int c = d1.compareTo(d2);
+        return c != 0 ? c : Integer.compare(d1.scale(), d2.scale());
+    }
+}
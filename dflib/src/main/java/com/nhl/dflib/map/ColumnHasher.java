@@ -0,0 +1,89 @@
+package com.nhl.dflib.map;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Hasher;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.row.RowProxy;
+
+/**
+ * A {@link Hasher} that uses the value of a single column as a row hash. Unlike an arbitrary lambda, it allows the
+ * grouping and joining algorithms to resolve the underlying column {@link Series} and process it in a columnar fashion,
+ * taking advantage of the primitive Series storage when available.
+ *
+ * @since 0.12
+ */
+public abstract class ColumnHasher implements KeyColumnsHasher {
+
+    public static ColumnHasher of(String column) {
+        return new ByNameHasher(column);
+    }
+
+    public static ColumnHasher of(int column) {
+        return new ByPositionHasher(column);
+    }
+
+    /**
+     * Returns a column from the DataFrame that contains the hash values for each row.
+     */
+    public abstract <T> Series<T> resolveColumn(DataFrame df);
+
+    @Override
+    public KeyColumns resolveColumns(DataFrame df) {
+        return new KeyColumns(resolveColumn(df));
+    }
+
+    @Override
+    public Hasher and(String column) {
+        return and(ColumnHasher.of(column));
+    }
+
+    @Override
+    public Hasher and(int column) {
+        return and(ColumnHasher.of(column));
+    }
+
+    @Override
+    public Hasher and(Hasher hasher) {
+        return hasher instanceof ColumnHasher
+                ? new MultiColumnHasher(this, (ColumnHasher) hasher)
+                : KeyColumnsHasher.super.and(hasher);
+    }
+
+    static final class ByNameHasher extends ColumnHasher {
+
+        private final String column;
+
+        ByNameHasher(String column) {
+            this.column = column;
+        }
+
+        @Override
+        public <T> Series<T> resolveColumn(DataFrame df) {
+            return df.getColumn(column);
+        }
+
+        @Override
+        public Object map(RowProxy row) {
+            return row.get(column);
+        }
+    }
+
+    static final class ByPositionHasher extends ColumnHasher {
+
+        private final int column;
+
+        ByPositionHasher(int column) {
+            this.column = column;
+        }
+
+        @Override
+        public <T> Series<T> resolveColumn(DataFrame df) {
+            return df.getColumn(column);
+        }
+
+        @Override
+        public Object map(RowProxy row) {
+            return row.get(column);
+        }
+    }
+}
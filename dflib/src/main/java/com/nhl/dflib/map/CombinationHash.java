@@ -28,6 +28,7 @@ public class CombinationHash {
 
     @Override
     public int hashCode() {
-        return Objects.hash(hash1, hash2);
+        // same value as "Objects.hash(hash1, hash2)", but without allocating a varargs array
+        return 31 * (31 + Objects.hashCode(hash1)) + Objects.hashCode(hash2);
     }
 }
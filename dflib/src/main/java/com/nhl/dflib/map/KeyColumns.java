@@ -0,0 +1,243 @@
+package com.nhl.dflib.map;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.CategoricalSeries;
+import com.nhl.dflib.series.NullableSeries;
+
+import java.util.Objects;
+
+/**
+ * A set of columns that form a row key for "group by" and "hash join" operations. Hashes and compares rows by position
+ * directly against the column data, without materializing per-row key objects. Primitive Series are read without
+ * boxing. The semantics of hashing and equality match those of the key objects produced by the corresponding column
+ * {@link com.nhl.dflib.Hasher}.
+ *
+ * @since 0.12
+ */
+public class KeyColumns {
+
+    private final Series<?>[] columns;
+    private final int height;
+    private final boolean skipNulls;
+
+    public KeyColumns(Series<?>... columns) {
+
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("No key columns");
+        }
+
+        int h = columns[0].size();
+        for (int i = 1; i < columns.length; i++) {
+            if (columns[i].size() != h) {
+                throw new IllegalArgumentException("Key columns have different sizes: " + h + " vs. " + columns[i].size());
+            }
+        }
+
+        this.columns = columns;
+        this.height = h;
+
+        // similar to the Hasher-based grouping, a single-column null key is excluded from groups and joins, while
+        // the multi-column keys with nulls are matched to each other
+        this.skipNulls = columns.length == 1 && !isPrimitive(columns[0]);
+    }
+
+    private static boolean isPrimitive(Series<?> s) {
+
+        // primitive Series with nulls are treated as object Series
+        if (s instanceof NullableSeries) {
+            return false;
+        }
+
+        return s instanceof IntSeries
+                || s instanceof LongSeries
+                || s instanceof DoubleSeries
+                || s instanceof BooleanSeries;
+    }
+
+    public int width() {
+        return columns.length;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public Series<?> getColumn(int pos) {
+        return columns[pos];
+    }
+
+    /**
+     * Returns a copy of this key with all the columns materialized. Should be called before sharing the key between
+     * multiple threads, as lazy Series are not designed for concurrent access.
+     */
+    public KeyColumns materialize() {
+
+        int w = columns.length;
+        Series<?>[] materialized = new Series[w];
+        for (int i = 0; i < w; i++) {
+            materialized[i] = columns[i].materialize();
+        }
+
+        return new KeyColumns(materialized);
+    }
+
+    /**
+     * Returns true if the row key is null and the row should not participate in grouping or joining.
+     */
+    public boolean isNullKey(int row) {
+        return skipNulls && columns[0].get(row) == null;
+    }
+
+    /**
+     * Calculates a hash code of the key of each row. The calculation is done column by column to avoid per-row type
+     * checks. For every column, the hash is the same as the "hashCode()" of the boxed column value.
+     */
+    public int[] hashes() {
+        int[] hashes = new int[height];
+        hashes(hashes, 0, height);
+        return hashes;
+    }
+
+    /**
+     * Calculates hash codes of the keys of a range of rows, storing them in the provided array at the row positions.
+     * Allows to split hash calculation between multiple threads.
+     */
+    public void hashes(int[] hashes, int fromRow, int toRow) {
+
+        for (Series<?> c : columns) {
+
+            if (c instanceof CategoricalSeries) {
+                CategoricalSeries<?> cs = (CategoricalSeries<?>) c;
+
+                // hash each category once
+                int cl = cs.getCategoryCount();
+                int[] categoryHashes = new int[cl];
+                for (int j = 0; j < cl; j++) {
+                    categoryHashes[j] = cs.getCategory(j).hashCode();
+                }
+
+                for (int i = fromRow; i < toRow; i++) {
+                    int code = cs.getCode(i);
+                    hashes[i] = 31 * hashes[i] + (code < 0 ? 0 : categoryHashes[code]);
+                }
+            } else if (!isPrimitive(c)) {
+                for (int i = fromRow; i < toRow; i++) {
+                    hashes[i] = 31 * hashes[i] + Objects.hashCode(c.get(i));
+                }
+            } else if (c instanceof IntSeries) {
+                IntSeries is = (IntSeries) c;
+                for (int i = fromRow; i < toRow; i++) {
+                    hashes[i] = 31 * hashes[i] + Integer.hashCode(is.getInt(i));
+                }
+            } else if (c instanceof LongSeries) {
+                LongSeries ls = (LongSeries) c;
+                for (int i = fromRow; i < toRow; i++) {
+                    hashes[i] = 31 * hashes[i] + Long.hashCode(ls.getLong(i));
+                }
+            } else if (c instanceof DoubleSeries) {
+                DoubleSeries ds = (DoubleSeries) c;
+                for (int i = fromRow; i < toRow; i++) {
+                    hashes[i] = 31 * hashes[i] + Double.hashCode(ds.getDouble(i));
+                }
+            } else if (c instanceof BooleanSeries) {
+                BooleanSeries bs = (BooleanSeries) c;
+                for (int i = fromRow; i < toRow; i++) {
+                    hashes[i] = 31 * hashes[i] + Boolean.hashCode(bs.getBoolean(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a key object for a given row that is equal to the object produced for the same row by the column
+     * {@link com.nhl.dflib.Hasher}. Intended to be called once per group, not per row.
+     */
+    public Object key(int row) {
+
+        Object key = columns[0].get(row);
+        for (int i = 1; i < columns.length; i++) {
+            key = new CombinationHash(key, columns[i].get(row));
+        }
+
+        return key;
+    }
+
+    /**
+     * Creates a matcher that compares rows of this key to the rows of another key with the same number of columns.
+     */
+    public RowKeyMatcher matcher(KeyColumns other) {
+
+        int w = columns.length;
+        if (other.columns.length != w) {
+            throw new IllegalArgumentException("Keys have different number of columns: " + w + " vs. " + other.columns.length);
+        }
+
+        if (w == 1) {
+            return columnMatcher(columns[0], other.columns[0]);
+        }
+
+        RowKeyMatcher[] matchers = new RowKeyMatcher[w];
+        for (int i = 0; i < w; i++) {
+            matchers[i] = columnMatcher(columns[i], other.columns[i]);
+        }
+
+        return (row, otherRow) -> {
+            for (RowKeyMatcher m : matchers) {
+                if (!m.matches(row, otherRow)) {
+                    return false;
+                }
+            }
+
+            return true;
+        };
+    }
+
+    private static RowKeyMatcher columnMatcher(Series<?> c1, Series<?> c2) {
+
+        if (c1 instanceof CategoricalSeries && c2 instanceof CategoricalSeries) {
+            CategoricalSeries<?> cs1 = (CategoricalSeries<?>) c1;
+            CategoricalSeries<?> cs2 = (CategoricalSeries<?>) c2;
+            int[] translation = cs1.translateCodes(cs2);
+            return (r1, r2) -> {
+                int code2 = cs2.getCode(r2);
+                return cs1.getCode(r1) == (code2 < 0 ? -1 : translation[code2]);
+            };
+        }
+
+        if (!isPrimitive(c1) || !isPrimitive(c2)) {
+            return (r1, r2) -> Objects.equals(c1.get(r1), c2.get(r2));
+        }
+
+        if (c1 instanceof IntSeries && c2 instanceof IntSeries) {
+            IntSeries is1 = (IntSeries) c1;
+            IntSeries is2 = (IntSeries) c2;
+            return (r1, r2) -> is1.getInt(r1) == is2.getInt(r2);
+        }
+
+        if (c1 instanceof LongSeries && c2 instanceof LongSeries) {
+            LongSeries ls1 = (LongSeries) c1;
+            LongSeries ls2 = (LongSeries) c2;
+            return (r1, r2) -> ls1.getLong(r1) == ls2.getLong(r2);
+        }
+
+        if (c1 instanceof DoubleSeries && c2 instanceof DoubleSeries) {
+            DoubleSeries ds1 = (DoubleSeries) c1;
+            DoubleSeries ds2 = (DoubleSeries) c2;
+
+            // consistent with Double.equals(..)
+            return (r1, r2) -> Double.doubleToLongBits(ds1.getDouble(r1)) == Double.doubleToLongBits(ds2.getDouble(r2));
+        }
+
+        if (c1 instanceof BooleanSeries && c2 instanceof BooleanSeries) {
+            BooleanSeries bs1 = (BooleanSeries) c1;
+            BooleanSeries bs2 = (BooleanSeries) c2;
+            return (r1, r2) -> bs1.getBoolean(r1) == bs2.getBoolean(r2);
+        }
+
+        return (r1, r2) -> Objects.equals(c1.get(r1), c2.get(r2));
+    }
+}
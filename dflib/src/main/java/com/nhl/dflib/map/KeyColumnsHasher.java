@@ -0,0 +1,15 @@
+package com.nhl.dflib.map;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Hasher;
+
+/**
+ * A {@link Hasher} whose row hash is made of the values of one or more DataFrame columns. Such a Hasher can resolve its
+ * columns as {@link KeyColumns}, allowing the grouping and joining algorithms to work on the columns directly.
+ *
+ * @since 0.12
+ */
+public interface KeyColumnsHasher extends Hasher {
+
+    KeyColumns resolveColumns(DataFrame df);
+}
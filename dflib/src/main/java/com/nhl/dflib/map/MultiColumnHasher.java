@@ -0,0 +1,71 @@
+package com.nhl.dflib.map;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Hasher;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.row.RowProxy;
+
+/**
+ * A {@link Hasher} that combines the values of multiple columns into a row hash. Produced by combining
+ * {@link ColumnHasher} instances via {@link Hasher#and(String)} and similar methods. Lets the grouping and joining
+ * algorithms compare keys by row position via {@link KeyColumns}, instead of allocating a chain of
+ * {@link CombinationHash} objects for every row.
+ *
+ * @since 0.12
+ */
+public class MultiColumnHasher implements KeyColumnsHasher {
+
+    private final ColumnHasher[] columns;
+
+    public MultiColumnHasher(ColumnHasher... columns) {
+        this.columns = columns;
+    }
+
+    @Override
+    public KeyColumns resolveColumns(DataFrame df) {
+
+        int w = columns.length;
+        Series<?>[] data = new Series[w];
+        for (int i = 0; i < w; i++) {
+            data[i] = columns[i].resolveColumn(df);
+        }
+
+        return new KeyColumns(data);
+    }
+
+    @Override
+    public Hasher and(String column) {
+        return and(ColumnHasher.of(column));
+    }
+
+    @Override
+    public Hasher and(int column) {
+        return and(ColumnHasher.of(column));
+    }
+
+    @Override
+    public Hasher and(Hasher hasher) {
+
+        if (hasher instanceof ColumnHasher) {
+            int w = columns.length;
+            ColumnHasher[] combined = new ColumnHasher[w + 1];
+            System.arraycopy(columns, 0, combined, 0, w);
+            combined[w] = (ColumnHasher) hasher;
+            return new MultiColumnHasher(combined);
+        }
+
+        return KeyColumnsHasher.super.and(hasher);
+    }
+
+    @Override
+    public Object map(RowProxy row) {
+
+        // must produce the same key as a chain of Hasher.and(..) calls on the column Hashers
+        Object key = columns[0].map(row);
+        for (int i = 1; i < columns.length; i++) {
+            key = new CombinationHash(key, columns[i].map(row));
+        }
+
+        return key;
+    }
+}
@@ -0,0 +1,12 @@
+package com.nhl.dflib.map;
+
+/**
+ * Compares the key of a row in one DataFrame with the key of a row in another (or the same) DataFrame.
+ *
+ * @since 0.12
+ */
+@FunctionalInterface
+public interface RowKeyMatcher {
+
+    boolean matches(int row, int otherRow);
+}
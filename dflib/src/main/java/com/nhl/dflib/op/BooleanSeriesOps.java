@@ -1,7 +1,7 @@
 package com.nhl.dflib.op;
 
 import com.nhl.dflib.BooleanSeries;
-import com.nhl.dflib.series.BooleanArraySeries;
+import com.nhl.dflib.series.BooleanBitsetSeries;
 
 public class BooleanSeriesOps {
 
@@ -22,18 +22,18 @@ public class BooleanSeriesOps {
             }
         }
 
-        boolean[] and = new boolean[h];
-        for (int i = 0; i < h; i++) {
+        // combining the values 64 at a time. Non-bitset Series are converted to bitsets first
+        long[] and = mutableBits(series[0]);
+        int words = BooleanBitsetSeries.wordCount(h);
 
-            boolean b = series[0].getBoolean(i);
-            for (int j = 1; j < w; j++) {
-                b = b && series[j].getBoolean(i);
+        for (int j = 1; j < w; j++) {
+            long[] bits = BooleanBitsetSeries.toBits(series[j]);
+            for (int i = 0; i < words; i++) {
+                and[i] &= bits[i];
             }
-
-            and[i] = b;
         }
 
-        return new BooleanArraySeries(and);
+        return new BooleanBitsetSeries(and, h);
     }
 
     public static BooleanSeries orAll(BooleanSeries... series) {
@@ -53,17 +53,23 @@ public class BooleanSeriesOps {
             }
         }
 
-        boolean[] or = new boolean[h];
-        for (int i = 0; i < h; i++) {
+        // combining the values 64 at a time. Non-bitset Series are converted to bitsets first
+        long[] or = mutableBits(series[0]);
+        int words = BooleanBitsetSeries.wordCount(h);
 
-            boolean b = series[0].getBoolean(i);
-            for (int j = 1; j < w; j++) {
-                b = b || series[j].getBoolean(i);
+        for (int j = 1; j < w; j++) {
+            long[] bits = BooleanBitsetSeries.toBits(series[j]);
+            for (int i = 0; i < words; i++) {
+                or[i] |= bits[i];
             }
-
-            or[i] = b;
         }
 
-        return new BooleanArraySeries(or);
+        return new BooleanBitsetSeries(or, h);
+    }
+
+    // returns a bitset that can be modified without affecting the Series
+    private static long[] mutableBits(BooleanSeries s) {
+        long[] bits = BooleanBitsetSeries.toBits(s);
+        return s instanceof BooleanBitsetSeries ? bits.clone() : bits;
     }
 }
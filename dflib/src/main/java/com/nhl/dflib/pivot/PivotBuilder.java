@@ -2,11 +2,17 @@ package com.nhl.dflib.pivot;
 
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Exp;
-import com.nhl.dflib.GroupBy;
+import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.Series;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.accumulator.ObjectAccumulator;
+import com.nhl.dflib.exp.agg.GroupAggregatingExp;
+import com.nhl.dflib.series.IntArraySeries;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -131,62 +137,169 @@ public class PivotBuilder {
         }
 
         String rowColumnName = dataFrame.getColumnsIndex().getLabel(columnForRows);
-        GroupBy byColumn = dataFrame.group(columnForColumns);
-
-        List<DataFrame> chunks = new ArrayList<>(byColumn.size());
 
-        for (Object col : byColumn.getGroups()) {
+        Series<?> rowKeys = dataFrame.getColumn(columnForRows);
+        Series<?> columnKeys = dataFrame.getColumn(columnForColumns);
+        Series<?> values = dataFrame.getColumn(columnForValues);
+
+        // assign ids to the pivot rows and columns in the order of the first appearance of their keys. Rows with null
+        // column keys are skipped, as we can't have null column labels
+
+        int h = dataFrame.height();
+        int[] rowIds = new int[h];
+        int[] columnIds = new int[h];
+
+        Map<Object, Integer> rowIdsByKey = new HashMap<>();
+        Map<Object, Integer> columnIdsByKey = new LinkedHashMap<>();
+        IntAccumulator rowKeyPositions = new IntAccumulator();
+
+        for (int i = 0; i < h; i++) {
+
+            Object columnKey = columnKeys.get(i);
+            if (columnKey == null) {
+                columnIds[i] = -1;
+                continue;
+            }
+
+            Integer columnId = columnIdsByKey.get(columnKey);
+            if (columnId == null) {
+                columnId = columnIdsByKey.size();
+                columnIdsByKey.put(columnKey, columnId);
+            }
+
+            Object rowKey = rowKeys.get(i);
+            Integer rowId = rowIdsByKey.get(rowKey);
+            if (rowId == null) {
+                rowId = rowIdsByKey.size();
+                rowIdsByKey.put(rowKey, rowId);
+                rowKeyPositions.addInt(i);
+            }
+
+            columnIds[i] = columnId;
+            rowIds[i] = rowId;
+        }
 
-            DataFrame byColumnDf = byColumn.getGroup(col);
-            DataFrame pivotChunk = DataFrame
-                    .newFrame(rowColumnName, col.toString())
-                    .columns(
-                            byColumnDf.getColumn(columnForRows),
-                            byColumnDf.getColumn(columnForValues)
-                    ).map(df -> aggregateChunk(df, valuesAggregator));
+        int pivotW = columnIdsByKey.size();
+        int pivotH = rowIdsByKey.size();
 
-            chunks.add(pivotChunk);
+        if (pivotW == 0) {
+            return empty(rowColumnName);
         }
 
-        switch (chunks.size()) {
-            case 0:
-                return DataFrame.newFrame(rowColumnName).empty();
-            case 1:
-                return chunks.get(0);
-            default:
-                return chunks.stream()
-                        .reduce(this::joinChunks)
-                        .orElseGet(() -> empty(rowColumnName));
+        // a dense matrix (stored by column) with the positions of the aggregated values for each pivot cell, or -1
+        // for the empty cells
+        int[] cells = new int[Math.multiplyExact(pivotW, pivotH)];
+        Arrays.fill(cells, -1);
+
+        Series<?> cellValues = valuesAggregator == oneValueAgg
+                ? placeValues(values, rowIds, columnIds, pivotH, cells)
+                : aggregateValues(values, valuesAggregator, rowIds, columnIds, pivotH, cells);
+
+        String[] labels = new String[pivotW + 1];
+        Series<?>[] columns = new Series[pivotW + 1];
+
+        labels[0] = rowColumnName;
+        columns[0] = rowKeys.select(rowKeyPositions.toSeries());
+
+        int c = 1;
+        for (Object columnKey : columnIdsByKey.keySet()) {
+            int[] positions = new int[pivotH];
+            System.arraycopy(cells, (c - 1) * pivotH, positions, 0, pivotH);
+
+            labels[c] = columnKey.toString();
+            columns[c] = cellValues.select(new IntArraySeries(positions));
+            c++;
         }
-    }
 
-    private DataFrame joinChunks(DataFrame left, DataFrame right) {
-        int rightRowPos = left.width();
-        return left.fullJoin().on(0).with(right)
-                .map(df -> df.fillNullsFromSeries(0, df.getColumn(rightRowPos)))
-                .map(df -> df.dropColumns(df.getColumnsIndex().getLabel(rightRowPos)));
+        return DataFrame.newFrame(labels).columns(columns);
     }
 
-    private DataFrame empty(String rowColumnName) {
-        return DataFrame.newFrame(rowColumnName).empty();
+    // fills the cells with the positions of the values, checking that there's no more than one value per cell
+    private Series<?> placeValues(Series<?> values, int[] rowIds, int[] columnIds, int pivotH, int[] cells) {
+
+        int h = rowIds.length;
+        for (int i = 0; i < h; i++) {
+            if (columnIds[i] >= 0) {
+                int cell = columnIds[i] * pivotH + rowIds[i];
+                if (cells[cell] >= 0) {
+                    // will throw
+                    oneValueAggregator(values.select(cells[cell], i));
+                }
+
+                cells[cell] = i;
+            }
+        }
+
+        return values;
     }
 
-    private <T> DataFrame aggregateChunk(DataFrame chunk, Exp<T> aggregator) {
+    // treats each non-empty cell as a group, aggregates the groups, and fills the cells with the group positions
+    private <T> Series<?> aggregateValues(
+            Series<?> values,
+            Exp<T> aggregator,
+            int[] rowIds,
+            int[] columnIds,
+            int pivotH,
+            int[] cells) {
+
+        int h = rowIds.length;
+        int[] rowGroups = new int[h];
+        int groupCount = 0;
+
+        for (int i = 0; i < h; i++) {
+            if (columnIds[i] < 0) {
+                rowGroups[i] = -1;
+                continue;
+            }
+
+            int cell = columnIds[i] * pivotH + rowIds[i];
+            if (cells[cell] < 0) {
+                cells[cell] = groupCount++;
+            }
+
+            rowGroups[i] = cells[cell];
+        }
+
+        if (aggregator instanceof GroupAggregatingExp) {
+            Series<?> aggregated = ((GroupAggregatingExp<?>) aggregator).aggGroups(values, rowGroups, groupCount);
+            if (aggregated != null) {
+                return aggregated;
+            }
+        }
+
+        // fall back to evaluating the aggregator on each group separately
+
+        int[] offsets = new int[groupCount + 1];
+        for (int g : rowGroups) {
+            if (g >= 0) {
+                offsets[g + 1]++;
+            }
+        }
+
+        for (int g = 0; g < groupCount; g++) {
+            offsets[g + 1] += offsets[g];
+        }
+
+        int[] groupPositions = new int[offsets[groupCount]];
+        int[] next = Arrays.copyOf(offsets, groupCount);
+        for (int i = 0; i < h; i++) {
+            int g = rowGroups[i];
+            if (g >= 0) {
+                groupPositions[next[g]++] = i;
+            }
+        }
 
-        String rowColumnName = chunk.getColumnsIndex().getLabel(0);
-        String valueColumnName = chunk.getColumnsIndex().getLabel(1);
+        ObjectAccumulator<Object> aggregated = new ObjectAccumulator<>(groupCount);
+        for (int g = 0; g < groupCount; g++) {
+            IntSeries positions = new IntArraySeries(groupPositions, offsets[g], offsets[g + 1] - offsets[g]);
+            aggregated.add(aggregator.eval(values.select(positions)).get(0));
+        }
 
-        return chunk.group(rowColumnName).agg(
-                Exp.$col(rowColumnName).first(),
+        return aggregated.toSeries();
+    }
 
-                // capture a column with dynamically defined name
-                Exp.$col(valueColumnName)
-                        // and then pass the resulting Series (not DataFrame)
-                        // to the column name-agnostic aggregator exp
-                        .map(aggregator::eval)
-                        // restore the column name
-                        .as(valueColumnName)
-        );
+    private DataFrame empty(String rowColumnName) {
+        return DataFrame.newFrame(rowColumnName).empty();
     }
 
     private int validateColumn(String name) {
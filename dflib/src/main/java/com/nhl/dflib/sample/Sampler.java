@@ -1,8 +1,14 @@
 package com.nhl.dflib.sample;
 
+import com.nhl.dflib.DoubleSeries;
 import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.IntArraySeries;
 
 import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
 /**
@@ -14,6 +20,9 @@ import java.util.Random;
  */
 public class Sampler {
 
+    // sample sizes below this fraction of the original size are shuffled sparsely
+    private static final int SPARSE_SAMPLE_RATIO = 16;
+
     private static Random defaultRandom = new SecureRandom();
 
     public static Random getDefaultRandom() {
@@ -24,15 +33,175 @@ public class Sampler {
         return sampleIndex(sampleSize, originalSize, defaultRandom);
     }
 
+    /**
+     * Returns a random sample of "sampleSize" distinct positions out of "originalSize", in random order. The time and
+     * memory needed for the sample are proportional to "sampleSize", not "originalSize", unless the sample is a
+     * significant part of the original positions.
+     */
     public static IntSeries sampleIndex(int sampleSize, int originalSize, Random random) {
 
         if (sampleSize > originalSize) {
             throw new IllegalArgumentException("Sample size must not be higher than the original size");
         }
 
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("Sample size must be non-negative: " + sampleSize);
+        }
+
+        // Both flavors do a Fisher-Yates shuffle of just the first "sampleSize" positions, producing the same result
+        // for the same Random. For smaller samples, the positions displaced by the shuffle are tracked in a map
+        // instead of materializing all the positions
+        int[] sample = sampleSize < originalSize / SPARSE_SAMPLE_RATIO
+                ? sparseShuffleHead(sampleSize, originalSize, random)
+                : shuffleHead(sampleSize, originalSize, random);
+
+        return new IntArraySeries(sample);
+    }
+
+    /**
+     * Returns a random sample of "sampleSize" distinct positions of the "weights" Series, where the probability of each
+     * position to be included is proportional to its weight. Positions with zero or null weights are never included.
+     * Uses the Efraimidis-Spirakis algorithm, whose memory use is proportional to the sample size.
+     *
+     * @since 0.12
+     */
+    public static IntSeries sampleIndex(int sampleSize, Series<? extends Number> weights, Random random) {
+
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("Sample size must be non-negative: " + sampleSize);
+        }
+
+        // a min-heap of the "sampleSize" largest keys seen so far
+        double[] keys = new double[sampleSize];
+        int[] positions = new int[sampleSize];
+        int heapSize = 0;
+
+        int len = weights.size();
+        for (int i = 0; i < len; i++) {
+            double w = weight(weights, i);
+            if (w <= 0.) {
+                continue;
+            }
+
+            // the key is log(u^(1/w)), to avoid the precision loss of raising to a power
+            double key = Math.log(1. - random.nextDouble()) / w;
+
+            if (heapSize < sampleSize) {
+                keys[heapSize] = key;
+                positions[heapSize] = i;
+                siftUp(keys, positions, heapSize++);
+            } else if (sampleSize > 0 && key > keys[0]) {
+                keys[0] = key;
+                positions[0] = i;
+                siftDown(keys, positions, 0, heapSize);
+            }
+        }
+
+        if (heapSize < sampleSize) {
+            throw new IllegalArgumentException(
+                    "Sample size must not be higher than the number of positions with positive weights");
+        }
+
+        // return the positions in the order of the descending keys by repeatedly removing the heap minimum
+        int[] sample = new int[sampleSize];
+        for (int i = sampleSize - 1; i >= 0; i--) {
+            sample[i] = positions[0];
+            keys[0] = keys[i];
+            positions[0] = positions[i];
+            siftDown(keys, positions, 0, i);
+        }
+
+        return new IntArraySeries(sample);
+    }
+
+    private static double weight(Series<? extends Number> weights, int i) {
+
+        double w;
+        if (weights instanceof DoubleSeries) {
+            w = ((DoubleSeries) weights).getDouble(i);
+        } else {
+            Number n = weights.get(i);
+            w = n != null ? n.doubleValue() : 0.;
+        }
+
+        if (w < 0. || Double.isNaN(w)) {
+            throw new IllegalArgumentException("Invalid weight at position " + i + ": " + w);
+        }
+
+        return w;
+    }
+
+    private static void siftUp(double[] keys, int[] positions, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= keys[i]) {
+                return;
+            }
+
+            swap(keys, positions, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(double[] keys, int[] positions, int i, int size) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+
+            int right = left + 1;
+            int min = right < size && keys[right] < keys[left] ? right : left;
+            if (keys[i] <= keys[min]) {
+                return;
+            }
+
+            swap(keys, positions, i, min);
+            i = min;
+        }
+    }
+
+    private static void swap(double[] keys, int[] positions, int i, int j) {
+        double k = keys[i];
+        keys[i] = keys[j];
+        keys[j] = k;
+
+        int p = positions[i];
+        positions[i] = positions[j];
+        positions[j] = p;
+    }
+
+    private static int[] shuffleHead(int sampleSize, int originalSize, Random random) {
+
         int[] data = intSequence(originalSize);
-        shuffle(data, random);
-        return IntSeries.forInts(data).headInt(sampleSize);
+        for (int i = 0; i < sampleSize; i++) {
+            swap(data, i, i + random.nextInt(originalSize - i));
+        }
+
+        return data.length == sampleSize ? data : Arrays.copyOf(data, sampleSize);
+    }
+
+    private static int[] sparseShuffleHead(int sampleSize, int originalSize, Random random) {
+
+        int[] sample = new int[sampleSize];
+
+        // values at the positions that were swapped so far. All other positions contain their own index
+        Map<Integer, Integer> displaced = new HashMap<>();
+
+        for (int i = 0; i < sampleSize; i++) {
+            int j = i + random.nextInt(originalSize - i);
+
+            int vi = displaced.getOrDefault(i, i);
+            int vj = displaced.getOrDefault(j, j);
+
+            sample[i] = vj;
+            displaced.put(j, vi);
+
+            // position "i" will never be read again
+            displaced.remove(i);
+        }
+
+        return sample;
     }
 
     private static int[] intSequence(int size) {
@@ -44,15 +213,6 @@ public class Sampler {
         return data;
     }
 
-    // approximately the same as Collections.shuffle()
-    private static void shuffle(int[] ints, Random random) {
-        int size = ints.length;
-
-        for (int i = size; i > 1; i--) {
-            swap(ints, i - 1, random.nextInt(i));
-        }
-    }
-
     private static void swap(int[] ints, int i, int j) {
         int tmp = ints[i];
         ints[i] = ints[j];
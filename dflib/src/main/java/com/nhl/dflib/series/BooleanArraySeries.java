@@ -8,7 +8,6 @@ import com.nhl.dflib.agg.PrimitiveSeriesCount;
  */
 public class BooleanArraySeries extends BooleanBaseSeries {
 
-    // TODO should we use a bitset instead of boolean[] for memory and access efficiency?
     private final boolean[] data;
     private final int offset;
     private final int size;
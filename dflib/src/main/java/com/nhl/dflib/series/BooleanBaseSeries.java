@@ -40,21 +40,26 @@ public abstract class BooleanBaseSeries implements BooleanSeries {
         int h = positions.size();
 
         boolean[] data = new boolean[h];
+        long[] nulls = null;
 
         for (int i = 0; i < h; i++) {
             int index = positions.getInt(i);
 
-            // "index < 0" (often found in outer joins) indicate nulls.
-            // If a null is encountered, we can no longer maintain IntSeries and have to change to Series<Boolean>...
+            // "index < 0" (often found in outer joins) indicate nulls. Track them in a bitmap to avoid switching to
+            // Series<Boolean>
             if (index < 0) {
-                // TODO: implement NullableBooleanSeries as a Series of short[], where null, true, false are encoded as 0, 1, -1
-                return selectAsObjectSeries(positions);
+                if (nulls == null) {
+                    nulls = NullBitmap.create(h);
+                }
+
+                NullBitmap.set(nulls, i);
+                continue;
             }
 
             data[i] = getBoolean(index);
         }
 
-        return new BooleanArraySeries(data);
+        return NullableBooleanArraySeries.of(data, nulls);
     }
 
     @Override
@@ -81,6 +86,11 @@ public abstract class BooleanBaseSeries implements BooleanSeries {
             throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
         }
 
+        // a bitset can be converted to positions 64 values at a time
+        if (positions instanceof BooleanBitsetSeries) {
+            return selectAsBooleanSeries(positions.indexTrue());
+        }
+
         BooleanAccumulator data = new BooleanAccumulator();
 
         for (int i = 0; i < size(); i++) {
@@ -123,19 +133,6 @@ public abstract class BooleanBaseSeries implements BooleanSeries {
         return new BooleanArraySeries(data);
     }
 
-    private Series<Boolean> selectAsObjectSeries(IntSeries positions) {
-
-        int h = positions.size();
-        Boolean[] data = new Boolean[h];
-
-        for (int i = 0; i < h; i++) {
-            int index = positions.getInt(i);
-            data[i] = index < 0 ? null : getBoolean(index);
-        }
-
-        return new ArraySeries<>(data);
-    }
-
     @Override
     public BooleanSeries concatBoolean(BooleanSeries... other) {
         if (other.length == 0) {
@@ -153,14 +150,17 @@ public abstract class BooleanBaseSeries implements BooleanSeries {
         boolean[] data = new boolean[h];
         copyToBoolean(data, 0, 0, size);
 
+        long[] nulls = NullBitmap.copy(NullBitmap.of(this), null, h, 0, size);
+
         int offset = size;
         for (BooleanSeries s : other) {
             int len = s.size();
             s.copyToBoolean(data, 0, offset, len);
+            nulls = NullBitmap.copy(NullBitmap.of(s), nulls, h, offset, len);
             offset += len;
         }
 
-        return new BooleanArraySeries(data);
+        return NullableBooleanArraySeries.of(data, nulls);
     }
 
     @Override
@@ -379,7 +379,7 @@ public abstract class BooleanBaseSeries implements BooleanSeries {
 
         BooleanAccumulator bools = new BooleanAccumulator(s);
 
-        if (another instanceof BooleanSeries) {
+        if (another instanceof BooleanSeries && !(another instanceof NullableSeries)) {
             BooleanSeries anotherBool = (BooleanSeries) another;
 
             for (int i = 0; i < s; i++) {
@@ -404,7 +404,7 @@ public abstract class BooleanBaseSeries implements BooleanSeries {
         }
 
         BooleanAccumulator bools = new BooleanAccumulator(s);
-        if (another instanceof BooleanSeries) {
+        if (another instanceof BooleanSeries && !(another instanceof NullableSeries)) {
             BooleanSeries anotherBool = (BooleanSeries) another;
 
             for (int i = 0; i < s; i++) {
@@ -495,12 +495,18 @@ public abstract class BooleanBaseSeries implements BooleanSeries {
 
     @Override
     public BooleanSeries and(BooleanSeries another) {
-        return BooleanSeries.andAll(this, another);
+
+        // the nullable Series knows how to combine its nulls
+        return another instanceof NullableSeries
+                ? another.and(this)
+                : BooleanSeries.andAll(this, another);
     }
 
     @Override
     public BooleanSeries or(BooleanSeries another) {
-        return BooleanSeries.orAll(this, another);
+        return another instanceof NullableSeries
+                ? another.or(this)
+                : BooleanSeries.orAll(this, another);
     }
 
     @Override
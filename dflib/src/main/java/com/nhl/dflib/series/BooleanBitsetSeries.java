@@ -0,0 +1,234 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.IntSeries;
+
+import java.util.Objects;
+
+/**
+ * A {@link BooleanSeries} that stores its values packed in a "long[]" bitset, with each bit corresponding to a Series
+ * position. Takes 8x less memory than a "boolean[]", and allows the logical operations, counting and searching to be
+ * done 64 values at a time. This is the Series produced by the conditions and by the
+ * {@link com.nhl.dflib.accumulator.BooleanAccumulator}.
+ *
+ * @since 0.12
+ */
+public class BooleanBitsetSeries extends BooleanBaseSeries {
+
+    private final long[] bits;
+    private final int size;
+
+    /**
+     * @param bits a bitset with at least "size" bits. The bits past the "size" must not be set.
+     * @param size the number of values in the Series
+     */
+    public BooleanBitsetSeries(long[] bits, int size) {
+        this.bits = Objects.requireNonNull(bits);
+        this.size = size;
+
+        if (bits.length < wordCount(size)) {
+            throw new IllegalArgumentException("Bitset is too short for the Series size " + size + ": " + bits.length);
+        }
+    }
+
+    /**
+     * Returns a bitset with the values of the BooleanSeries. If the Series is a BooleanBitsetSeries, its own bitset
+     * is returned, so the caller must not modify it.
+     */
+    public static long[] toBits(BooleanSeries s) {
+
+        if (s instanceof BooleanBitsetSeries) {
+            return ((BooleanBitsetSeries) s).bits;
+        }
+
+        int size = s.size();
+        long[] bits = new long[wordCount(size)];
+        for (int i = 0; i < size; i++) {
+            if (s.getBoolean(i)) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+
+        return bits;
+    }
+
+    /**
+     * Returns the number of "long" words needed to store the given number of bits.
+     */
+    public static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Returns a mask of the valid bits in the last word of a bitset of the given size.
+     */
+    static long lastWordMask(int size) {
+        int tail = size & 63;
+        return tail == 0 ? -1L : (1L << tail) - 1;
+    }
+
+    /**
+     * Returns the internal bitset of this Series. The caller must not modify it.
+     */
+    public long[] getBits() {
+        return bits;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        if (index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void copyToBoolean(boolean[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            int j = fromOffset + i;
+            to[toOffset + i] = (bits[j >>> 6] & (1L << j)) != 0;
+        }
+    }
+
+    @Override
+    public BooleanSeries materializeBoolean() {
+        return this;
+    }
+
+    @Override
+    public BooleanSeries headBoolean(int len) {
+        return len < size ? range(0, len) : this;
+    }
+
+    @Override
+    public BooleanSeries tailBoolean(int len) {
+        return len < size ? range(size - len, len) : this;
+    }
+
+    @Override
+    public BooleanSeries rangeOpenClosedBoolean(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size
+                ? this
+                : range(fromInclusive, toExclusive - fromInclusive);
+    }
+
+    private BooleanSeries range(int fromInclusive, int len) {
+
+        if (fromInclusive + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromInclusive + len);
+        }
+
+        int words = wordCount(len);
+        long[] range = new long[words];
+
+        // shift the words of the source bitset to align the range start with the bit "0"
+        int shift = fromInclusive & 63;
+        int from = fromInclusive >>> 6;
+
+        for (int w = 0; w < words; w++) {
+            long word = bits[from + w] >>> shift;
+            if (shift != 0 && from + w + 1 < bits.length) {
+                word |= bits[from + w + 1] << (64 - shift);
+            }
+
+            range[w] = word;
+        }
+
+        if (words > 0) {
+            range[words - 1] &= lastWordMask(len);
+        }
+
+        return new BooleanBitsetSeries(range, len);
+    }
+
+    @Override
+    public int firstTrue() {
+        int words = wordCount(size);
+        for (int w = 0; w < words; w++) {
+            if (bits[w] != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(bits[w]);
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int countTrue() {
+        int count = 0;
+
+        int words = wordCount(size);
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(bits[w]);
+        }
+
+        return count;
+    }
+
+    @Override
+    public int countFalse() {
+        return size - countTrue();
+    }
+
+    @Override
+    public IntSeries indexTrue() {
+
+        int[] index = new int[countTrue()];
+        int i = 0;
+
+        int words = wordCount(size);
+        for (int w = 0; w < words; w++) {
+
+            // iterate over the set bits, clearing the lowest one on each step
+            long word = bits[w];
+            while (word != 0) {
+                index[i++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+
+        return new IntArraySeries(index);
+    }
+
+    @Override
+    public IntSeries indexFalse() {
+        return not().indexTrue();
+    }
+
+    @Override
+    public boolean isTrue() {
+        return countTrue() == size;
+    }
+
+    @Override
+    public boolean isFalse() {
+        // empty series is not considered "false"
+        return size > 0 && firstTrue() < 0;
+    }
+
+    @Override
+    public BooleanSeries not() {
+        if (size == 0) {
+            return this;
+        }
+
+        int words = wordCount(size);
+        long[] not = new long[words];
+        for (int w = 0; w < words; w++) {
+            not[w] = ~bits[w];
+        }
+
+        not[words - 1] &= lastWordMask(size);
+        return new BooleanBitsetSeries(not, size);
+    }
+}
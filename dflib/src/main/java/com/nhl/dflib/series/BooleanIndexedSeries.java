@@ -0,0 +1,117 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+
+import java.util.Objects;
+
+/**
+ * A lazy {@link SelectionView} of a {@link BooleanSeries} that reads the values from the source on access. The source
+ * must not contain nulls, and the positions must not be negative.
+ *
+ * @since 0.12
+ */
+public class BooleanIndexedSeries extends BooleanBaseSeries implements SelectionView<Boolean> {
+
+    private final BooleanSeries source;
+    private final IntSeries positions;
+
+    public BooleanIndexedSeries(BooleanSeries source, IntSeries positions) {
+        this.source = Objects.requireNonNull(source);
+        this.positions = Objects.requireNonNull(positions);
+    }
+
+    @Override
+    public IntSeries getSourcePositions() {
+        return positions;
+    }
+
+    @Override
+    public Series<Boolean> selectFromSource(IntSeries sourcePositions) {
+        return new BooleanIndexedSeries(source, sourcePositions);
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return source.getBoolean(positions.getInt(index));
+    }
+
+    @Override
+    public void copyToBoolean(boolean[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = source.getBoolean(positions.getInt(fromOffset + i));
+        }
+    }
+
+    @Override
+    public Series<Boolean> select(IntSeries positions) {
+        IntSeries composed = SelectionVector.compose(this.positions, positions);
+        return composed != null ? new BooleanIndexedSeries(source, composed) : super.select(positions);
+    }
+
+    @Override
+    public BooleanSeries materializeBoolean() {
+        int len = size();
+        boolean[] data = new boolean[len];
+        copyToBoolean(data, 0, 0, len);
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries rangeOpenClosedBoolean(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new BooleanIndexedSeries(source, positions.rangeOpenClosedInt(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public BooleanSeries headBoolean(int len) {
+        return len < size() ? new BooleanIndexedSeries(source, positions.headInt(len)) : this;
+    }
+
+    @Override
+    public BooleanSeries tailBoolean(int len) {
+        return len < size() ? new BooleanIndexedSeries(source, positions.tailInt(len)) : this;
+    }
+
+    @Override
+    public int firstTrue() {
+        int len = size();
+        for (int i = 0; i < len; i++) {
+            if (getBoolean(i)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int countTrue() {
+        int count = 0;
+
+        int len = size();
+        for (int i = 0; i < len; i++) {
+            if (getBoolean(i)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int countFalse() {
+        return size() - countTrue();
+    }
+}
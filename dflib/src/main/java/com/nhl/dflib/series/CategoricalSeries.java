@@ -0,0 +1,619 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.SeriesGroupBy;
+import com.nhl.dflib.ValueMapper;
+import com.nhl.dflib.ValuePredicate;
+import com.nhl.dflib.accumulator.BooleanAccumulator;
+import com.nhl.dflib.accumulator.CategoricalAccumulator;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.groupby.Grouper;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A dictionary-encoded Series that stores each distinct value ("category") only once, and each element as an int
+ * code of its category. Codes are positions in the category array, with "-1" denoting null. Good for the columns with
+ * a small number of distinct values (e.g. statuses, countries, etc.), reducing memory use and allowing grouping,
+ * equality checks, unique values and value counts to operate on the int codes. Predicates and "mapCategorical" mappers
+ * are evaluated once per category instead of once per element. Values that are equal to each other are stored as a
+ * single category, represented by the first of them.
+ *
+ * @since 0.12
+ */
+public class CategoricalSeries<T> extends ObjectSeries<T> {
+
+    private final int[] codes;
+
+    // distinct non-null values
+    private final T[] categories;
+
+    public CategoricalSeries(int[] codes, T[] categories) {
+        super(Object.class);
+        this.codes = Objects.requireNonNull(codes);
+        this.categories = Objects.requireNonNull(categories);
+    }
+
+    /**
+     * Dictionary-encodes the values of the provided Series, returning the Series itself if it is already encoded.
+     */
+    public static <T> CategoricalSeries<T> of(Series<T> source) {
+
+        if (source instanceof CategoricalSeries) {
+            return (CategoricalSeries<T>) source;
+        }
+
+        int len = source.size();
+        CategoricalAccumulator<T> accum = new CategoricalAccumulator<>(len);
+        for (int i = 0; i < len; i++) {
+            accum.add(source.get(i));
+        }
+
+        return (CategoricalSeries<T>) accum.toSeries();
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    @Override
+    public T get(int index) {
+        int code = codes[index];
+        return code < 0 ? null : categories[code];
+    }
+
+    /**
+     * Returns a category code of the element at the index, or -1 if the element is null.
+     */
+    public int getCode(int index) {
+        return codes[index];
+    }
+
+    /**
+     * Returns the category codes of all elements.
+     */
+    public IntSeries getCodes() {
+        return new IntArraySeries(codes);
+    }
+
+    /**
+     * Returns the distinct non-null values of this Series in the order of their codes.
+     */
+    public Series<T> getCategories() {
+        return new ArraySeries<>(categories);
+    }
+
+    public int getCategoryCount() {
+        return categories.length;
+    }
+
+    /**
+     * Returns a category at the code position.
+     */
+    public T getCategory(int code) {
+        return categories[code];
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    @Override
+    public Series<T> materialize() {
+        return this;
+    }
+
+    @Override
+    public CategoricalSeries<T> toCategorical() {
+        return this;
+    }
+
+    @Override
+    public <V> Series<V> mapCategorical(ValueMapper<T, V> mapper) {
+
+        // map each category once; different categories may be mapped to the same value, so the result is re-encoded
+        int cl = categories.length;
+        CategoricalAccumulator<V> mapped = new CategoricalAccumulator<>(cl);
+        for (int i = 0; i < cl; i++) {
+            mapped.add(mapper.map(categories[i]));
+        }
+
+        CategoricalSeries<V> mappedCategories = (CategoricalSeries<V>) mapped.toSeries();
+
+        boolean hasNulls = false;
+        int len = codes.length;
+        int[] newCodes = new int[len];
+        for (int i = 0; i < len; i++) {
+            int c = codes[i];
+            if (c < 0) {
+                hasNulls = true;
+                newCodes[i] = -1;
+            } else {
+                newCodes[i] = mappedCategories.codes[c];
+            }
+        }
+
+        // nulls are passed to the mapper just like with the per-element mapping
+        if (hasNulls) {
+            V nullMapped = mapper.map(null);
+            if (nullMapped != null) {
+                return new CategoricalSeries<>(newCodes, mappedCategories.categories)
+                        .fillNulls(nullMapped);
+            }
+        }
+
+        return new CategoricalSeries<>(newCodes, mappedCategories.categories);
+    }
+
+    @Override
+    public Series<T> rangeOpenClosed(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == codes.length) {
+            return this;
+        }
+
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > codes.length) {
+            throw new ArrayIndexOutOfBoundsException("Invalid range: " + fromInclusive + ".." + toExclusive);
+        }
+
+        return new CategoricalSeries<>(Arrays.copyOfRange(codes, fromInclusive, toExclusive), categories);
+    }
+
+    @Override
+    public Series<T> select(IntSeries positions) {
+
+        int h = positions.size();
+        int[] selected = new int[h];
+
+        for (int i = 0; i < h; i++) {
+            int p = positions.getInt(i);
+
+            // invalid positions should only fail when the values are read, so resort to a lazy selection
+            if (p >= codes.length) {
+                return super.select(positions);
+            }
+
+            // skipped positions (index < 0) are found in joins
+            selected[i] = p < 0 ? -1 : codes[p];
+        }
+
+        return new CategoricalSeries<>(selected, categories);
+    }
+
+    @Override
+    public Series<T> select(BooleanSeries positions) {
+
+        int s = size();
+        int ps = positions.size();
+
+        if (s != ps) {
+            throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
+        }
+
+        return select(positions.indexTrue());
+    }
+
+    @Override
+    public Series<T> select(ValuePredicate<T> p) {
+        return select(index(p));
+    }
+
+    @Override
+    public IntSeries index(ValuePredicate<T> predicate) {
+        CategoryMatcher matcher = new CategoryMatcher(predicate);
+        IntAccumulator index = new IntAccumulator();
+
+        int len = codes.length;
+        for (int i = 0; i < len; i++) {
+            if (matcher.test(codes[i])) {
+                index.addInt(i);
+            }
+        }
+
+        return index.toSeries();
+    }
+
+    @Override
+    public BooleanSeries locate(ValuePredicate<T> predicate) {
+        CategoryMatcher matcher = new CategoryMatcher(predicate);
+
+        int len = codes.length;
+        BooleanAccumulator matches = new BooleanAccumulator(len);
+        for (int i = 0; i < len; i++) {
+            matches.addBoolean(matcher.test(codes[i]));
+        }
+
+        return matches.toSeries();
+    }
+
+    @Override
+    public BooleanSeries eq(Series<?> another) {
+        int[] otherCodes = otherCodes(another);
+        if (otherCodes == null) {
+            return super.eq(another);
+        }
+
+        int s = codes.length;
+        BooleanAccumulator bools = new BooleanAccumulator(s);
+        for (int i = 0; i < s; i++) {
+            bools.addBoolean(codes[i] == otherCodes[i]);
+        }
+
+        return bools.toSeries();
+    }
+
+    @Override
+    public BooleanSeries ne(Series<?> another) {
+        int[] otherCodes = otherCodes(another);
+        if (otherCodes == null) {
+            return super.ne(another);
+        }
+
+        int s = codes.length;
+        BooleanAccumulator bools = new BooleanAccumulator(s);
+        for (int i = 0; i < s; i++) {
+            bools.addBoolean(codes[i] != otherCodes[i]);
+        }
+
+        return bools.toSeries();
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        int s = codes.length;
+
+        BooleanAccumulator bools = new BooleanAccumulator(s);
+        for (int i = 0; i < s; i++) {
+            bools.addBoolean(codes[i] < 0);
+        }
+
+        return bools.toSeries();
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        int s = codes.length;
+
+        BooleanAccumulator bools = new BooleanAccumulator(s);
+        for (int i = 0; i < s; i++) {
+            bools.addBoolean(codes[i] >= 0);
+        }
+
+        return bools.toSeries();
+    }
+
+    @Override
+    public Series<T> unique() {
+
+        int size = codes.length;
+        if (size < 2) {
+            return this;
+        }
+
+        // the extra slot at the end is for null
+        boolean[] seen = new boolean[categories.length + 1];
+        int[] unique = new int[Math.min(size, categories.length + 1)];
+        int uniqueCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            int c = codes[i];
+            int slot = c < 0 ? categories.length : c;
+            if (!seen[slot]) {
+                seen[slot] = true;
+                unique[uniqueCount++] = c;
+            }
+        }
+
+        return uniqueCount < size
+                ? new CategoricalSeries<>(Arrays.copyOf(unique, uniqueCount), categories)
+                : this;
+    }
+
+    @Override
+    public DataFrame valueCounts() {
+
+        // count by code, then order the categories by first appearance, same as the grouping would
+        int cl = categories.length;
+        int[] counts = new int[cl];
+        int[] order = new int[cl];
+        int found = 0;
+
+        int len = codes.length;
+        for (int i = 0; i < len; i++) {
+            int c = codes[i];
+            if (c >= 0 && counts[c]++ == 0) {
+                order[found++] = c;
+            }
+        }
+
+        Object[] values = new Object[found];
+        int[] valueCounts = new int[found];
+        for (int i = 0; i < found; i++) {
+            values[i] = categories[order[i]];
+            valueCounts[i] = counts[order[i]];
+        }
+
+        return DataFrame.newFrame("value", "count")
+                .columns(new ArraySeries<>(values), new IntArraySeries(valueCounts))
+                .sort(1, false);
+    }
+
+    @Override
+    public SeriesGroupBy<T> group() {
+        return new SeriesGroupBy<>(this, groupIndex());
+    }
+
+    /**
+     * Returns positions of the non-null elements grouped by category, with the groups ordered by the first appearance
+     * of the category. Groups the codes without hashing the values.
+     */
+    public Map<Object, IntSeries> groupIndex() {
+
+        int cl = categories.length;
+        int[] categoryGroups = new int[cl];
+        Arrays.fill(categoryGroups, -1);
+        int[] groupCategories = new int[cl];
+        int groupCount = 0;
+
+        int len = codes.length;
+        int[] rowGroups = new int[len];
+        for (int i = 0; i < len; i++) {
+            int c = codes[i];
+
+            // nulls are not included in any group
+            if (c < 0) {
+                rowGroups[i] = -1;
+                continue;
+            }
+
+            int g = categoryGroups[c];
+            if (g < 0) {
+                g = categoryGroups[c] = groupCount;
+                groupCategories[groupCount++] = c;
+            }
+
+            rowGroups[i] = g;
+        }
+
+        IntSeries[] indices = Grouper.groupIndices(rowGroups, groupCount);
+        Map<Object, IntSeries> groups = new LinkedHashMap<>((int) (groupCount / 0.75) + 1);
+        for (int g = 0; g < groupCount; g++) {
+            groups.put(categories[groupCategories[g]], indices[g]);
+        }
+
+        return groups;
+    }
+
+    @Override
+    public Series<T> fillNulls(T value) {
+
+        if (value == null) {
+            return this;
+        }
+
+        int len = codes.length;
+        int[] copy = null;
+        T[] newCategories = categories;
+        int valueCode = -1;
+
+        for (int i = 0; i < len; i++) {
+            if (codes[i] < 0) {
+
+                if (copy == null) {
+                    copy = Arrays.copyOf(codes, len);
+
+                    valueCode = codeOf(value);
+                    if (valueCode < 0) {
+                        valueCode = categories.length;
+                        newCategories = Arrays.copyOf(categories, valueCode + 1);
+                        newCategories[valueCode] = value;
+                    }
+                }
+
+                copy[i] = valueCode;
+            }
+        }
+
+        return copy != null ? new CategoricalSeries<>(copy, newCategories) : this;
+    }
+
+    @Override
+    public Series<T> fillNullsFromSeries(Series<? extends T> values) {
+
+        int len = codes.length;
+        CategoricalAccumulator<T> filled = null;
+
+        for (int i = 0; i < len; i++) {
+            if (codes[i] < 0) {
+                if (filled == null) {
+                    filled = new CategoricalAccumulator<>(len);
+                    for (int j = 0; j < len; j++) {
+                        filled.add(get(j));
+                    }
+                }
+
+                filled.set(i, values.get(i));
+            }
+        }
+
+        return filled != null ? filled.toSeries() : this;
+    }
+
+    @Override
+    public Series<T> fillNullsBackwards() {
+        int len = codes.length;
+        int[] copy = null;
+        int fillFrom = -1;
+
+        for (int i = 0; i < len; i++) {
+            if (codes[i] < 0) {
+
+                if (copy == null) {
+                    copy = Arrays.copyOf(codes, len);
+                }
+
+                if (fillFrom < 0) {
+                    fillFrom = i;
+                }
+            } else if (fillFrom >= 0) {
+                Arrays.fill(copy, fillFrom, i, codes[i]);
+                fillFrom = -1;
+            }
+        }
+
+        return copy != null ? new CategoricalSeries<>(copy, categories) : this;
+    }
+
+    @Override
+    public Series<T> fillNullsForward() {
+        int len = codes.length;
+        int[] copy = null;
+
+        for (int i = 0; i < len; i++) {
+            if (codes[i] < 0) {
+
+                // leading nulls are fine
+                if (i == 0) {
+                    continue;
+                }
+
+                if (copy == null) {
+                    copy = Arrays.copyOf(codes, len);
+                }
+
+                copy[i] = copy[i - 1];
+            }
+        }
+
+        return copy != null ? new CategoricalSeries<>(copy, categories) : this;
+    }
+
+    // returns a code of the value in this Series dictionary, or -1 if the value is null or is not in the dictionary
+    private int codeOf(Object value) {
+
+        if (value == null) {
+            return -1;
+        }
+
+        int cl = categories.length;
+        for (int i = 0; i < cl; i++) {
+            if (value.equals(categories[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Converts another Series values to the codes of this Series dictionary, so that the equal values have equal
+     * codes. The values not found in this dictionary get the code of "-2" that doesn't match anything. Returns null if
+     * the other Series can't be converted to codes cheaply.
+     */
+    private int[] otherCodes(Series<?> another) {
+
+        int s = codes.length;
+        int as = another.size();
+
+        if (s != as) {
+            throw new IllegalArgumentException("Another Series size " + as + " is not the same as this size " + s);
+        }
+
+        if (another instanceof CategoricalSeries) {
+            CategoricalSeries<?> other = (CategoricalSeries<?>) another;
+            int[] translation = translation(other.categories);
+
+            int[] otherCodes = new int[s];
+            for (int i = 0; i < s; i++) {
+                int c = other.codes[i];
+                otherCodes[i] = c < 0 ? -1 : translation[c];
+            }
+
+            return otherCodes;
+        }
+
+        // comparing with a constant (e.g. in the "eq" expressions with a value)
+        if (another instanceof SingleValueSeries) {
+            Object value = another.get(0);
+            int code = value == null ? -1 : codeOf(value);
+
+            int[] otherCodes = new int[s];
+            Arrays.fill(otherCodes, value != null && code < 0 ? -2 : code);
+            return otherCodes;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns an array that maps the category codes of another categorical Series to the codes of the same values in
+     * this Series. The values not present in this Series are mapped to "-2".
+     */
+    public int[] translateCodes(CategoricalSeries<?> another) {
+        return translation(another.categories);
+    }
+
+    private int[] translation(Object[] otherCategories) {
+
+        int ocl = otherCategories.length;
+        int[] translation = new int[ocl];
+
+        if (otherCategories == categories) {
+            for (int i = 0; i < ocl; i++) {
+                translation[i] = i;
+            }
+
+            return translation;
+        }
+
+        int cl = categories.length;
+        Map<Object, Integer> thisCodes = new HashMap<>((int) (cl / 0.75) + 1);
+        for (int i = 0; i < cl; i++) {
+            thisCodes.put(categories[i], i);
+        }
+
+        for (int i = 0; i < ocl; i++) {
+            Integer code = thisCodes.get(otherCategories[i]);
+            translation[i] = code != null ? code : -2;
+        }
+
+        return translation;
+    }
+
+    /**
+     * Evaluates a predicate lazily once per category and caches the result.
+     */
+    private class CategoryMatcher {
+
+        private final ValuePredicate<T> predicate;
+
+        // per category: 0 - not evaluated, 1 - matches, 2 - doesn't match. The last slot is for null
+        private final byte[] results;
+
+        CategoryMatcher(ValuePredicate<T> predicate) {
+            this.predicate = predicate;
+            this.results = new byte[categories.length + 1];
+        }
+
+        boolean test(int code) {
+            int slot = code < 0 ? categories.length : code;
+            byte r = results[slot];
+            if (r == 0) {
+                r = results[slot] = predicate.test(code < 0 ? null : categories[code]) ? (byte) 1 : (byte) 2;
+            }
+
+            return r == 1;
+        }
+    }
+}
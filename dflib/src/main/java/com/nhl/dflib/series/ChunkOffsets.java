@@ -0,0 +1,45 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.Series;
+
+import java.util.Arrays;
+
+/**
+ * Position arithmetic for the Series that are views of a number of concatenated "chunk" Series.
+ *
+ * @since 0.12
+ */
+final class ChunkOffsets {
+
+    private ChunkOffsets() {
+    }
+
+    /**
+     * Returns an array of chunk start positions in the concatenated Series, with an extra element at the end that is
+     * the total size.
+     */
+    static int[] offsets(Series<?>[] chunks) {
+
+        int len = chunks.length;
+        int[] offsets = new int[len + 1];
+
+        for (int i = 0; i < len; i++) {
+            offsets[i + 1] = offsets[i] + chunks[i].size();
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Returns the index of the chunk containing a given position of the concatenated Series. Assumes non-empty chunks.
+     */
+    static int chunk(int[] offsets, int index) {
+
+        if (index < 0 || index >= offsets[offsets.length - 1]) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int i = Arrays.binarySearch(offsets, 0, offsets.length - 1, index);
+        return i >= 0 ? i : -i - 2;
+    }
+}
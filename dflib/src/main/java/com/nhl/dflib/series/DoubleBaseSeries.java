@@ -39,20 +39,26 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
         int h = positions.size();
 
         double[] data = new double[h];
+        long[] nulls = null;
 
         for (int i = 0; i < h; i++) {
             int index = positions.getInt(i);
 
-            // "index < 0" (often found in outer joins) indicate nulls.
-            // If a null is encountered, we can no longer maintain primitive and have to change to Series<Double>...
+            // "index < 0" (often found in outer joins) indicate nulls. Track them in a bitmap to avoid switching to
+            // Series<Double>
             if (index < 0) {
-                return selectAsObjectSeries(positions);
+                if (nulls == null) {
+                    nulls = NullBitmap.create(h);
+                }
+
+                NullBitmap.set(nulls, i);
+                continue;
             }
 
             data[i] = getDouble(index);
         }
 
-        return new DoubleArraySeries(data);
+        return NullableDoubleArraySeries.of(data, nulls);
     }
 
     @Override
@@ -95,6 +101,11 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
             throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
         }
 
+        // a bitset can be converted to positions 64 values at a time
+        if (positions instanceof BooleanBitsetSeries) {
+            return selectAsDoubleSeries(positions.indexTrue());
+        }
+
         DoubleAccumulator data = new DoubleAccumulator();
 
         for (int i = 0; i < size(); i++) {
@@ -151,19 +162,6 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
         return new DoubleArraySeries(data);
     }
 
-    private Series<Double> selectAsObjectSeries(IntSeries positions) {
-
-        int h = positions.size();
-        Double[] data = new Double[h];
-
-        for (int i = 0; i < h; i++) {
-            int index = positions.getInt(i);
-            data[i] = index < 0 ? null : getDouble(index);
-        }
-
-        return new ArraySeries<>(data);
-    }
-
     @Override
     public DoubleSeries concatDouble(DoubleSeries... other) {
         if (other.length == 0) {
@@ -181,14 +179,17 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
         double[] data = new double[h];
         copyToDouble(data, 0, 0, size);
 
+        long[] nulls = NullBitmap.copy(NullBitmap.of(this), null, h, 0, size);
+
         int offset = size;
         for (DoubleSeries s : other) {
             int len = s.size();
             s.copyToDouble(data, 0, offset, len);
+            nulls = NullBitmap.copy(NullBitmap.of(s), nulls, h, offset, len);
             offset += len;
         }
 
-        return new DoubleArraySeries(data);
+        return NullableDoubleArraySeries.of(data, nulls);
     }
 
     @Override
@@ -389,7 +390,7 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
 
         BooleanAccumulator bools = new BooleanAccumulator(s);
 
-        if (another instanceof DoubleSeries) {
+        if (another instanceof DoubleSeries && !(another instanceof NullableSeries)) {
             DoubleSeries anotherDouble = (DoubleSeries) another;
 
             for (int i = 0; i < s; i++) {
@@ -414,7 +415,7 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
         }
 
         BooleanAccumulator bools = new BooleanAccumulator(s);
-        if (another instanceof DoubleSeries) {
+        if (another instanceof DoubleSeries && !(another instanceof NullableSeries)) {
             DoubleSeries anotherDouble = (DoubleSeries) another;
 
             for (int i = 0; i < s; i++) {
@@ -0,0 +1,133 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.agg.PrimitiveSeriesMedian;
+
+/**
+ * An {@link DoubleSeries} that is a view of a number of other DoubleSeries concatenated together. Avoids copying the
+ * data of the concatenated Series, which is useful when there are many of them. Random access requires a binary search
+ * over the chunk offsets, so the Series should be materialized before doing lots of positional lookups.
+ *
+ * @since 0.12
+ */
+public class DoubleConcatSeries extends DoubleBaseSeries {
+
+    private final DoubleSeries[] chunks;
+    private final int[] offsets;
+
+    /**
+     * @param chunks non-empty Series without nulls
+     */
+    public DoubleConcatSeries(DoubleSeries... chunks) {
+        this.chunks = chunks;
+        this.offsets = ChunkOffsets.offsets(chunks);
+    }
+
+    @Override
+    public int size() {
+        return offsets[chunks.length];
+    }
+
+    @Override
+    public double getDouble(int index) {
+        int c = ChunkOffsets.chunk(offsets, index);
+        return chunks[c].getDouble(index - offsets[c]);
+    }
+
+    @Override
+    public void copyToDouble(double[] to, int fromOffset, int toOffset, int len) {
+
+        if (len == 0) {
+            return;
+        }
+
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        int c = ChunkOffsets.chunk(offsets, fromOffset);
+        int chunkOffset = fromOffset - offsets[c];
+
+        while (len > 0) {
+            int chunkLen = Math.min(len, chunks[c].size() - chunkOffset);
+            chunks[c].copyToDouble(to, chunkOffset, toOffset, chunkLen);
+
+            toOffset += chunkLen;
+            len -= chunkLen;
+            chunkOffset = 0;
+            c++;
+        }
+    }
+
+    @Override
+    public DoubleSeries headDouble(int len) {
+        return len < size() ? range(0, len) : this;
+    }
+
+    @Override
+    public DoubleSeries tailDouble(int len) {
+        int size = size();
+        return len < size ? range(size - len, len) : this;
+    }
+
+    @Override
+    public DoubleSeries rangeOpenClosedDouble(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : range(fromInclusive, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public DoubleSeries materializeDouble() {
+        return range(0, size());
+    }
+
+    private DoubleSeries range(int fromInclusive, int len) {
+        double[] data = new double[len];
+        copyToDouble(data, fromInclusive, 0, len);
+        return new DoubleArraySeries(data);
+    }
+
+    @Override
+    public double max() {
+        double max = chunks[0].max();
+        for (int i = 1; i < chunks.length; i++) {
+            max = Math.max(max, chunks[i].max());
+        }
+
+        return max;
+    }
+
+    @Override
+    public double min() {
+        double min = chunks[0].min();
+        for (int i = 1; i < chunks.length; i++) {
+            min = Math.min(min, chunks[i].min());
+        }
+
+        return min;
+    }
+
+    @Override
+    public double sum() {
+        double sum = 0;
+        for (DoubleSeries c : chunks) {
+            sum += c.sum();
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size();
+    }
+
+    @Override
+    public double median() {
+        int size = size();
+        double[] data = new double[size];
+        copyToDouble(data, 0, 0, size);
+        return PrimitiveSeriesMedian.medianOfArray(data, 0, size);
+    }
+}
@@ -0,0 +1,113 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+
+import java.util.Objects;
+
+/**
+ * A lazy {@link SelectionView} of a {@link DoubleSeries} that reads the values from the source on access. The source
+ * must not contain nulls, and the positions must not be negative.
+ *
+ * @since 0.12
+ */
+public class DoubleIndexedSeries extends DoubleBaseSeries implements SelectionView<Double> {
+
+    private final DoubleSeries source;
+    private final IntSeries positions;
+
+    public DoubleIndexedSeries(DoubleSeries source, IntSeries positions) {
+        this.source = Objects.requireNonNull(source);
+        this.positions = Objects.requireNonNull(positions);
+    }
+
+    @Override
+    public IntSeries getSourcePositions() {
+        return positions;
+    }
+
+    @Override
+    public Series<Double> selectFromSource(IntSeries sourcePositions) {
+        return new DoubleIndexedSeries(source, sourcePositions);
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return source.getDouble(positions.getInt(index));
+    }
+
+    @Override
+    public void copyToDouble(double[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = source.getDouble(positions.getInt(fromOffset + i));
+        }
+    }
+
+    @Override
+    public Series<Double> select(IntSeries positions) {
+        IntSeries composed = SelectionVector.compose(this.positions, positions);
+        return composed != null ? new DoubleIndexedSeries(source, composed) : super.select(positions);
+    }
+
+    @Override
+    public DoubleSeries materializeDouble() {
+        int len = size();
+        double[] data = new double[len];
+        copyToDouble(data, 0, 0, len);
+        return new DoubleArraySeries(data);
+    }
+
+    @Override
+    public DoubleSeries rangeOpenClosedDouble(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new DoubleIndexedSeries(source, positions.rangeOpenClosedInt(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public DoubleSeries headDouble(int len) {
+        return len < size() ? new DoubleIndexedSeries(source, positions.headInt(len)) : this;
+    }
+
+    @Override
+    public DoubleSeries tailDouble(int len) {
+        return len < size() ? new DoubleIndexedSeries(source, positions.tailInt(len)) : this;
+    }
+
+    // the aggregations copy the selected values once and use the array-based algorithms
+
+    @Override
+    public double max() {
+        return materializeDouble().max();
+    }
+
+    @Override
+    public double min() {
+        return materializeDouble().min();
+    }
+
+    @Override
+    public double sum() {
+        return materializeDouble().sum();
+    }
+
+    @Override
+    public double avg() {
+        return materializeDouble().avg();
+    }
+
+    @Override
+    public double median() {
+        return materializeDouble().median();
+    }
+}
@@ -0,0 +1,92 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DoubleSeries;
+
+import java.util.Arrays;
+
+/**
+ * A {@link DoubleSeries} of a given size with the same value at every position. Takes constant memory regardless of
+ * its size. Used to broadcast constants in the primitive expression evaluation.
+ *
+ * @since 0.12
+ */
+public class DoubleSingleValueSeries extends DoubleBaseSeries {
+
+    private final double value;
+    private final int size;
+
+    public DoubleSingleValueSeries(double value, int size) {
+        this.value = value;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        if (index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void copyToDouble(double[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        Arrays.fill(to, toOffset, toOffset + len, value);
+    }
+
+    @Override
+    public DoubleSeries materializeDouble() {
+        return this;
+    }
+
+    @Override
+    public DoubleSeries rangeOpenClosedDouble(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size
+                ? this
+                : new DoubleSingleValueSeries(value, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public DoubleSeries headDouble(int len) {
+        return len < size ? new DoubleSingleValueSeries(value, len) : this;
+    }
+
+    @Override
+    public DoubleSeries tailDouble(int len) {
+        return len < size ? new DoubleSingleValueSeries(value, len) : this;
+    }
+
+    @Override
+    public double max() {
+        return size > 0 ? value : 0;
+    }
+
+    @Override
+    public double min() {
+        return size > 0 ? value : 0;
+    }
+
+    @Override
+    public double sum() {
+        return value * (double) size;
+    }
+
+    @Override
+    public double avg() {
+        return size > 0 ? value : 0.;
+    }
+
+    @Override
+    public double median() {
+        return size > 0 ? value : 0.;
+    }
+}
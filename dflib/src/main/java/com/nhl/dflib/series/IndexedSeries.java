@@ -8,7 +8,7 @@ import java.util.Objects;
 /**
  * @param <T> type of series value
  */
-public class IndexedSeries<T> extends ObjectSeries<T> {
+public class IndexedSeries<T> extends ObjectSeries<T> implements SelectionView<T> {
 
     private Series<T> source;
     private IntSeries includePositions;
@@ -26,6 +26,60 @@ public class IndexedSeries<T> extends ObjectSeries<T> {
         return includePositions != null ? includePositions.size() : materialized.size();
     }
 
+    /**
+     * @since 0.12
+     */
+    @Override
+    public IntSeries getSourcePositions() {
+        return includePositions;
+    }
+
+    /**
+     * @since 0.12
+     */
+    @Override
+    public Series<T> selectFromSource(IntSeries sourcePositions) {
+        Series<T> source = this.source;
+        return source != null ? new IndexedSeries<>(source, sourcePositions) : null;
+    }
+
+    @Override
+    public Series<T> select(IntSeries positions) {
+
+        // compose the positions instead of materializing this Series, unless it is already materialized
+        Series<T> source = this.source;
+        IntSeries includePositions = this.includePositions;
+
+        if (source != null && includePositions != null) {
+            IntSeries composed = SelectionVector.compose(includePositions, positions);
+            if (composed != null) {
+                return new IndexedSeries<>(source, composed);
+            }
+        }
+
+        return super.select(positions);
+    }
+
+    @Override
+    public Series<T> rangeOpenClosed(int fromInclusive, int toExclusive) {
+
+        Series<T> source = this.source;
+        IntSeries includePositions = this.includePositions;
+
+        if (source != null
+                && includePositions != null
+                && fromInclusive >= 0
+                && fromInclusive < toExclusive
+                && toExclusive <= includePositions.size()) {
+
+            return fromInclusive == 0 && toExclusive == includePositions.size()
+                    ? this
+                    : new IndexedSeries<>(source, includePositions.rangeOpenClosedInt(fromInclusive, toExclusive));
+        }
+
+        return super.rangeOpenClosed(fromInclusive, toExclusive);
+    }
+
     @Override
     public T get(int index) {
         return materialize().get(index);
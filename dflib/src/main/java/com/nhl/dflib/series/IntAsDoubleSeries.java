@@ -0,0 +1,92 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.DoubleSeries;
+
+import java.util.Objects;
+
+/**
+ * A {@link DoubleSeries} view of a {@link IntSeries} that converts the values to double on access. Allows to use int
+ * values in the double arithmetics without boxing or copying. The source Series must not contain nulls.
+ *
+ * @since 0.12
+ */
+public class IntAsDoubleSeries extends DoubleBaseSeries {
+
+    private final IntSeries source;
+
+    public IntAsDoubleSeries(IntSeries source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return source.getInt(index);
+    }
+
+    @Override
+    public void copyToDouble(double[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = source.getInt(fromOffset + i);
+        }
+    }
+
+    @Override
+    public DoubleSeries materializeDouble() {
+        int len = size();
+        double[] data = new double[len];
+        copyToDouble(data, 0, 0, len);
+        return new DoubleArraySeries(data);
+    }
+
+    @Override
+    public DoubleSeries rangeOpenClosedDouble(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new IntAsDoubleSeries(source.rangeOpenClosedInt(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public DoubleSeries headDouble(int len) {
+        return len < size() ? new IntAsDoubleSeries(source.headInt(len)) : this;
+    }
+
+    @Override
+    public DoubleSeries tailDouble(int len) {
+        return len < size() ? new IntAsDoubleSeries(source.tailInt(len)) : this;
+    }
+
+    @Override
+    public double max() {
+        return source.max();
+    }
+
+    @Override
+    public double min() {
+        return source.min();
+    }
+
+    @Override
+    public double sum() {
+        return source.sum();
+    }
+
+    @Override
+    public double avg() {
+        return source.avg();
+    }
+
+    @Override
+    public double median() {
+        return source.median();
+    }
+}
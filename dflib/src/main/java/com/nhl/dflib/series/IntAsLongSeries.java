@@ -0,0 +1,92 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+
+import java.util.Objects;
+
+/**
+ * A {@link LongSeries} view of a {@link IntSeries} that converts the values to long on access. Allows to use int
+ * values in the long arithmetics without boxing or copying. The source Series must not contain nulls.
+ *
+ * @since 0.12
+ */
+public class IntAsLongSeries extends LongBaseSeries {
+
+    private final IntSeries source;
+
+    public IntAsLongSeries(IntSeries source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public long getLong(int index) {
+        return source.getInt(index);
+    }
+
+    @Override
+    public void copyToLong(long[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = source.getInt(fromOffset + i);
+        }
+    }
+
+    @Override
+    public LongSeries materializeLong() {
+        int len = size();
+        long[] data = new long[len];
+        copyToLong(data, 0, 0, len);
+        return new LongArraySeries(data);
+    }
+
+    @Override
+    public LongSeries rangeOpenClosedLong(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new IntAsLongSeries(source.rangeOpenClosedInt(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public LongSeries headLong(int len) {
+        return len < size() ? new IntAsLongSeries(source.headInt(len)) : this;
+    }
+
+    @Override
+    public LongSeries tailLong(int len) {
+        return len < size() ? new IntAsLongSeries(source.tailInt(len)) : this;
+    }
+
+    @Override
+    public long max() {
+        return source.max();
+    }
+
+    @Override
+    public long min() {
+        return source.min();
+    }
+
+    @Override
+    public long sum() {
+        return source.sum();
+    }
+
+    @Override
+    public double avg() {
+        return source.avg();
+    }
+
+    @Override
+    public double median() {
+        return source.median();
+    }
+}
@@ -46,21 +46,26 @@ public abstract class IntBaseSeries implements IntSeries {
         int h = positions.size();
 
         int[] data = new int[h];
+        long[] nulls = null;
 
         for (int i = 0; i < h; i++) {
             int index = positions.getInt(i);
 
-            // "index < 0" (often found in outer joins) indicate nulls.
-            // If a null is encountered, we can no longer maintain IntSeries and have to change to Series<Integer>...
+            // "index < 0" (often found in outer joins) indicate nulls. Track them in a bitmap to avoid switching to
+            // Series<Integer>
             if (index < 0) {
-                // TODO: implement NullableIntSeries as a Series of long[], where NULLs are encoded as Integer.MAX_VALUE + 1
-                return selectAsObjectSeries(positions);
+                if (nulls == null) {
+                    nulls = NullBitmap.create(h);
+                }
+
+                NullBitmap.set(nulls, i);
+                continue;
             }
 
             data[i] = getInt(index);
         }
 
-        return new IntArraySeries(data);
+        return NullableIntArraySeries.of(data, nulls);
     }
 
     @Override
@@ -103,6 +108,11 @@ public abstract class IntBaseSeries implements IntSeries {
             throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
         }
 
+        // a bitset can be converted to positions 64 values at a time
+        if (positions instanceof BooleanBitsetSeries) {
+            return selectAsIntSeries(positions.indexTrue());
+        }
+
         IntAccumulator data = new IntAccumulator();
 
         for (int i = 0; i < size(); i++) {
@@ -189,19 +199,6 @@ public abstract class IntBaseSeries implements IntSeries {
         return new IntArraySeries(data);
     }
 
-    private Series<Integer> selectAsObjectSeries(IntSeries positions) {
-
-        int h = positions.size();
-        Integer[] data = new Integer[h];
-
-        for (int i = 0; i < h; i++) {
-            int index = positions.getInt(i);
-            data[i] = index < 0 ? null : getInt(index);
-        }
-
-        return new ArraySeries<>(data);
-    }
-
     @Override
     public IntSeries concatInt(IntSeries... other) {
 
@@ -219,14 +216,17 @@ public abstract class IntBaseSeries implements IntSeries {
         int[] data = new int[h];
         copyToInt(data, 0, 0, size);
 
+        long[] nulls = NullBitmap.copy(NullBitmap.of(this), null, h, 0, size);
+
         int offset = size;
         for (IntSeries s : other) {
             int len = s.size();
             s.copyToInt(data, 0, offset, len);
+            nulls = NullBitmap.copy(NullBitmap.of(s), nulls, h, offset, len);
             offset += len;
         }
 
-        return new IntArraySeries(data);
+        return NullableIntArraySeries.of(data, nulls);
     }
 
     @Override
@@ -437,7 +437,7 @@ public abstract class IntBaseSeries implements IntSeries {
 
         BooleanAccumulator bools = new BooleanAccumulator(s);
 
-        if (another instanceof IntSeries) {
+        if (another instanceof IntSeries && !(another instanceof NullableSeries)) {
             IntSeries anotherInt = (IntSeries) another;
 
             for (int i = 0; i < s; i++) {
@@ -462,7 +462,7 @@ public abstract class IntBaseSeries implements IntSeries {
         }
 
         BooleanAccumulator bools = new BooleanAccumulator(s);
-        if (another instanceof IntSeries) {
+        if (another instanceof IntSeries && !(another instanceof NullableSeries)) {
             IntSeries anotherInt = (IntSeries) another;
 
             for (int i = 0; i < s; i++) {
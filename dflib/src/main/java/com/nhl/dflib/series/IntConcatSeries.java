@@ -0,0 +1,133 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.agg.PrimitiveSeriesMedian;
+
+/**
+ * An {@link IntSeries} that is a view of a number of other IntSeries concatenated together. Avoids copying the
+ * data of the concatenated Series, which is useful when there are many of them. Random access requires a binary search
+ * over the chunk offsets, so the Series should be materialized before doing lots of positional lookups.
+ *
+ * @since 0.12
+ */
+public class IntConcatSeries extends IntBaseSeries {
+
+    private final IntSeries[] chunks;
+    private final int[] offsets;
+
+    /**
+     * @param chunks non-empty Series without nulls
+     */
+    public IntConcatSeries(IntSeries... chunks) {
+        this.chunks = chunks;
+        this.offsets = ChunkOffsets.offsets(chunks);
+    }
+
+    @Override
+    public int size() {
+        return offsets[chunks.length];
+    }
+
+    @Override
+    public int getInt(int index) {
+        int c = ChunkOffsets.chunk(offsets, index);
+        return chunks[c].getInt(index - offsets[c]);
+    }
+
+    @Override
+    public void copyToInt(int[] to, int fromOffset, int toOffset, int len) {
+
+        if (len == 0) {
+            return;
+        }
+
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        int c = ChunkOffsets.chunk(offsets, fromOffset);
+        int chunkOffset = fromOffset - offsets[c];
+
+        while (len > 0) {
+            int chunkLen = Math.min(len, chunks[c].size() - chunkOffset);
+            chunks[c].copyToInt(to, chunkOffset, toOffset, chunkLen);
+
+            toOffset += chunkLen;
+            len -= chunkLen;
+            chunkOffset = 0;
+            c++;
+        }
+    }
+
+    @Override
+    public IntSeries headInt(int len) {
+        return len < size() ? range(0, len) : this;
+    }
+
+    @Override
+    public IntSeries tailInt(int len) {
+        int size = size();
+        return len < size ? range(size - len, len) : this;
+    }
+
+    @Override
+    public IntSeries rangeOpenClosedInt(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : range(fromInclusive, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public IntSeries materializeInt() {
+        return range(0, size());
+    }
+
+    private IntSeries range(int fromInclusive, int len) {
+        int[] data = new int[len];
+        copyToInt(data, fromInclusive, 0, len);
+        return new IntArraySeries(data);
+    }
+
+    @Override
+    public int max() {
+        int max = chunks[0].max();
+        for (int i = 1; i < chunks.length; i++) {
+            max = Math.max(max, chunks[i].max());
+        }
+
+        return max;
+    }
+
+    @Override
+    public int min() {
+        int min = chunks[0].min();
+        for (int i = 1; i < chunks.length; i++) {
+            min = Math.min(min, chunks[i].min());
+        }
+
+        return min;
+    }
+
+    @Override
+    public long sum() {
+        long sum = 0;
+        for (IntSeries c : chunks) {
+            sum += c.sum();
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size();
+    }
+
+    @Override
+    public double median() {
+        int size = size();
+        int[] data = new int[size];
+        copyToInt(data, 0, 0, size);
+        return PrimitiveSeriesMedian.medianOfArray(data, 0, size);
+    }
+}
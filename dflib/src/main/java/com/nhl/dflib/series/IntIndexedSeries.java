@@ -0,0 +1,112 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+
+import java.util.Objects;
+
+/**
+ * A lazy {@link SelectionView} of an {@link IntSeries} that reads the values from the source on access. The source
+ * must not contain nulls, and the positions must not be negative.
+ *
+ * @since 0.12
+ */
+public class IntIndexedSeries extends IntBaseSeries implements SelectionView<Integer> {
+
+    private final IntSeries source;
+    private final IntSeries positions;
+
+    public IntIndexedSeries(IntSeries source, IntSeries positions) {
+        this.source = Objects.requireNonNull(source);
+        this.positions = Objects.requireNonNull(positions);
+    }
+
+    @Override
+    public IntSeries getSourcePositions() {
+        return positions;
+    }
+
+    @Override
+    public Series<Integer> selectFromSource(IntSeries sourcePositions) {
+        return new IntIndexedSeries(source, sourcePositions);
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    @Override
+    public int getInt(int index) {
+        return source.getInt(positions.getInt(index));
+    }
+
+    @Override
+    public void copyToInt(int[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = source.getInt(positions.getInt(fromOffset + i));
+        }
+    }
+
+    @Override
+    public Series<Integer> select(IntSeries positions) {
+        IntSeries composed = SelectionVector.compose(this.positions, positions);
+        return composed != null ? new IntIndexedSeries(source, composed) : super.select(positions);
+    }
+
+    @Override
+    public IntSeries materializeInt() {
+        int len = size();
+        int[] data = new int[len];
+        copyToInt(data, 0, 0, len);
+        return new IntArraySeries(data);
+    }
+
+    @Override
+    public IntSeries rangeOpenClosedInt(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new IntIndexedSeries(source, positions.rangeOpenClosedInt(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public IntSeries headInt(int len) {
+        return len < size() ? new IntIndexedSeries(source, positions.headInt(len)) : this;
+    }
+
+    @Override
+    public IntSeries tailInt(int len) {
+        return len < size() ? new IntIndexedSeries(source, positions.tailInt(len)) : this;
+    }
+
+    // the aggregations copy the selected values once and use the array-based algorithms
+
+    @Override
+    public int max() {
+        return materializeInt().max();
+    }
+
+    @Override
+    public int min() {
+        return materializeInt().min();
+    }
+
+    @Override
+    public long sum() {
+        return materializeInt().sum();
+    }
+
+    @Override
+    public double avg() {
+        return materializeInt().avg();
+    }
+
+    @Override
+    public double median() {
+        return materializeInt().median();
+    }
+}
@@ -0,0 +1,92 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+
+import java.util.Arrays;
+
+/**
+ * A {@link IntSeries} of a given size with the same value at every position. Takes constant memory regardless of
+ * its size. Used to broadcast constants in the primitive expression evaluation.
+ *
+ * @since 0.12
+ */
+public class IntSingleValueSeries extends IntBaseSeries {
+
+    private final int value;
+    private final int size;
+
+    public IntSingleValueSeries(int value, int size) {
+        this.value = value;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getInt(int index) {
+        if (index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void copyToInt(int[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        Arrays.fill(to, toOffset, toOffset + len, value);
+    }
+
+    @Override
+    public IntSeries materializeInt() {
+        return this;
+    }
+
+    @Override
+    public IntSeries rangeOpenClosedInt(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size
+                ? this
+                : new IntSingleValueSeries(value, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public IntSeries headInt(int len) {
+        return len < size ? new IntSingleValueSeries(value, len) : this;
+    }
+
+    @Override
+    public IntSeries tailInt(int len) {
+        return len < size ? new IntSingleValueSeries(value, len) : this;
+    }
+
+    @Override
+    public int max() {
+        return size > 0 ? value : 0;
+    }
+
+    @Override
+    public int min() {
+        return size > 0 ? value : 0;
+    }
+
+    @Override
+    public long sum() {
+        return value * (long) size;
+    }
+
+    @Override
+    public double avg() {
+        return size > 0 ? value : 0.;
+    }
+
+    @Override
+    public double median() {
+        return size > 0 ? value : 0.;
+    }
+}
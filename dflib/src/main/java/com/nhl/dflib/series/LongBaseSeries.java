@@ -39,20 +39,26 @@ public abstract class LongBaseSeries implements LongSeries {
         int h = positions.size();
 
         long[] data = new long[h];
+        long[] nulls = null;
 
         for (int i = 0; i < h; i++) {
             int index = positions.getInt(i);
 
-            // "index < 0" (often found in outer joins) indicate nulls.
-            // If a null is encountered, we can no longer maintain primitive and have to change to Series<Long>...
+            // "index < 0" (often found in outer joins) indicate nulls. Track them in a bitmap to avoid switching to
+            // Series<Long>
             if (index < 0) {
-                return selectAsObjectSeries(positions);
+                if (nulls == null) {
+                    nulls = NullBitmap.create(h);
+                }
+
+                NullBitmap.set(nulls, i);
+                continue;
             }
 
             data[i] = getLong(index);
         }
 
-        return new LongArraySeries(data);
+        return NullableLongArraySeries.of(data, nulls);
     }
 
     @Override
@@ -95,6 +101,11 @@ public abstract class LongBaseSeries implements LongSeries {
             throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
         }
 
+        // a bitset can be converted to positions 64 values at a time
+        if (positions instanceof BooleanBitsetSeries) {
+            return selectAsLongSeries(positions.indexTrue());
+        }
+
         LongAccumulator data = new LongAccumulator();
 
         for (int i = 0; i < size(); i++) {
@@ -151,19 +162,6 @@ public abstract class LongBaseSeries implements LongSeries {
         return new LongArraySeries(data);
     }
 
-    private Series<Long> selectAsObjectSeries(IntSeries positions) {
-
-        int h = positions.size();
-        Long[] data = new Long[h];
-
-        for (int i = 0; i < h; i++) {
-            int index = positions.getInt(i);
-            data[i] = index < 0 ? null : getLong(index);
-        }
-
-        return new ArraySeries<>(data);
-    }
-
     @Override
     public LongSeries concatLong(LongSeries... other) {
         if (other.length == 0) {
@@ -181,14 +179,17 @@ public abstract class LongBaseSeries implements LongSeries {
         long[] data = new long[h];
         copyToLong(data, 0, 0, size);
 
+        long[] nulls = NullBitmap.copy(NullBitmap.of(this), null, h, 0, size);
+
         int offset = size;
         for (LongSeries s : other) {
             int len = s.size();
             s.copyToLong(data, 0, offset, len);
+            nulls = NullBitmap.copy(NullBitmap.of(s), nulls, h, offset, len);
             offset += len;
         }
 
-        return new LongArraySeries(data);
+        return NullableLongArraySeries.of(data, nulls);
     }
 
     @Override
@@ -389,7 +390,7 @@ public abstract class LongBaseSeries implements LongSeries {
 
         BooleanAccumulator bools = new BooleanAccumulator(s);
 
-        if (another instanceof LongSeries) {
+        if (another instanceof LongSeries && !(another instanceof NullableSeries)) {
             LongSeries anotherLong = (LongSeries) another;
 
             for (int i = 0; i < s; i++) {
@@ -414,7 +415,7 @@ public abstract class LongBaseSeries implements LongSeries {
         }
 
         BooleanAccumulator bools = new BooleanAccumulator(s);
-        if (another instanceof LongSeries) {
+        if (another instanceof LongSeries && !(another instanceof NullableSeries)) {
             LongSeries anotherLong = (LongSeries) another;
 
             for (int i = 0; i < s; i++) {
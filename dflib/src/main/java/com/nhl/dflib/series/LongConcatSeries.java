@@ -0,0 +1,133 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.agg.PrimitiveSeriesMedian;
+
+/**
+ * An {@link LongSeries} that is a view of a number of other LongSeries concatenated together. Avoids copying the
+ * data of the concatenated Series, which is useful when there are many of them. Random access requires a binary search
+ * over the chunk offsets, so the Series should be materialized before doing lots of positional lookups.
+ *
+ * @since 0.12
+ */
+public class LongConcatSeries extends LongBaseSeries {
+
+    private final LongSeries[] chunks;
+    private final int[] offsets;
+
+    /**
+     * @param chunks non-empty Series without nulls
+     */
+    public LongConcatSeries(LongSeries... chunks) {
+        this.chunks = chunks;
+        this.offsets = ChunkOffsets.offsets(chunks);
+    }
+
+    @Override
+    public int size() {
+        return offsets[chunks.length];
+    }
+
+    @Override
+    public long getLong(int index) {
+        int c = ChunkOffsets.chunk(offsets, index);
+        return chunks[c].getLong(index - offsets[c]);
+    }
+
+    @Override
+    public void copyToLong(long[] to, int fromOffset, int toOffset, int len) {
+
+        if (len == 0) {
+            return;
+        }
+
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        int c = ChunkOffsets.chunk(offsets, fromOffset);
+        int chunkOffset = fromOffset - offsets[c];
+
+        while (len > 0) {
+            int chunkLen = Math.min(len, chunks[c].size() - chunkOffset);
+            chunks[c].copyToLong(to, chunkOffset, toOffset, chunkLen);
+
+            toOffset += chunkLen;
+            len -= chunkLen;
+            chunkOffset = 0;
+            c++;
+        }
+    }
+
+    @Override
+    public LongSeries headLong(int len) {
+        return len < size() ? range(0, len) : this;
+    }
+
+    @Override
+    public LongSeries tailLong(int len) {
+        int size = size();
+        return len < size ? range(size - len, len) : this;
+    }
+
+    @Override
+    public LongSeries rangeOpenClosedLong(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : range(fromInclusive, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public LongSeries materializeLong() {
+        return range(0, size());
+    }
+
+    private LongSeries range(int fromInclusive, int len) {
+        long[] data = new long[len];
+        copyToLong(data, fromInclusive, 0, len);
+        return new LongArraySeries(data);
+    }
+
+    @Override
+    public long max() {
+        long max = chunks[0].max();
+        for (int i = 1; i < chunks.length; i++) {
+            max = Math.max(max, chunks[i].max());
+        }
+
+        return max;
+    }
+
+    @Override
+    public long min() {
+        long min = chunks[0].min();
+        for (int i = 1; i < chunks.length; i++) {
+            min = Math.min(min, chunks[i].min());
+        }
+
+        return min;
+    }
+
+    @Override
+    public long sum() {
+        long sum = 0;
+        for (LongSeries c : chunks) {
+            sum += c.sum();
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size();
+    }
+
+    @Override
+    public double median() {
+        int size = size();
+        long[] data = new long[size];
+        copyToLong(data, 0, 0, size);
+        return PrimitiveSeriesMedian.medianOfArray(data, 0, size);
+    }
+}
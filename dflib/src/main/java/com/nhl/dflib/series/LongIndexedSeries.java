@@ -0,0 +1,113 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+
+import java.util.Objects;
+
+/**
+ * A lazy {@link SelectionView} of a {@link LongSeries} that reads the values from the source on access. The source
+ * must not contain nulls, and the positions must not be negative.
+ *
+ * @since 0.12
+ */
+public class LongIndexedSeries extends LongBaseSeries implements SelectionView<Long> {
+
+    private final LongSeries source;
+    private final IntSeries positions;
+
+    public LongIndexedSeries(LongSeries source, IntSeries positions) {
+        this.source = Objects.requireNonNull(source);
+        this.positions = Objects.requireNonNull(positions);
+    }
+
+    @Override
+    public IntSeries getSourcePositions() {
+        return positions;
+    }
+
+    @Override
+    public Series<Long> selectFromSource(IntSeries sourcePositions) {
+        return new LongIndexedSeries(source, sourcePositions);
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    @Override
+    public long getLong(int index) {
+        return source.getLong(positions.getInt(index));
+    }
+
+    @Override
+    public void copyToLong(long[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = source.getLong(positions.getInt(fromOffset + i));
+        }
+    }
+
+    @Override
+    public Series<Long> select(IntSeries positions) {
+        IntSeries composed = SelectionVector.compose(this.positions, positions);
+        return composed != null ? new LongIndexedSeries(source, composed) : super.select(positions);
+    }
+
+    @Override
+    public LongSeries materializeLong() {
+        int len = size();
+        long[] data = new long[len];
+        copyToLong(data, 0, 0, len);
+        return new LongArraySeries(data);
+    }
+
+    @Override
+    public LongSeries rangeOpenClosedLong(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new LongIndexedSeries(source, positions.rangeOpenClosedInt(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public LongSeries headLong(int len) {
+        return len < size() ? new LongIndexedSeries(source, positions.headInt(len)) : this;
+    }
+
+    @Override
+    public LongSeries tailLong(int len) {
+        return len < size() ? new LongIndexedSeries(source, positions.tailInt(len)) : this;
+    }
+
+    // the aggregations copy the selected values once and use the array-based algorithms
+
+    @Override
+    public long max() {
+        return materializeLong().max();
+    }
+
+    @Override
+    public long min() {
+        return materializeLong().min();
+    }
+
+    @Override
+    public long sum() {
+        return materializeLong().sum();
+    }
+
+    @Override
+    public double avg() {
+        return materializeLong().avg();
+    }
+
+    @Override
+    public double median() {
+        return materializeLong().median();
+    }
+}
@@ -0,0 +1,92 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.LongSeries;
+
+import java.util.Arrays;
+
+/**
+ * A {@link LongSeries} of a given size with the same value at every position. Takes constant memory regardless of
+ * its size. Used to broadcast constants in the primitive expression evaluation.
+ *
+ * @since 0.12
+ */
+public class LongSingleValueSeries extends LongBaseSeries {
+
+    private final long value;
+    private final int size;
+
+    public LongSingleValueSeries(long value, int size) {
+        this.value = value;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getLong(int index) {
+        if (index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void copyToLong(long[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        Arrays.fill(to, toOffset, toOffset + len, value);
+    }
+
+    @Override
+    public LongSeries materializeLong() {
+        return this;
+    }
+
+    @Override
+    public LongSeries rangeOpenClosedLong(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size
+                ? this
+                : new LongSingleValueSeries(value, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public LongSeries headLong(int len) {
+        return len < size ? new LongSingleValueSeries(value, len) : this;
+    }
+
+    @Override
+    public LongSeries tailLong(int len) {
+        return len < size ? new LongSingleValueSeries(value, len) : this;
+    }
+
+    @Override
+    public long max() {
+        return size > 0 ? value : 0;
+    }
+
+    @Override
+    public long min() {
+        return size > 0 ? value : 0;
+    }
+
+    @Override
+    public long sum() {
+        return value * (long) size;
+    }
+
+    @Override
+    public double avg() {
+        return size > 0 ? value : 0.;
+    }
+
+    @Override
+    public double median() {
+        return size > 0 ? value : 0.;
+    }
+}
@@ -0,0 +1,168 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Series;
+
+/**
+ * Static utilities to work with null bitmaps of the {@link NullableSeries}. A bitmap is a "long[]", where each bit
+ * corresponds to a Series position, and the set bits denote nulls. A null bitmap reference stands for a Series without
+ * nulls.
+ *
+ * @since 0.12
+ */
+public final class NullBitmap {
+
+    private NullBitmap() {
+    }
+
+    public static long[] create(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    public static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    public static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Returns a null bitmap of the Series or null if the Series is not a {@link NullableSeries}.
+     */
+    public static long[] of(Series<?> s) {
+        return s instanceof NullableSeries ? ((NullableSeries) s).getNullBitmap() : null;
+    }
+
+    /**
+     * Returns the number of nulls in the bitmap.
+     */
+    public static int count(long[] bits) {
+
+        if (bits == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (long w : bits) {
+            count += Long.bitCount(w);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns a union of two bitmaps, either of which can be null. Returns null if both are null.
+     */
+    public static long[] or(long[] b1, long[] b2) {
+
+        if (b1 == null) {
+            return b2;
+        }
+
+        if (b2 == null) {
+            return b1;
+        }
+
+        long[] longer = b1.length >= b2.length ? b1 : b2;
+        long[] shorter = longer == b1 ? b2 : b1;
+
+        long[] or = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            or[i] |= shorter[i];
+        }
+
+        return or;
+    }
+
+    /**
+     * Returns a bitmap with the same number of bits as the "size" argument. The argument bitmap may be longer or
+     * shorter.
+     */
+    public static long[] resize(long[] bits, int size) {
+
+        long[] resized = create(size);
+        System.arraycopy(bits, 0, resized, 0, Math.min(bits.length, resized.length));
+
+        // unset the bits past the new size
+        int tail = size & 63;
+        if (tail != 0 && resized.length > 0) {
+            resized[resized.length - 1] &= (1L << tail) - 1;
+        }
+
+        return resized;
+    }
+
+    /**
+     * Returns a bitmap for a range of positions of another bitmap, or null if there are no nulls in the range.
+     */
+    public static long[] range(long[] bits, int fromInclusive, int len) {
+
+        long[] range = null;
+
+        for (int i = 0; i < len; i++) {
+            if (isSet(bits, fromInclusive + i)) {
+                if (range == null) {
+                    range = create(len);
+                }
+
+                set(range, i);
+            }
+        }
+
+        return range;
+    }
+
+    /**
+     * Copies the first "len" bits of the "from" bitmap to the "to" bitmap starting at "toOffset". If the "to" bitmap
+     * is null, it is created with the "toSize" number of bits when the first set bit is encountered. Returns the "to"
+     * bitmap, that may still be null if there were no bits to copy.
+     */
+    public static long[] copy(long[] from, long[] to, int toSize, int toOffset, int len) {
+
+        if (from == null) {
+            return to;
+        }
+
+        for (int i = 0; i < len; i++) {
+            if (isSet(from, i)) {
+                if (to == null) {
+                    to = create(toSize);
+                }
+
+                set(to, toOffset + i);
+            }
+        }
+
+        return to;
+    }
+
+    /**
+     * Returns a BooleanSeries of the given size with "true" at the null positions.
+     */
+    public static BooleanSeries toBooleanSeries(long[] bits, int size) {
+        return new BooleanBitsetSeries(bits != null ? resize(bits, size) : create(size), size);
+    }
+
+    /**
+     * Returns a copy of the BooleanSeries, with all the positions that are set in the bitmap turned to "false". Used
+     * to produce the results of conditions on primitive Series with nulls, as nulls never match a condition.
+     */
+    public static BooleanSeries clearNulls(BooleanSeries s, long[] bits) {
+
+        int size = s.size();
+        long[] values = BooleanBitsetSeries.toBits(s);
+        long[] cleared = create(size);
+
+        int words = cleared.length;
+        for (int i = 0; i < words; i++) {
+            cleared[i] = i < bits.length ? values[i] & ~bits[i] : values[i];
+        }
+
+        return new BooleanBitsetSeries(cleared, size);
+    }
+}
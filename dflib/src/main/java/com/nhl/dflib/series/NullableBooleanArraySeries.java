@@ -0,0 +1,453 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.Sorter;
+import com.nhl.dflib.ValuePredicate;
+import com.nhl.dflib.accumulator.BooleanAccumulator;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.agg.PrimitiveSeriesCount;
+import com.nhl.dflib.sample.Sampler;
+import com.nhl.dflib.sort.SeriesSorter;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A {@link BooleanSeries} that may contain nulls. Stores the values in a boolean[] and tracks nulls in a bitmap. Null
+ * values are stored as "false" in the boolean[], so they never match in the primitive operations, but are neither
+ * counted as "true" nor as "false".
+ *
+ * @since 0.12
+ */
+public class NullableBooleanArraySeries extends BooleanBaseSeries implements NullableSeries {
+
+    private final boolean[] data;
+    private final long[] nulls;
+
+    /**
+     * @param data  values, with "false" at the null positions
+     * @param nulls a bitmap of null positions
+     */
+    public NullableBooleanArraySeries(boolean[] data, long[] nulls) {
+        this.data = Objects.requireNonNull(data);
+        this.nulls = Objects.requireNonNull(nulls);
+    }
+
+    /**
+     * Creates either a NullableBooleanArraySeries or a regular BooleanArraySeries, depending on whether the null
+     * bitmap is present.
+     */
+    public static BooleanSeries of(boolean[] data, long[] nulls) {
+        return nulls != null ? new NullableBooleanArraySeries(data, nulls) : new BooleanArraySeries(data);
+    }
+
+    @Override
+    public long[] getNullBitmap() {
+        return nulls;
+    }
+
+    @Override
+    public int size() {
+        return data.length;
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return data[index];
+    }
+
+    @Override
+    public Boolean get(int index) {
+        return NullBitmap.isSet(nulls, index) ? null : data[index];
+    }
+
+    @Override
+    public void copyToBoolean(boolean[] to, int fromOffset, int toOffset, int len) {
+        System.arraycopy(data, fromOffset, to, toOffset, len);
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    @Override
+    public BooleanSeries materializeBoolean() {
+        return this;
+    }
+
+    @Override
+    public BooleanSeries headBoolean(int len) {
+        return len < data.length ? range(0, len) : this;
+    }
+
+    @Override
+    public BooleanSeries tailBoolean(int len) {
+        return len < data.length ? range(data.length - len, len) : this;
+    }
+
+    @Override
+    public BooleanSeries rangeOpenClosedBoolean(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == data.length
+                ? this
+                : range(fromInclusive, toExclusive - fromInclusive);
+    }
+
+    private BooleanSeries range(int fromInclusive, int len) {
+        boolean[] rangeData = new boolean[len];
+        System.arraycopy(data, fromInclusive, rangeData, 0, len);
+        return of(rangeData, NullBitmap.range(nulls, fromInclusive, len));
+    }
+
+    @Override
+    public Series<Boolean> select(IntSeries positions) {
+
+        int h = positions.size();
+
+        boolean[] selected = new boolean[h];
+        long[] selectedNulls = null;
+
+        for (int i = 0; i < h; i++) {
+            int index = positions.getInt(i);
+
+            if (index < 0 || NullBitmap.isSet(nulls, index)) {
+                if (selectedNulls == null) {
+                    selectedNulls = NullBitmap.create(h);
+                }
+
+                NullBitmap.set(selectedNulls, i);
+            } else {
+                selected[i] = data[index];
+            }
+        }
+
+        return of(selected, selectedNulls);
+    }
+
+    @Override
+    public Series<Boolean> select(ValuePredicate<Boolean> p) {
+        return select(index(p));
+    }
+
+    @Override
+    public BooleanSeries selectBoolean(BooleanSeries positions) {
+        int s = size();
+        int ps = positions.size();
+
+        if (s != ps) {
+            throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
+        }
+
+        if (positions instanceof BooleanBitsetSeries) {
+            return (BooleanSeries) select(positions.indexTrue());
+        }
+
+        BooleanAccumulator filtered = new BooleanAccumulator();
+
+        for (int i = 0; i < s; i++) {
+            if (positions.getBoolean(i)) {
+                appendTo(filtered, i);
+            }
+        }
+
+        return filtered.toSeries();
+    }
+
+    @Override
+    public BooleanSeries sort(Sorter... sorters) {
+        return (BooleanSeries) select(new SeriesSorter<>(this).sortIndex(sorters));
+    }
+
+    @Override
+    public BooleanSeries sort(Comparator<? super Boolean> comparator) {
+        return (BooleanSeries) select(new SeriesSorter<>(this).sortIndex(comparator));
+    }
+
+    @Override
+    public Series<Boolean> fillNulls(Boolean value) {
+
+        if (value == null) {
+            return this;
+        }
+
+        boolean[] filled = data.clone();
+        boolean v = value;
+        int len = filled.length;
+        for (int i = 0; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                filled[i] = v;
+            }
+        }
+
+        return new BooleanArraySeries(filled);
+    }
+
+    @Override
+    public Series<Boolean> fillNullsFromSeries(Series<? extends Boolean> values) {
+        return toObjectSeries().fillNullsFromSeries(values);
+    }
+
+    @Override
+    public Series<Boolean> fillNullsBackwards() {
+        return toObjectSeries().fillNullsBackwards();
+    }
+
+    @Override
+    public Series<Boolean> fillNullsForward() {
+        return toObjectSeries().fillNullsForward();
+    }
+
+    @Override
+    public IntSeries indexFalse() {
+        IntAccumulator filtered = new IntAccumulator();
+
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (!data[i] && !NullBitmap.isSet(nulls, i)) {
+                filtered.addInt(i);
+            }
+        }
+
+        return filtered.toSeries();
+    }
+
+    @Override
+    public Series<Boolean> replace(BooleanSeries condition, Boolean with) {
+        int s = size();
+        int r = Math.min(s, condition.size());
+        BooleanAccumulator values = new BooleanAccumulator(s);
+
+        for (int i = 0; i < r; i++) {
+            if (condition.getBoolean(i)) {
+                appendValue(values, with);
+            } else {
+                appendTo(values, i);
+            }
+        }
+
+        for (int i = r; i < s; i++) {
+            appendTo(values, i);
+        }
+
+        return values.toSeries();
+    }
+
+    @Override
+    public Series<Boolean> replaceNoMatch(BooleanSeries condition, Boolean with) {
+        int s = size();
+        int r = Math.min(s, condition.size());
+        BooleanAccumulator values = new BooleanAccumulator(s);
+
+        for (int i = 0; i < r; i++) {
+            if (condition.getBoolean(i)) {
+                appendTo(values, i);
+            } else {
+                appendValue(values, with);
+            }
+        }
+
+        for (int i = r; i < s; i++) {
+            appendValue(values, with);
+        }
+
+        return values.toSeries();
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        return NullBitmap.toBooleanSeries(nulls, data.length);
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        return isNull().not();
+    }
+
+    @Override
+    public BooleanSeries eq(Series<?> another) {
+        int s = size();
+        int as = another.size();
+
+        if (s != as) {
+            throw new IllegalArgumentException("Another Series size " + as + " is not the same as this size " + s);
+        }
+
+        boolean[] eq = new boolean[s];
+        for (int i = 0; i < s; i++) {
+            eq[i] = Objects.equals(get(i), another.get(i));
+        }
+
+        return new BooleanArraySeries(eq);
+    }
+
+    @Override
+    public BooleanSeries ne(Series<?> another) {
+        return eq(another).not();
+    }
+
+    @Override
+    public boolean isFalse() {
+        return NullBitmap.count(nulls) == 0 && super.isFalse();
+    }
+
+    @Override
+    public BooleanSeries uniqueBoolean() {
+        int size = size();
+        if (size < 2) {
+            return this;
+        }
+
+        int iTrue = -1;
+        int iFalse = -1;
+        int iNull = -1;
+
+        for (int i = 0; i < size && (iTrue < 0 || iFalse < 0 || iNull < 0); i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                iNull = iNull < 0 ? i : iNull;
+            } else if (data[i]) {
+                iTrue = iTrue < 0 ? i : iTrue;
+            } else {
+                iFalse = iFalse < 0 ? i : iFalse;
+            }
+        }
+
+        // the unique values in the order of their first appearance
+        BooleanAccumulator unique = new BooleanAccumulator(3);
+        for (int i = 0; i < size; i++) {
+            if (i == iTrue) {
+                unique.addBoolean(true);
+            } else if (i == iFalse) {
+                unique.addBoolean(false);
+            } else if (i == iNull) {
+                unique.addNull();
+            }
+        }
+
+        return unique.size() < size ? unique.toSeries() : this;
+    }
+
+    /**
+     * Uses three-valued logic: the result is null where one side is null and the other is either null or "true".
+     */
+    @Override
+    public BooleanSeries and(BooleanSeries another) {
+        int size = size();
+        long[] otherNulls = NullBitmap.of(another);
+        boolean[] and = new boolean[size];
+        long[] andNulls = null;
+
+        for (int i = 0; i < size; i++) {
+            boolean n1 = NullBitmap.isSet(nulls, i);
+            boolean n2 = otherNulls != null && NullBitmap.isSet(otherNulls, i);
+            boolean b2 = another.getBoolean(i);
+
+            if ((n1 && (n2 || b2)) || (n2 && data[i])) {
+                andNulls = andNulls != null ? andNulls : NullBitmap.create(size);
+                NullBitmap.set(andNulls, i);
+            } else {
+                and[i] = data[i] && b2;
+            }
+        }
+
+        return NullableBooleanArraySeries.of(and, andNulls);
+    }
+
+    /**
+     * Uses three-valued logic: the result is null where one side is null and the other is either null or "false".
+     */
+    @Override
+    public BooleanSeries or(BooleanSeries another) {
+        int size = size();
+        long[] otherNulls = NullBitmap.of(another);
+        boolean[] or = new boolean[size];
+        long[] orNulls = null;
+
+        for (int i = 0; i < size; i++) {
+            or[i] = data[i] || another.getBoolean(i);
+
+            if (!or[i] && (NullBitmap.isSet(nulls, i) || (otherNulls != null && NullBitmap.isSet(otherNulls, i)))) {
+                orNulls = orNulls != null ? orNulls : NullBitmap.create(size);
+                NullBitmap.set(orNulls, i);
+            }
+        }
+
+        return NullableBooleanArraySeries.of(or, orNulls);
+    }
+
+    @Override
+    public BooleanSeries not() {
+        int size = size();
+        boolean[] not = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            not[i] = !data[i] && !NullBitmap.isSet(nulls, i);
+        }
+
+        return new NullableBooleanArraySeries(not, nulls);
+    }
+
+    @Override
+    public DataFrame valueCounts() {
+        return ValueCounts.valueCountsMaybeNulls(this);
+    }
+
+    @Override
+    public BooleanSeries sample(int size) {
+        return (BooleanSeries) select(Sampler.sampleIndex(size, size()));
+    }
+
+    @Override
+    public BooleanSeries sample(int size, Random random) {
+        return (BooleanSeries) select(Sampler.sampleIndex(size, size(), random));
+    }
+
+    @Override
+    public int firstTrue() {
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (data[i]) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int countTrue() {
+        return PrimitiveSeriesCount.countTrueInArray(data, 0, data.length);
+    }
+
+    @Override
+    public int countFalse() {
+        return data.length - countTrue() - NullBitmap.count(nulls);
+    }
+
+    private void appendTo(BooleanAccumulator accumulator, int i) {
+        if (NullBitmap.isSet(nulls, i)) {
+            accumulator.addNull();
+        } else {
+            accumulator.addBoolean(data[i]);
+        }
+    }
+
+    private static void appendValue(BooleanAccumulator accumulator, Boolean value) {
+        if (value == null) {
+            accumulator.addNull();
+        } else {
+            accumulator.addBoolean(value);
+        }
+    }
+
+    private Series<Boolean> toObjectSeries() {
+        int len = data.length;
+        Boolean[] boxed = new Boolean[len];
+        copyTo(boxed, 0, 0, len);
+        return new ArraySeries<>(boxed);
+    }
+}
@@ -0,0 +1,482 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.DoublePredicate;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.Sorter;
+import com.nhl.dflib.ValuePredicate;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.accumulator.DoubleAccumulator;
+import com.nhl.dflib.accumulator.UniqueDoubleAccumulator;
+import com.nhl.dflib.agg.PrimitiveSeriesAvg;
+import com.nhl.dflib.agg.PrimitiveSeriesMedian;
+import com.nhl.dflib.agg.PrimitiveSeriesMinMax;
+import com.nhl.dflib.agg.PrimitiveSeriesSum;
+import com.nhl.dflib.sample.Sampler;
+import com.nhl.dflib.sort.IntTimSort;
+import com.nhl.dflib.sort.SeriesSorter;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A {@link DoubleSeries} that may contain nulls. Stores the values in a double[] and tracks nulls in a bitmap, so
+ * unlike Series&lt;Double>, it doesn't need to box the values. Primitive operations (statistics, sorting, double
+ * predicates) skip nulls or order them last. Produced by outer joins and by the accumulators that had nulls added to
+ * them.
+ *
+ * @since 0.12
+ */
+public class NullableDoubleArraySeries extends DoubleBaseSeries implements NullableSeries {
+
+    private final double[] data;
+    private final long[] nulls;
+
+    /**
+     * @param data  values, with zeros at the null positions
+     * @param nulls a bitmap of null positions
+     */
+    public NullableDoubleArraySeries(double[] data, long[] nulls) {
+        this.data = Objects.requireNonNull(data);
+        this.nulls = Objects.requireNonNull(nulls);
+    }
+
+    /**
+     * Creates either a NullableDoubleArraySeries or a regular DoubleArraySeries, depending on whether the null
+     * bitmap is present.
+     */
+    public static DoubleSeries of(double[] data, long[] nulls) {
+        return nulls != null ? new NullableDoubleArraySeries(data, nulls) : new DoubleArraySeries(data);
+    }
+
+    /**
+     * Creates a copy of the Series with nulls at the positions set in the bitmap.
+     */
+    public static DoubleSeries withNulls(DoubleSeries s, long[] nulls) {
+
+        double[] data = s.toDoubleArray();
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                data[i] = 0;
+            }
+        }
+
+        return new NullableDoubleArraySeries(data, nulls);
+    }
+
+    @Override
+    public long[] getNullBitmap() {
+        return nulls;
+    }
+
+    @Override
+    public int size() {
+        return data.length;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return data[index];
+    }
+
+    @Override
+    public Double get(int index) {
+        return NullBitmap.isSet(nulls, index) ? null : data[index];
+    }
+
+    @Override
+    public void copyToDouble(double[] to, int fromOffset, int toOffset, int len) {
+        System.arraycopy(data, fromOffset, to, toOffset, len);
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    /**
+     * Throws, as nulls can't be represented in a primitive array. Use {@link #fillNulls(Object)} first to replace
+     * the nulls with some value.
+     */
+    @Override
+    public double[] toDoubleArray() {
+        throw new IllegalStateException("Can't convert a Series with nulls to a double[]. Replace the nulls first");
+    }
+
+    @Override
+    public DoubleSeries materializeDouble() {
+        return this;
+    }
+
+    @Override
+    public DoubleSeries headDouble(int len) {
+        return len < data.length ? range(0, len) : this;
+    }
+
+    @Override
+    public DoubleSeries tailDouble(int len) {
+        return len < data.length ? range(data.length - len, len) : this;
+    }
+
+    @Override
+    public DoubleSeries rangeOpenClosedDouble(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == data.length
+                ? this
+                : range(fromInclusive, toExclusive - fromInclusive);
+    }
+
+    private DoubleSeries range(int fromInclusive, int len) {
+        double[] rangeData = new double[len];
+        System.arraycopy(data, fromInclusive, rangeData, 0, len);
+        return of(rangeData, NullBitmap.range(nulls, fromInclusive, len));
+    }
+
+    @Override
+    public Series<Double> select(IntSeries positions) {
+
+        int h = positions.size();
+
+        double[] selected = new double[h];
+        long[] selectedNulls = null;
+
+        for (int i = 0; i < h; i++) {
+            int index = positions.getInt(i);
+
+            if (index < 0 || NullBitmap.isSet(nulls, index)) {
+                if (selectedNulls == null) {
+                    selectedNulls = NullBitmap.create(h);
+                }
+
+                NullBitmap.set(selectedNulls, i);
+            } else {
+                selected[i] = data[index];
+            }
+        }
+
+        return of(selected, selectedNulls);
+    }
+
+    @Override
+    public Series<Double> select(ValuePredicate<Double> p) {
+        return select(index(p));
+    }
+
+    @Override
+    public DoubleSeries selectDouble(DoublePredicate p) {
+        DoubleAccumulator filtered = new DoubleAccumulator();
+
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i) && p.test(data[i])) {
+                filtered.addDouble(data[i]);
+            }
+        }
+
+        return filtered.toSeries();
+    }
+
+    @Override
+    public DoubleSeries selectDouble(BooleanSeries positions) {
+        int s = size();
+        int ps = positions.size();
+
+        if (s != ps) {
+            throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
+        }
+
+        if (positions instanceof BooleanBitsetSeries) {
+            return (DoubleSeries) select(positions.indexTrue());
+        }
+
+        DoubleAccumulator filtered = new DoubleAccumulator();
+
+        for (int i = 0; i < s; i++) {
+            if (positions.getBoolean(i)) {
+                appendTo(filtered, i);
+            }
+        }
+
+        return filtered.toSeries();
+    }
+
+    @Override
+    public DoubleSeries sort(Sorter... sorters) {
+        return (DoubleSeries) select(new SeriesSorter<>(this).sortIndex(sorters));
+    }
+
+    @Override
+    public DoubleSeries sortDouble() {
+        return (DoubleSeries) select(sortIndexNullsLast());
+    }
+
+    @Override
+    public DoubleSeries sort(Comparator<? super Double> comparator) {
+        return (DoubleSeries) select(new SeriesSorter<>(this).sortIndex(comparator));
+    }
+
+    private IntSeries sortIndexNullsLast() {
+
+        // sort non-null values, and place nulls last
+        int len = data.length;
+        int nullCount = NullBitmap.count(nulls);
+        int[] index = new int[len];
+
+        for (int i = 0, nn = 0, n = len - nullCount; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                index[n++] = i;
+            } else {
+                index[nn++] = i;
+            }
+        }
+
+        IntTimSort.sort(index, 0, len - nullCount, (i1, i2) -> Double.compare(data[i1], data[i2]));
+        return new IntArraySeries(index);
+    }
+
+    @Override
+    public Series<Double> fillNulls(Double value) {
+
+        if (value == null) {
+            return this;
+        }
+
+        double[] filled = data.clone();
+        double v = value;
+        int len = filled.length;
+        for (int i = 0; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                filled[i] = v;
+            }
+        }
+
+        return new DoubleArraySeries(filled);
+    }
+
+    @Override
+    public Series<Double> fillNullsFromSeries(Series<? extends Double> values) {
+        return toObjectSeries().fillNullsFromSeries(values);
+    }
+
+    @Override
+    public Series<Double> fillNullsBackwards() {
+        return toObjectSeries().fillNullsBackwards();
+    }
+
+    @Override
+    public Series<Double> fillNullsForward() {
+        return toObjectSeries().fillNullsForward();
+    }
+
+    @Override
+    public IntSeries indexDouble(DoublePredicate predicate) {
+        IntAccumulator index = new IntAccumulator();
+
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i) && predicate.test(data[i])) {
+                index.addInt(i);
+            }
+        }
+
+        return index.toSeries();
+    }
+
+    @Override
+    public IntSeries index(ValuePredicate<Double> predicate) {
+        return toObjectSeries().index(predicate);
+    }
+
+    @Override
+    public BooleanSeries locateDouble(DoublePredicate predicate) {
+        int len = data.length;
+        boolean[] matches = new boolean[len];
+
+        for (int i = 0; i < len; i++) {
+            matches[i] = !NullBitmap.isSet(nulls, i) && predicate.test(data[i]);
+        }
+
+        return new BooleanArraySeries(matches);
+    }
+
+    @Override
+    public BooleanSeries locate(ValuePredicate<Double> predicate) {
+        return toObjectSeries().locate(predicate);
+    }
+
+    @Override
+    public Series<Double> replace(BooleanSeries condition, Double with) {
+        int s = size();
+        int r = Math.min(s, condition.size());
+        DoubleAccumulator values = new DoubleAccumulator(s);
+
+        for (int i = 0; i < r; i++) {
+            if (condition.getBoolean(i)) {
+                appendValue(values, with);
+            } else {
+                appendTo(values, i);
+            }
+        }
+
+        for (int i = r; i < s; i++) {
+            appendTo(values, i);
+        }
+
+        return values.toSeries();
+    }
+
+    @Override
+    public Series<Double> replaceNoMatch(BooleanSeries condition, Double with) {
+        int s = size();
+        int r = Math.min(s, condition.size());
+        DoubleAccumulator values = new DoubleAccumulator(s);
+
+        for (int i = 0; i < r; i++) {
+            if (condition.getBoolean(i)) {
+                appendTo(values, i);
+            } else {
+                appendValue(values, with);
+            }
+        }
+
+        for (int i = r; i < s; i++) {
+            appendValue(values, with);
+        }
+
+        return values.toSeries();
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        return NullBitmap.toBooleanSeries(nulls, data.length);
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        return isNull().not();
+    }
+
+    @Override
+    public BooleanSeries eq(Series<?> another) {
+        int s = size();
+        int as = another.size();
+
+        if (s != as) {
+            throw new IllegalArgumentException("Another Series size " + as + " is not the same as this size " + s);
+        }
+
+        boolean[] eq = new boolean[s];
+        for (int i = 0; i < s; i++) {
+            eq[i] = Objects.equals(get(i), another.get(i));
+        }
+
+        return new BooleanArraySeries(eq);
+    }
+
+    @Override
+    public BooleanSeries ne(Series<?> another) {
+        return eq(another).not();
+    }
+
+    @Override
+    public DoubleSeries uniqueDouble() {
+        int size = size();
+        if (size < 2) {
+            return this;
+        }
+
+        DoubleAccumulator unique = new UniqueDoubleAccumulator();
+        for (int i = 0; i < size; i++) {
+            appendTo(unique, i);
+        }
+
+        return unique.size() < size ? unique.toSeries() : this;
+    }
+
+    @Override
+    public DataFrame valueCounts() {
+        return ValueCounts.valueCountsMaybeNulls(this);
+    }
+
+    @Override
+    public DoubleSeries sample(int size) {
+        return (DoubleSeries) select(Sampler.sampleIndex(size, size()));
+    }
+
+    @Override
+    public DoubleSeries sample(int size, Random random) {
+        return (DoubleSeries) select(Sampler.sampleIndex(size, size(), random));
+    }
+
+    @Override
+    public double max() {
+        double[] values = nonNullValues();
+        return PrimitiveSeriesMinMax.maxOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public double min() {
+        double[] values = nonNullValues();
+        return PrimitiveSeriesMinMax.minOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public double sum() {
+        // nulls are stored as zeros and do not affect the sum
+        return PrimitiveSeriesSum.sumOfArray(data, 0, data.length);
+    }
+
+    @Override
+    public double avg() {
+        double[] values = nonNullValues();
+        return PrimitiveSeriesAvg.avgOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public double median() {
+        double[] values = nonNullValues();
+        return PrimitiveSeriesMedian.medianOfArray(values, 0, values.length);
+    }
+
+    private double[] nonNullValues() {
+        int len = data.length;
+        double[] values = new double[len - NullBitmap.count(nulls)];
+
+        for (int i = 0, j = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i)) {
+                values[j++] = data[i];
+            }
+        }
+
+        return values;
+    }
+
+    private void appendTo(DoubleAccumulator accumulator, int i) {
+        if (NullBitmap.isSet(nulls, i)) {
+            accumulator.addNull();
+        } else {
+            accumulator.addDouble(data[i]);
+        }
+    }
+
+    private static void appendValue(DoubleAccumulator accumulator, Double value) {
+        if (value == null) {
+            accumulator.addNull();
+        } else {
+            accumulator.addDouble(value);
+        }
+    }
+
+    private Series<Double> toObjectSeries() {
+        int len = data.length;
+        Double[] boxed = new Double[len];
+        copyTo(boxed, 0, 0, len);
+        return new ArraySeries<>(boxed);
+    }
+}
@@ -0,0 +1,485 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntPredicate;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.Sorter;
+import com.nhl.dflib.ValuePredicate;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.accumulator.UniqueIntAccumulator;
+import com.nhl.dflib.agg.PrimitiveSeriesAvg;
+import com.nhl.dflib.agg.PrimitiveSeriesMedian;
+import com.nhl.dflib.agg.PrimitiveSeriesMinMax;
+import com.nhl.dflib.agg.PrimitiveSeriesSum;
+import com.nhl.dflib.sample.Sampler;
+import com.nhl.dflib.sort.IntComparator;
+import com.nhl.dflib.sort.IntTimSort;
+import com.nhl.dflib.sort.SeriesSorter;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * An {@link IntSeries} that may contain nulls. Stores the values in an int[] and tracks nulls in a bitmap, so unlike
+ * Series&lt;Integer>, it doesn't need to box the values. Primitive operations (statistics, sorting, int predicates)
+ * skip nulls or order them last. Produced by outer joins and by the accumulators that had nulls added to them.
+ *
+ * @since 0.12
+ */
+public class NullableIntArraySeries extends IntBaseSeries implements NullableSeries {
+
+    private final int[] data;
+    private final long[] nulls;
+
+    /**
+     * @param data  values, with zeros at the null positions
+     * @param nulls a bitmap of null positions
+     */
+    public NullableIntArraySeries(int[] data, long[] nulls) {
+        this.data = Objects.requireNonNull(data);
+        this.nulls = Objects.requireNonNull(nulls);
+    }
+
+    /**
+     * Creates either a NullableIntArraySeries or a regular IntArraySeries, depending on whether the null bitmap is
+     * present.
+     */
+    public static IntSeries of(int[] data, long[] nulls) {
+        return nulls != null ? new NullableIntArraySeries(data, nulls) : new IntArraySeries(data);
+    }
+
+    /**
+     * Creates a copy of the Series with nulls at the positions set in the bitmap.
+     */
+    public static IntSeries withNulls(IntSeries s, long[] nulls) {
+
+        int[] data = s.toIntArray();
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                data[i] = 0;
+            }
+        }
+
+        return new NullableIntArraySeries(data, nulls);
+    }
+
+    @Override
+    public long[] getNullBitmap() {
+        return nulls;
+    }
+
+    @Override
+    public int size() {
+        return data.length;
+    }
+
+    @Override
+    public int getInt(int index) {
+        return data[index];
+    }
+
+    @Override
+    public Integer get(int index) {
+        return NullBitmap.isSet(nulls, index) ? null : data[index];
+    }
+
+    @Override
+    public void copyToInt(int[] to, int fromOffset, int toOffset, int len) {
+        System.arraycopy(data, fromOffset, to, toOffset, len);
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    /**
+     * Throws, as nulls can't be represented in a primitive array. Use {@link #fillNulls(Object)} first to replace
+     * the nulls with some value.
+     */
+    @Override
+    public int[] toIntArray() {
+        throw new IllegalStateException("Can't convert a Series with nulls to a int[]. Replace the nulls first");
+    }
+
+    @Override
+    public IntSeries materializeInt() {
+        return this;
+    }
+
+    @Override
+    public IntSeries headInt(int len) {
+        return len < data.length ? range(0, len) : this;
+    }
+
+    @Override
+    public IntSeries tailInt(int len) {
+        return len < data.length ? range(data.length - len, len) : this;
+    }
+
+    @Override
+    public IntSeries rangeOpenClosedInt(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == data.length
+                ? this
+                : range(fromInclusive, toExclusive - fromInclusive);
+    }
+
+    private IntSeries range(int fromInclusive, int len) {
+        int[] rangeData = new int[len];
+        System.arraycopy(data, fromInclusive, rangeData, 0, len);
+        return of(rangeData, NullBitmap.range(nulls, fromInclusive, len));
+    }
+
+    @Override
+    public Series<Integer> select(IntSeries positions) {
+
+        int h = positions.size();
+
+        int[] selected = new int[h];
+        long[] selectedNulls = null;
+
+        for (int i = 0; i < h; i++) {
+            int index = positions.getInt(i);
+
+            if (index < 0 || NullBitmap.isSet(nulls, index)) {
+                if (selectedNulls == null) {
+                    selectedNulls = NullBitmap.create(h);
+                }
+
+                NullBitmap.set(selectedNulls, i);
+            } else {
+                selected[i] = data[index];
+            }
+        }
+
+        return of(selected, selectedNulls);
+    }
+
+    @Override
+    public Series<Integer> select(ValuePredicate<Integer> p) {
+        return select(index(p));
+    }
+
+    @Override
+    public IntSeries selectInt(IntPredicate p) {
+        IntAccumulator filtered = new IntAccumulator();
+
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i) && p.test(data[i])) {
+                filtered.addInt(data[i]);
+            }
+        }
+
+        return filtered.toSeries();
+    }
+
+    @Override
+    public IntSeries selectInt(BooleanSeries positions) {
+        int s = size();
+        int ps = positions.size();
+
+        if (s != ps) {
+            throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
+        }
+
+        if (positions instanceof BooleanBitsetSeries) {
+            return (IntSeries) select(positions.indexTrue());
+        }
+
+        IntAccumulator filtered = new IntAccumulator();
+
+        for (int i = 0; i < s; i++) {
+            if (positions.getBoolean(i)) {
+                appendTo(filtered, i);
+            }
+        }
+
+        return filtered.toSeries();
+    }
+
+    @Override
+    public IntSeries sort(Sorter... sorters) {
+        return (IntSeries) select(new SeriesSorter<>(this).sortIndex(sorters));
+    }
+
+    @Override
+    public IntSeries sortInt() {
+        return (IntSeries) select(sortIndexInt());
+    }
+
+    @Override
+    public IntSeries sortInt(IntComparator comparator) {
+        return (IntSeries) select(sortIndexInt(comparator));
+    }
+
+    @Override
+    public IntSeries sortIndexInt() {
+        return sortIndexInt(Integer::compare);
+    }
+
+    @Override
+    public IntSeries sortIndexInt(IntComparator comparator) {
+
+        // sort non-null values, and place nulls last
+        int len = data.length;
+        int nullCount = NullBitmap.count(nulls);
+        int[] index = new int[len];
+
+        for (int i = 0, nn = 0, n = len - nullCount; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                index[n++] = i;
+            } else {
+                index[nn++] = i;
+            }
+        }
+
+        IntTimSort.sort(index, 0, len - nullCount, (i1, i2) -> comparator.compare(data[i1], data[i2]));
+        return new IntArraySeries(index);
+    }
+
+    @Override
+    public Series<Integer> fillNulls(Integer value) {
+
+        if (value == null) {
+            return this;
+        }
+
+        int[] filled = data.clone();
+        int v = value;
+        int len = filled.length;
+        for (int i = 0; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                filled[i] = v;
+            }
+        }
+
+        return new IntArraySeries(filled);
+    }
+
+    @Override
+    public Series<Integer> fillNullsFromSeries(Series<? extends Integer> values) {
+        return toObjectSeries().fillNullsFromSeries(values);
+    }
+
+    @Override
+    public Series<Integer> fillNullsBackwards() {
+        return toObjectSeries().fillNullsBackwards();
+    }
+
+    @Override
+    public Series<Integer> fillNullsForward() {
+        return toObjectSeries().fillNullsForward();
+    }
+
+    @Override
+    public IntSeries indexInt(IntPredicate predicate) {
+        IntAccumulator index = new IntAccumulator();
+
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i) && predicate.test(data[i])) {
+                index.addInt(i);
+            }
+        }
+
+        return index.toSeries();
+    }
+
+    @Override
+    public IntSeries index(ValuePredicate<Integer> predicate) {
+        return toObjectSeries().index(predicate);
+    }
+
+    @Override
+    public BooleanSeries locateInt(IntPredicate predicate) {
+        int len = data.length;
+        boolean[] matches = new boolean[len];
+
+        for (int i = 0; i < len; i++) {
+            matches[i] = !NullBitmap.isSet(nulls, i) && predicate.test(data[i]);
+        }
+
+        return new BooleanArraySeries(matches);
+    }
+
+    @Override
+    public BooleanSeries locate(ValuePredicate<Integer> predicate) {
+        return toObjectSeries().locate(predicate);
+    }
+
+    @Override
+    public Series<Integer> replace(BooleanSeries condition, Integer with) {
+        int s = size();
+        int r = Math.min(s, condition.size());
+        IntAccumulator values = new IntAccumulator(s);
+
+        for (int i = 0; i < r; i++) {
+            if (condition.getBoolean(i)) {
+                appendValue(values, with);
+            } else {
+                appendTo(values, i);
+            }
+        }
+
+        for (int i = r; i < s; i++) {
+            appendTo(values, i);
+        }
+
+        return values.toSeries();
+    }
+
+    @Override
+    public Series<Integer> replaceNoMatch(BooleanSeries condition, Integer with) {
+        int s = size();
+        int r = Math.min(s, condition.size());
+        IntAccumulator values = new IntAccumulator(s);
+
+        for (int i = 0; i < r; i++) {
+            if (condition.getBoolean(i)) {
+                appendTo(values, i);
+            } else {
+                appendValue(values, with);
+            }
+        }
+
+        for (int i = r; i < s; i++) {
+            appendValue(values, with);
+        }
+
+        return values.toSeries();
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        return NullBitmap.toBooleanSeries(nulls, data.length);
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        return isNull().not();
+    }
+
+    @Override
+    public BooleanSeries eq(Series<?> another) {
+        int s = size();
+        int as = another.size();
+
+        if (s != as) {
+            throw new IllegalArgumentException("Another Series size " + as + " is not the same as this size " + s);
+        }
+
+        boolean[] eq = new boolean[s];
+        for (int i = 0; i < s; i++) {
+            eq[i] = Objects.equals(get(i), another.get(i));
+        }
+
+        return new BooleanArraySeries(eq);
+    }
+
+    @Override
+    public BooleanSeries ne(Series<?> another) {
+        return eq(another).not();
+    }
+
+    @Override
+    public IntSeries uniqueInt() {
+        int size = size();
+        if (size < 2) {
+            return this;
+        }
+
+        IntAccumulator unique = new UniqueIntAccumulator();
+        for (int i = 0; i < size; i++) {
+            appendTo(unique, i);
+        }
+
+        return unique.size() < size ? unique.toSeries() : this;
+    }
+
+    @Override
+    public DataFrame valueCounts() {
+        return ValueCounts.valueCountsMaybeNulls(this);
+    }
+
+    @Override
+    public IntSeries sample(int size) {
+        return (IntSeries) select(Sampler.sampleIndex(size, size()));
+    }
+
+    @Override
+    public IntSeries sample(int size, Random random) {
+        return (IntSeries) select(Sampler.sampleIndex(size, size(), random));
+    }
+
+    @Override
+    public int max() {
+        int[] values = nonNullValues();
+        return PrimitiveSeriesMinMax.maxOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public int min() {
+        int[] values = nonNullValues();
+        return PrimitiveSeriesMinMax.minOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public long sum() {
+        // nulls are stored as zeros and do not affect the sum
+        return PrimitiveSeriesSum.sumOfArray(data, 0, data.length);
+    }
+
+    @Override
+    public double avg() {
+        int[] values = nonNullValues();
+        return PrimitiveSeriesAvg.avgOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public double median() {
+        int[] values = nonNullValues();
+        return PrimitiveSeriesMedian.medianOfArray(values, 0, values.length);
+    }
+
+    private int[] nonNullValues() {
+        int len = data.length;
+        int[] values = new int[len - NullBitmap.count(nulls)];
+
+        for (int i = 0, j = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i)) {
+                values[j++] = data[i];
+            }
+        }
+
+        return values;
+    }
+
+    private void appendTo(IntAccumulator accumulator, int i) {
+        if (NullBitmap.isSet(nulls, i)) {
+            accumulator.addNull();
+        } else {
+            accumulator.addInt(data[i]);
+        }
+    }
+
+    private static void appendValue(IntAccumulator accumulator, Integer value) {
+        if (value == null) {
+            accumulator.addNull();
+        } else {
+            accumulator.addInt(value);
+        }
+    }
+
+    private Series<Integer> toObjectSeries() {
+        int len = data.length;
+        Integer[] boxed = new Integer[len];
+        copyTo(boxed, 0, 0, len);
+        return new ArraySeries<>(boxed);
+    }
+}
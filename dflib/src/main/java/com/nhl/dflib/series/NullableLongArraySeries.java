@@ -0,0 +1,481 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongPredicate;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.Sorter;
+import com.nhl.dflib.ValuePredicate;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.accumulator.LongAccumulator;
+import com.nhl.dflib.accumulator.UniqueLongAccumulator;
+import com.nhl.dflib.agg.PrimitiveSeriesAvg;
+import com.nhl.dflib.agg.PrimitiveSeriesMedian;
+import com.nhl.dflib.agg.PrimitiveSeriesMinMax;
+import com.nhl.dflib.agg.PrimitiveSeriesSum;
+import com.nhl.dflib.sample.Sampler;
+import com.nhl.dflib.sort.IntTimSort;
+import com.nhl.dflib.sort.SeriesSorter;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A {@link LongSeries} that may contain nulls. Stores the values in a long[] and tracks nulls in a bitmap, so unlike
+ * Series&lt;Long>, it doesn't need to box the values. Primitive operations (statistics, sorting, long predicates)
+ * skip nulls or order them last. Produced by outer joins and by the accumulators that had nulls added to them.
+ *
+ * @since 0.12
+ */
+public class NullableLongArraySeries extends LongBaseSeries implements NullableSeries {
+
+    private final long[] data;
+    private final long[] nulls;
+
+    /**
+     * @param data  values, with zeros at the null positions
+     * @param nulls a bitmap of null positions
+     */
+    public NullableLongArraySeries(long[] data, long[] nulls) {
+        this.data = Objects.requireNonNull(data);
+        this.nulls = Objects.requireNonNull(nulls);
+    }
+
+    /**
+     * Creates either a NullableLongArraySeries or a regular LongArraySeries, depending on whether the null bitmap is
+     * present.
+     */
+    public static LongSeries of(long[] data, long[] nulls) {
+        return nulls != null ? new NullableLongArraySeries(data, nulls) : new LongArraySeries(data);
+    }
+
+    /**
+     * Creates a copy of the Series with nulls at the positions set in the bitmap.
+     */
+    public static LongSeries withNulls(LongSeries s, long[] nulls) {
+
+        long[] data = s.toLongArray();
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                data[i] = 0;
+            }
+        }
+
+        return new NullableLongArraySeries(data, nulls);
+    }
+
+    @Override
+    public long[] getNullBitmap() {
+        return nulls;
+    }
+
+    @Override
+    public int size() {
+        return data.length;
+    }
+
+    @Override
+    public long getLong(int index) {
+        return data[index];
+    }
+
+    @Override
+    public Long get(int index) {
+        return NullBitmap.isSet(nulls, index) ? null : data[index];
+    }
+
+    @Override
+    public void copyToLong(long[] to, int fromOffset, int toOffset, int len) {
+        System.arraycopy(data, fromOffset, to, toOffset, len);
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    /**
+     * Throws, as nulls can't be represented in a primitive array. Use {@link #fillNulls(Object)} first to replace
+     * the nulls with some value.
+     */
+    @Override
+    public long[] toLongArray() {
+        throw new IllegalStateException("Can't convert a Series with nulls to a long[]. Replace the nulls first");
+    }
+
+    @Override
+    public LongSeries materializeLong() {
+        return this;
+    }
+
+    @Override
+    public LongSeries headLong(int len) {
+        return len < data.length ? range(0, len) : this;
+    }
+
+    @Override
+    public LongSeries tailLong(int len) {
+        return len < data.length ? range(data.length - len, len) : this;
+    }
+
+    @Override
+    public LongSeries rangeOpenClosedLong(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == data.length
+                ? this
+                : range(fromInclusive, toExclusive - fromInclusive);
+    }
+
+    private LongSeries range(int fromInclusive, int len) {
+        long[] rangeData = new long[len];
+        System.arraycopy(data, fromInclusive, rangeData, 0, len);
+        return of(rangeData, NullBitmap.range(nulls, fromInclusive, len));
+    }
+
+    @Override
+    public Series<Long> select(IntSeries positions) {
+
+        int h = positions.size();
+
+        long[] selected = new long[h];
+        long[] selectedNulls = null;
+
+        for (int i = 0; i < h; i++) {
+            int index = positions.getInt(i);
+
+            if (index < 0 || NullBitmap.isSet(nulls, index)) {
+                if (selectedNulls == null) {
+                    selectedNulls = NullBitmap.create(h);
+                }
+
+                NullBitmap.set(selectedNulls, i);
+            } else {
+                selected[i] = data[index];
+            }
+        }
+
+        return of(selected, selectedNulls);
+    }
+
+    @Override
+    public Series<Long> select(ValuePredicate<Long> p) {
+        return select(index(p));
+    }
+
+    @Override
+    public LongSeries selectLong(LongPredicate p) {
+        LongAccumulator filtered = new LongAccumulator();
+
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i) && p.test(data[i])) {
+                filtered.addLong(data[i]);
+            }
+        }
+
+        return filtered.toSeries();
+    }
+
+    @Override
+    public LongSeries selectLong(BooleanSeries positions) {
+        int s = size();
+        int ps = positions.size();
+
+        if (s != ps) {
+            throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
+        }
+
+        if (positions instanceof BooleanBitsetSeries) {
+            return (LongSeries) select(positions.indexTrue());
+        }
+
+        LongAccumulator filtered = new LongAccumulator();
+
+        for (int i = 0; i < s; i++) {
+            if (positions.getBoolean(i)) {
+                appendTo(filtered, i);
+            }
+        }
+
+        return filtered.toSeries();
+    }
+
+    @Override
+    public LongSeries sort(Sorter... sorters) {
+        return (LongSeries) select(new SeriesSorter<>(this).sortIndex(sorters));
+    }
+
+    @Override
+    public LongSeries sortLong() {
+        return (LongSeries) select(sortIndexNullsLast());
+    }
+
+    @Override
+    public LongSeries sort(Comparator<? super Long> comparator) {
+        return (LongSeries) select(new SeriesSorter<>(this).sortIndex(comparator));
+    }
+
+    private IntSeries sortIndexNullsLast() {
+
+        // sort non-null values, and place nulls last
+        int len = data.length;
+        int nullCount = NullBitmap.count(nulls);
+        int[] index = new int[len];
+
+        for (int i = 0, nn = 0, n = len - nullCount; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                index[n++] = i;
+            } else {
+                index[nn++] = i;
+            }
+        }
+
+        IntTimSort.sort(index, 0, len - nullCount, (i1, i2) -> Long.compare(data[i1], data[i2]));
+        return new IntArraySeries(index);
+    }
+
+    @Override
+    public Series<Long> fillNulls(Long value) {
+
+        if (value == null) {
+            return this;
+        }
+
+        long[] filled = data.clone();
+        long v = value;
+        int len = filled.length;
+        for (int i = 0; i < len; i++) {
+            if (NullBitmap.isSet(nulls, i)) {
+                filled[i] = v;
+            }
+        }
+
+        return new LongArraySeries(filled);
+    }
+
+    @Override
+    public Series<Long> fillNullsFromSeries(Series<? extends Long> values) {
+        return toObjectSeries().fillNullsFromSeries(values);
+    }
+
+    @Override
+    public Series<Long> fillNullsBackwards() {
+        return toObjectSeries().fillNullsBackwards();
+    }
+
+    @Override
+    public Series<Long> fillNullsForward() {
+        return toObjectSeries().fillNullsForward();
+    }
+
+    @Override
+    public IntSeries indexLong(LongPredicate predicate) {
+        IntAccumulator index = new IntAccumulator();
+
+        int len = data.length;
+        for (int i = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i) && predicate.test(data[i])) {
+                index.addInt(i);
+            }
+        }
+
+        return index.toSeries();
+    }
+
+    @Override
+    public IntSeries index(ValuePredicate<Long> predicate) {
+        return toObjectSeries().index(predicate);
+    }
+
+    @Override
+    public BooleanSeries locateLong(LongPredicate predicate) {
+        int len = data.length;
+        boolean[] matches = new boolean[len];
+
+        for (int i = 0; i < len; i++) {
+            matches[i] = !NullBitmap.isSet(nulls, i) && predicate.test(data[i]);
+        }
+
+        return new BooleanArraySeries(matches);
+    }
+
+    @Override
+    public BooleanSeries locate(ValuePredicate<Long> predicate) {
+        return toObjectSeries().locate(predicate);
+    }
+
+    @Override
+    public Series<Long> replace(BooleanSeries condition, Long with) {
+        int s = size();
+        int r = Math.min(s, condition.size());
+        LongAccumulator values = new LongAccumulator(s);
+
+        for (int i = 0; i < r; i++) {
+            if (condition.getBoolean(i)) {
+                appendValue(values, with);
+            } else {
+                appendTo(values, i);
+            }
+        }
+
+        for (int i = r; i < s; i++) {
+            appendTo(values, i);
+        }
+
+        return values.toSeries();
+    }
+
+    @Override
+    public Series<Long> replaceNoMatch(BooleanSeries condition, Long with) {
+        int s = size();
+        int r = Math.min(s, condition.size());
+        LongAccumulator values = new LongAccumulator(s);
+
+        for (int i = 0; i < r; i++) {
+            if (condition.getBoolean(i)) {
+                appendTo(values, i);
+            } else {
+                appendValue(values, with);
+            }
+        }
+
+        for (int i = r; i < s; i++) {
+            appendValue(values, with);
+        }
+
+        return values.toSeries();
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        return NullBitmap.toBooleanSeries(nulls, data.length);
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        return isNull().not();
+    }
+
+    @Override
+    public BooleanSeries eq(Series<?> another) {
+        int s = size();
+        int as = another.size();
+
+        if (s != as) {
+            throw new IllegalArgumentException("Another Series size " + as + " is not the same as this size " + s);
+        }
+
+        boolean[] eq = new boolean[s];
+        for (int i = 0; i < s; i++) {
+            eq[i] = Objects.equals(get(i), another.get(i));
+        }
+
+        return new BooleanArraySeries(eq);
+    }
+
+    @Override
+    public BooleanSeries ne(Series<?> another) {
+        return eq(another).not();
+    }
+
+    @Override
+    public LongSeries uniqueLong() {
+        int size = size();
+        if (size < 2) {
+            return this;
+        }
+
+        LongAccumulator unique = new UniqueLongAccumulator();
+        for (int i = 0; i < size; i++) {
+            appendTo(unique, i);
+        }
+
+        return unique.size() < size ? unique.toSeries() : this;
+    }
+
+    @Override
+    public DataFrame valueCounts() {
+        return ValueCounts.valueCountsMaybeNulls(this);
+    }
+
+    @Override
+    public LongSeries sample(int size) {
+        return (LongSeries) select(Sampler.sampleIndex(size, size()));
+    }
+
+    @Override
+    public LongSeries sample(int size, Random random) {
+        return (LongSeries) select(Sampler.sampleIndex(size, size(), random));
+    }
+
+    @Override
+    public long max() {
+        long[] values = nonNullValues();
+        return PrimitiveSeriesMinMax.maxOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public long min() {
+        long[] values = nonNullValues();
+        return PrimitiveSeriesMinMax.minOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public long sum() {
+        // nulls are stored as zeros and do not affect the sum
+        return PrimitiveSeriesSum.sumOfArray(data, 0, data.length);
+    }
+
+    @Override
+    public double avg() {
+        long[] values = nonNullValues();
+        return PrimitiveSeriesAvg.avgOfArray(values, 0, values.length);
+    }
+
+    @Override
+    public double median() {
+        long[] values = nonNullValues();
+        return PrimitiveSeriesMedian.medianOfArray(values, 0, values.length);
+    }
+
+    private long[] nonNullValues() {
+        int len = data.length;
+        long[] values = new long[len - NullBitmap.count(nulls)];
+
+        for (int i = 0, j = 0; i < len; i++) {
+            if (!NullBitmap.isSet(nulls, i)) {
+                values[j++] = data[i];
+            }
+        }
+
+        return values;
+    }
+
+    private void appendTo(LongAccumulator accumulator, int i) {
+        if (NullBitmap.isSet(nulls, i)) {
+            accumulator.addNull();
+        } else {
+            accumulator.addLong(data[i]);
+        }
+    }
+
+    private static void appendValue(LongAccumulator accumulator, Long value) {
+        if (value == null) {
+            accumulator.addNull();
+        } else {
+            accumulator.addLong(value);
+        }
+    }
+
+    private Series<Long> toObjectSeries() {
+        int len = data.length;
+        Long[] boxed = new Long[len];
+        copyTo(boxed, 0, 0, len);
+        return new ArraySeries<>(boxed);
+    }
+}
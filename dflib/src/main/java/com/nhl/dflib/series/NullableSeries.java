@@ -0,0 +1,20 @@
+package com.nhl.dflib.series;
+
+/**
+ * A primitive Series that may contain nulls. Null positions are tracked in a compact bitmap with one bit per value
+ * (see {@link NullBitmap}). The primitive value stored at a null position is always zero (or "false"), so the
+ * primitive getters never fail, but the boxed "get" returns null.
+ *
+ * @since 0.12
+ */
+public interface NullableSeries {
+
+    /**
+     * Returns a bitmap with the bits set at null positions. The returned array is shared and must not be modified.
+     */
+    long[] getNullBitmap();
+
+    default boolean isNullAt(int index) {
+        return NullBitmap.isSet(getNullBitmap(), index);
+    }
+}
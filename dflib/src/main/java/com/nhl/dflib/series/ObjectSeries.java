@@ -156,6 +156,19 @@ public abstract class ObjectSeries<T> implements Series<T> {
             throw new IllegalArgumentException("Positions size " + ps + " is not the same as this size " + s);
         }
 
+        // a bitset can be converted to positions 64 values at a time
+        if (positions instanceof BooleanBitsetSeries) {
+            IntSeries index = positions.indexTrue();
+            int len = index.size();
+
+            ObjectAccumulator<T> data = new ObjectAccumulator<>(len);
+            for (int i = 0; i < len; i++) {
+                data.add(get(index.getInt(i)));
+            }
+
+            return data.toSeries();
+        }
+
         ObjectAccumulator<T> data = new ObjectAccumulator<>();
 
         for (int i = 0; i < size(); i++) {
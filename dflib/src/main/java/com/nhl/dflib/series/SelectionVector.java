@@ -0,0 +1,125 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Static utilities for the lazy row selection with {@link SelectionView} Series.
+ *
+ * @since 0.12
+ */
+public final class SelectionVector {
+
+    private SelectionVector() {
+    }
+
+    /**
+     * Returns a selection vector that is equivalent to selecting "select" positions from the Series selected with
+     * "positions". Returns null if "select" contains negative positions.
+     */
+    public static IntSeries compose(IntSeries positions, IntSeries select) {
+
+        int h = select.size();
+        int[] composed = new int[h];
+
+        for (int i = 0; i < h; i++) {
+            int p = select.getInt(i);
+            if (p < 0) {
+                return null;
+            }
+
+            composed[i] = positions.getInt(p);
+        }
+
+        return new IntArraySeries(composed);
+    }
+
+    /**
+     * Selects the same positions from each of the DataFrame columns without copying the data. Columns that are
+     * views of the same selection vector (e.g. after a previous row filter) share a single composed selection vector.
+     * Primitive columns with nulls and row positions with negative values (e.g. from an outer join) are selected
+     * eagerly.
+     */
+    public static Series<?>[] select(Series<?>[] columns, IntSeries positions) {
+
+        int w = columns.length;
+        Series<?>[] selected = new Series[w];
+
+        Map<IntSeries, IntSeries> composed = new IdentityHashMap<>();
+        int nonNegative = -1;
+
+        for (int i = 0; i < w; i++) {
+
+            Series<?> c = columns[i];
+
+            IntSeries sourcePositions = c instanceof SelectionView
+                    ? ((SelectionView<?>) c).getSourcePositions()
+                    : null;
+
+            if (sourcePositions != null) {
+                IntSeries cp = composed.computeIfAbsent(sourcePositions, sp -> compose(sp, positions));
+                if (cp != null) {
+                    selected[i] = ((SelectionView<?>) c).selectFromSource(cp);
+                }
+            } else if (isViewable(c)) {
+
+                if (nonNegative < 0) {
+                    nonNegative = isNonNegative(positions) ? 1 : 0;
+                }
+
+                if (nonNegative == 1) {
+                    selected[i] = view(c, positions);
+                }
+            }
+
+            if (selected[i] == null) {
+                selected[i] = c.select(positions);
+            }
+        }
+
+        return selected;
+    }
+
+    private static boolean isViewable(Series<?> s) {
+        boolean primitive = s instanceof IntSeries
+                || s instanceof LongSeries
+                || s instanceof DoubleSeries
+                || s instanceof BooleanSeries;
+
+        return primitive && NullBitmap.of(s) == null;
+    }
+
+    private static Series<?> view(Series<?> s, IntSeries positions) {
+
+        if (s instanceof IntSeries) {
+            return new IntIndexedSeries((IntSeries) s, positions);
+        }
+
+        if (s instanceof LongSeries) {
+            return new LongIndexedSeries((LongSeries) s, positions);
+        }
+
+        if (s instanceof DoubleSeries) {
+            return new DoubleIndexedSeries((DoubleSeries) s, positions);
+        }
+
+        return new BooleanIndexedSeries((BooleanSeries) s, positions);
+    }
+
+    private static boolean isNonNegative(IntSeries positions) {
+        int h = positions.size();
+        for (int i = 0; i < h; i++) {
+            if (positions.getInt(i) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
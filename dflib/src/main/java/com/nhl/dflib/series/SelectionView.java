@@ -0,0 +1,26 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+
+/**
+ * A Series that is a lazy "selection vector" view of another Series. Instead of copying the selected values, the view
+ * references the source Series and the selected source positions. Selecting from a view composes the positions, so a
+ * chain of row filters and sorts doesn't copy the data until it is materialized.
+ *
+ * @since 0.12
+ */
+public interface SelectionView<T> extends Series<T> {
+
+    /**
+     * Returns the positions of the source Series included in this view, or null if the view no longer references the
+     * source (e.g. after it was materialized).
+     */
+    IntSeries getSourcePositions();
+
+    /**
+     * Creates a view over the same source Series as this view, but with a different set of source positions. May
+     * return null if the view no longer references the source.
+     */
+    Series<T> selectFromSource(IntSeries sourcePositions);
+}
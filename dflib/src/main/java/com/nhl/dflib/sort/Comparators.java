@@ -4,6 +4,7 @@ import com.nhl.dflib.*;
 import com.nhl.dflib.Sorter;
 import com.nhl.dflib.row.DataFrameRowProxy;
 import com.nhl.dflib.row.RowProxy;
+import com.nhl.dflib.series.NullableSeries;
 
 import java.util.Comparator;
 
@@ -116,7 +117,12 @@ public final class Comparators {
     public static IntComparator of(Series<?> s, boolean ascending) {
 
         // TODO: create a map of strategies per series type?
-        if (s instanceof IntSeries) {
+        // primitive Series with nulls are compared as objects to keep the nulls last
+        if (s instanceof NullableSeries) {
+            return ascending
+                    ? (i1, i2) -> nullsLastCompare((Comparable) s.get(i1), (Comparable) s.get(i2))
+                    : (i1, i2) -> nullsLastCompare((Comparable) s.get(i2), (Comparable) s.get(i1));
+        } else if (s instanceof IntSeries) {
             return of((IntSeries) s, ascending);
         } else if (s instanceof DoubleSeries) {
             return of((DoubleSeries) s, ascending);
@@ -131,6 +137,39 @@ public final class Comparators {
                 : (i1, i2) -> nullsLastCompare((Comparable) s.get(i2), (Comparable) s.get(i1));
     }
 
+    /**
+     * Creates an ascending comparator of the values of two Series, that takes a position in the first Series as the
+     * first argument, and a position in the second Series as the second argument. Nulls are ordered last. Used to
+     * compare rows of two different DataFrames, e.g. in a sort-merge join.
+     *
+     * @since 0.12
+     */
+    public static IntComparator across(Series<?> s1, Series<?> s2) {
+
+        // primitive Series with nulls are compared as objects to keep the nulls last
+        if (s1 instanceof NullableSeries || s2 instanceof NullableSeries) {
+            return (i1, i2) -> nullsLastCompare((Comparable) s1.get(i1), (Comparable) s2.get(i2));
+        } else if (s1 instanceof IntSeries && s2 instanceof IntSeries) {
+            IntSeries is1 = (IntSeries) s1;
+            IntSeries is2 = (IntSeries) s2;
+            return (i1, i2) -> Integer.compare(is1.getInt(i1), is2.getInt(i2));
+        } else if (s1 instanceof LongSeries && s2 instanceof LongSeries) {
+            LongSeries ls1 = (LongSeries) s1;
+            LongSeries ls2 = (LongSeries) s2;
+            return (i1, i2) -> Long.compare(ls1.getLong(i1), ls2.getLong(i2));
+        } else if (s1 instanceof DoubleSeries && s2 instanceof DoubleSeries) {
+            DoubleSeries ds1 = (DoubleSeries) s1;
+            DoubleSeries ds2 = (DoubleSeries) s2;
+            return (i1, i2) -> Double.compare(ds1.getDouble(i1), ds2.getDouble(i2));
+        } else if (s1 instanceof BooleanSeries && s2 instanceof BooleanSeries) {
+            BooleanSeries bs1 = (BooleanSeries) s1;
+            BooleanSeries bs2 = (BooleanSeries) s2;
+            return (i1, i2) -> Boolean.compare(bs1.getBoolean(i1), bs2.getBoolean(i2));
+        }
+
+        return (i1, i2) -> nullsLastCompare((Comparable) s1.get(i1), (Comparable) s2.get(i2));
+    }
+
     /**
      * @deprecated since 0.12 as sorting by RowToValueMapper is redundant, and can be expressed as a Sorter.
      */
@@ -0,0 +1,408 @@
+package com.nhl.dflib.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * An "introselect" algorithm that reorders an array range just enough to put the values of the requested ranks into
+ * their sorted positions. Runs in O(N) time on average, falling back to sorting to guarantee O(N*log(N)) in the worst
+ * case. Multiple ranks are selected in a single pass of recursive partitioning.
+ *
+ * @since 0.12
+ */
+public class IntroSelect {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Reorders a range of the array, so that each of the "ranks" positions contains the same value as it would if the
+     * range was sorted. Values before each such position are less or equal to it, and the values after are greater or
+     * equal.
+     *
+     * @param data  an array to partially sort
+     * @param from  the start of the range, inclusive
+     * @param to    the end of the range, exclusive
+     * @param ranks absolute array positions within the range, sorted in ascending order
+     */
+    public static void select(int[] data, int from, int to, int[] ranks) {
+        select(data, from, to, ranks, 0, ranks.length, depthLimit(to - from));
+    }
+
+    private static void select(int[] data, int from, int to, int[] ranks, int rFrom, int rTo, int depth) {
+
+        while (rFrom < rTo) {
+
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(data, from, to);
+                return;
+            }
+
+            if (depth-- == 0) {
+                // too many unbalanced partitions. Sorting guarantees O(N*log(N)) for such inputs
+                Arrays.sort(data, from, to);
+                return;
+            }
+
+            // 3-way partitioning: [from, lt) < pivot, [lt, gt] == pivot, (gt, to) > pivot
+            int pivot = medianOf3(data[from], data[(from + to) >>> 1], data[to - 1]);
+            int lt = from;
+            int gt = to - 1;
+            int i = from;
+            while (i <= gt) {
+                int v = data[i];
+                if (v < pivot) {
+                    swap(data, lt++, i++);
+                } else if (v > pivot) {
+                    swap(data, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // the ranks within [lt, gt] are already in place
+            int leftTo = rFrom;
+            while (leftTo < rTo && ranks[leftTo] < lt) {
+                leftTo++;
+            }
+
+            int rightFrom = leftTo;
+            while (rightFrom < rTo && ranks[rightFrom] <= gt) {
+                rightFrom++;
+            }
+
+            if (rFrom < leftTo) {
+                select(data, from, lt, ranks, rFrom, leftTo, depth);
+            }
+
+            from = gt + 1;
+            rFrom = rightFrom;
+        }
+    }
+
+    private static int medianOf3(int a, int b, int c) {
+        return a < b
+                ? (b < c ? b : Math.max(a, c))
+                : (a < c ? a : Math.max(b, c));
+    }
+
+    private static void insertionSort(int[] data, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int v = data[i];
+            int j = i - 1;
+            while (j >= from && data[j] > v) {
+                data[j + 1] = data[j];
+                j--;
+            }
+
+            data[j + 1] = v;
+        }
+    }
+
+    private static void swap(int[] data, int i, int j) {
+        int v = data[i];
+        data[i] = data[j];
+        data[j] = v;
+    }
+
+    /**
+     * Reorders a range of the array, so that each of the "ranks" positions contains the same value as it would if the
+     * range was sorted. Values before each such position are less or equal to it, and the values after are greater or
+     * equal.
+     *
+     * @param data  an array to partially sort
+     * @param from  the start of the range, inclusive
+     * @param to    the end of the range, exclusive
+     * @param ranks absolute array positions within the range, sorted in ascending order
+     */
+    public static void select(long[] data, int from, int to, int[] ranks) {
+        select(data, from, to, ranks, 0, ranks.length, depthLimit(to - from));
+    }
+
+    private static void select(long[] data, int from, int to, int[] ranks, int rFrom, int rTo, int depth) {
+
+        while (rFrom < rTo) {
+
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(data, from, to);
+                return;
+            }
+
+            if (depth-- == 0) {
+                // too many unbalanced partitions. Sorting guarantees O(N*log(N)) for such inputs
+                Arrays.sort(data, from, to);
+                return;
+            }
+
+            // 3-way partitioning: [from, lt) < pivot, [lt, gt] == pivot, (gt, to) > pivot
+            long pivot = medianOf3(data[from], data[(from + to) >>> 1], data[to - 1]);
+            int lt = from;
+            int gt = to - 1;
+            int i = from;
+            while (i <= gt) {
+                long v = data[i];
+                if (v < pivot) {
+                    swap(data, lt++, i++);
+                } else if (v > pivot) {
+                    swap(data, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // the ranks within [lt, gt] are already in place
+            int leftTo = rFrom;
+            while (leftTo < rTo && ranks[leftTo] < lt) {
+                leftTo++;
+            }
+
+            int rightFrom = leftTo;
+            while (rightFrom < rTo && ranks[rightFrom] <= gt) {
+                rightFrom++;
+            }
+
+            if (rFrom < leftTo) {
+                select(data, from, lt, ranks, rFrom, leftTo, depth);
+            }
+
+            from = gt + 1;
+            rFrom = rightFrom;
+        }
+    }
+
+    private static long medianOf3(long a, long b, long c) {
+        return a < b
+                ? (b < c ? b : Math.max(a, c))
+                : (a < c ? a : Math.max(b, c));
+    }
+
+    private static void insertionSort(long[] data, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long v = data[i];
+            int j = i - 1;
+            while (j >= from && data[j] > v) {
+                data[j + 1] = data[j];
+                j--;
+            }
+
+            data[j + 1] = v;
+        }
+    }
+
+    private static void swap(long[] data, int i, int j) {
+        long v = data[i];
+        data[i] = data[j];
+        data[j] = v;
+    }
+
+    /**
+     * Reorders a range of the array, so that each of the "ranks" positions contains the same value as it would if the
+     * range was sorted. Values before each such position are less or equal to it, and the values after are greater or
+     * equal.
+     *
+     * @param data  an array to partially sort
+     * @param from  the start of the range, inclusive
+     * @param to    the end of the range, exclusive
+     * @param ranks absolute array positions within the range, sorted in ascending order
+     */
+    public static void select(double[] data, int from, int to, int[] ranks) {
+
+        // NaNs can't be partitioned with comparison operators. Moving them to the end of the range, which is where
+        // Arrays.sort(..) would put them
+        int end = to;
+        for (int i = to - 1; i >= from; i--) {
+            if (Double.isNaN(data[i])) {
+                swap(data, i, --end);
+            }
+        }
+
+        int rTo = ranks.length;
+        while (rTo > 0 && ranks[rTo - 1] >= end) {
+            rTo--;
+        }
+
+        select(data, from, end, ranks, 0, rTo, depthLimit(end - from));
+    }
+
+    private static void select(double[] data, int from, int to, int[] ranks, int rFrom, int rTo, int depth) {
+
+        while (rFrom < rTo) {
+
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(data, from, to);
+                return;
+            }
+
+            if (depth-- == 0) {
+                // too many unbalanced partitions. Sorting guarantees O(N*log(N)) for such inputs
+                Arrays.sort(data, from, to);
+                return;
+            }
+
+            // 3-way partitioning: [from, lt) < pivot, [lt, gt] == pivot, (gt, to) > pivot
+            double pivot = medianOf3(data[from], data[(from + to) >>> 1], data[to - 1]);
+            int lt = from;
+            int gt = to - 1;
+            int i = from;
+            while (i <= gt) {
+                double v = data[i];
+                if (v < pivot) {
+                    swap(data, lt++, i++);
+                } else if (v > pivot) {
+                    swap(data, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // the ranks within [lt, gt] are already in place
+            int leftTo = rFrom;
+            while (leftTo < rTo && ranks[leftTo] < lt) {
+                leftTo++;
+            }
+
+            int rightFrom = leftTo;
+            while (rightFrom < rTo && ranks[rightFrom] <= gt) {
+                rightFrom++;
+            }
+
+            if (rFrom < leftTo) {
+                select(data, from, lt, ranks, rFrom, leftTo, depth);
+            }
+
+            from = gt + 1;
+            rFrom = rightFrom;
+        }
+    }
+
+    private static double medianOf3(double a, double b, double c) {
+        return a < b
+                ? (b < c ? b : Math.max(a, c))
+                : (a < c ? a : Math.max(b, c));
+    }
+
+    private static void insertionSort(double[] data, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            double v = data[i];
+            int j = i - 1;
+            while (j >= from && data[j] > v) {
+                data[j + 1] = data[j];
+                j--;
+            }
+
+            data[j + 1] = v;
+        }
+    }
+
+    private static void swap(double[] data, int i, int j) {
+        double v = data[i];
+        data[i] = data[j];
+        data[j] = v;
+    }
+
+    /**
+     * Reorders a range of the array, so that each of the "ranks" positions contains the same value as it would if the
+     * range was sorted. Values before each such position are less or equal to it, and the values after are greater or
+     * equal.
+     *
+     * @param data       an array to partially sort
+     * @param from       the start of the range, inclusive
+     * @param to         the end of the range, exclusive
+     * @param ranks      absolute array positions within the range, sorted in ascending order
+     * @param comparator defines the ordering of the values
+     */
+    public static <T> void select(T[] data, int from, int to, int[] ranks, Comparator<? super T> comparator) {
+        select(data, from, to, ranks, 0, ranks.length, depthLimit(to - from), comparator);
+    }
+
+    private static <T> void select(
+            T[] data,
+            int from,
+            int to,
+            int[] ranks,
+            int rFrom,
+            int rTo,
+            int depth,
+            Comparator<? super T> comparator) {
+
+        while (rFrom < rTo) {
+
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(data, from, to, comparator);
+                return;
+            }
+
+            if (depth-- == 0) {
+                // too many unbalanced partitions. Sorting guarantees O(N*log(N)) for such inputs
+                Arrays.sort(data, from, to, comparator);
+                return;
+            }
+
+            // 3-way partitioning: [from, lt) < pivot, [lt, gt] == pivot, (gt, to) > pivot
+            T pivot = medianOf3(data[from], data[(from + to) >>> 1], data[to - 1], comparator);
+            int lt = from;
+            int gt = to - 1;
+            int i = from;
+            while (i <= gt) {
+                int c = comparator.compare(data[i], pivot);
+                if (c < 0) {
+                    swap(data, lt++, i++);
+                } else if (c > 0) {
+                    swap(data, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // the ranks within [lt, gt] are already in place
+            int leftTo = rFrom;
+            while (leftTo < rTo && ranks[leftTo] < lt) {
+                leftTo++;
+            }
+
+            int rightFrom = leftTo;
+            while (rightFrom < rTo && ranks[rightFrom] <= gt) {
+                rightFrom++;
+            }
+
+            if (rFrom < leftTo) {
+                select(data, from, lt, ranks, rFrom, leftTo, depth, comparator);
+            }
+
+            from = gt + 1;
+            rFrom = rightFrom;
+        }
+    }
+
+    private static <T> T medianOf3(T a, T b, T c, Comparator<? super T> comparator) {
+        return comparator.compare(a, b) < 0
+                ? (comparator.compare(b, c) < 0 ? b : max(a, c, comparator))
+                : (comparator.compare(a, c) < 0 ? a : max(b, c, comparator));
+    }
+
+    private static <T> T max(T a, T b, Comparator<? super T> comparator) {
+        return comparator.compare(a, b) >= 0 ? a : b;
+    }
+
+    private static <T> void insertionSort(T[] data, int from, int to, Comparator<? super T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            T v = data[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(data[j], v) > 0) {
+                data[j + 1] = data[j];
+                j--;
+            }
+
+            data[j + 1] = v;
+        }
+    }
+
+    private static void swap(Object[] data, int i, int j) {
+        Object v = data[i];
+        data[i] = data[j];
+        data[j] = v;
+    }
+
+    private static int depthLimit(int len) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(len));
+    }
+}
@@ -31,7 +31,7 @@ public class BooleanSeries_SelectTest {
     public void testPositional_Nulls() {
         Series<Boolean> s = BooleanSeries.forBooleans(true, false, true).select(2, 1, -1);
         new SeriesAsserts(s).expectData(true, false, null);
-        assertFalse(s instanceof BooleanSeries);
+        assertTrue(s instanceof BooleanSeries);
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.nhl.dflib;
 
 import com.nhl.dflib.join.JoinIndicator;
 import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
 import java.util.Objects;
@@ -382,6 +383,80 @@ public class DataFrame_JoinsTest {
                 .expectRow(0, 2, "a", 2, "a");
     }
 
+    @Test
+    public void testHash_MultiColumnHash_Primitive() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b", "x").columns(
+                IntSeries.forInts(1, 2, 2, 3),
+                LongSeries.forLongs(10L, 20L, 21L, 30L),
+                Series.forData("x1", "x2", "x3", "x4"));
+
+        DataFrame df2 = DataFrame.newFrame("c", "d", "y").columns(
+                IntSeries.forInts(2, 2, 3, 1),
+                Series.forData(21L, 20L, 31L, 10L),
+                Series.forData("y1", "y2", "y3", "y4"));
+
+        DataFrame df = df1.leftJoin()
+                .on("a", "c")
+                .on("b", "d")
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "x", "c", "d", "y")
+                .expectHeight(4)
+                .expectRow(0, 1, 10L, "x1", 1, 10L, "y4")
+                .expectRow(1, 2, 20L, "x2", 2, 20L, "y2")
+                .expectRow(2, 2, 21L, "x3", 2, 21L, "y1")
+                .expectRow(3, 3, 30L, "x4", null, null, null);
+    }
+
+    @Test
+    public void testHash_MultiColumnHash_Nulls() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                null, "x",
+                2, null,
+                null, null);
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                2, null,
+                null, "x",
+                null, "y");
+
+        // unlike single-column keys, multi-column keys with nulls are matched to each other
+        DataFrame df = df1.fullJoin()
+                .on("a", "c")
+                .on("b", "d")
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(4)
+                .expectRow(0, null, "x", null, "x")
+                .expectRow(1, 2, null, 2, null)
+                .expectRow(2, null, null, null, null)
+                .expectRow(3, null, null, null, "y");
+    }
+
+    @Test
+    public void testHash_SingleColumn_Nulls() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                null, "x",
+                2, "y");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                2, "a",
+                null, "b");
+
+        DataFrame df = df1.leftJoin()
+                .on("a", "c")
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(2)
+                .expectRow(0, null, "x", null, null)
+                .expectRow(1, 2, "y", 2, "a");
+    }
+
     @Test
     public void testHash_Indicator() {
 
@@ -406,4 +481,36 @@ public class DataFrame_JoinsTest {
                 .expectRow(2, 2, "y", 2, "b", JoinIndicator.both)
                 .expectRow(3, null, null, 3, "c", JoinIndicator.right_only);
     }
+
+    @Test
+    public void testHash_Left_PrimitiveNulls() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 2, 3),
+                Series.forData("x", "y", "z"));
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").columns(
+                IntSeries.forInts(2, 3),
+                LongSeries.forLongs(20L, 30L));
+
+        DataFrame df = df1.leftJoin().on("a", "c").with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(3)
+                .expectIntColumns("a", "c")
+                .expectLongColumns("d")
+                .expectRow(0, 1, "x", null, null)
+                .expectRow(1, 2, "y", 2, 20L)
+                .expectRow(2, 3, "z", 3, 30L);
+
+        // nulls must propagate through the primitive expressions, and be ignored by the aggregators
+        new SeriesAsserts(Exp.$int("c").mul(Exp.$int("a")).eval(df)).expectData(null, 4, 9);
+        new SeriesAsserts(Exp.$int("a").div(Exp.$int("c")).eval(df)).expectData(null, 1, 1);
+        new SeriesAsserts(Exp.$long("d").gt(25L).eval(df)).expectData(false, false, true);
+
+        DataFrame agg = df.agg(Exp.$int("c").sum(), Exp.$long("d").min(), Exp.$int("c").avg());
+        new DataFrameAsserts(agg, "sum(c)", "min(d)", "avg(c)")
+                .expectHeight(1)
+                .expectRow(0, 5, 20L, 2.5);
+    }
 }
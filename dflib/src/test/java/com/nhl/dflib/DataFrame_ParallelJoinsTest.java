@@ -0,0 +1,105 @@
+package com.nhl.dflib;
+
+import com.nhl.dflib.join.JoinBuilder;
+import com.nhl.dflib.join.JoinIndicator;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DataFrame_ParallelJoinsTest {
+
+    private static DataFrame randomFrame(Random random, int h, int keyRange, String... labels) {
+
+        int[] k1 = new int[h];
+        Object[] k2 = new Object[h];
+        Object[] v = new Object[h];
+
+        for (int i = 0; i < h; i++) {
+            k1[i] = random.nextInt(keyRange);
+            k2[i] = random.nextInt(5) == 0 ? null : "s" + random.nextInt(3);
+            v[i] = "v" + i;
+        }
+
+        return DataFrame.newFrame(labels).columns(IntSeries.forInts(k1), Series.forData(k2), Series.forData(v));
+    }
+
+    private static void assertSameFrames(DataFrame expected, DataFrame actual) {
+        assertEquals(expected.getColumnsIndex(), actual.getColumnsIndex());
+        assertEquals(expected.height(), actual.height());
+
+        int w = expected.width();
+        for (int i = 0; i < w; i++) {
+            assertEquals(expected.getColumn(i).toList(), actual.getColumn(i).toList(), "Column " + i);
+        }
+    }
+
+    @Test
+    public void testSameAsSerial() {
+
+        Random random = new Random(5);
+        DataFrame df1 = randomFrame(random, 5_000, 1_500, "a", "b", "c");
+        DataFrame df2 = randomFrame(random, 3_000, 2_000, "x", "y", "z");
+        ForkJoinPool pool = new ForkJoinPool(3);
+
+        try {
+            for (JoinType type : JoinType.values()) {
+
+                DataFrame serial = new JoinBuilder(df1).type(type).on("a", "x").indicatorColumn("i").with(df2);
+                DataFrame parallel = new JoinBuilder(df1).type(type).on("a", "x").indicatorColumn("i").parallel(pool).with(df2);
+                assertSameFrames(serial, parallel);
+
+                DataFrame serialMulti = new JoinBuilder(df1).type(type).on("a", "x").on("b", "y").with(df2);
+                DataFrame parallelMulti = new JoinBuilder(df1).type(type).on("a", "x").on("b", "y").parallel(pool).with(df2);
+                assertSameFrames(serialMulti, parallelMulti);
+
+                DataFrame serialNullable = new JoinBuilder(df1).type(type).on("b", "y").with(df2);
+                DataFrame parallelNullable = new JoinBuilder(df1).type(type).on("b", "y").parallel(pool).with(df2);
+                assertSameFrames(serialNullable, parallelNullable);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFull() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                2, "a",
+                2, "b",
+                3, "c");
+
+        DataFrame df = df1.fullJoin()
+                .on(0)
+                .indicatorColumn("ind")
+                .parallel()
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d", "ind")
+                .expectHeight(4)
+                .expectRow(0, 1, "x", null, null, JoinIndicator.left_only)
+                .expectRow(1, 2, "y", 2, "a", JoinIndicator.both)
+                .expectRow(2, 2, "y", 2, "b", JoinIndicator.both)
+                .expectRow(3, null, null, 3, "c", JoinIndicator.right_only);
+    }
+
+    @Test
+    public void testEmpty() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").empty();
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                2, "a",
+                3, "c");
+
+        new DataFrameAsserts(df1.leftJoin().on(0).parallel().with(df2), "a", "b", "c", "d").expectHeight(0);
+        new DataFrameAsserts(df1.rightJoin().on(0).parallel().with(df2), "a", "b", "c", "d").expectHeight(2);
+    }
+}
@@ -2,11 +2,11 @@ package com.nhl.dflib;
 
 import com.nhl.dflib.pivot.PivotBuilder;
 import com.nhl.dflib.unit.DataFrameAsserts;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DataFrame_PivotTest {
 
@@ -57,8 +57,6 @@ public class DataFrame_PivotTest {
     }
 
     @Test
-    // "TODO: allow nulls as group by keys"
-    @Disabled("TODO: allow nulls as group by keys")
     @DisplayName("Rows with null values in row columns should be included")
     public void testWithAggregation_NullsInPivotRows() {
 
@@ -125,4 +123,56 @@ public class DataFrame_PivotTest {
         PivotBuilder pb = df1.pivot().columns("b").rows("a");
         assertThrows(IllegalArgumentException.class, () -> pb.values("c"));
     }
+
+    @Test
+    public void testWithAggregation_RowOrder() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b", "c").foldByRow(
+                2, "y", 1,
+                1, "x", 2,
+                3, "y", 3,
+                1, "x", 4);
+
+        DataFrame df = df1.pivot().columns("b").rows("a").values("c", Exp.$int(0).sum());
+
+        new DataFrameAsserts(df, "a", "y", "x")
+                .expectHeight(3)
+                .expectRow(0, 2, 1, null)
+                .expectRow(1, 1, null, 6)
+                .expectRow(2, 3, 3, null);
+    }
+
+    @Test
+    public void testWithAggregation_PrimitiveValues() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b", "c").columns(
+                Series.forData(1, 2, 1, 2),
+                Series.forData("x", "x", "y", "x"),
+                DoubleSeries.forDoubles(1.5, 2.5, 3.5, 4.5));
+
+        DataFrame df = df1.pivot().columns("b").rows("a").values("c", Exp.$double("any").sum());
+        assertTrue(df.<Double>getColumn("x") instanceof DoubleSeries);
+        assertTrue(df.<Double>getColumn("y") instanceof DoubleSeries);
+
+        new DataFrameAsserts(df, "a", "x", "y")
+                .expectHeight(2)
+                .expectRow(0, 1, 1.5, 3.5)
+                .expectRow(1, 2, 7.0, null);
+    }
+
+    @Test
+    public void testWithAggregation_CustomAggregator() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b", "c").foldByRow(
+                1, "x", "p",
+                1, "x", "q",
+                2, "y", "r");
+
+        DataFrame df = df1.pivot().columns("b").rows("a").values("c", Exp.$str(0).vConcat("|"));
+
+        new DataFrameAsserts(df, "a", "x", "y")
+                .expectHeight(2)
+                .expectRow(0, 1, "p|q", null)
+                .expectRow(1, 2, null, "r");
+    }
 }
@@ -24,9 +24,9 @@ public class DataFrame_SampleTest {
 
         new DataFrameAsserts(df, "a", "b")
                 .expectHeight(3)
-                .expectRow(0, 5, "a")
-                .expectRow(1, 1, "x")
-                .expectRow(2, 2, "y");
+                .expectRow(0, -1, "x")
+                .expectRow(1, -100, "m")
+                .expectRow(2, 1, "x");
     }
 
     @Test
@@ -40,9 +40,29 @@ public class DataFrame_SampleTest {
                 // using fixed seed to get reproducible result
                 .sampleColumns(2, new Random(11));
 
-        new DataFrameAsserts(df, "b", "a")
+        new DataFrameAsserts(df, "c", "d")
                 .expectHeight(2)
-                .expectRow(0, "x", 1)
-                .expectRow(1, "y", 2);
+                .expectRow(0, "m", "z")
+                .expectRow(1, "x", "E");
+    }
+
+    @Test
+    public void testSampleRows_Weighted() {
+
+        DataFrame df = DataFrame
+                .newFrame("a", "b")
+                .foldByRow(
+                        1, "x",
+                        0, "y",
+                        5, "z",
+                        0, "a",
+                        2, "x")
+                // using fixed seed to get reproducible result
+                .sampleRows(2, Exp.$int("a"), new Random(3));
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 5, "z")
+                .expectRow(1, 2, "x");
     }
 }
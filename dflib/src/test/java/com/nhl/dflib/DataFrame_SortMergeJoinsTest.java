@@ -0,0 +1,302 @@
+package com.nhl.dflib;
+
+import com.nhl.dflib.join.JoinBuilder;
+import com.nhl.dflib.join.JoinIndicator;
+import com.nhl.dflib.join.RangeCondition;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DataFrame_SortMergeJoinsTest {
+
+    private static List<String> sortedRows(DataFrame df) {
+        List<String> rows = new ArrayList<>(df.height());
+        df.forEach(r -> {
+            StringBuilder b = new StringBuilder();
+            for (int i = 0; i < df.width(); i++) {
+                b.append(r.get(i)).append("|");
+            }
+            rows.add(b.toString());
+        });
+
+        rows.sort(null);
+        return rows;
+    }
+
+    @Test
+    public void testInner() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                2, "y",
+                1, "x",
+                2, "z");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                3, "c",
+                2, "a",
+                2, "b");
+
+        DataFrame df = df1.innerJoin()
+                .on("a", "c")
+                .sortMerge()
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(4)
+                .expectRow(0, 2, "y", 2, "a")
+                .expectRow(1, 2, "y", 2, "b")
+                .expectRow(2, 2, "z", 2, "a")
+                .expectRow(3, 2, "z", 2, "b");
+    }
+
+    @Test
+    public void testInner_DifferentKeyTypes() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(1, "x", 2, "y");
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(1L, "a", 2L, "b");
+
+        JoinBuilder join = df1.innerJoin().on("a", "c").sortMerge();
+        assertThrows(IllegalArgumentException.class, () -> join.with(df2));
+    }
+
+    @Test
+    public void testInner_BigDecimalScale() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                new BigDecimal("1.0"), "x",
+                new BigDecimal("2.0"), "y");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                new BigDecimal("1.00"), "a",
+                new BigDecimal("2.0"), "b");
+
+        // must match the same rows as the hash join, i.e. according to BigDecimal.equals(..)
+        DataFrame hash = df1.innerJoin().on("a", "c").with(df2);
+        DataFrame sortMerge = df1.innerJoin().on("a", "c").sortMerge().with(df2);
+
+        assertEquals(sortedRows(hash), sortedRows(sortMerge));
+        new DataFrameAsserts(sortMerge, "a", "b", "c", "d")
+                .expectHeight(1)
+                .expectRow(0, new BigDecimal("2.0"), "y", new BigDecimal("2.0"), "b");
+    }
+
+    @Test
+    public void testFull_Indicator() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                null, "n");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                2, "a",
+                2, "b",
+                3, "c");
+
+        DataFrame df = df1.fullJoin()
+                .on(0)
+                .indicatorColumn("ind")
+                .sortMerge()
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d", "ind")
+                .expectHeight(5)
+                .expectRow(0, 1, "x", null, null, JoinIndicator.left_only)
+                .expectRow(1, 2, "y", 2, "a", JoinIndicator.both)
+                .expectRow(2, 2, "y", 2, "b", JoinIndicator.both)
+                .expectRow(3, null, null, 3, "c", JoinIndicator.right_only)
+                .expectRow(4, null, "n", null, null, JoinIndicator.left_only);
+    }
+
+    @Test
+    public void testRight_MultiColumn() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 2, 2),
+                Series.forData("x", "y", "z"));
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").columns(
+                IntSeries.forInts(2, 2, 1),
+                Series.forData("z", "a", "x"));
+
+        DataFrame df = df1.rightJoin()
+                .on("a", "c")
+                .on("b", "d")
+                .sortMerge()
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(3)
+                .expectRow(0, 1, "x", 1, "x")
+                .expectRow(1, null, null, 2, "a")
+                .expectRow(2, 2, "z", 2, "z");
+    }
+
+    @Test
+    public void testPresorted() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").columns(
+                LongSeries.forLongs(1L, 2L, 2L, 5L),
+                Series.forData("x", "y", "z", "w"));
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").columns(
+                LongSeries.forLongs(2L, 3L, 5L),
+                Series.forData("a", "b", "c"));
+
+        DataFrame df = df1.leftJoin()
+                .on("a", "c")
+                .presorted()
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(4)
+                .expectRow(0, 1L, "x", null, null)
+                .expectRow(1, 2L, "y", 2L, "a")
+                .expectRow(2, 2L, "z", 2L, "a")
+                .expectRow(3, 5L, "w", 5L, "c");
+    }
+
+    @Test
+    public void testPresorted_Unsorted() {
+
+        DataFrame df1 = DataFrame.newFrame("a").columns(IntSeries.forInts(1, 3, 2));
+        DataFrame df2 = DataFrame.newFrame("c").columns(IntSeries.forInts(1, 2, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> df1.innerJoin().on("a", "c").presorted().with(df2));
+    }
+
+    @Test
+    public void testCustomHashers() {
+
+        DataFrame df1 = DataFrame.newFrame("a").columns(IntSeries.forInts(1, 3, 2));
+        DataFrame df2 = DataFrame.newFrame("c").columns(IntSeries.forInts(1, 2, 3));
+
+        assertThrows(IllegalStateException.class, () -> df1
+                .innerJoin()
+                .on(r -> r.get(0))
+                .sortMerge()
+                .with(df2));
+    }
+
+    @Test
+    public void testRange_Inner_Lt() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                3, "x",
+                1, "y",
+                5, "z");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                4, "a",
+                2, "b",
+                3, "c",
+                null, "n");
+
+        DataFrame df = df1.innerJoin()
+                .onRange("a", RangeCondition.lt, "c")
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(4)
+                .expectRow(0, 3, "x", 4, "a")
+                .expectRow(1, 1, "y", 2, "b")
+                .expectRow(2, 1, "y", 3, "c")
+                .expectRow(3, 1, "y", 4, "a");
+    }
+
+    @Test
+    public void testRange_Right_Ge() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                3, "x",
+                1, "y");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                4, "a",
+                1, "b",
+                3, "c");
+
+        DataFrame df = df1.rightJoin()
+                .onRange(0, RangeCondition.ge, 0)
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(4)
+                .expectRow(0, null, null, 4, "a")
+                .expectRow(1, 1, "y", 1, "b")
+                .expectRow(2, 3, "x", 1, "b")
+                .expectRow(3, 3, "x", 3, "c");
+    }
+
+    @Test
+    public void testSameAsHashJoin() {
+
+        Random random = new Random(3);
+        int h1 = 2_000;
+        int h2 = 1_500;
+
+        Object[] a = new Object[h1];
+        int[] b = new int[h1];
+        for (int i = 0; i < h1; i++) {
+            a[i] = random.nextInt(10) == 0 ? null : "s" + random.nextInt(100);
+            b[i] = random.nextInt(20);
+        }
+
+        Object[] c = new Object[h2];
+        int[] d = new int[h2];
+        for (int i = 0; i < h2; i++) {
+            c[i] = random.nextInt(10) == 0 ? null : "s" + random.nextInt(100);
+            d[i] = random.nextInt(20);
+        }
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").columns(Series.forData(a), IntSeries.forInts(b));
+        DataFrame df2 = DataFrame.newFrame("c", "d").columns(Series.forData(c), IntSeries.forInts(d));
+
+        for (JoinType type : JoinType.values()) {
+
+            // single column keys. Skipping the full join, as the hash join excludes the right rows with null keys
+            if (type != JoinType.full) {
+                assertEquals(
+                        sortedRows(new JoinBuilder(df1).type(type).on("a", "c").indicatorColumn("i").with(df2)),
+                        sortedRows(new JoinBuilder(df1).type(type).on("a", "c").indicatorColumn("i").sortMerge().with(df2)),
+                        type.name());
+            }
+
+            // multi-column keys
+            assertEquals(
+                    sortedRows(new JoinBuilder(df1).type(type).on("a", "c").on("b", "d").with(df2)),
+                    sortedRows(new JoinBuilder(df1).type(type).on("a", "c").on("b", "d").sortMerge().with(df2)),
+                    type.name());
+
+            // ranges
+            for (RangeCondition condition : RangeCondition.values()) {
+                assertEquals(
+                        sortedRows(new JoinBuilder(df1).type(type).predicatedBy((lr, rr) -> compare((Integer) lr.get(1), condition, (Integer) rr.get(1))).with(df2)),
+                        sortedRows(new JoinBuilder(df1).type(type).onRange("b", condition, "d").with(df2)),
+                        type.name() + ":" + condition);
+            }
+        }
+    }
+
+    private static boolean compare(int l, RangeCondition condition, int r) {
+        switch (condition) {
+            case lt:
+                return l < r;
+            case le:
+                return l <= r;
+            case gt:
+                return l > r;
+            case ge:
+                return l >= r;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.nhl.dflib;
 
+import com.nhl.dflib.concat.VConcat;
+import com.nhl.dflib.series.LongConcatSeries;
 import com.nhl.dflib.unit.DataFrameAsserts;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class DataFrame_VConcat_Test {
 
     @Test
@@ -149,4 +153,67 @@ public class DataFrame_VConcat_Test {
                 .expectRow(3, null, 40, 30);
     }
 
+    @Test
+    public void testVConcat_PrimitiveColumns() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b", "c").columns(
+                IntSeries.forInts(1, 2),
+                DoubleSeries.forDoubles(1.5, 2.5),
+                Series.forData("x", "y"));
+
+        DataFrame df2 = DataFrame.newFrame("a", "b", "c").columns(
+                IntSeries.forInts(3),
+                DoubleSeries.forDoubles(3.5),
+                Series.forData("z"));
+
+        DataFrame df = df1.vConcat(df2);
+        assertTrue(df.<Integer>getColumn("a") instanceof IntSeries);
+        assertTrue(df.<Double>getColumn("b") instanceof DoubleSeries);
+
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(3)
+                .expectRow(0, 1, 1.5, "x")
+                .expectRow(1, 2, 2.5, "y")
+                .expectRow(2, 3, 3.5, "z");
+    }
+
+    @Test
+    public void testVConcat_PrimitiveColumns_Full() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 2),
+                IntSeries.forInts(3, 4));
+
+        DataFrame df2 = DataFrame.newFrame("b").columns(IntSeries.forInts(5));
+
+        DataFrame df = df1.vConcat(JoinType.full, df2);
+        assertTrue(df.<Integer>getColumn("b") instanceof IntSeries);
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, 3)
+                .expectRow(1, 2, 4)
+                .expectRow(2, null, 5);
+    }
+
+    @Test
+    public void testConcatView() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").columns(
+                LongSeries.forLongs(1L, 2L),
+                Series.forData("x", "y"));
+
+        DataFrame df2 = DataFrame.newFrame("a", "b").columns(
+                LongSeries.forLongs(3L),
+                Series.forData("z"));
+
+        DataFrame df = VConcat.concatView(JoinType.inner, df1, df2);
+        assertTrue(df.<Long>getColumn("a") instanceof LongConcatSeries);
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1L, "x")
+                .expectRow(1, 2L, "y")
+                .expectRow(2, 3L, "z");
+    }
 }
@@ -31,7 +31,7 @@ public class DoubleSeries_SelectTest {
     public void testNulls() {
         Series<Double> s = DoubleSeries.forDoubles(3, 4, 2).select(2, 1, -1);
         new SeriesAsserts(s).expectData(2., 4., null);
-        assertFalse(s instanceof DoubleSeries);
+        assertTrue(s instanceof DoubleSeries);
     }
 
     @Test
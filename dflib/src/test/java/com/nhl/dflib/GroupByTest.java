@@ -1,15 +1,20 @@
 package com.nhl.dflib;
 
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.map.CombinationHash;
 import com.nhl.dflib.unit.DataFrameAsserts;
 import com.nhl.dflib.unit.IntSeriesAsserts;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Random;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GroupByTest {
 
@@ -80,6 +85,218 @@ public class GroupByTest {
                 .expectRow(0, 2, "y");
     }
 
+    @Test
+    public void testGroup_IntColumn() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 2, 1, 0, 1),
+                Series.forData("x", "y", "z", "a", "x"));
+
+        GroupBy gb = df.group("a");
+        assertEquals(3, gb.size());
+        assertEquals(asList(1, 2, 0), new ArrayList<>(gb.getGroups()));
+
+        new IntSeriesAsserts(gb.getGroupIndex(1)).expectData(0, 2, 4);
+        new IntSeriesAsserts(gb.getGroupIndex(2)).expectData(1);
+        new IntSeriesAsserts(gb.getGroupIndex(0)).expectData(3);
+
+        new DataFrameAsserts(gb.getGroup(1), "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 1, "z")
+                .expectRow(2, 1, "x");
+    }
+
+    @Test
+    public void testGroup_IntColumn_Nulls() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 0, 1).select(0, -1, 1, 2),
+                Series.forData("x", "y", "z", "a"));
+
+        GroupBy gb = df.group("a");
+        assertEquals(2, gb.size());
+        assertEquals(asList(1, 0), new ArrayList<>(gb.getGroups()));
+
+        new IntSeriesAsserts(gb.getGroupIndex(1)).expectData(0, 3);
+        new IntSeriesAsserts(gb.getGroupIndex(0)).expectData(2);
+    }
+
+    @Test
+    public void testGroup_IntColumn_ManyGroups() {
+
+        int h = 10_000;
+        int[] keys = new int[h];
+        for (int i = 0; i < h; i++) {
+            // spread the keys to exercise hash table growth and collisions
+            keys[i] = (i % 3_000) * 1024 - 1_000_000;
+        }
+
+        DataFrame df = DataFrame.newFrame("a").columns(IntSeries.forInts(keys));
+
+        GroupBy gb = df.group(0);
+        assertEquals(3_000, gb.size());
+
+        int i = 0;
+        for (Object key : gb.getGroups()) {
+            assertEquals(keys[i++], key);
+        }
+
+        new IntSeriesAsserts(gb.getGroupIndex(keys[2_999])).expectData(2_999, 5_999, 8_999);
+        new IntSeriesAsserts(gb.getGroupIndex(keys[0])).expectData(0, 3_000, 6_000, 9_000);
+    }
+
+    @Test
+    public void testGroup_LongColumn() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                LongSeries.forLongs(Long.MAX_VALUE, 2L, Long.MAX_VALUE, -1L, Long.MAX_VALUE),
+                Series.forData("x", "y", "z", "a", "x"));
+
+        GroupBy gb = df.group("a");
+        assertEquals(3, gb.size());
+        assertEquals(asList(Long.MAX_VALUE, 2L, -1L), new ArrayList<>(gb.getGroups()));
+
+        new IntSeriesAsserts(gb.getGroupIndex(Long.MAX_VALUE)).expectData(0, 2, 4);
+        new IntSeriesAsserts(gb.getGroupIndex(2L)).expectData(1);
+        new IntSeriesAsserts(gb.getGroupIndex(-1L)).expectData(3);
+    }
+
+    @Test
+    public void testGroup_IntColumn_Agg() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 2, 1, 0, 1),
+                Series.forData("x", "y", "z", "a", "x"));
+
+        DataFrame agg = df.group("a").agg(Exp.$int("a").first(), Exp.$str("b").vConcat(";"));
+
+        new DataFrameAsserts(agg, "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, "x;z;x")
+                .expectRow(1, 2, "y")
+                .expectRow(2, 0, "a");
+    }
+
+    @Test
+    public void testGroup_Agg_PrimitiveColumns() {
+        DataFrame df = DataFrame.newFrame("a", "b", "c", "d").columns(
+                Series.forData("x", "y", "x", "z", "x"),
+                IntSeries.forInts(1, 2, 3, 4, 5),
+                LongSeries.forLongs(10L, 20L, 30L, 40L, 50L),
+                DoubleSeries.forDoubles(1.5, 2.5, 3.5, 4.5, 5.5));
+
+        DataFrame agg = df.group("a").agg(
+                Exp.$col("a").first(),
+                Exp.$int("b").sum(),
+                Exp.$int("b").min(),
+                Exp.$long("c").max(),
+                Exp.$long("c").avg(),
+                Exp.$double("d").sum(),
+                Exp.$double("d").first(),
+                Exp.count());
+
+        new DataFrameAsserts(agg, "a", "sum(b)", "min(b)", "max(c)", "avg(c)", "sum(d)", "d", "count")
+                .expectHeight(3)
+                .expectRow(0, "x", 9, 1, 50L, 30., 10.5, 1.5, 3)
+                .expectRow(1, "y", 2, 2, 20L, 20., 2.5, 2.5, 1)
+                .expectRow(2, "z", 4, 4, 40L, 40., 4.5, 4.5, 1);
+
+        Series<?> sumB = agg.getColumn("sum(b)");
+        Series<?> maxC = agg.getColumn("max(c)");
+        Series<?> firstD = agg.getColumn("d");
+
+        assertTrue(sumB instanceof IntSeries);
+        assertTrue(maxC instanceof LongSeries);
+        assertTrue(firstD instanceof DoubleSeries);
+    }
+
+    @Test
+    public void testGroup_Agg_PrimitiveColumns_Nulls() {
+        IntAccumulator b = new IntAccumulator();
+        b.addInt(1);
+        b.addNull();
+        b.addInt(3);
+        b.addNull();
+
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                Series.forData("x", "x", "y", "z"),
+                b.toSeries());
+
+        DataFrame agg = df.group("a").agg(
+                Exp.$col("a").first(),
+                Exp.$int("b").sum(),
+                Exp.$int("b").max(),
+                Exp.$int("b").avg(),
+                Exp.$int("b").first());
+
+        new DataFrameAsserts(agg, "a", "sum(b)", "max(b)", "avg(b)", "b")
+                .expectHeight(3)
+                .expectRow(0, "x", 1, 1, 1., 1)
+                .expectRow(1, "y", 3, 3, 3., 3)
+                .expectRow(2, "z", 0, 0, 0., null);
+    }
+
+    @Test
+    public void testGroup_Agg_Sorted() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                Series.forData("x", "y", "x", "x"),
+                IntSeries.forInts(2, 5, 1, 3));
+
+        // sorted groups can not be aggregated in the row order, "first" must respect the sorting
+        DataFrame agg = df.group("a").sort("b", true).agg(
+                Exp.$col("a").first(),
+                Exp.$int("b").first(),
+                Exp.$int("b").sum());
+
+        new DataFrameAsserts(agg, "a", "b", "sum(b)")
+                .expectHeight(2)
+                .expectRow(0, "x", 1, 6)
+                .expectRow(1, "y", 5, 5);
+    }
+
+    @Test
+    public void testGroup_MultiColumn() {
+        DataFrame df = DataFrame.newFrame("a", "b", "c").columns(
+                IntSeries.forInts(1, 2, 1, 1, 2),
+                Series.forData("x", "y", "x", null, "y"),
+                DoubleSeries.forDoubles(1., 2., 3., 4., 5.));
+
+        GroupBy gb = df.group("a", "b");
+        assertEquals(3, gb.size());
+        assertEquals(asList(
+                new CombinationHash(1, "x"),
+                new CombinationHash(2, "y"),
+                new CombinationHash(1, null)), new ArrayList<>(gb.getGroups()));
+
+        new IntSeriesAsserts(gb.getGroupIndex(new CombinationHash(1, "x"))).expectData(0, 2);
+        new IntSeriesAsserts(gb.getGroupIndex(new CombinationHash(2, "y"))).expectData(1, 4);
+        new IntSeriesAsserts(gb.getGroupIndex(new CombinationHash(1, null))).expectData(3);
+
+        DataFrame agg = gb.agg(Exp.$int("a").first(), Exp.$col("b").first(), Exp.$double("c").sum());
+        new DataFrameAsserts(agg, "a", "b", "sum(c)")
+                .expectHeight(3)
+                .expectRow(0, 1, "x", 4.)
+                .expectRow(1, 2, "y", 7.)
+                .expectRow(2, 1, null, 4.);
+    }
+
+    @Test
+    public void testGroup_MultiColumn_SameAsHasher() {
+        DataFrame df = DataFrame.newFrame("a", "b", "c").foldByRow(
+                1, "x", 5L,
+                2, "y", 6L,
+                1, "x", 5L,
+                1, "x", 6L);
+
+        GroupBy gb1 = df.group(0, 1, 2);
+
+        // a lambda Hasher is not column-based and should go through the row-by-row grouping
+        Hasher h = Hasher.forColumn(0).and(1).and(r -> r.get(2));
+        GroupBy gb2 = df.group(h);
+
+        assertEquals(new ArrayList<>(gb2.getGroups()), new ArrayList<>(gb1.getGroups()));
+        for (Object key : gb1.getGroups()) {
+            assertEquals(gb2.getGroupIndex(key).toList(), gb1.getGroupIndex(key).toList());
+        }
+    }
+
     @Test
     public void testGroup_Agg() {
         DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
@@ -194,6 +411,28 @@ public class GroupByTest {
                 .expectRow(3, 0, "a");
     }
 
+    @Test
+    public void testGroup_Sample_toDataFrame() {
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "y",
+                0, "a",
+                1, "z");
+
+        DataFrame df2 = df1.group("a")
+                // using fixed seed to get reproducible result
+                .sample(2, new Random(5))
+                .toDataFrame();
+
+        new DataFrameAsserts(df2, "a", "b")
+                .expectHeight(4)
+                .expectRow(0, 1, "z")
+                .expectRow(1, 1, "y")
+                .expectRow(2, 2, "y")
+                .expectRow(3, 0, "a");
+    }
+
     @Test
     public void testGroup_Tail_toDataFrame() {
         DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
@@ -246,6 +485,48 @@ public class GroupByTest {
                 .expectRow(2, "a", 0L, 0.);
     }
 
+    @Test
+    public void testGroup_Agg_Quantiles() {
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                5, "x",
+                0, "a",
+                3, "x",
+                4, "y",
+                null, "a");
+
+        DataFrame df = df1.group("b").agg(
+                Exp.$col("b").first(),
+                Exp.$int("a").median().as("median"),
+                Exp.$int("a").quantile(0.25).as("q25"),
+                Exp.$int("a").quantiles(0.25, 0.75).as("q"));
+
+        new DataFrameAsserts(df, "b", "median", "q25", "q")
+                .expectHeight(3)
+                .expectRow(0, "x", 3., 2., asList(2., 4.))
+                .expectRow(1, "y", 3., 2.5, asList(2.5, 3.5))
+                .expectRow(2, "a", 0., 0., asList(0., 0.));
+    }
+
+    @Test
+    public void testGroup_Agg_Quantiles_Primitive() {
+        DataFrame df1 = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 2, 5, 0, 3, 4, 9),
+                Series.forData("x", "y", "x", "a", "x", "y", "x"));
+
+        DataFrame df = df1.group("b").agg(
+                Exp.$col("b").first(),
+                Exp.$int("a").median().as("median"),
+                Exp.$int("a").quantiles(0., 1.).as("q"));
+
+        new DataFrameAsserts(df, "b", "median", "q")
+                .expectHeight(3)
+                .expectRow(0, "x", 4., asList(1., 9.))
+                .expectRow(1, "y", 3., asList(2., 4.))
+                .expectRow(2, "a", 0., asList(0., 0.));
+    }
+
     @Test
     public void testGroup_Sort_Pos() {
         DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
@@ -11,6 +11,6 @@ public class IntSeries_SampleTest {
     public void testSample() {
         // using fixed seed to get reproducible result
         IntSeries sample = IntSeries.forInts(15, 4, 2, 6, 7, 12, 88, 9).sample(4, new Random(6));
-        new SeriesAsserts(sample).expectData(88, 15, 9, 7);
+        new SeriesAsserts(sample).expectData(12, 2, 7, 88);
     }
 }
@@ -31,7 +31,7 @@ public class IntSeries_SelectTest {
     public void testPositionalNulls() {
         Series<Integer> s = IntSeries.forInts(3, 4, 2).select(2, 1, -1);
         new SeriesAsserts(s).expectData(2, 4, null);
-        assertFalse(s instanceof IntSeries);
+        assertTrue(s instanceof IntSeries);
     }
 
     @Test
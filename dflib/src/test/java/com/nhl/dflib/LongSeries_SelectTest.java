@@ -31,7 +31,7 @@ public class LongSeries_SelectTest {
     public void testPositionalNulls() {
         Series<Long> s = LongSeries.forLongs(3, 4, 2).select(2, 1, -1);
         new SeriesAsserts(s).expectData(2L, 4L, null);
-        assertFalse(s instanceof LongSeries);
+        assertTrue(s instanceof LongSeries);
     }
 
     @Test
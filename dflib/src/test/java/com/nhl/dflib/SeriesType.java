@@ -5,7 +5,7 @@ import com.nhl.dflib.series.*;
 import static java.util.Arrays.asList;
 
 public enum SeriesType {
-    ARRAY, COLUMN_MAPPED, LIST, RANGE;
+    ARRAY, COLUMN_MAPPED, LIST, RANGE, CATEGORICAL;
 
     public <T> Series<T> createSeries(T... data) {
         switch (this) {
@@ -19,6 +19,8 @@ public enum SeriesType {
                 return new ListSeries<>(asList(data));
             case RANGE:
                 return new RangeSeries<>(new ArraySeries<>(data), 0, data.length);
+            case CATEGORICAL:
+                return CategoricalSeries.of(new ArraySeries<>(data));
             default:
                 throw new IllegalStateException("Unknown series type: " + this);
         }
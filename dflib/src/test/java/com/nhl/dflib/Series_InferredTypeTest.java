@@ -35,8 +35,9 @@ public class Series_InferredTypeTest {
         assertSame(String.class, s.getInferredType());
     }
 
+    // equal values of different classes are stored as a single category in categorical Series
     @ParameterizedTest
-    @EnumSource(SeriesType.class)
+    @EnumSource(value = SeriesType.class, mode = EnumSource.Mode.EXCLUDE, names = "CATEGORICAL")
     public void testSubclassSuperclassTypes(SeriesType type) {
         Series<Object> s = type.createSeries(
                 new java.sql.Date(System.currentTimeMillis()),
@@ -1,12 +1,21 @@
 package com.nhl.dflib.concat;
 
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
 import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.series.IntConcatSeries;
+import com.nhl.dflib.unit.IntSeriesAsserts;
 import com.nhl.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 
 import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SeriesConcatTest {
 
@@ -30,4 +39,65 @@ public class SeriesConcatTest {
         Series<String> c = SeriesConcat.concat(ss);
         new SeriesAsserts(c).expectData("m", "n", "a", "b", "d");
     }
+
+    @Test
+    public void testConcat_Int() {
+        Series<Integer> c = SeriesConcat.concat(IntSeries.forInts(1, 2), IntSeries.forInts(3));
+        assertTrue(c instanceof IntSeries);
+        new IntSeriesAsserts((IntSeries) c).expectData(1, 2, 3);
+    }
+
+    @Test
+    public void testConcat_Int_Nulls() {
+        IntAccumulator a = new IntAccumulator();
+        a.addNull();
+        a.add(5);
+
+        Series<Integer> c = SeriesConcat.concat(IntSeries.forInts(1, 2), a.toSeries());
+        assertTrue(c instanceof IntSeries);
+        new SeriesAsserts(c).expectData(1, 2, null, 5);
+    }
+
+    @Test
+    public void testConcat_LongDoubleBoolean() {
+        Series<Long> longs = SeriesConcat.concat(LongSeries.forLongs(1L), LongSeries.forLongs(2L, 3L));
+        assertTrue(longs instanceof LongSeries);
+        new SeriesAsserts(longs).expectData(1L, 2L, 3L);
+
+        Series<Double> doubles = SeriesConcat.concat(DoubleSeries.forDoubles(1.), DoubleSeries.forDoubles(2.));
+        assertTrue(doubles instanceof DoubleSeries);
+        new SeriesAsserts(doubles).expectData(1., 2.);
+
+        Series<Boolean> booleans = SeriesConcat.concat(BooleanSeries.forBooleans(true), BooleanSeries.forBooleans(false));
+        assertTrue(booleans instanceof BooleanSeries);
+        new SeriesAsserts(booleans).expectData(true, false);
+    }
+
+    @Test
+    public void testConcat_Mixed() {
+        Series<Integer> c = SeriesConcat.concat(IntSeries.forInts(1, 2), Series.forData(3, null));
+        assertFalse(c instanceof IntSeries);
+        new SeriesAsserts(c).expectData(1, 2, 3, null);
+    }
+
+    @Test
+    public void testIntConcatView() {
+        IntSeries c = SeriesConcat.intConcatView(asList(
+                IntSeries.forInts(1, 2),
+                IntSeries.forInts(),
+                IntSeries.forInts(3, 4, 5)));
+
+        assertTrue(c instanceof IntConcatSeries);
+        new IntSeriesAsserts(c).expectData(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void testIntConcatView_Nulls() {
+        IntAccumulator a = new IntAccumulator();
+        a.addNull();
+
+        IntSeries c = SeriesConcat.intConcatView(asList(IntSeries.forInts(1, 2), a.toSeries()));
+        assertFalse(c instanceof IntConcatSeries);
+        new SeriesAsserts(c).expectData(1, 2, null);
+    }
 }
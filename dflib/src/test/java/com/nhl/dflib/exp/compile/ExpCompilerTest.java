@@ -0,0 +1,233 @@
+package com.nhl.dflib.exp.compile;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.NumExp;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.DoubleAccumulator;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.accumulator.LongAccumulator;
+import com.nhl.dflib.unit.BooleanSeriesAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static com.nhl.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpCompilerTest {
+
+    // a DataFrame spanning multiple evaluation chunks
+    private static DataFrame primitiveFrame(int height) {
+        IntAccumulator i = new IntAccumulator(height);
+        LongAccumulator l = new LongAccumulator(height);
+        DoubleAccumulator d = new DoubleAccumulator(height);
+
+        for (int r = 0; r < height; r++) {
+            i.addInt(r % 17 - 5);
+            l.addLong(r * 3L);
+            d.addDouble(r / 4.);
+        }
+
+        return DataFrame.newFrame("i", "l", "d").columns(i.toSeries(), l.toSeries(), d.toSeries());
+    }
+
+    private static void assertSameResult(Exp<?> exp, DataFrame df) {
+        Exp<?> compiled = exp.compile();
+        assertTrue(compiled instanceof CompiledExp || compiled instanceof CompiledCondition);
+        assertEquals(exp.toQL(), compiled.toQL());
+        assertEquals(exp.eval(df).toList(), compiled.eval(df).toList());
+    }
+
+    @Test
+    public void testCompile_NothingToFuse() {
+        Exp<Integer> column = $int("a");
+        assertSame(column, column.compile());
+
+        Condition condition = $str("a").eq("x");
+        assertSame(condition, condition.compile());
+    }
+
+    @Test
+    public void testCompile_Idempotent() {
+        Exp<?> compiled = $int("a").add(1).compile();
+        assertSame(compiled, compiled.compile());
+    }
+
+    @Test
+    public void testArithmetic_Double() {
+        DataFrame df = primitiveFrame(2500);
+        Exp<?> exp = $double("d").mul($double("d")).add($double("d")).div(2.);
+        assertSameResult(exp, df);
+        assertTrue(exp.compile().eval(df) instanceof DoubleSeries);
+    }
+
+    @Test
+    public void testArithmetic_Int() {
+        DataFrame df = primitiveFrame(2500);
+        Exp<?> exp = $int("i").mul(3).sub($int("i")).mod(7);
+        assertSameResult(exp, df);
+        assertTrue(exp.compile().eval(df) instanceof IntSeries);
+    }
+
+    @Test
+    public void testArithmetic_Mixed() {
+        DataFrame df = primitiveFrame(2500);
+
+        Exp<?> toLong = $int("i").add($long("l"));
+        assertSameResult(toLong, df);
+        assertTrue(toLong.compile().eval(df) instanceof LongSeries);
+
+        Exp<?> toDouble = $int("i").add($long("l")).mul($double("d"));
+        assertSameResult(toDouble, df);
+        assertTrue(toDouble.compile().eval(df) instanceof DoubleSeries);
+    }
+
+    @Test
+    public void testConditions() {
+        DataFrame df = primitiveFrame(2500);
+
+        assertSameResult($double("d").mul($double("d")).add($double("d")).gt(100), df);
+        assertSameResult($int("i").eq(3).or($long("l").le(300L)), df);
+        assertSameResult($int("i").ne(0).and($double("d").lt($int("i"))).not(), df);
+        assertSameResult($long("l").ge($int("i")).and($int("i").le(2)).and($double("d").gt(1.5)), df);
+    }
+
+    @Test
+    public void testCondition_Bitset() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 5, 3, -1),
+                DoubleSeries.forDoubles(0.5, 1.5, 4.5, 0.));
+
+        BooleanSeries s = $int("a").mul(2).gt($double("b")).and($int("a").gt(0)).compile().eval(df);
+        new BooleanSeriesAsserts(s).expectData(true, true, true, false);
+    }
+
+    @Test
+    public void testIf() {
+        DataFrame df = primitiveFrame(2500);
+
+        Exp<Double> exp = ifExp($int("i").gt(2), $double("d"), (Exp<Double>) $double("d").mul(-1.));
+        assertSameResult(exp, df);
+        assertTrue(exp.compile().eval(df) instanceof DoubleSeries);
+    }
+
+    @Test
+    public void testIf_IntDivisionNotFused() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(6, 5, 8),
+                IntSeries.forInts(3, 0, 2));
+
+        // the "true" branch must not be evaluated for the rows with zero divisor
+        Exp<Integer> exp = ifExp($int("b").ne(0), (Exp<Integer>) $int("a").div($int("b")), $val(-1));
+        assertSame(exp, exp.compile());
+        new SeriesAsserts(exp.compile().eval(df)).expectData(2, -1, 4);
+    }
+
+    @Test
+    public void testNulls() {
+        IntSeries a = (IntSeries) IntSeries.forInts(2, 3, 4).select(IntSeries.forInts(0, -1, 2));
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                a,
+                DoubleSeries.forDoubles(1.5, 0.25, 2.));
+
+        Exp<?> exp = $int("a").mul($double("b")).add(1.);
+        new SeriesAsserts(exp.compile().eval(df)).expectData(4., null, 9.);
+
+        Condition c = $int("a").mul($double("b")).gt(2.);
+        new BooleanSeriesAsserts(c.compile().eval(df)).expectData(true, false, true);
+    }
+
+    @Test
+    public void testObjectColumns() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, 2.5,
+                2, 0.5,
+                3, 1.);
+
+        Exp<?> exp = $int("a").mul($double("b")).sub(1.);
+        new SeriesAsserts(exp.compile().eval(df)).expectData(1.5, 0., 2.);
+    }
+
+    @Test
+    public void testFallback_EvaluatesLeavesOnce() {
+        IntSeries a = (IntSeries) IntSeries.forInts(2, 3, 4).select(IntSeries.forInts(0, -1, 2));
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                a,
+                DoubleSeries.forDoubles(1.5, 0.25, 2.));
+
+        CountingExp<Integer> ca = new CountingExp<>($int("a"));
+        CountingExp<Double> cb = new CountingExp<>($double("b"));
+        Condition c = ca.mul(cb).gt(2.).or(cb.lt(0.5));
+
+        new BooleanSeriesAsserts(c.compile().eval(df)).expectData(true, true, true);
+        assertEquals(1, ca.evaluated);
+        assertEquals(1, cb.evaluated);
+    }
+
+    @Test
+    public void testFallback_ObjectColumns_EvaluatesLeavesOnce() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, 2.5,
+                2, 0.5,
+                3, 1.);
+
+        CountingExp<Integer> ca = new CountingExp<>($int("a"));
+        CountingExp<Double> cb1 = new CountingExp<>($double("b"));
+        CountingExp<Double> cb2 = new CountingExp<>($double("b"));
+        Exp<Double> exp = ifExp(ca.gt(1), (Exp<Double>) cb1.mul($val(2.)), cb2);
+
+        new SeriesAsserts(exp.compile().eval(df)).expectData(2.5, 1., 2.);
+        assertEquals(1, ca.evaluated);
+        assertEquals(1, cb1.evaluated);
+        assertEquals(1, cb2.evaluated);
+    }
+
+    @Test
+    public void testEvalSeries() {
+        Series<Integer> s = IntSeries.forInts(1, 2, 3, 4);
+        Condition c = $int(0).mul(3).gt(5).compile();
+        new BooleanSeriesAsserts(c.eval(s)).expectData(false, true, true, true);
+    }
+
+    static class CountingExp<T extends Number> implements NumExp<T> {
+
+        private final Exp<T> delegate;
+        int evaluated;
+
+        CountingExp(Exp<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Class<T> getType() {
+            return delegate.getType();
+        }
+
+        @Override
+        public String toQL() {
+            return delegate.toQL();
+        }
+
+        @Override
+        public String toQL(DataFrame df) {
+            return delegate.toQL(df);
+        }
+
+        @Override
+        public Series<T> eval(DataFrame df) {
+            evaluated++;
+            return delegate.eval(df);
+        }
+
+        @Override
+        public Series<T> eval(Series<?> s) {
+            evaluated++;
+            return delegate.eval(s);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.nhl.dflib.exp.condition;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.BooleanSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static com.nhl.dflib.Exp.$bool;
+import static com.nhl.dflib.Exp.$int;
+import static com.nhl.dflib.Exp.and;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AndConditionTest {
+
+    @Test
+    public void testAnd_Multiple() {
+        DataFrame df = DataFrame.newFrame("a", "b", "c").foldByRow(
+                false, false, false,
+                true, true, true,
+                true, false, false);
+
+        BooleanSeries s = and($bool("a"), $bool("b"), $bool("c")).eval(df);
+        new BooleanSeriesAsserts(s).expectData(false, true, false);
+    }
+
+    @Test
+    public void testAnd_EvaluatesOnlyMatchingRows() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, 10,
+                2, 20,
+                3, 30,
+                3, 40,
+                5, 50);
+
+        CountingCondition b = new CountingCondition($int("b").gt(25));
+        BooleanSeries s = $int("a").eq(3).and(b).eval(df);
+
+        new BooleanSeriesAsserts(s).expectData(false, false, true, true, false);
+        assertEquals(2, b.evaluatedRows);
+    }
+
+    @Test
+    public void testAnd_NoMatches() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, 10,
+                2, 20);
+
+        CountingCondition b = new CountingCondition($int("b").gt(15));
+        BooleanSeries s = $int("a").eq(3).and(b).eval(df);
+
+        new BooleanSeriesAsserts(s).expectData(false, false);
+        assertEquals(0, b.evaluatedRows);
+    }
+
+    @Test
+    public void testOr_EvaluatesOnlyUnmatchedRows() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, 10,
+                3, 20,
+                3, 30,
+                3, 40,
+                5, 50);
+
+        CountingCondition b = new CountingCondition($int("b").lt(15));
+        BooleanSeries s = $int("a").eq(3).or(b).eval(df);
+
+        new BooleanSeriesAsserts(s).expectData(true, true, true, true, false);
+        assertEquals(2, b.evaluatedRows);
+    }
+
+    @Test
+    public void testAnd_Series() {
+        Series<Integer> s = Series.forData(1, 2, 3, 4, 5, 6, 7, 8);
+
+        CountingCondition even = new CountingCondition($int(0).mod(2).eq(0));
+        BooleanSeries result = $int(0).gt(5).and(even).eval(s);
+
+        new BooleanSeriesAsserts(result).expectData(false, false, false, false, false, true, false, true);
+        assertEquals(3, even.evaluatedRows);
+    }
+
+    static class CountingCondition implements Condition {
+
+        private final Condition delegate;
+        int evaluatedRows;
+
+        CountingCondition(Condition delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public BooleanSeries eval(DataFrame df) {
+            evaluatedRows += df.height();
+            return delegate.eval(df);
+        }
+
+        @Override
+        public BooleanSeries eval(Series<?> s) {
+            evaluatedRows += s.size();
+            return delegate.eval(s);
+        }
+
+        @Override
+        public String toQL() {
+            return delegate.toQL();
+        }
+
+        @Override
+        public String toQL(DataFrame df) {
+            return delegate.toQL(df);
+        }
+    }
+}
@@ -3,14 +3,17 @@ package com.nhl.dflib.exp.num;
 import com.nhl.dflib.Condition;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.DecimalExp;
+import com.nhl.dflib.Exp;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.unit.BooleanSeriesAsserts;
 import com.nhl.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static com.nhl.dflib.Exp.*;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
@@ -138,6 +141,26 @@ public class DecimalColumnTest {
         new SeriesAsserts(exp.eval(s)).expectData(new BigDecimal("55.500"));
     }
 
+    @Test
+    public void testQuantile() {
+        DecimalExp exp = $decimal(0).quantile(0.25);
+
+        Series<BigDecimal> s = Series.forData(
+                new BigDecimal("100.01"), new BigDecimal("55.5"), null, new BigDecimal("0."), new BigDecimal("5."));
+
+        new SeriesAsserts(exp.eval(s)).expectData(new BigDecimal("4"));
+    }
+
+    @Test
+    public void testQuantiles() {
+        Exp<List<Number>> exp = $decimal(0).quantiles(0.5, 1.);
+
+        Series<BigDecimal> s = Series.forData(
+                new BigDecimal("100.01"), new BigDecimal("55.5"), new BigDecimal("0."), new BigDecimal("5."));
+
+        new SeriesAsserts(exp.eval(s)).expectData(asList(new BigDecimal("30.3"), new BigDecimal("100.01")));
+    }
+
     @Test
     public void testAdd_Decimal() {
         DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
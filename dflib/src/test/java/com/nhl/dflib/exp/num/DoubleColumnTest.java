@@ -1,6 +1,7 @@
 package com.nhl.dflib.exp.num;
 
 import com.nhl.dflib.*;
+import com.nhl.dflib.unit.BooleanSeriesAsserts;
 import com.nhl.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +56,20 @@ public class DoubleColumnTest {
         new SeriesAsserts(e.eval(df)).expectData(new BigDecimal("2.01"), new BigDecimal("4.50"));
     }
 
+    @Test
+    public void testLT_Nulls_Not() {
+        DoubleSeries x = (DoubleSeries) DoubleSeries.forDoubles(1., 2., 3.).select(IntSeries.forInts(0, -1, 2));
+        DoubleSeries y = DoubleSeries.forDoubles(1., 2., 4.);
+        DataFrame df = DataFrame.newFrame("x", "y").columns(x, y);
+
+        // Series and Condition comparisons must treat nulls the same, so that negating them keeps the same rows
+        new BooleanSeriesAsserts(x.lt(y).not()).expectData(true, true, false);
+        new BooleanSeriesAsserts($double("x").lt($double("y")).not().eval(df)).expectData(true, true, false);
+
+        new BooleanSeriesAsserts(x.ge(y).not()).expectData(false, true, true);
+        new BooleanSeriesAsserts($double("x").ge($double("y")).not().eval(df)).expectData(false, true, true);
+    }
+
     @Test
     public void testAdd_Double() {
         NumExp<?> e = $double("b").add($double("a"));
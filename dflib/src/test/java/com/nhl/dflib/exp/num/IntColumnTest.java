@@ -9,6 +9,7 @@ import java.math.BigDecimal;
 import java.util.stream.IntStream;
 
 import static com.nhl.dflib.Exp.*;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 
@@ -170,6 +171,82 @@ public class IntColumnTest {
         new SeriesAsserts(s).expectData(3, 7);
     }
 
+    @Test
+    public void testAdd_LongPrimitive() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 2),
+                LongSeries.forLongs(3_000_000_000L, 4L));
+
+        Series<? extends Number> s = $int("a").add($long("b")).eval(df);
+        assertTrue(s instanceof LongSeries);
+        new SeriesAsserts(s).expectData(3_000_000_001L, 6L);
+    }
+
+    @Test
+    public void testMul_DoublePrimitive() {
+        DataFrame df = DataFrame.newFrame("qty", "price").columns(
+                IntSeries.forInts(2, 3),
+                DoubleSeries.forDoubles(1.5, 0.25));
+
+        Series<? extends Number> s = $int("qty").mul($double("price")).eval(df);
+        assertTrue(s instanceof DoubleSeries);
+        new SeriesAsserts(s).expectData(3., 0.75);
+    }
+
+    @Test
+    public void testMul_DoublePrimitive_Nulls() {
+        IntSeries qty = (IntSeries) IntSeries.forInts(2, 3).select(IntSeries.forInts(0, -1));
+
+        DataFrame df = DataFrame.newFrame("qty", "price").columns(
+                qty,
+                DoubleSeries.forDoubles(1.5, 0.25));
+
+        Series<? extends Number> s = $int("qty").mul($double("price")).eval(df);
+        assertTrue(s instanceof DoubleSeries);
+        new SeriesAsserts(s).expectData(3., null);
+    }
+
+    @Test
+    public void testAdd_ConstPrimitive() {
+        DataFrame df = DataFrame.newFrame("a").columns(IntSeries.forInts(1, 2));
+
+        Series<? extends Number> s1 = $int("a").add(5).eval(df);
+        assertTrue(s1 instanceof IntSeries);
+        new SeriesAsserts(s1).expectData(6, 7);
+
+        Series<? extends Number> s2 = $int("a").mul(2.5).eval(df);
+        assertTrue(s2 instanceof DoubleSeries);
+        new SeriesAsserts(s2).expectData(2.5, 5.);
+
+        Series<? extends Number> s3 = $int("a").sub(1L).eval(df);
+        assertTrue(s3 instanceof LongSeries);
+        new SeriesAsserts(s3).expectData(0L, 1L);
+    }
+
+    @Test
+    public void testLT_Nulls_Not() {
+        IntSeries x = (IntSeries) IntSeries.forInts(1, 2, 3).select(IntSeries.forInts(0, -1, 2));
+        IntSeries y = IntSeries.forInts(1, 2, 4);
+        DataFrame df = DataFrame.newFrame("x", "y").columns(x, y);
+
+        // Series and Condition comparisons must treat nulls the same, so that negating them keeps the same rows
+        new BooleanSeriesAsserts(x.lt(y).not()).expectData(true, true, false);
+        new BooleanSeriesAsserts($int("x").lt($int("y")).not().eval(df)).expectData(true, true, false);
+
+        new BooleanSeriesAsserts(x.ge(y).not()).expectData(false, true, true);
+        new BooleanSeriesAsserts($int("x").ge($int("y")).not().eval(df)).expectData(false, true, true);
+    }
+
+    @Test
+    public void testLT_DoublePrimitive() {
+        DataFrame df = DataFrame.newFrame("a", "b").columns(
+                IntSeries.forInts(1, 2),
+                DoubleSeries.forDoubles(1.5, 0.25));
+
+        new BooleanSeriesAsserts($int("a").lt($double("b")).eval(df)).expectData(true, false);
+        new BooleanSeriesAsserts($int("a").gt(1.5).eval(df)).expectData(false, true);
+    }
+
     @Test
     public void testAdd_Double() {
         DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
@@ -245,6 +322,34 @@ public class IntColumnTest {
         new BooleanSeriesAsserts(c.eval(df)).expectData(false, true, true);
     }
 
+    @Test
+    public void testQuantile() {
+        IntSeries s = IntSeries.forInts(5, 1, 3, 2, 4);
+
+        new SeriesAsserts($int(0).quantile(0.25).eval(s)).expectData(2.);
+        new SeriesAsserts($int(0).quantile(0.1).eval(s)).expectData(1.4);
+        new SeriesAsserts($int(0).quantile(0.5).eval(s)).expectData(3.);
+    }
+
+    @Test
+    public void testQuantile_Nulls() {
+        Series<Integer> s = Series.forData(5, 1, null, 3, 2, 4);
+        new SeriesAsserts($int(0).quantile(0.1).eval(s)).expectData(1.4);
+    }
+
+    @Test
+    public void testQuantile_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> $int(0).quantile(1.1));
+        assertThrows(IllegalArgumentException.class, () -> $int(0).quantile(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> $int(0).quantiles());
+    }
+
+    @Test
+    public void testQuantiles() {
+        IntSeries s = IntSeries.forInts(5, 1, 3, 2, 4);
+        new SeriesAsserts($int(0).quantiles(0., 0.5, 0.9).eval(s)).expectData(asList(1., 3., 4.6));
+    }
+
     @Test
     public void testMap_Unary() {
 
@@ -105,6 +105,20 @@ public class LongColumnTest {
         new BooleanSeriesAsserts(c.eval(df)).expectData(false, true, true);
     }
 
+    @Test
+    public void testLT_Nulls_Not() {
+        LongSeries x = (LongSeries) LongSeries.forLongs(1L, 2L, 3L).select(IntSeries.forInts(0, -1, 2));
+        LongSeries y = LongSeries.forLongs(1L, 2L, 4L);
+        DataFrame df = DataFrame.newFrame("x", "y").columns(x, y);
+
+        // Series and Condition comparisons must treat nulls the same, so that negating them keeps the same rows
+        new BooleanSeriesAsserts(x.lt(y).not()).expectData(true, true, false);
+        new BooleanSeriesAsserts($long("x").lt($long("y")).not().eval(df)).expectData(true, true, false);
+
+        new BooleanSeriesAsserts(x.ge(y).not()).expectData(false, true, true);
+        new BooleanSeriesAsserts($long("x").ge($long("y")).not().eval(df)).expectData(false, true, true);
+    }
+
     @Test
     public void testLT_LongPrimitive() {
         Condition c = $long("a").lt($long("b"));
@@ -0,0 +1,67 @@
+package com.nhl.dflib.map;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyColumnsTest {
+
+    @Test
+    public void testHashes_MatchBoxed() {
+        KeyColumns primitive = new KeyColumns(
+                IntSeries.forInts(1, -5),
+                LongSeries.forLongs(Long.MAX_VALUE, 3L),
+                DoubleSeries.forDoubles(1.5, Double.NaN));
+
+        KeyColumns boxed = new KeyColumns(
+                Series.forData(1, -5),
+                Series.forData(Long.MAX_VALUE, 3L),
+                Series.forData(1.5, Double.NaN));
+
+        assertArrayEquals(boxed.hashes(), primitive.hashes());
+    }
+
+    @Test
+    public void testMatcher() {
+        KeyColumns k1 = new KeyColumns(IntSeries.forInts(1, 2, 3), Series.forData("a", null, "c"));
+        KeyColumns k2 = new KeyColumns(Series.forData(3, 2, 1), Series.forData("c", null, "a"));
+
+        RowKeyMatcher m = k1.matcher(k2);
+        assertTrue(m.matches(0, 2));
+        assertTrue(m.matches(1, 1));
+        assertTrue(m.matches(2, 0));
+        assertFalse(m.matches(0, 0));
+        assertFalse(m.matches(1, 2));
+    }
+
+    @Test
+    public void testMatcher_DifferentWidth() {
+        KeyColumns k1 = new KeyColumns(IntSeries.forInts(1, 2, 3), Series.forData("a", null, "c"));
+        KeyColumns k2 = new KeyColumns(Series.forData(3, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> k1.matcher(k2));
+    }
+
+    @Test
+    public void testKey() {
+        KeyColumns k = new KeyColumns(IntSeries.forInts(1, 2), Series.forData("a", "b"), LongSeries.forLongs(5L, 6L));
+        assertEquals(new CombinationHash(new CombinationHash(2, "b"), 6L), k.key(1));
+        assertEquals(Objects.hash(2, "b"), new CombinationHash(2, "b").hashCode());
+    }
+
+    @Test
+    public void testIsNullKey() {
+        KeyColumns single = new KeyColumns(Series.forData("a", null));
+        assertFalse(single.isNullKey(0));
+        assertTrue(single.isNullKey(1));
+
+        KeyColumns multi = new KeyColumns(Series.forData("a", null), Series.forData(null, null));
+        assertFalse(multi.isNullKey(0));
+        assertFalse(multi.isNullKey(1));
+    }
+}
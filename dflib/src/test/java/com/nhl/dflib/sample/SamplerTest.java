@@ -1,6 +1,8 @@
 package com.nhl.dflib.sample;
 
+import com.nhl.dflib.DoubleSeries;
 import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
 import com.nhl.dflib.unit.IntSeriesAsserts;
 import org.junit.jupiter.api.Test;
 
@@ -22,14 +24,59 @@ public class SamplerTest {
     public void testSampleIndex() {
         // using fixed seed to get reproducible result
         IntSeries sample = Sampler.sampleIndex(5, 10, new Random(5));
-        new IntSeriesAsserts(sample).expectData(3, 4, 2, 8, 5);
+        new IntSeriesAsserts(sample).expectData(7, 2, 1, 3, 4);
     }
 
     @Test
     public void testSampleIndex_SameSize() {
         // using fixed seed to get reproducible result
         IntSeries sample = Sampler.sampleIndex(5, 5, new Random(5));
-        new IntSeriesAsserts(sample).expectData(3, 1, 4, 0, 2);
+        new IntSeriesAsserts(sample).expectData(2, 1, 4, 0, 3);
+    }
+
+    @Test
+    public void testSampleIndex_Sparse() {
+        // using fixed seed to get reproducible result
+        IntSeries sample = Sampler.sampleIndex(3, 100, new Random(5));
+        new IntSeriesAsserts(sample).expectData(87, 2, 6);
+    }
+
+    @Test
+    public void testSampleIndex_NegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> Sampler.sampleIndex(-1, 5, new Random(5)));
+    }
+
+    @Test
+    public void testSampleIndex_Weighted() {
+        // using fixed seed to get reproducible result
+        IntSeries sample = Sampler.sampleIndex(2, Series.forData(1., 0., 5., null, 2.), new Random(3));
+        new IntSeriesAsserts(sample).expectData(2, 4);
+    }
+
+    @Test
+    public void testSampleIndex_Weighted_Distribution() {
+        Random random = new Random(1);
+        int[] counts = new int[3];
+
+        for (int i = 0; i < 30_000; i++) {
+            counts[Sampler.sampleIndex(1, DoubleSeries.forDoubles(1., 2., 3.), random).getInt(0)]++;
+        }
+
+        assertEquals(5_000, counts[0], 300);
+        assertEquals(10_000, counts[1], 300);
+        assertEquals(15_000, counts[2], 300);
+    }
+
+    @Test
+    public void testSampleIndex_Weighted_TooFewPositiveWeights() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Sampler.sampleIndex(2, IntSeries.forInts(0, 3, 0), new Random(5)));
+    }
+
+    @Test
+    public void testSampleIndex_Weighted_NegativeWeight() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Sampler.sampleIndex(1, IntSeries.forInts(1, -3, 2), new Random(5)));
     }
 
     @Test
@@ -0,0 +1,157 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.accumulator.BooleanAccumulator;
+import com.nhl.dflib.unit.BooleanSeriesAsserts;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BooleanBitsetSeriesTest {
+
+    // "true" at every 3rd position, spanning multiple words
+    private static BooleanSeries every3rd(int size) {
+        BooleanAccumulator accum = new BooleanAccumulator();
+        for (int i = 0; i < size; i++) {
+            accum.addBoolean(i % 3 == 0);
+        }
+
+        return accum.toSeries();
+    }
+
+    @Test
+    public void testAccumulator() {
+        BooleanAccumulator accum = new BooleanAccumulator(1);
+        accum.addBoolean(true);
+        accum.addBoolean(false);
+        accum.addBoolean(true);
+
+        BooleanSeries s = accum.toSeries();
+        assertTrue(s instanceof BooleanBitsetSeries);
+        new BooleanSeriesAsserts(s).expectData(true, false, true);
+    }
+
+    @Test
+    public void testGetBoolean_OutOfBounds() {
+        BooleanSeries s = new BooleanBitsetSeries(new long[]{0b101}, 3);
+        assertTrue(s.getBoolean(2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> s.getBoolean(3));
+    }
+
+    @Test
+    public void testCountTrue_CountFalse() {
+        BooleanSeries s = every3rd(200);
+        assertEquals(67, s.countTrue());
+        assertEquals(133, s.countFalse());
+    }
+
+    @Test
+    public void testFirstTrue() {
+        assertEquals(-1, new BooleanBitsetSeries(new long[3], 150).firstTrue());
+        assertEquals(130, new BooleanBitsetSeries(new long[]{0, 0, 1L << 2}, 150).firstTrue());
+    }
+
+    @Test
+    public void testIndexTrue() {
+        IntSeries index = every3rd(200).indexTrue();
+        assertEquals(67, index.size());
+        assertEquals(0, index.getInt(0));
+        assertEquals(63, index.getInt(21));
+        assertEquals(66, index.getInt(22));
+        assertEquals(198, index.getInt(66));
+    }
+
+    @Test
+    public void testIndexFalse() {
+        new IntSeriesAsserts(every3rd(7).indexFalse()).expectData(1, 2, 4, 5);
+    }
+
+    @Test
+    public void testNot() {
+        BooleanSeries s = every3rd(70).not();
+        assertEquals(46, s.countTrue());
+        assertFalse(s.getBoolean(69));
+        assertTrue(s.getBoolean(68));
+    }
+
+    @Test
+    public void testAndOr() {
+        BooleanSeries s1 = every3rd(130);
+
+        BooleanAccumulator accum = new BooleanAccumulator();
+        for (int i = 0; i < 130; i++) {
+            accum.addBoolean(i % 2 == 0);
+        }
+        BooleanSeries s2 = accum.toSeries();
+
+        BooleanSeries and = s1.and(s2);
+        assertEquals(22, and.countTrue());
+        new IntSeriesAsserts(and.headBoolean(20).indexTrue()).expectData(0, 6, 12, 18);
+
+        BooleanSeries or = s1.or(s2);
+        assertEquals(87, or.countTrue());
+        new IntSeriesAsserts(or.headBoolean(7).indexTrue()).expectData(0, 2, 3, 4, 6);
+    }
+
+    @Test
+    public void testAnd_MixedWithArray() {
+        BooleanSeries s1 = every3rd(5);
+        BooleanSeries s2 = new BooleanArraySeries(true, true, false, true, true);
+        new BooleanSeriesAsserts(s1.and(s2)).expectData(true, false, false, true, false);
+        new BooleanSeriesAsserts(s2.or(s1)).expectData(true, true, false, true, true);
+    }
+
+    @Test
+    public void testIsTrue_IsFalse() {
+        assertFalse(every3rd(100).isTrue());
+        assertFalse(every3rd(100).isFalse());
+        assertTrue(every3rd(100).and(every3rd(100).not()).isFalse());
+        assertTrue(every3rd(100).or(every3rd(100).not()).isTrue());
+        assertFalse(new BooleanBitsetSeries(new long[0], 0).isFalse());
+    }
+
+    @Test
+    public void testRange() {
+        BooleanSeries s = every3rd(200);
+
+        BooleanSeries r = s.rangeOpenClosedBoolean(62, 140);
+        assertEquals(78, r.size());
+        assertEquals(s.rangeOpenClosed(62, 140).toList(), r.toList());
+        new IntSeriesAsserts(r.headBoolean(8).indexTrue()).expectData(1, 4, 7);
+
+        BooleanSeries t = s.tailBoolean(5);
+        new BooleanSeriesAsserts(t).expectData(true, false, false, true, false);
+    }
+
+    @Test
+    public void testSelect() {
+        BooleanSeries positions = every3rd(7);
+
+        new IntSeriesAsserts(new IntArraySeries(0, 1, 2, 3, 4, 5, 6).selectInt(positions)).expectData(0, 3, 6);
+        assertEquals(
+                new ArraySeries<>("a", "d", "g").toList(),
+                new ArraySeries<>("a", "b", "c", "d", "e", "f", "g").select(positions).toList());
+    }
+
+    @Test
+    public void testFilterRows() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                3, "z",
+                4, "w");
+
+        BooleanSeries condition = Exp.$int("a").gt(1).and(Exp.$int("a").lt(4)).eval(df);
+        assertTrue(condition instanceof BooleanBitsetSeries);
+
+        new DataFrameAsserts(df.selectRows(condition), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 2, "y")
+                .expectRow(1, 3, "z");
+    }
+}
@@ -0,0 +1,167 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.SeriesGroupBy;
+import com.nhl.dflib.accumulator.CategoricalAccumulator;
+import com.nhl.dflib.unit.BooleanSeriesAsserts;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoricalSeriesTest {
+
+    @Test
+    public void testAccumulator() {
+        CategoricalAccumulator<String> accum = new CategoricalAccumulator<>(1);
+        accum.add("a");
+        accum.add(null);
+        accum.add(new String("a"));
+        accum.add("b");
+        accum.set(1, "b");
+
+        CategoricalSeries<String> s = (CategoricalSeries<String>) accum.toSeries();
+        new SeriesAsserts(s).expectData("a", "b", "a", "b");
+        new IntSeriesAsserts(s.getCodes()).expectData(0, 1, 0, 1);
+        assertEquals(2, s.getCategoryCount());
+        assertSame(s.get(0), s.get(2));
+    }
+
+    @Test
+    public void testToCategorical() {
+        CategoricalSeries<String> s = Series.forData("x", null, "y", "x").toCategorical();
+        new SeriesAsserts(s).expectData("x", null, "y", "x");
+        new IntSeriesAsserts(s.getCodes()).expectData(0, -1, 1, 0);
+        new SeriesAsserts(s.getCategories()).expectData("x", "y");
+        assertSame(s, s.toCategorical());
+    }
+
+    @Test
+    public void testMapCategorical() {
+        Series<String> s = Series.forData("a", "bb", null, "cc", "a");
+
+        Series<Integer> lengths = s.mapCategorical(v -> v != null ? v.length() : null);
+        assertTrue(lengths instanceof CategoricalSeries);
+        new SeriesAsserts(lengths).expectData(1, 2, null, 2, 1);
+        assertEquals(2, ((CategoricalSeries<Integer>) lengths).getCategoryCount());
+
+        // the mapper is invoked once per category, and once for nulls
+        int[] calls = new int[1];
+        Series<String> upper = s.toCategorical().mapCategorical(v -> {
+            calls[0]++;
+            return v != null ? v.toUpperCase() : "NULL";
+        });
+
+        new SeriesAsserts(upper).expectData("A", "BB", "NULL", "CC", "A");
+        assertEquals(4, calls[0]);
+    }
+
+    @Test
+    public void testSelect() {
+        CategoricalSeries<String> s = Series.forData("a", "b", "a", "c").toCategorical();
+
+        Series<String> selected = s.select(3, -1, 0);
+        assertTrue(selected instanceof CategoricalSeries);
+        new SeriesAsserts(selected).expectData("c", null, "a");
+
+        new SeriesAsserts(s.select((String v) -> !v.equals("a"))).expectData("b", "c");
+        new BooleanSeriesAsserts(s.locate(v -> v.equals("a"))).expectData(true, false, true, false);
+    }
+
+    @Test
+    public void testEq() {
+        CategoricalSeries<String> s1 = Series.forData("a", "b", null, "c").toCategorical();
+        CategoricalSeries<String> s2 = Series.forData("c", "b", null, "a", "d").toCategorical();
+
+        new BooleanSeriesAsserts(s1.eq(s2.head(4))).expectData(false, true, true, false);
+        new BooleanSeriesAsserts(s1.ne(s2.head(4))).expectData(true, false, false, true);
+        new BooleanSeriesAsserts(s1.eq(Series.forData("a", "x", null, "c"))).expectData(true, false, true, true);
+        new BooleanSeriesAsserts(s1.eq(new SingleValueSeries<>("b", 4))).expectData(false, true, false, false);
+        new BooleanSeriesAsserts(s1.eq(new SingleValueSeries<>("x", 4))).expectData(false, false, false, false);
+    }
+
+    @Test
+    public void testEq_Exp() {
+        DataFrame df = DataFrame.newFrame("a")
+                .columns(Series.forData("x", "y", null, "x").toCategorical());
+
+        new BooleanSeriesAsserts(Exp.$str("a").eq("x").eval(df)).expectData(true, false, false, true);
+    }
+
+    @Test
+    public void testUnique() {
+        Series<String> unique = Series.forData("a", "b", null, "a", null, "b").toCategorical().unique();
+        assertTrue(unique instanceof CategoricalSeries);
+        new SeriesAsserts(unique).expectData("a", "b", null);
+    }
+
+    @Test
+    public void testValueCounts() {
+        DataFrame counts = Series.forData("b", "a", null, "a", "c", "a", "b").toCategorical().valueCounts();
+
+        new DataFrameAsserts(counts, "value", "count")
+                .expectHeight(3)
+                .expectRow(0, "a", 3)
+                .expectRow(1, "b", 2)
+                .expectRow(2, "c", 1);
+    }
+
+    @Test
+    public void testGroup() {
+        SeriesGroupBy<String> groups = Series.forData("b", "a", null, "b", "a").toCategorical().group();
+
+        assertEquals(asList("b", "a"), asList(groups.getGroups().toArray()));
+        new IntSeriesAsserts(groups.getGroupIndex("b")).expectData(0, 3);
+        new IntSeriesAsserts(groups.getGroupIndex("a")).expectData(1, 4);
+    }
+
+    @Test
+    public void testFillNulls() {
+        CategoricalSeries<String> s = Series.forData(null, "a", null, "b", null).toCategorical();
+
+        new SeriesAsserts(s.fillNulls("a")).expectData("a", "a", "a", "b", "a");
+        new SeriesAsserts(s.fillNulls("c")).expectData("c", "a", "c", "b", "c");
+        new SeriesAsserts(s.fillNullsForward()).expectData(null, "a", "a", "b", "b");
+        new SeriesAsserts(s.fillNullsBackwards()).expectData("a", "a", "b", "b", null);
+        new SeriesAsserts(s.fillNullsFromSeries(Series.forData("1", "2", "3", "4", "5")))
+                .expectData("1", "a", "3", "b", "5");
+    }
+
+    @Test
+    public void testConcat() {
+        Series<String> s1 = Series.forData("a", "b", null).toCategorical();
+        Series<String> s2 = Series.forData("c", "a").toCategorical();
+
+        Series<String> concat = s1.concat(s2);
+        assertTrue(concat instanceof CategoricalSeries);
+        new SeriesAsserts(concat).expectData("a", "b", null, "c", "a");
+        assertEquals(3, ((CategoricalSeries<String>) concat).getCategoryCount());
+    }
+
+    @Test
+    public void testDataFrameGroupAndJoin() {
+        DataFrame df1 = DataFrame.newFrame("k", "v").columns(
+                Series.forData("x", "y", "x", null).toCategorical(),
+                Series.forData(1, 2, 3, 4));
+
+        new DataFrameAsserts(df1.group("k").agg(Exp.$col("k").first(), Exp.$int("v").sum().as("v")), "k", "v")
+                .expectHeight(2)
+                .expectRow(0, "x", 4)
+                .expectRow(1, "y", 2);
+
+        DataFrame df2 = DataFrame.newFrame("k", "w").columns(
+                Series.forData("y", "z", "x").toCategorical(),
+                Series.forData("Y", "Z", "X"));
+
+        new DataFrameAsserts(df1.innerJoin().on("k").with(df2), "k", "v", "k_", "w")
+                .expectHeight(3)
+                .expectRow(0, "x", 1, "x", "X")
+                .expectRow(1, "y", 2, "y", "Y")
+                .expectRow(2, "x", 3, "x", "X");
+    }
+}
@@ -105,4 +105,13 @@ public class IntArraySeries_AggTest {
         IntArraySeries s = new IntArraySeries(1, -2, 3, 56, 8);
         assertEquals(3, s.median(), 0.000001);
     }
+
+    @Test
+    public void testMedian_Offset() {
+        IntArraySeries s1 = new IntArraySeries(new int[]{100, 5, 200}, 1, 1);
+        assertEquals(5, s1.median(), 0.000001);
+
+        IntArraySeries s2 = new IntArraySeries(new int[]{100, 5, 7, 1, 2, 200}, 1, 4);
+        assertEquals(3.5, s2.median(), 0.000001);
+    }
 }
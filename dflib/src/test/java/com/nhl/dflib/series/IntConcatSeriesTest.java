@@ -0,0 +1,49 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntConcatSeriesTest {
+
+    private final IntConcatSeries s = new IntConcatSeries(
+            IntSeries.forInts(3, 1),
+            IntSeries.forInts(7),
+            IntSeries.forInts(2, 8, 4));
+
+    @Test
+    public void testGetInt() {
+        assertEquals(6, s.size());
+        assertEquals(3, s.getInt(0));
+        assertEquals(1, s.getInt(1));
+        assertEquals(7, s.getInt(2));
+        assertEquals(4, s.getInt(5));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> s.getInt(6));
+    }
+
+    @Test
+    public void testCopyToInt() {
+        int[] data = new int[5];
+        s.copyToInt(data, 1, 1, 4);
+        assertArrayEquals(new int[]{0, 1, 7, 2, 8}, data);
+    }
+
+    @Test
+    public void testRange() {
+        new IntSeriesAsserts(s.headInt(3)).expectData(3, 1, 7);
+        new IntSeriesAsserts(s.tailInt(2)).expectData(8, 4);
+        new IntSeriesAsserts(s.rangeOpenClosedInt(1, 4)).expectData(1, 7, 2);
+        new IntSeriesAsserts(s.materializeInt()).expectData(3, 1, 7, 2, 8, 4);
+    }
+
+    @Test
+    public void testAgg() {
+        assertEquals(8, s.max());
+        assertEquals(1, s.min());
+        assertEquals(25L, s.sum());
+        assertEquals(25 / 6., s.avg(), 0.0001);
+        assertEquals(3.5, s.median(), 0.0001);
+    }
+}
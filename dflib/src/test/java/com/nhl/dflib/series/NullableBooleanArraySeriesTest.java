@@ -0,0 +1,72 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.BooleanAccumulator;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NullableBooleanArraySeriesTest {
+
+    private static BooleanSeries series(Boolean... values) {
+        BooleanAccumulator a = new BooleanAccumulator();
+        for (Boolean v : values) {
+            if (v != null) {
+                a.addBoolean(v);
+            } else {
+                a.addNull();
+            }
+        }
+
+        return a.toSeries();
+    }
+
+    @Test
+    public void testSelect() {
+        Series<Boolean> s = series(true, null, false).select(2, 1, -1, 0);
+        assertTrue(s instanceof BooleanSeries);
+        new SeriesAsserts(s).expectData(false, null, null, true);
+    }
+
+    @Test
+    public void testNot() {
+        new SeriesAsserts(series(true, null, false).not()).expectData(false, null, true);
+    }
+
+    @Test
+    public void testCounts() {
+        BooleanSeries s = series(true, null, false, null, true);
+        assertEquals(2, s.countTrue());
+        assertEquals(1, s.countFalse());
+        new SeriesAsserts(s.indexFalse()).expectData(2);
+        assertFalse(series(false, null).isFalse());
+        assertFalse(series(true, null).isTrue());
+    }
+
+    @Test
+    public void testUniqueBoolean() {
+        new SeriesAsserts(series(null, true, null, true, false).uniqueBoolean()).expectData(null, true, false);
+    }
+
+    @Test
+    public void testAnd_ThreeValued() {
+        BooleanSeries s1 = series(null, null, null, true, false);
+        BooleanSeries s2 = series(true, false, null, null, null);
+
+        new SeriesAsserts(s1.and(s2)).expectData(null, false, null, null, false);
+        new SeriesAsserts(s2.and(s1)).expectData(null, false, null, null, false);
+        new SeriesAsserts(BooleanSeries.forBooleans(true, false).and(series(null, null))).expectData(null, false);
+    }
+
+    @Test
+    public void testOr_ThreeValued() {
+        BooleanSeries s1 = series(null, null, null, true, false);
+        BooleanSeries s2 = series(true, false, null, null, null);
+
+        new SeriesAsserts(s1.or(s2)).expectData(true, null, null, true, null);
+        new SeriesAsserts(s2.or(s1)).expectData(true, null, null, true, null);
+        new SeriesAsserts(BooleanSeries.forBooleans(true, false).or(series(null, null))).expectData(true, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.DoubleAccumulator;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NullableDoubleArraySeriesTest {
+
+    private static DoubleSeries series(Double... values) {
+        DoubleAccumulator a = new DoubleAccumulator();
+        for (Double v : values) {
+            if (v != null) {
+                a.addDouble(v);
+            } else {
+                a.addNull();
+            }
+        }
+
+        return a.toSeries();
+    }
+
+    @Test
+    public void testSelect() {
+        Series<Double> s = series(1.1, null, 3.3).select(2, 1, -1, 0);
+        assertTrue(s instanceof DoubleSeries);
+        new SeriesAsserts(s).expectData(3.3, null, null, 1.1);
+    }
+
+    @Test
+    public void testSortDouble() {
+        new SeriesAsserts(series(5., null, -3.).sortDouble()).expectData(-3., 5., null);
+    }
+
+    @Test
+    public void testStats() {
+        DoubleSeries s = series(1., null, -3., null, 8.);
+        assertEquals(6., s.sum(), 0.0001);
+        assertEquals(-3., s.min(), 0.0001);
+        assertEquals(2., s.avg(), 0.0001);
+        assertEquals(1., s.median(), 0.0001);
+    }
+
+    @Test
+    public void testArithmetic_NullPropagation() {
+        DoubleSeries s1 = series(1.5, null, 3.);
+        DoubleSeries s2 = DoubleSeries.forDoubles(1., 2., 3.);
+
+        new SeriesAsserts(s1.add(s2)).expectData(2.5, null, 6.);
+        new SeriesAsserts(s2.div(s1)).expectData(1. / 1.5, null, 1.);
+        new SeriesAsserts(s1.lt(s2)).expectData(false, false, false);
+        assertThrows(IllegalStateException.class, () -> s1.toDoubleArray());
+    }
+}
@@ -0,0 +1,162 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.unit.BooleanSeriesAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NullableIntArraySeriesTest {
+
+    private static IntSeries series(Integer... values) {
+        IntAccumulator a = new IntAccumulator(2);
+        for (Integer v : values) {
+            if (v != null) {
+                a.addInt(v);
+            } else {
+                a.addNull();
+            }
+        }
+
+        return a.toSeries();
+    }
+
+    @Test
+    public void testAccumulator() {
+        IntSeries s = series(1, null, 3);
+        assertTrue(s instanceof NullableIntArraySeries);
+        new SeriesAsserts(s).expectData(1, null, 3);
+        assertEquals(0, s.getInt(1));
+
+        assertTrue(series(1, 2, 3) instanceof IntArraySeries);
+    }
+
+    @Test
+    public void testAccumulator_Expand() {
+        IntAccumulator a = new IntAccumulator(1);
+        for (int i = 0; i < 100; i++) {
+            if (i % 3 == 0) {
+                a.addNull();
+            } else {
+                a.addInt(i);
+            }
+        }
+
+        IntSeries s = a.toSeries();
+        assertEquals(100, s.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 3 == 0 ? null : i, s.get(i));
+        }
+    }
+
+    @Test
+    public void testIsNull() {
+        IntSeries s = series(1, null, 3);
+        new BooleanSeriesAsserts(s.isNull()).expectData(false, true, false);
+        new BooleanSeriesAsserts(s.isNotNull()).expectData(true, false, true);
+    }
+
+    @Test
+    public void testSelect() {
+        Series<Integer> s = series(1, null, 3).select(2, 1, -1, 0);
+        assertTrue(s instanceof IntSeries);
+        new SeriesAsserts(s).expectData(3, null, null, 1);
+    }
+
+    @Test
+    public void testSelect_NoNulls() {
+        Series<Integer> s = series(1, null, 3).select(2, 0);
+        assertTrue(s instanceof IntArraySeries);
+        new SeriesAsserts(s).expectData(3, 1);
+    }
+
+    @Test
+    public void testRange() {
+        IntSeries s = series(1, null, 3, 4);
+        new SeriesAsserts(s.headInt(2)).expectData(1, null);
+        new SeriesAsserts(s.tailInt(2)).expectData(3, 4);
+        new SeriesAsserts(s.rangeOpenClosedInt(1, 3)).expectData(null, 3);
+    }
+
+    @Test
+    public void testSortInt() {
+        IntSeries s = series(5, null, 3, null, 4);
+        new SeriesAsserts(s.sortInt()).expectData(3, 4, 5, null, null);
+        new SeriesAsserts(s.sortIndexInt()).expectData(2, 4, 0, 1, 3);
+    }
+
+    @Test
+    public void testConcatInt() {
+        IntSeries s = series(1, null).concatInt(IntSeries.forInts(3), series(null, 5));
+        assertTrue(s instanceof NullableIntArraySeries);
+        new SeriesAsserts(s).expectData(1, null, 3, null, 5);
+    }
+
+    @Test
+    public void testUniqueInt() {
+        new SeriesAsserts(series(1, null, 1, 3, null).uniqueInt()).expectData(1, null, 3);
+    }
+
+    @Test
+    public void testFillNulls() {
+        Series<Integer> s = series(1, null, 3).fillNulls(-1);
+        assertTrue(s instanceof IntArraySeries);
+        new SeriesAsserts(s).expectData(1, -1, 3);
+    }
+
+    @Test
+    public void testEq() {
+        new BooleanSeriesAsserts(series(1, null, 0).eq(IntSeries.forInts(1, 0, 0))).expectData(true, false, true);
+        new BooleanSeriesAsserts(IntSeries.forInts(1, 0, 0).eq(series(1, null, 0))).expectData(true, false, true);
+    }
+
+    @Test
+    public void testSelectInt_Predicate() {
+        new SeriesAsserts(series(1, null, 0, 3).selectInt(i -> i < 2)).expectData(1, 0);
+    }
+
+    @Test
+    public void testStats() {
+        IntSeries s = series(1, null, -3, null, 8);
+        assertEquals(6L, s.sum());
+        assertEquals(-3, s.min());
+        assertEquals(8, s.max());
+        assertEquals(2., s.avg(), 0.0001);
+        assertEquals(1., s.median(), 0.0001);
+    }
+
+    @Test
+    public void testArithmetic_NullPropagation() {
+        IntSeries s1 = series(1, null, 3);
+        IntSeries s2 = IntSeries.forInts(1, 2, 3);
+
+        new SeriesAsserts(s1.add(s2)).expectData(2, null, 6);
+        new SeriesAsserts(s2.sub(s1)).expectData(0, null, 0);
+        new SeriesAsserts(s1.mul(s2)).expectData(1, null, 9);
+        new SeriesAsserts(s1.mod(s2)).expectData(0, null, 0);
+
+        // must not attempt to divide by the zeros stored at the null positions
+        new SeriesAsserts(s2.div(s1)).expectData(1, null, 1);
+    }
+
+    @Test
+    public void testComparison_Nulls() {
+        IntSeries s1 = series(1, null, 3);
+        IntSeries s2 = IntSeries.forInts(0, 2, 3);
+
+        // nulls never match a comparison, so negating it turns them to "true"
+        new BooleanSeriesAsserts(s1.gt(s2)).expectData(true, false, false);
+        new BooleanSeriesAsserts(s2.lt(s1)).expectData(true, false, false);
+        new BooleanSeriesAsserts(s1.ge(s2)).expectData(true, false, true);
+        new BooleanSeriesAsserts(s1.le(s2)).expectData(false, false, true);
+        new BooleanSeriesAsserts(s1.le(s2).not()).expectData(true, true, false);
+    }
+
+    @Test
+    public void testToIntArray() {
+        assertThrows(IllegalStateException.class, () -> series(1, null, 3).toIntArray());
+    }
+}
@@ -0,0 +1,123 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static com.nhl.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SelectionVectorTest {
+
+    private static DataFrame frame() {
+        return DataFrame.newFrame("i", "l", "d", "b", "s").columns(
+                IntSeries.forInts(5, 1, 4, 2, 3, 6),
+                LongSeries.forLongs(50L, 10L, 40L, 20L, 30L, 60L),
+                DoubleSeries.forDoubles(0.5, 0.1, 0.4, 0.2, 0.3, 0.6),
+                new BooleanArraySeries(true, false, true, false, true, false),
+                Series.forData("e", "a", "d", "b", "c", "f"));
+    }
+
+    @Test
+    public void testCompose() {
+        IntSeries composed = SelectionVector.compose(IntSeries.forInts(5, 3, 1), IntSeries.forInts(2, 0));
+        new SeriesAsserts(composed).expectData(1, 5);
+
+        assertNull(SelectionVector.compose(IntSeries.forInts(5, 3, 1), IntSeries.forInts(2, -1)));
+    }
+
+    @Test
+    public void testSelectRows_Views() {
+        DataFrame df = frame().selectRows(IntSeries.forInts(4, 0, 2));
+
+        for (int i = 0; i < df.width(); i++) {
+            assertTrue(df.getColumn(i) instanceof SelectionView, df.getColumnsIndex().getLabel(i));
+        }
+
+        Series<?> i = df.getColumn("i");
+        Series<?> l = df.getColumn("l");
+        Series<?> d = df.getColumn("d");
+        assertTrue(i instanceof IntSeries);
+        assertTrue(l instanceof LongSeries);
+        assertTrue(d instanceof DoubleSeries);
+
+        new DataFrameAsserts(df, "i", "l", "d", "b", "s")
+                .expectHeight(3)
+                .expectRow(0, 3, 30L, 0.3, true, "c")
+                .expectRow(1, 5, 50L, 0.5, true, "e")
+                .expectRow(2, 4, 40L, 0.4, true, "d");
+    }
+
+    @Test
+    public void testFilterFilterSortHead() {
+        DataFrame sorted = frame()
+                .selectRows($int("i").gt(1))
+                .selectRows($double("d").lt(0.6))
+                .sort($long("l").desc());
+
+        // all columns share the same selection vector
+        IntSeries positions = ((SelectionView<?>) sorted.getColumn(0)).getSourcePositions();
+        for (int i = 1; i < sorted.width(); i++) {
+            assertSame(positions, ((SelectionView<?>) sorted.getColumn(i)).getSourcePositions());
+        }
+
+        DataFrame df = sorted.head(2);
+
+        new DataFrameAsserts(df, "i", "l", "d", "b", "s")
+                .expectHeight(2)
+                .expectRow(0, 5, 50L, 0.5, true, "e")
+                .expectRow(1, 4, 40L, 0.4, true, "d");
+
+        new DataFrameAsserts(df.materialize(), "i", "l", "d", "b", "s")
+                .expectHeight(2)
+                .expectRow(0, 5, 50L, 0.5, true, "e")
+                .expectRow(1, 4, 40L, 0.4, true, "d");
+    }
+
+    @Test
+    public void testSelectRows_NegativePositions() {
+        DataFrame df = frame().selectRows(IntSeries.forInts(1, -1));
+
+        assertFalse(df.getColumn("i") instanceof SelectionView);
+        new DataFrameAsserts(df, "i", "l", "d", "b", "s")
+                .expectHeight(2)
+                .expectRow(0, 1, 10L, 0.1, false, "a")
+                .expectRow(1, null, null, null, null, null);
+    }
+
+    @Test
+    public void testSelectRows_Nulls() {
+        IntSeries withNulls = (IntSeries) IntSeries.forInts(1, 2, 3).select(IntSeries.forInts(0, -1, 2));
+        DataFrame df = DataFrame.newFrame("a").columns(withNulls).selectRows(IntSeries.forInts(2, 1));
+
+        assertFalse(df.getColumn("a") instanceof SelectionView);
+        new SeriesAsserts(df.getColumn("a")).expectData(3, null);
+    }
+
+    @Test
+    public void testIndexedSeries_Select() {
+        Series<String> s = Series.forData("a", "b", "c", "d").select(IntSeries.forInts(3, 1, 2));
+        Series<String> s2 = s.select(IntSeries.forInts(2, 0));
+
+        assertTrue(s2 instanceof IndexedSeries);
+        new SeriesAsserts(s2).expectData("c", "d");
+        new SeriesAsserts(s.head(2)).expectData("d", "b");
+    }
+
+    @Test
+    public void testIntIndexedSeries() {
+        IntSeries s = new IntIndexedSeries(IntSeries.forInts(10, 20, 30, 40), IntSeries.forInts(3, 0, 2));
+
+        new SeriesAsserts(s).expectData(40, 10, 30);
+        new SeriesAsserts(s.tailInt(2)).expectData(10, 30);
+        new SeriesAsserts(s.select(IntSeries.forInts(2, 2))).expectData(30, 30);
+        assertEquals(80L, s.sum());
+        assertEquals(40, s.max());
+        assertEquals(30., s.median());
+    }
+}
@@ -0,0 +1,112 @@
+package com.nhl.dflib.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntroSelectTest {
+
+    private Random random = new Random();
+
+    private int[] randomRanks(int from, int to) {
+        int[] ranks = new int[1 + random.nextInt(5)];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = from + random.nextInt(to - from);
+        }
+
+        Arrays.sort(ranks);
+        return ranks;
+    }
+
+    @Test
+    public void testSelect_Int() {
+        int[] ints = {5, 1, 4, 2, 3};
+        IntroSelect.select(ints, 0, 5, new int[]{2});
+        assertEquals(3, ints[2]);
+    }
+
+    @Test
+    public void testSelect_Int_Random() {
+
+        for (int t = 0; t < 100; t++) {
+
+            int len = 1 + random.nextInt(1000);
+            int[] ints = new int[len + 2];
+            for (int i = 0; i < ints.length; i++) {
+
+                // a narrow range of values to produce duplicates
+                ints[i] = random.nextInt(len / 2 + 1) - len / 4;
+            }
+
+            int[] sorted = ints.clone();
+            Arrays.sort(sorted, 1, len + 1);
+
+            int[] ranks = randomRanks(1, len + 1);
+            IntroSelect.select(ints, 1, len + 1, ranks);
+
+            for (int r : ranks) {
+                assertEquals(sorted[r], ints[r]);
+
+                for (int i = 1; i < r; i++) {
+                    assertTrue(ints[i] <= ints[r]);
+                }
+
+                for (int i = r + 1; i < len + 1; i++) {
+                    assertTrue(ints[i] >= ints[r]);
+                }
+            }
+
+            // the values outside the range are not touched
+            assertEquals(sorted[0], ints[0]);
+            assertEquals(sorted[len + 1], ints[len + 1]);
+        }
+    }
+
+    @Test
+    public void testSelect_Long_Sorted() {
+
+        // presorted and reverse sorted data are the common worst cases of naive pivot selection
+        int len = 100_000;
+        long[] asc = new long[len];
+        long[] desc = new long[len];
+        for (int i = 0; i < len; i++) {
+            asc[i] = i;
+            desc[i] = len - i - 1;
+        }
+
+        IntroSelect.select(asc, 0, len, new int[]{0, len / 2, len - 1});
+        IntroSelect.select(desc, 0, len, new int[]{0, len / 2, len - 1});
+
+        assertEquals(0L, asc[0]);
+        assertEquals(len / 2, asc[len / 2]);
+        assertEquals(len - 1, asc[len - 1]);
+
+        assertEquals(0L, desc[0]);
+        assertEquals(len / 2, desc[len / 2]);
+        assertEquals(len - 1, desc[len - 1]);
+    }
+
+    @Test
+    public void testSelect_Double_NaN() {
+        double[] doubles = {Double.NaN, 3., -1., Double.NaN, 2., 0.5};
+        IntroSelect.select(doubles, 0, 6, new int[]{0, 2, 4, 5});
+
+        assertEquals(-1., doubles[0]);
+        assertEquals(2., doubles[2]);
+        assertTrue(Double.isNaN(doubles[4]));
+        assertTrue(Double.isNaN(doubles[5]));
+    }
+
+    @Test
+    public void testSelect_Object() {
+        String[] strings = {"d", "b", "e", "a", "c"};
+        IntroSelect.select(strings, 0, 5, new int[]{1, 3}, Comparator.reverseOrder());
+
+        assertEquals("d", strings[1]);
+        assertEquals("b", strings[3]);
+    }
+}